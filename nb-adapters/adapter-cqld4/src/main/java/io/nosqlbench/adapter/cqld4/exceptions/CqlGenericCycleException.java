@@ -16,6 +16,11 @@
 
 package io.nosqlbench.adapter.cqld4.exceptions;
 
+/**
+ * Cycle exceptions describe the outcome of a statement, such as an unapplied LWT or unexpected paging,
+ * rather than a fault in the client. When they are not caused by another error, they are raised without
+ * a stack trace, since error handlers only need their type and message.
+ */
 public abstract class CqlGenericCycleException extends RuntimeException {
 
     public CqlGenericCycleException(Throwable cause) {
@@ -23,7 +28,7 @@ public abstract class CqlGenericCycleException extends RuntimeException {
     }
 
     public CqlGenericCycleException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public CqlGenericCycleException(String message, Throwable cause) {
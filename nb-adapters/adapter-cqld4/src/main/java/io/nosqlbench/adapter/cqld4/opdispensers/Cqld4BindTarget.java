@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.cqld4.opdispensers;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import io.nosqlbench.virtdata.core.bindings.BindTarget;
+
+/**
+ * Writes binding values into a {@link BoundStatementBuilder} by position. Long, int and double values
+ * are set without boxing. Other values are encoded with the codec for the column type and the value,
+ * as {@link PreparedStatement#bind(Object...)} would do.
+ */
+public class Cqld4BindTarget implements BindTarget<BoundStatementBuilder> {
+
+    private final DataType[] types;
+    private final CodecRegistry registry;
+
+    public Cqld4BindTarget(PreparedStatement preparedStmt, CodecRegistry registry) {
+        ColumnDefinitions defs = preparedStmt.getVariableDefinitions();
+        this.types = new DataType[defs.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = defs.get(i).getType();
+        }
+        this.registry = registry;
+    }
+
+    @Override
+    public BoundStatementBuilder setLong(BoundStatementBuilder target, int index, long value) {
+        return target.setLong(index, value);
+    }
+
+    @Override
+    public BoundStatementBuilder setInt(BoundStatementBuilder target, int index, int value) {
+        return target.setInt(index, value);
+    }
+
+    @Override
+    public BoundStatementBuilder setDouble(BoundStatementBuilder target, int index, double value) {
+        return target.setDouble(index, value);
+    }
+
+    @Override
+    public BoundStatementBuilder setObject(BoundStatementBuilder target, int index, Object value) {
+        if (value == null) {
+            return target.setToNull(index);
+        }
+        TypeCodec<Object> codec = registry.codecFor(types[index], value);
+        return target.set(index, value, codec);
+    }
+}
@@ -27,6 +27,7 @@ import io.nosqlbench.adapter.cqld4.optypes.Cqld4CqlPreparedStatement;
 import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
 import io.nosqlbench.nb.api.errors.OpConfigError;
+import io.nosqlbench.virtdata.core.bindings.CompiledBindings;
 import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -39,7 +40,7 @@ public class Cqld4PreparedStmtDispenser extends Cqld4BaseOpDispenser {
     private final RSProcessors processors;
     private final LongFunction<Statement> stmtFunc;
     private final ParsedTemplateString stmtTpl;
-    private final LongFunction<Object[]> fieldsF;
+    private final CompiledBindings fieldsF;
     private PreparedStatement preparedStmt;
     private CqlSession boundSession;
 
@@ -56,10 +57,8 @@ public class Cqld4PreparedStmtDispenser extends Cqld4BaseOpDispenser {
         stmtFunc = createStmtFunc(fieldsF, op);
     }
 
-    private LongFunction<Object[]> getFieldsFunction(ParsedOp op) {
-        LongFunction<Object[]> varbinder;
-        varbinder = op.newArrayBinderFromBindPoints(stmtTpl.getBindPoints());
-        return varbinder;
+    private CompiledBindings getFieldsFunction(ParsedOp op) {
+        return op.newCompiledBindingsFromBindPoints(stmtTpl.getBindPoints());
     }
 
     @Override
@@ -67,7 +66,7 @@ public class Cqld4PreparedStmtDispenser extends Cqld4BaseOpDispenser {
         return super.getSessionFunc();
     }
 
-    protected LongFunction<Statement> createStmtFunc(LongFunction<Object[]> fieldsF, ParsedOp op) {
+    protected LongFunction<Statement> createStmtFunc(CompiledBindings fieldsF, ParsedOp op) {
 
         String preparedQueryString = stmtTpl.getPositionalStatement(s -> "?");
         boundSession = getSessionFunc().apply(0);
@@ -77,10 +76,10 @@ public class Cqld4PreparedStmtDispenser extends Cqld4BaseOpDispenser {
             throw new OpConfigError(e + "( for statement '" + stmtTpl + "')");
         }
 
-        LongFunction<Statement> boundStmtFunc = c -> {
-            Object[] apply = fieldsF.apply(c);
-            return preparedStmt.bind(apply);
-        };
+        // values are set directly on the builder, so long, int and double values are not boxed
+        Cqld4BindTarget bindTarget = new Cqld4BindTarget(preparedStmt, boundSession.getContext().getCodecRegistry());
+        LongFunction<Statement> boundStmtFunc = c ->
+            fieldsF.applyInto(c, preparedStmt.boundStatementBuilder(), bindTarget).build();
         return super.getEnhancedStmtFunc(boundStmtFunc, op);
     }
 
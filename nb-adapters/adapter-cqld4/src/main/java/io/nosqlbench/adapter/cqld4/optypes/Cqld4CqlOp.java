@@ -49,7 +49,7 @@ import java.util.concurrent.*;
 // TODO: add rows histogram resultSetSizeHisto
 
 
-public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture, OpGenerator, OpResultSize {
+public abstract class Cqld4CqlOp implements ContinuationOp<List<Row>>, VariableCapture, OpResultSize {
     private final static Logger logger = LogManager.getLogger(Cqld4CqlOp.class);
 
     private final CqlSession session;
@@ -59,7 +59,6 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
     private final RSProcessors processors;
     private final CqlOpMetrics metrics;
     private int retryReplaceCount = 0;
-    private Cqld4CqlOp nextOp;
     private int fetchedPages = 0;
     private int fetchedRows = 0;
     private int fetchedBytes = 0;
@@ -99,26 +98,16 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         this.metrics = metrics;
     }
 
-    public final ArrayList<Row> apply(long cycle) {
+    /**
+     * Wait for the statement and all of its pages, along with any rebound LWT statement to run next.
+     */
+    @Override
+    public final OpContinuation<List<Row>> awaitContinuation(long cycle) {
 
-        Statement<?> statement = getStmt();
-        logger.trace(() -> "apply() invoked, statement obtained, executing async with page size: " + statement.getPageSize() + " thread local rows: ");
-        CompletionStage<AsyncResultSet> statementStage = session.executeAsync(statement);
-
-        CompletionStage<List<Row>> rowsStage = statementStage.thenCompose((rs) -> {
-            processors.start(cycle, rs);
-            ArrayList<Row> completeRowSet = new ArrayList<>();
-            if (!rs.wasApplied()) {
-                handleRebindLWT(rs, statement);
-            }
-            return collect(rs, completeRowSet, cycle);
-        }).exceptionally(throwable -> {
-            if (throwable instanceof RuntimeException tre) throw tre;
-            throw new RuntimeException(throwable);
-        });
+        CompletionStage<OpContinuation<List<Row>>> rowsStage = execute(cycle);
 
         try {
-            return new PrintableRowList(rowsStage.toCompletableFuture().get(300, TimeUnit.SECONDS));
+            return rowsStage.toCompletableFuture().get(300, TimeUnit.SECONDS);
         } catch (ExecutionException exe) {
             Throwable ee = exe.getCause();
             if (ee instanceof RuntimeException re) {
@@ -129,10 +118,7 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         } catch (TimeoutException e) {
             throw new NBTimeoutException(e);
         } finally {
-            processors.flush();
-            metrics.recordFetchedPages(fetchedPages);
-            metrics.recordFetchedRows(fetchedRows);
-            metrics.recordFetchedBytes(fetchedBytes);
+            recordCompletion();
         }
 
 //            logger.trace(() -> "\n\n--- Rows collected for cycle: " + cycle + " count: "
@@ -142,6 +128,45 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
 //            processors.flush();
     }
 
+    /**
+     * Submit the statement and collect all of its pages without blocking the calling thread.
+     * Result processors and fetch metrics are updated when the returned stage completes.
+     * If an LWT was not applied and retry-replace is enabled, the rebound statement is
+     * returned as the follow-up op.
+     */
+    @Override
+    public final CompletionStage<OpContinuation<List<Row>>> applyContinuation(long cycle) {
+        return execute(cycle)
+            .whenComplete((continuation, throwable) -> recordCompletion());
+    }
+
+    private CompletionStage<OpContinuation<List<Row>>> execute(long cycle) {
+        Statement<?> statement = getStmt();
+        logger.trace(() -> "apply() invoked, statement obtained, executing async with page size: " + statement.getPageSize() + " thread local rows: ");
+        CompletionStage<AsyncResultSet> statementStage = session.executeAsync(statement);
+
+        return statementStage.thenCompose((rs) -> {
+            processors.start(cycle, rs);
+            ArrayList<Row> completeRowSet = new ArrayList<>();
+            Op nextOp = rs.wasApplied() ? null : handleRebindLWT(rs, statement);
+            return collect(rs, completeRowSet, cycle)
+                .thenApply(rows -> new OpContinuation<List<Row>>(new PrintableRowList(rows), nextOp));
+        }).exceptionally(throwable -> {
+            if (throwable instanceof CompletionException ce && ce.getCause() != null) {
+                throwable = ce.getCause();
+            }
+            if (throwable instanceof RuntimeException tre) throw tre;
+            throw new RuntimeException(throwable);
+        });
+    }
+
+    private void recordCompletion() {
+        processors.flush();
+        metrics.recordFetchedPages(fetchedPages);
+        metrics.recordFetchedRows(fetchedRows);
+        metrics.recordFetchedBytes(fetchedBytes);
+    }
+
     private static class PrintableRowList extends ArrayList<Row> {
         public PrintableRowList(List<Row> values) {
             super(values);
@@ -157,14 +182,6 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         }
     }
 
-    //    private BiFunction<AsyncResultSet,Throwable> handler
-    @Override
-    public Op getNextOp() {
-        Op next = nextOp;
-        nextOp = null;
-        return next;
-    }
-
     public Map<String, ?> capture() {
         throw new NotImplementedException("Not implemented for Cqld4CqlOp");
     }
@@ -198,7 +215,7 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         }
     }
 
-    private void handleRebindLWT(AsyncResultSet resultSet, Statement<?> statement) {
+    private Cqld4CqlOp handleRebindLWT(AsyncResultSet resultSet, Statement<?> statement) {
         if (++lwtRetries < maxLwtRetries) {
             throw new ExceededRetryReplaceException(resultSet, getQueryString(), lwtRetries);
         }
@@ -211,7 +228,7 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
             }
             Row one = resultSet.one();
             processors.buffer(one);
-            nextOp = this.rebindLwt(statement, one);
+            return this.rebindLwt(statement, one);
         }
     }
 
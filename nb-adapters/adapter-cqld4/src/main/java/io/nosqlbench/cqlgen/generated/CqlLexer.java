@@ -0,0 +1,1714 @@
+// Generated from CqlLexer.g4 by ANTLR 4.13.1
+package io.nosqlbench.cqlgen.generated;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class CqlLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		LR_BRACKET=1, RR_BRACKET=2, LC_BRACKET=3, RC_BRACKET=4, LS_BRACKET=5, 
+		RS_BRACKET=6, COMMA=7, SEMI=8, COLON=9, DOT=10, STAR=11, DIVIDE=12, MODULE=13, 
+		PLUS=14, MINUSMINUS=15, MINUS=16, DQUOTE=17, SQUOTE=18, OPERATOR_EQ=19, 
+		OPERATOR_LT=20, OPERATOR_GT=21, OPERATOR_LTE=22, OPERATOR_GTE=23, K_ADD=24, 
+		K_AGGREGATE=25, K_ALL=26, K_ALLOW=27, K_ALTER=28, K_AND=29, K_ANY=30, 
+		K_APPLY=31, K_AS=32, K_ASC=33, K_AUTHORIZE=34, K_BATCH=35, K_BEGIN=36, 
+		K_BY=37, K_CALLED=38, K_CLUSTERING=39, K_COLUMNFAMILY=40, K_COMPACT=41, 
+		K_CONSISTENCY=42, K_CONTAINS=43, K_CREATE=44, K_CUSTOM=45, K_DELETE=46, 
+		K_DESC=47, K_DESCRIBE=48, K_DISTINCT=49, K_DROP=50, K_DURABLE_WRITES=51, 
+		K_EACH_QUORUM=52, K_ENTRIES=53, K_EXECUTE=54, K_EXISTS=55, K_FALSE=56, 
+		K_FILTERING=57, K_FINALFUNC=58, K_FROM=59, K_FULL=60, K_FUNCTION=61, K_FUNCTIONS=62, 
+		K_GRANT=63, K_IF=64, K_IN=65, K_INDEX=66, K_INFINITY=67, K_INITCOND=68, 
+		K_INPUT=69, K_INSERT=70, K_INTO=71, K_IS=72, K_JSON=73, K_KEY=74, K_KEYS=75, 
+		K_KEYSPACE=76, K_KEYSPACES=77, K_LANGUAGE=78, K_LIMIT=79, K_LOCAL_ONE=80, 
+		K_LOCAL_QUORUM=81, K_LOGGED=82, K_LOGIN=83, K_MATERIALIZED=84, K_MODIFY=85, 
+		K_NAN=86, K_NORECURSIVE=87, K_NOSUPERUSER=88, K_NOT=89, K_NULL=90, K_OF=91, 
+		K_ON=92, K_ONE=93, K_OPTIONS=94, K_OR=95, K_ORDER=96, K_PARTITION=97, 
+		K_PASSWORD=98, K_PER=99, K_PERMISSION=100, K_PERMISSIONS=101, K_PRIMARY=102, 
+		K_QUORUM=103, K_RENAME=104, K_REPLACE=105, K_REPLICATION=106, K_RETURNS=107, 
+		K_REVOKE=108, K_ROLE=109, K_ROLES=110, K_SCHEMA=111, K_SELECT=112, K_SET_WITH_OPERATOR_LT=113, 
+		K_SET=114, K_SFUNC=115, K_STATIC=116, K_STORAGE=117, K_STYPE=118, K_SUPERUSER=119, 
+		K_TABLE=120, K_THREE=121, K_TIMESTAMP_WITH_DECIMAL_LITERAL=122, K_TIMESTAMP=123, 
+		K_TO=124, K_TOKEN=125, K_TRIGGER=126, K_TRUE=127, K_TRUNCATE=128, K_TTL=129, 
+		K_TWO=130, K_TYPE=131, K_UNLOGGED=132, K_UPDATE=133, K_USE=134, K_USER=135, 
+		K_USING=136, K_UUID=137, K_VALUES=138, K_VIEW=139, K_WHERE=140, K_WITH=141, 
+		K_WRITETIME=142, K_ASCII=143, K_BIGINT=144, K_BLOB=145, K_BOOLEAN=146, 
+		K_COUNTER=147, K_DATE=148, K_DECIMAL=149, K_DOUBLE=150, K_FLOAT=151, K_FROZEN_WITH_OPERATOR_LT=152, 
+		K_FROZEN=153, K_INET=154, K_INT=155, K_LIST_WITH_OPERATOR_LT=156, K_LIST=157, 
+		K_MAP_WITH_OPERATOR_LT=158, K_MAP=159, K_SMALLINT=160, K_TEXT=161, K_TIMEUUID=162, 
+		K_TIME=163, K_TINYINT=164, K_TUPLE=165, K_VARCHAR=166, K_VARINT=167, CODE_BLOCK=168, 
+		STRING_LITERAL=169, DECIMAL_LITERAL=170, FLOAT_LITERAL=171, HEXADECIMAL_LITERAL=172, 
+		REAL_LITERAL=173, OBJECT_NAME=174, UUID=175, SPACE=176, SPEC_MYSQL_COMMENT=177, 
+		COMMENT_INPUT=178, LINE_COMMENT=179, SPACE_=180;
+	public static final int
+		IDENTIFIER_MODE=1;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE", "IDENTIFIER_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"LR_BRACKET", "RR_BRACKET", "LC_BRACKET", "RC_BRACKET", "LS_BRACKET", 
+			"RS_BRACKET", "COMMA", "SEMI", "COLON", "DOT", "STAR", "DIVIDE", "MODULE", 
+			"PLUS", "MINUSMINUS", "MINUS", "DQUOTE", "SQUOTE", "OPERATOR_EQ", "OPERATOR_LT", 
+			"OPERATOR_GT", "OPERATOR_LTE", "OPERATOR_GTE", "K_ADD", "K_AGGREGATE", 
+			"K_ALL", "K_ALLOW", "K_ALTER", "K_AND", "K_ANY", "K_APPLY", "K_AS", "K_ASC", 
+			"K_AUTHORIZE", "K_BATCH", "K_BEGIN", "K_BY", "K_CALLED", "K_CLUSTERING", 
+			"K_COLUMNFAMILY", "K_COMPACT", "K_CONSISTENCY", "K_CONTAINS", "K_CREATE", 
+			"K_CUSTOM", "K_DELETE", "K_DESC", "K_DESCRIBE", "K_DISTINCT", "K_DROP", 
+			"K_DURABLE_WRITES", "K_EACH_QUORUM", "K_ENTRIES", "K_EXECUTE", "K_EXISTS", 
+			"K_FALSE", "K_FILTERING", "K_FINALFUNC", "K_FROM", "K_FULL", "K_FUNCTION", 
+			"K_FUNCTIONS", "K_GRANT", "K_IF", "K_IN", "K_INDEX", "K_INFINITY", "K_INITCOND", 
+			"K_INPUT", "K_INSERT", "K_INTO", "K_IS", "K_JSON", "K_KEY", "K_KEYS", 
+			"K_KEYSPACE", "K_KEYSPACES", "K_LANGUAGE", "K_LIMIT", "K_LOCAL_ONE", 
+			"K_LOCAL_QUORUM", "K_LOGGED", "K_LOGIN", "K_MATERIALIZED", "K_MODIFY", 
+			"K_NAN", "K_NORECURSIVE", "K_NOSUPERUSER", "K_NOT", "K_NULL", "K_OF", 
+			"K_ON", "K_ONE", "K_OPTIONS", "K_OR", "K_ORDER", "K_PARTITION", "K_PASSWORD", 
+			"K_PER", "K_PERMISSION", "K_PERMISSIONS", "K_PRIMARY", "K_QUORUM", "K_RENAME", 
+			"K_REPLACE", "K_REPLICATION", "K_RETURNS", "K_REVOKE", "K_ROLE", "K_ROLES", 
+			"K_SCHEMA", "K_SELECT", "K_SET_WITH_OPERATOR_LT", "K_SET", "K_SFUNC", 
+			"K_STATIC", "K_STORAGE", "K_STYPE", "K_SUPERUSER", "K_TABLE", "K_THREE", 
+			"K_TIMESTAMP_WITH_DECIMAL_LITERAL", "K_TIMESTAMP", "K_TO", "K_TOKEN", 
+			"K_TRIGGER", "K_TRUE", "K_TRUNCATE", "K_TTL", "K_TWO", "K_TYPE", "K_UNLOGGED", 
+			"K_UPDATE", "K_USE", "K_USER", "K_USING", "K_UUID", "K_VALUES", "K_VIEW", 
+			"K_WHERE", "K_WITH", "K_WRITETIME", "K_ASCII", "K_BIGINT", "K_BLOB", 
+			"K_BOOLEAN", "K_COUNTER", "K_DATE", "K_DECIMAL", "K_DOUBLE", "K_FLOAT", 
+			"K_FROZEN_WITH_OPERATOR_LT", "K_FROZEN", "K_INET", "K_INT", "K_LIST_WITH_OPERATOR_LT", 
+			"K_LIST", "K_MAP_WITH_OPERATOR_LT", "K_MAP", "K_SMALLINT", "K_TEXT", 
+			"K_TIMEUUID", "K_TIME", "K_TINYINT", "K_TUPLE", "K_VARCHAR", "K_VARINT", 
+			"CODE_BLOCK", "STRING_LITERAL", "DECIMAL_LITERAL", "FLOAT_LITERAL", "HEXADECIMAL_LITERAL", 
+			"REAL_LITERAL", "OBJECT_NAME", "UUID", "SPACE", "SPEC_MYSQL_COMMENT", 
+			"COMMENT_INPUT", "LINE_COMMENT", "HEX_4DIGIT", "HEX_DIGIT", "DEC_DIGIT", 
+			"EXPONENT_NUM_PART", "SEMI_", "LC_BRACKET_", "LS_BRACKET_", "LR_BRACKET_", 
+			"OPERATOR_LT_", "RR_BRACKET_", "RC_BRACKET_", "RS_BRACKET_", "OPERATOR_GT_", 
+			"K_ADD_", "K_AGGREGATE_", "K_ALLOW_", "K_ALTER_", "K_AND_", "K_ANY_", 
+			"K_APPLY_", "K_ASC_", "K_AUTHORIZE_", "K_BATCH_", "K_BEGIN_", "K_BY_", 
+			"K_COLUMNFAMILY_", "K_CREATE_", "K_DELETE_", "K_DESC_", "K_DROP_", "K_DURABLE_WRITES_", 
+			"K_ENTRIES_", "K_FALSE_", "K_FROM_", "K_FULL_", "K_GRANT_", "K_IF_", 
+			"K_IN_", "K_INDEX_", "K_INFINITY_", "K_INSERT_", "K_INTO_", "K_KEYSPACE_", 
+			"K_LIMIT_", "K_LOGGED_", "K_MODIFY_", "K_NAN_", "K_NORECURSIVE_", "K_NOT_", 
+			"K_NULL_", "K_OF_", "K_ON_", "K_OR_", "K_ORDER_", "K_PRIMARY_", "K_RENAME_", 
+			"K_REPLACE_", "K_REVOKE_", "K_SCHEMA_", "K_SELECT_", "K_SET_", "K_TABLE_", 
+			"K_TO_", "K_TOKEN_", "K_TRUNCATE_", "K_UNLOGGED_", "K_UPDATE_", "K_USE_", 
+			"K_USING_", "K_WHERE_", "K_WITH_", "K_MAP_WITH_OPERATOR_LT_", "K_TIMESTAMP_WITH_DECIMAL_LITERAL_", 
+			"K_FROZEN_WITH_OPERATOR_LT_", "K_SET_WITH_OPERATOR_LT_", "K_LIST_WITH_OPERATOR_LT_", 
+			"OBJECT_NAME_", "SPACE_", "UUID_", "CODE_BLOCK_", "STRING_LITERAL_", 
+			"DECIMAL_LITERAL_", "FLOAT_LITERAL_", "HEXADECIMAL_LITERAL_", "REAL_LITERAL_"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'('", "')'", "'{'", "'}'", "'['", "']'", "','", "';'", "':'", 
+			"'.'", "'*'", "'/'", "'%'", "'+'", "'--'", "'-'", "'\"'", "'''", "'='", 
+			"'<'", "'>'", "'<='", "'>='", "'ADD'", "'AGGREGATE'", "'ALL'", "'ALLOW'", 
+			"'ALTER'", "'AND'", "'ANY'", "'APPLY'", "'AS'", "'ASC'", "'AUTHORIZE'", 
+			"'BATCH'", "'BEGIN'", "'BY'", "'CALLED'", "'CLUSTERING'", "'COLUMNFAMILY'", 
+			"'COMPACT'", "'CONSISTENCY'", "'CONTAINS'", "'CREATE'", "'CUSTOM'", "'DELETE'", 
+			"'DESC'", "'DESCRIBE'", "'DISTINCT'", "'DROP'", "'DURABLE_WRITES'", "'EACH_QUORUM'", 
+			"'ENTRIES'", "'EXECUTE'", "'EXISTS'", "'FALSE'", "'FILTERING'", "'FINALFUNC'", 
+			"'FROM'", "'FULL'", "'FUNCTION'", "'FUNCTIONS'", "'GRANT'", "'IF'", "'IN'", 
+			"'INDEX'", "'INFINITY'", "'INITCOND'", "'INPUT'", "'INSERT'", "'INTO'", 
+			"'IS'", "'JSON'", "'KEY'", "'KEYS'", "'KEYSPACE'", "'KEYSPACES'", "'LANGUAGE'", 
+			"'LIMIT'", "'LOCAL_ONE'", "'LOCAL_QUORUM'", "'LOGGED'", "'LOGIN'", "'MATERIALIZED'", 
+			"'MODIFY'", "'NAN'", "'NORECURSIVE'", "'NOSUPERUSER'", "'NOT'", "'NULL'", 
+			"'OF'", "'ON'", "'ONE'", "'OPTIONS'", "'OR'", "'ORDER'", "'PARTITION'", 
+			"'PASSWORD'", "'PER'", "'PERMISSION'", "'PERMISSIONS'", "'PRIMARY'", 
+			"'QUORUM'", "'RENAME'", "'REPLACE'", "'REPLICATION'", "'RETURNS'", "'REVOKE'", 
+			"'ROLE'", "'ROLES'", "'SCHEMA'", "'SELECT'", null, "'SET'", "'SFUNC'", 
+			"'STATIC'", "'STORAGE'", "'STYPE'", "'SUPERUSER'", "'TABLE'", "'THREE'", 
+			null, "'TIMESTAMP'", "'TO'", "'TOKEN'", "'TRIGGER'", "'TRUE'", "'TRUNCATE'", 
+			"'TTL'", "'TWO'", "'TYPE'", "'UNLOGGED'", "'UPDATE'", "'USE'", "'USER'", 
+			"'USING'", "'UUID'", "'VALUES'", "'VIEW'", "'WHERE'", "'WITH'", "'WRITETIME'", 
+			"'ASCII'", "'BIGINT'", "'BLOB'", "'BOOLEAN'", "'COUNTER'", "'DATE'", 
+			"'DECIMAL'", "'DOUBLE'", "'FLOAT'", null, "'FROZEN'", "'INET'", "'INT'", 
+			null, "'LIST'", null, "'MAP'", "'SMALLINT'", "'TEXT'", "'TIMEUUID'", 
+			"'TIME'", "'TINYINT'", "'TUPLE'", "'VARCHAR'", "'VARINT'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "LR_BRACKET", "RR_BRACKET", "LC_BRACKET", "RC_BRACKET", "LS_BRACKET", 
+			"RS_BRACKET", "COMMA", "SEMI", "COLON", "DOT", "STAR", "DIVIDE", "MODULE", 
+			"PLUS", "MINUSMINUS", "MINUS", "DQUOTE", "SQUOTE", "OPERATOR_EQ", "OPERATOR_LT", 
+			"OPERATOR_GT", "OPERATOR_LTE", "OPERATOR_GTE", "K_ADD", "K_AGGREGATE", 
+			"K_ALL", "K_ALLOW", "K_ALTER", "K_AND", "K_ANY", "K_APPLY", "K_AS", "K_ASC", 
+			"K_AUTHORIZE", "K_BATCH", "K_BEGIN", "K_BY", "K_CALLED", "K_CLUSTERING", 
+			"K_COLUMNFAMILY", "K_COMPACT", "K_CONSISTENCY", "K_CONTAINS", "K_CREATE", 
+			"K_CUSTOM", "K_DELETE", "K_DESC", "K_DESCRIBE", "K_DISTINCT", "K_DROP", 
+			"K_DURABLE_WRITES", "K_EACH_QUORUM", "K_ENTRIES", "K_EXECUTE", "K_EXISTS", 
+			"K_FALSE", "K_FILTERING", "K_FINALFUNC", "K_FROM", "K_FULL", "K_FUNCTION", 
+			"K_FUNCTIONS", "K_GRANT", "K_IF", "K_IN", "K_INDEX", "K_INFINITY", "K_INITCOND", 
+			"K_INPUT", "K_INSERT", "K_INTO", "K_IS", "K_JSON", "K_KEY", "K_KEYS", 
+			"K_KEYSPACE", "K_KEYSPACES", "K_LANGUAGE", "K_LIMIT", "K_LOCAL_ONE", 
+			"K_LOCAL_QUORUM", "K_LOGGED", "K_LOGIN", "K_MATERIALIZED", "K_MODIFY", 
+			"K_NAN", "K_NORECURSIVE", "K_NOSUPERUSER", "K_NOT", "K_NULL", "K_OF", 
+			"K_ON", "K_ONE", "K_OPTIONS", "K_OR", "K_ORDER", "K_PARTITION", "K_PASSWORD", 
+			"K_PER", "K_PERMISSION", "K_PERMISSIONS", "K_PRIMARY", "K_QUORUM", "K_RENAME", 
+			"K_REPLACE", "K_REPLICATION", "K_RETURNS", "K_REVOKE", "K_ROLE", "K_ROLES", 
+			"K_SCHEMA", "K_SELECT", "K_SET_WITH_OPERATOR_LT", "K_SET", "K_SFUNC", 
+			"K_STATIC", "K_STORAGE", "K_STYPE", "K_SUPERUSER", "K_TABLE", "K_THREE", 
+			"K_TIMESTAMP_WITH_DECIMAL_LITERAL", "K_TIMESTAMP", "K_TO", "K_TOKEN", 
+			"K_TRIGGER", "K_TRUE", "K_TRUNCATE", "K_TTL", "K_TWO", "K_TYPE", "K_UNLOGGED", 
+			"K_UPDATE", "K_USE", "K_USER", "K_USING", "K_UUID", "K_VALUES", "K_VIEW", 
+			"K_WHERE", "K_WITH", "K_WRITETIME", "K_ASCII", "K_BIGINT", "K_BLOB", 
+			"K_BOOLEAN", "K_COUNTER", "K_DATE", "K_DECIMAL", "K_DOUBLE", "K_FLOAT", 
+			"K_FROZEN_WITH_OPERATOR_LT", "K_FROZEN", "K_INET", "K_INT", "K_LIST_WITH_OPERATOR_LT", 
+			"K_LIST", "K_MAP_WITH_OPERATOR_LT", "K_MAP", "K_SMALLINT", "K_TEXT", 
+			"K_TIMEUUID", "K_TIME", "K_TINYINT", "K_TUPLE", "K_VARCHAR", "K_VARINT", 
+			"CODE_BLOCK", "STRING_LITERAL", "DECIMAL_LITERAL", "FLOAT_LITERAL", "HEXADECIMAL_LITERAL", 
+			"REAL_LITERAL", "OBJECT_NAME", "UUID", "SPACE", "SPEC_MYSQL_COMMENT", 
+			"COMMENT_INPUT", "LINE_COMMENT", "SPACE_"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public CqlLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "CqlLexer.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000\u00b4\u08b7\u0006\uffff\uffff\u0006\uffff\uffff\u0002\u0000"+
+		"\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003"+
+		"\u0007\u0003\u0002\u0004\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006"+
+		"\u0007\u0006\u0002\u0007\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002"+
+		"\n\u0007\n\u0002\u000b\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002"+
+		"\u000e\u0007\u000e\u0002\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002"+
+		"\u0011\u0007\u0011\u0002\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002"+
+		"\u0014\u0007\u0014\u0002\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002"+
+		"\u0017\u0007\u0017\u0002\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002"+
+		"\u001a\u0007\u001a\u0002\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002"+
+		"\u001d\u0007\u001d\u0002\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002"+
+		" \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002"+
+		"%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002"+
+		"*\u0007*\u0002+\u0007+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002"+
+		"/\u0007/\u00020\u00070\u00021\u00071\u00022\u00072\u00023\u00073\u0002"+
+		"4\u00074\u00025\u00075\u00026\u00076\u00027\u00077\u00028\u00078\u0002"+
+		"9\u00079\u0002:\u0007:\u0002;\u0007;\u0002<\u0007<\u0002=\u0007=\u0002"+
+		">\u0007>\u0002?\u0007?\u0002@\u0007@\u0002A\u0007A\u0002B\u0007B\u0002"+
+		"C\u0007C\u0002D\u0007D\u0002E\u0007E\u0002F\u0007F\u0002G\u0007G\u0002"+
+		"H\u0007H\u0002I\u0007I\u0002J\u0007J\u0002K\u0007K\u0002L\u0007L\u0002"+
+		"M\u0007M\u0002N\u0007N\u0002O\u0007O\u0002P\u0007P\u0002Q\u0007Q\u0002"+
+		"R\u0007R\u0002S\u0007S\u0002T\u0007T\u0002U\u0007U\u0002V\u0007V\u0002"+
+		"W\u0007W\u0002X\u0007X\u0002Y\u0007Y\u0002Z\u0007Z\u0002[\u0007[\u0002"+
+		"\\\u0007\\\u0002]\u0007]\u0002^\u0007^\u0002_\u0007_\u0002`\u0007`\u0002"+
+		"a\u0007a\u0002b\u0007b\u0002c\u0007c\u0002d\u0007d\u0002e\u0007e\u0002"+
+		"f\u0007f\u0002g\u0007g\u0002h\u0007h\u0002i\u0007i\u0002j\u0007j\u0002"+
+		"k\u0007k\u0002l\u0007l\u0002m\u0007m\u0002n\u0007n\u0002o\u0007o\u0002"+
+		"p\u0007p\u0002q\u0007q\u0002r\u0007r\u0002s\u0007s\u0002t\u0007t\u0002"+
+		"u\u0007u\u0002v\u0007v\u0002w\u0007w\u0002x\u0007x\u0002y\u0007y\u0002"+
+		"z\u0007z\u0002{\u0007{\u0002|\u0007|\u0002}\u0007}\u0002~\u0007~\u0002"+
+		"\u007f\u0007\u007f\u0002\u0080\u0007\u0080\u0002\u0081\u0007\u0081\u0002"+
+		"\u0082\u0007\u0082\u0002\u0083\u0007\u0083\u0002\u0084\u0007\u0084\u0002"+
+		"\u0085\u0007\u0085\u0002\u0086\u0007\u0086\u0002\u0087\u0007\u0087\u0002"+
+		"\u0088\u0007\u0088\u0002\u0089\u0007\u0089\u0002\u008a\u0007\u008a\u0002"+
+		"\u008b\u0007\u008b\u0002\u008c\u0007\u008c\u0002\u008d\u0007\u008d\u0002"+
+		"\u008e\u0007\u008e\u0002\u008f\u0007\u008f\u0002\u0090\u0007\u0090\u0002"+
+		"\u0091\u0007\u0091\u0002\u0092\u0007\u0092\u0002\u0093\u0007\u0093\u0002"+
+		"\u0094\u0007\u0094\u0002\u0095\u0007\u0095\u0002\u0096\u0007\u0096\u0002"+
+		"\u0097\u0007\u0097\u0002\u0098\u0007\u0098\u0002\u0099\u0007\u0099\u0002"+
+		"\u009a\u0007\u009a\u0002\u009b\u0007\u009b\u0002\u009c\u0007\u009c\u0002"+
+		"\u009d\u0007\u009d\u0002\u009e\u0007\u009e\u0002\u009f\u0007\u009f\u0002"+
+		"\u00a0\u0007\u00a0\u0002\u00a1\u0007\u00a1\u0002\u00a2\u0007\u00a2\u0002"+
+		"\u00a3\u0007\u00a3\u0002\u00a4\u0007\u00a4\u0002\u00a5\u0007\u00a5\u0002"+
+		"\u00a6\u0007\u00a6\u0002\u00a7\u0007\u00a7\u0002\u00a8\u0007\u00a8\u0002"+
+		"\u00a9\u0007\u00a9\u0002\u00aa\u0007\u00aa\u0002\u00ab\u0007\u00ab\u0002"+
+		"\u00ac\u0007\u00ac\u0002\u00ad\u0007\u00ad\u0002\u00ae\u0007\u00ae\u0002"+
+		"\u00af\u0007\u00af\u0002\u00b0\u0007\u00b0\u0002\u00b1\u0007\u00b1\u0002"+
+		"\u00b2\u0007\u00b2\u0002\u00b3\u0007\u00b3\u0002\u00b4\u0007\u00b4\u0002"+
+		"\u00b5\u0007\u00b5\u0002\u00b6\u0007\u00b6\u0002\u00b7\u0007\u00b7\u0002"+
+		"\u00b8\u0007\u00b8\u0002\u00b9\u0007\u00b9\u0002\u00ba\u0007\u00ba\u0002"+
+		"\u00bb\u0007\u00bb\u0002\u00bc\u0007\u00bc\u0002\u00bd\u0007\u00bd\u0002"+
+		"\u00be\u0007\u00be\u0002\u00bf\u0007\u00bf\u0002\u00c0\u0007\u00c0\u0002"+
+		"\u00c1\u0007\u00c1\u0002\u00c2\u0007\u00c2\u0002\u00c3\u0007\u00c3\u0002"+
+		"\u00c4\u0007\u00c4\u0002\u00c5\u0007\u00c5\u0002\u00c6\u0007\u00c6\u0002"+
+		"\u00c7\u0007\u00c7\u0002\u00c8\u0007\u00c8\u0002\u00c9\u0007\u00c9\u0002"+
+		"\u00ca\u0007\u00ca\u0002\u00cb\u0007\u00cb\u0002\u00cc\u0007\u00cc\u0002"+
+		"\u00cd\u0007\u00cd\u0002\u00ce\u0007\u00ce\u0002\u00cf\u0007\u00cf\u0002"+
+		"\u00d0\u0007\u00d0\u0002\u00d1\u0007\u00d1\u0002\u00d2\u0007\u00d2\u0002"+
+		"\u00d3\u0007\u00d3\u0002\u00d4\u0007\u00d4\u0002\u00d5\u0007\u00d5\u0002"+
+		"\u00d6\u0007\u00d6\u0002\u00d7\u0007\u00d7\u0002\u00d8\u0007\u00d8\u0002"+
+		"\u00d9\u0007\u00d9\u0002\u00da\u0007\u00da\u0002\u00db\u0007\u00db\u0002"+
+		"\u00dc\u0007\u00dc\u0002\u00dd\u0007\u00dd\u0002\u00de\u0007\u00de\u0002"+
+		"\u00df\u0007\u00df\u0002\u00e0\u0007\u00e0\u0002\u00e1\u0007\u00e1\u0002"+
+		"\u00e2\u0007\u00e2\u0002\u00e3\u0007\u00e3\u0002\u00e4\u0007\u00e4\u0002"+
+		"\u00e5\u0007\u00e5\u0002\u00e6\u0007\u00e6\u0002\u00e7\u0007\u00e7\u0002"+
+		"\u00e8\u0007\u00e8\u0002\u00e9\u0007\u00e9\u0002\u00ea\u0007\u00ea\u0002"+
+		"\u00eb\u0007\u00eb\u0002\u00ec\u0007\u00ec\u0002\u00ed\u0007\u00ed\u0002"+
+		"\u00ee\u0007\u00ee\u0002\u00ef\u0007\u00ef\u0002\u00f0\u0007\u00f0\u0002"+
+		"\u00f1\u0007\u00f1\u0002\u00f2\u0007\u00f2\u0002\u00f3\u0007\u00f3\u0002"+
+		"\u00f4\u0007\u00f4\u0002\u00f5\u0007\u00f5\u0002\u00f6\u0007\u00f6\u0002"+
+		"\u00f7\u0007\u00f7\u0002\u00f8\u0007\u00f8\u0002\u00f9\u0007\u00f9\u0002"+
+		"\u00fa\u0007\u00fa\u0002\u00fb\u0007\u00fb\u0002\u00fc\u0007\u00fc\u0002"+
+		"\u00fd\u0007\u00fd\u0002\u00fe\u0007\u00fe\u0002\u00ff\u0007\u00ff\u0002"+
+		"\u0100\u0007\u0100\u0002\u0101\u0007\u0101\u0002\u0102\u0007\u0102\u0002"+
+		"\u0103\u0007\u0103\u0002\u0104\u0007\u0104\u0002\u0105\u0007\u0105\u0002"+
+		"\u0106\u0007\u0106\u0002\u0107\u0007\u0107\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001"+
+		"\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\t\u0001"+
+		"\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\f\u0001"+
+		"\f\u0001\r\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e"+
+		"\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a"+
+		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c"+
+		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d"+
+		"\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001 \u0001"+
+		" \u0001 \u0001 \u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
+		"!\u0001!\u0001!\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
+		"#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001$\u0001$\u0001$\u0001%\u0001"+
+		"%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001&\u0001&\u0001&\u0001&\u0001"+
+		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001"+
+		"\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001"+
+		"\'\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001)\u0001"+
+		")\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001"+
+		")\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001"+
+		"+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001,\u0001,\u0001,\u0001"+
+		",\u0001,\u0001,\u0001,\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001"+
+		"-\u0001.\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001/\u0001/\u0001"+
+		"/\u0001/\u0001/\u0001/\u0001/\u00010\u00010\u00010\u00010\u00010\u0001"+
+		"0\u00010\u00010\u00010\u00011\u00011\u00011\u00011\u00011\u00012\u0001"+
+		"2\u00012\u00012\u00012\u00012\u00012\u00012\u00012\u00012\u00012\u0001"+
+		"2\u00012\u00012\u00012\u00013\u00013\u00013\u00013\u00013\u00013\u0001"+
+		"3\u00013\u00013\u00013\u00013\u00013\u00014\u00014\u00014\u00014\u0001"+
+		"4\u00014\u00014\u00014\u00015\u00015\u00015\u00015\u00015\u00015\u0001"+
+		"5\u00015\u00016\u00016\u00016\u00016\u00016\u00016\u00016\u00016\u0001"+
+		"6\u00017\u00017\u00017\u00017\u00017\u00017\u00018\u00018\u00018\u0001"+
+		"8\u00018\u00018\u00018\u00018\u00018\u00018\u00019\u00019\u00019\u0001"+
+		"9\u00019\u00019\u00019\u00019\u00019\u00019\u0001:\u0001:\u0001:\u0001"+
+		":\u0001:\u0001;\u0001;\u0001;\u0001;\u0001;\u0001<\u0001<\u0001<\u0001"+
+		"<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001=\u0001=\u0001=\u0001=\u0001"+
+		"=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001>\u0001>\u0001>\u0001>\u0001"+
+		">\u0001>\u0001?\u0001?\u0001?\u0001@\u0001@\u0001@\u0001A\u0001A\u0001"+
+		"A\u0001A\u0001A\u0001A\u0001B\u0001B\u0001B\u0001B\u0001B\u0001B\u0001"+
+		"B\u0001B\u0001B\u0001C\u0001C\u0001C\u0001C\u0001C\u0001C\u0001C\u0001"+
+		"C\u0001C\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001E\u0001E\u0001"+
+		"E\u0001E\u0001E\u0001E\u0001E\u0001F\u0001F\u0001F\u0001F\u0001F\u0001"+
+		"G\u0001G\u0001G\u0001H\u0001H\u0001H\u0001H\u0001H\u0001I\u0001I\u0001"+
+		"I\u0001I\u0001J\u0001J\u0001J\u0001J\u0001J\u0001K\u0001K\u0001K\u0001"+
+		"K\u0001K\u0001K\u0001K\u0001K\u0001K\u0001K\u0001K\u0001L\u0001L\u0001"+
+		"L\u0001L\u0001L\u0001L\u0001L\u0001L\u0001L\u0001L\u0001M\u0001M\u0001"+
+		"M\u0001M\u0001M\u0001M\u0001M\u0001M\u0001M\u0001N\u0001N\u0001N\u0001"+
+		"N\u0001N\u0001N\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0001"+
+		"O\u0001O\u0001O\u0001P\u0001P\u0001P\u0001P\u0001P\u0001P\u0001P\u0001"+
+		"P\u0001P\u0001P\u0001P\u0001P\u0001P\u0001Q\u0001Q\u0001Q\u0001Q\u0001"+
+		"Q\u0001Q\u0001Q\u0001R\u0001R\u0001R\u0001R\u0001R\u0001R\u0001S\u0001"+
+		"S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001"+
+		"S\u0001S\u0001T\u0001T\u0001T\u0001T\u0001T\u0001T\u0001T\u0001U\u0001"+
+		"U\u0001U\u0001U\u0001V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001"+
+		"V\u0001V\u0001V\u0001V\u0001V\u0001W\u0001W\u0001W\u0001W\u0001W\u0001"+
+		"W\u0001W\u0001W\u0001W\u0001W\u0001W\u0001W\u0001X\u0001X\u0001X\u0001"+
+		"X\u0001Y\u0001Y\u0001Y\u0001Y\u0001Y\u0001Z\u0001Z\u0001Z\u0001Z\u0001"+
+		"Z\u0001[\u0001[\u0001[\u0001[\u0001[\u0001\\\u0001\\\u0001\\\u0001\\\u0001"+
+		"]\u0001]\u0001]\u0001]\u0001]\u0001]\u0001]\u0001]\u0001^\u0001^\u0001"+
+		"^\u0001_\u0001_\u0001_\u0001_\u0001_\u0001_\u0001`\u0001`\u0001`\u0001"+
+		"`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001a\u0001a\u0001a\u0001"+
+		"a\u0001a\u0001a\u0001a\u0001a\u0001a\u0001b\u0001b\u0001b\u0001b\u0001"+
+		"c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001"+
+		"c\u0001d\u0001d\u0001d\u0001d\u0001d\u0001d\u0001d\u0001d\u0001d\u0001"+
+		"d\u0001d\u0001d\u0001e\u0001e\u0001e\u0001e\u0001e\u0001e\u0001e\u0001"+
+		"e\u0001f\u0001f\u0001f\u0001f\u0001f\u0001f\u0001f\u0001g\u0001g\u0001"+
+		"g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001h\u0001h\u0001h\u0001"+
+		"h\u0001h\u0001h\u0001h\u0001h\u0001i\u0001i\u0001i\u0001i\u0001i\u0001"+
+		"i\u0001i\u0001i\u0001i\u0001i\u0001i\u0001i\u0001j\u0001j\u0001j\u0001"+
+		"j\u0001j\u0001j\u0001j\u0001j\u0001k\u0001k\u0001k\u0001k\u0001k\u0001"+
+		"k\u0001k\u0001l\u0001l\u0001l\u0001l\u0001l\u0001m\u0001m\u0001m\u0001"+
+		"m\u0001m\u0001m\u0001n\u0001n\u0001n\u0001n\u0001n\u0001n\u0001n\u0001"+
+		"o\u0001o\u0001o\u0001o\u0001o\u0001o\u0001o\u0001p\u0001p\u0003p\u04e5"+
+		"\bp\u0001p\u0001p\u0001p\u0001p\u0001q\u0001q\u0001q\u0001q\u0001q\u0001"+
+		"q\u0001r\u0001r\u0001r\u0001r\u0001r\u0001r\u0001s\u0001s\u0001s\u0001"+
+		"s\u0001s\u0001s\u0001s\u0001t\u0001t\u0001t\u0001t\u0001t\u0001t\u0001"+
+		"t\u0001t\u0001u\u0001u\u0001u\u0001u\u0001u\u0001u\u0001v\u0001v\u0001"+
+		"v\u0001v\u0001v\u0001v\u0001v\u0001v\u0001v\u0001v\u0001w\u0001w\u0001"+
+		"w\u0001w\u0001w\u0001w\u0001w\u0001w\u0001x\u0001x\u0001x\u0001x\u0001"+
+		"x\u0001x\u0001y\u0001y\u0001y\u0001y\u0001z\u0001z\u0001z\u0001z\u0001"+
+		"z\u0001z\u0001z\u0001z\u0001z\u0001z\u0001{\u0001{\u0001{\u0001{\u0001"+
+		"{\u0001|\u0001|\u0001|\u0001|\u0001|\u0001|\u0001}\u0001}\u0001}\u0001"+
+		"}\u0001}\u0001}\u0001}\u0001}\u0001~\u0001~\u0001~\u0001~\u0001~\u0001"+
+		"\u007f\u0001\u007f\u0001\u007f\u0001\u007f\u0001\u007f\u0001\u007f\u0001"+
+		"\u007f\u0001\u007f\u0001\u007f\u0001\u007f\u0001\u007f\u0001\u0080\u0001"+
+		"\u0080\u0001\u0080\u0001\u0080\u0001\u0081\u0001\u0081\u0001\u0081\u0001"+
+		"\u0081\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0082\u0001"+
+		"\u0082\u0001\u0082\u0001\u0083\u0001\u0083\u0001\u0083\u0001\u0083\u0001"+
+		"\u0083\u0001\u0083\u0001\u0083\u0001\u0083\u0001\u0083\u0001\u0084\u0001"+
+		"\u0084\u0001\u0084\u0001\u0084\u0001\u0084\u0001\u0084\u0001\u0084\u0001"+
+		"\u0084\u0001\u0084\u0001\u0085\u0001\u0085\u0001\u0085\u0001\u0085\u0001"+
+		"\u0085\u0001\u0085\u0001\u0086\u0001\u0086\u0001\u0086\u0001\u0086\u0001"+
+		"\u0086\u0001\u0087\u0001\u0087\u0001\u0087\u0001\u0087\u0001\u0087\u0001"+
+		"\u0087\u0001\u0088\u0001\u0088\u0001\u0088\u0001\u0088\u0001\u0088\u0001"+
+		"\u0089\u0001\u0089\u0001\u0089\u0001\u0089\u0001\u0089\u0001\u0089\u0001"+
+		"\u0089\u0001\u008a\u0001\u008a\u0001\u008a\u0001\u008a\u0001\u008a\u0001"+
+		"\u008b\u0001\u008b\u0001\u008b\u0001\u008b\u0001\u008b\u0001\u008b\u0001"+
+		"\u008b\u0001\u008b\u0001\u008c\u0001\u008c\u0001\u008c\u0001\u008c\u0001"+
+		"\u008c\u0001\u008d\u0001\u008d\u0001\u008d\u0001\u008d\u0001\u008d\u0001"+
+		"\u008d\u0001\u008d\u0001\u008d\u0001\u008d\u0001\u008d\u0001\u008e\u0001"+
+		"\u008e\u0001\u008e\u0001\u008e\u0001\u008e\u0001\u008e\u0001\u008f\u0001"+
+		"\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001"+
+		"\u0090\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0091\u0001"+
+		"\u0091\u0001\u0091\u0001\u0091\u0001\u0091\u0001\u0091\u0001\u0091\u0001"+
+		"\u0091\u0001\u0092\u0001\u0092\u0001\u0092\u0001\u0092\u0001\u0092\u0001"+
+		"\u0092\u0001\u0092\u0001\u0092\u0001\u0093\u0001\u0093\u0001\u0093\u0001"+
+		"\u0093\u0001\u0093\u0001\u0094\u0001\u0094\u0001\u0094\u0001\u0094\u0001"+
+		"\u0094\u0001\u0094\u0001\u0094\u0001\u0094\u0001\u0095\u0001\u0095\u0001"+
+		"\u0095\u0001\u0095\u0001\u0095\u0001\u0095\u0001\u0095\u0001\u0096\u0001"+
+		"\u0096\u0001\u0096\u0001\u0096\u0001\u0096\u0001\u0096\u0001\u0097\u0001"+
+		"\u0097\u0003\u0097\u05ed\b\u0097\u0001\u0097\u0001\u0097\u0001\u0097\u0001"+
+		"\u0097\u0001\u0098\u0001\u0098\u0001\u0098\u0001\u0098\u0001\u0098\u0001"+
+		"\u0098\u0001\u0098\u0001\u0099\u0001\u0099\u0001\u0099\u0001\u0099\u0001"+
+		"\u0099\u0001\u009a\u0001\u009a\u0001\u009a\u0001\u009a\u0001\u009b\u0001"+
+		"\u009b\u0003\u009b\u0605\b\u009b\u0001\u009b\u0001\u009b\u0001\u009b\u0001"+
+		"\u009b\u0001\u009c\u0001\u009c\u0001\u009c\u0001\u009c\u0001\u009c\u0001"+
+		"\u009d\u0001\u009d\u0003\u009d\u0612\b\u009d\u0001\u009d\u0001\u009d\u0001"+
+		"\u009d\u0001\u009d\u0001\u009e\u0001\u009e\u0001\u009e\u0001\u009e\u0001"+
+		"\u009f\u0001\u009f\u0001\u009f\u0001\u009f\u0001\u009f\u0001\u009f\u0001"+
+		"\u009f\u0001\u009f\u0001\u009f\u0001\u00a0\u0001\u00a0\u0001\u00a0\u0001"+
+		"\u00a0\u0001\u00a0\u0001\u00a1\u0001\u00a1\u0001\u00a1\u0001\u00a1\u0001"+
+		"\u00a1\u0001\u00a1\u0001\u00a1\u0001\u00a1\u0001\u00a1\u0001\u00a2\u0001"+
+		"\u00a2\u0001\u00a2\u0001\u00a2\u0001\u00a2\u0001\u00a3\u0001\u00a3\u0001"+
+		"\u00a3\u0001\u00a3\u0001\u00a3\u0001\u00a3\u0001\u00a3\u0001\u00a3\u0001"+
+		"\u00a4\u0001\u00a4\u0001\u00a4\u0001\u00a4\u0001\u00a4\u0001\u00a4\u0001"+
+		"\u00a5\u0001\u00a5\u0001\u00a5\u0001\u00a5\u0001\u00a5\u0001\u00a5\u0001"+
+		"\u00a5\u0001\u00a5\u0001\u00a6\u0001\u00a6\u0001\u00a6\u0001\u00a6\u0001"+
+		"\u00a6\u0001\u00a6\u0001\u00a6\u0001\u00a7\u0001\u00a7\u0001\u00a7\u0001"+
+		"\u00a7\u0001\u00a7\u0001\u00a7\u0005\u00a7\u065b\b\u00a7\n\u00a7\f\u00a7"+
+		"\u065e\t\u00a7\u0001\u00a7\u0001\u00a7\u0001\u00a7\u0001\u00a8\u0001\u00a8"+
+		"\u0001\u00a8\u0001\u00a8\u0001\u00a8\u0001\u00a8\u0005\u00a8\u0669\b\u00a8"+
+		"\n\u00a8\f\u00a8\u066c\t\u00a8\u0001\u00a8\u0001\u00a8\u0001\u00a9\u0004"+
+		"\u00a9\u0671\b\u00a9\u000b\u00a9\f\u00a9\u0672\u0001\u00aa\u0003\u00aa"+
+		"\u0676\b\u00aa\u0001\u00aa\u0004\u00aa\u0679\b\u00aa\u000b\u00aa\f\u00aa"+
+		"\u067a\u0001\u00aa\u0001\u00aa\u0004\u00aa\u067f\b\u00aa\u000b\u00aa\f"+
+		"\u00aa\u0680\u0003\u00aa\u0683\b\u00aa\u0001\u00ab\u0001\u00ab\u0001\u00ab"+
+		"\u0001\u00ab\u0001\u00ab\u0004\u00ab\u068a\b\u00ab\u000b\u00ab\f\u00ab"+
+		"\u068b\u0001\u00ab\u0001\u00ab\u0001\u00ab\u0001\u00ab\u0001\u00ab\u0001"+
+		"\u00ab\u0004\u00ab\u0694\b\u00ab\u000b\u00ab\f\u00ab\u0695\u0003\u00ab"+
+		"\u0698\b\u00ab\u0001\u00ac\u0004\u00ac\u069b\b\u00ac\u000b\u00ac\f\u00ac"+
+		"\u069c\u0001\u00ac\u0003\u00ac\u06a0\b\u00ac\u0001\u00ac\u0001\u00ac\u0001"+
+		"\u00ac\u0005\u00ac\u06a5\b\u00ac\n\u00ac\f\u00ac\u06a8\t\u00ac\u0001\u00ac"+
+		"\u0001\u00ac\u0004\u00ac\u06ac\b\u00ac\u000b\u00ac\f\u00ac\u06ad\u0001"+
+		"\u00ac\u0003\u00ac\u06b1\b\u00ac\u0003\u00ac\u06b3\b\u00ac\u0001\u00ad"+
+		"\u0001\u00ad\u0005\u00ad\u06b7\b\u00ad\n\u00ad\f\u00ad\u06ba\t\u00ad\u0001"+
+		"\u00ad\u0001\u00ad\u0004\u00ad\u06be\b\u00ad\u000b\u00ad\f\u00ad\u06bf"+
+		"\u0001\u00ad\u0003\u00ad\u06c3\b\u00ad\u0001\u00ae\u0001\u00ae\u0001\u00ae"+
+		"\u0001\u00ae\u0001\u00ae\u0001\u00ae\u0001\u00ae\u0001\u00ae\u0001\u00ae"+
+		"\u0001\u00ae\u0001\u00ae\u0001\u00ae\u0001\u00ae\u0001\u00af\u0004\u00af"+
+		"\u06d3\b\u00af\u000b\u00af\f\u00af\u06d4\u0001\u00af\u0001\u00af\u0001"+
+		"\u00b0\u0001\u00b0\u0001\u00b0\u0001\u00b0\u0001\u00b0\u0004\u00b0\u06de"+
+		"\b\u00b0\u000b\u00b0\f\u00b0\u06df\u0001\u00b0\u0001\u00b0\u0001\u00b0"+
+		"\u0001\u00b0\u0001\u00b0\u0001\u00b1\u0001\u00b1\u0001\u00b1\u0001\u00b1"+
+		"\u0005\u00b1\u06eb\b\u00b1\n\u00b1\f\u00b1\u06ee\t\u00b1\u0001\u00b1\u0001"+
+		"\u00b1\u0001\u00b1\u0001\u00b1\u0001\u00b1\u0001\u00b2\u0001\u00b2\u0001"+
+		"\u00b2\u0001\u00b2\u0001\u00b2\u0001\u00b2\u0003\u00b2\u06fb\b\u00b2\u0001"+
+		"\u00b2\u0005\u00b2\u06fe\b\u00b2\n\u00b2\f\u00b2\u0701\t\u00b2\u0001\u00b2"+
+		"\u0003\u00b2\u0704\b\u00b2\u0001\u00b2\u0001\u00b2\u0003\u00b2\u0708\b"+
+		"\u00b2\u0001\u00b2\u0001\u00b2\u0001\u00b2\u0001\u00b2\u0003\u00b2\u070e"+
+		"\b\u00b2\u0001\u00b2\u0001\u00b2\u0003\u00b2\u0712\b\u00b2\u0003\u00b2"+
+		"\u0714\b\u00b2\u0001\u00b2\u0001\u00b2\u0001\u00b3\u0001\u00b3\u0001\u00b3"+
+		"\u0001\u00b3\u0001\u00b3\u0001\u00b4\u0001\u00b4\u0001\u00b5\u0001\u00b5"+
+		"\u0001\u00b6\u0001\u00b6\u0003\u00b6\u0723\b\u00b6\u0001\u00b6\u0004\u00b6"+
+		"\u0726\b\u00b6\u000b\u00b6\f\u00b6\u0727\u0001\u00b7\u0001\u00b7\u0001"+
+		"\u00b7\u0001\u00b7\u0001\u00b7\u0001\u00b8\u0001\u00b8\u0001\u00b8\u0001"+
+		"\u00b8\u0001\u00b9\u0001\u00b9\u0001\u00b9\u0001\u00b9\u0001\u00ba\u0001"+
+		"\u00ba\u0001\u00ba\u0001\u00ba\u0001\u00bb\u0001\u00bb\u0001\u00bb\u0001"+
+		"\u00bb\u0001\u00bc\u0001\u00bc\u0001\u00bc\u0001\u00bc\u0001\u00bc\u0001"+
+		"\u00bd\u0001\u00bd\u0001\u00bd\u0001\u00bd\u0001\u00bd\u0001\u00be\u0001"+
+		"\u00be\u0001\u00be\u0001\u00be\u0001\u00be\u0001\u00bf\u0001\u00bf\u0001"+
+		"\u00bf\u0001\u00bf\u0001\u00bf\u0001\u00c0\u0001\u00c0\u0001\u00c0\u0001"+
+		"\u00c0\u0001\u00c0\u0001\u00c1\u0001\u00c1\u0001\u00c1\u0001\u00c1\u0001"+
+		"\u00c1\u0001\u00c2\u0001\u00c2\u0001\u00c2\u0001\u00c2\u0001\u00c2\u0001"+
+		"\u00c3\u0001\u00c3\u0001\u00c3\u0001\u00c3\u0001\u00c3\u0001\u00c4\u0001"+
+		"\u00c4\u0001\u00c4\u0001\u00c4\u0001\u00c4\u0001\u00c5\u0001\u00c5\u0001"+
+		"\u00c5\u0001\u00c5\u0001\u00c5\u0001\u00c6\u0001\u00c6\u0001\u00c6\u0001"+
+		"\u00c6\u0001\u00c6\u0001\u00c7\u0001\u00c7\u0001\u00c7\u0001\u00c7\u0001"+
+		"\u00c7\u0001\u00c8\u0001\u00c8\u0001\u00c8\u0001\u00c8\u0001\u00c8\u0001"+
+		"\u00c9\u0001\u00c9\u0001\u00c9\u0001\u00c9\u0001\u00c9\u0001\u00ca\u0001"+
+		"\u00ca\u0001\u00ca\u0001\u00ca\u0001\u00ca\u0001\u00cb\u0001\u00cb\u0001"+
+		"\u00cb\u0001\u00cb\u0001\u00cb\u0001\u00cc\u0001\u00cc\u0001\u00cc\u0001"+
+		"\u00cc\u0001\u00cc\u0001\u00cd\u0001\u00cd\u0001\u00cd\u0001\u00cd\u0001"+
+		"\u00cd\u0001\u00ce\u0001\u00ce\u0001\u00ce\u0001\u00ce\u0001\u00ce\u0001"+
+		"\u00cf\u0001\u00cf\u0001\u00cf\u0001\u00cf\u0001\u00cf\u0001\u00d0\u0001"+
+		"\u00d0\u0001\u00d0\u0001\u00d0\u0001\u00d0\u0001\u00d1\u0001\u00d1\u0001"+
+		"\u00d1\u0001\u00d1\u0001\u00d1\u0001\u00d2\u0001\u00d2\u0001\u00d2\u0001"+
+		"\u00d2\u0001\u00d2\u0001\u00d3\u0001\u00d3\u0001\u00d3\u0001\u00d3\u0001"+
+		"\u00d3\u0001\u00d4\u0001\u00d4\u0001\u00d4\u0001\u00d4\u0001\u00d4\u0001"+
+		"\u00d5\u0001\u00d5\u0001\u00d5\u0001\u00d5\u0001\u00d5\u0001\u00d6\u0001"+
+		"\u00d6\u0001\u00d6\u0001\u00d6\u0001\u00d6\u0001\u00d7\u0001\u00d7\u0001"+
+		"\u00d7\u0001\u00d7\u0001\u00d7\u0001\u00d8\u0001\u00d8\u0001\u00d8\u0001"+
+		"\u00d8\u0001\u00d8\u0001\u00d9\u0001\u00d9\u0001\u00d9\u0001\u00d9\u0001"+
+		"\u00d9\u0001\u00da\u0001\u00da\u0001\u00da\u0001\u00da\u0001\u00da\u0001"+
+		"\u00db\u0001\u00db\u0001\u00db\u0001\u00db\u0001\u00db\u0001\u00dc\u0001"+
+		"\u00dc\u0001\u00dc\u0001\u00dc\u0001\u00dc\u0001\u00dd\u0001\u00dd\u0001"+
+		"\u00dd\u0001\u00dd\u0001\u00dd\u0001\u00de\u0001\u00de\u0001\u00de\u0001"+
+		"\u00de\u0001\u00de\u0001\u00df\u0001\u00df\u0001\u00df\u0001\u00df\u0001"+
+		"\u00df\u0001\u00e0\u0001\u00e0\u0001\u00e0\u0001\u00e0\u0001\u00e0\u0001"+
+		"\u00e1\u0001\u00e1\u0001\u00e1\u0001\u00e1\u0001\u00e1\u0001\u00e2\u0001"+
+		"\u00e2\u0001\u00e2\u0001\u00e2\u0001\u00e2\u0001\u00e3\u0001\u00e3\u0001"+
+		"\u00e3\u0001\u00e3\u0001\u00e3\u0001\u00e4\u0001\u00e4\u0001\u00e4\u0001"+
+		"\u00e4\u0001\u00e4\u0001\u00e5\u0001\u00e5\u0001\u00e5\u0001\u00e5\u0001"+
+		"\u00e5\u0001\u00e6\u0001\u00e6\u0001\u00e6\u0001\u00e6\u0001\u00e6\u0001"+
+		"\u00e7\u0001\u00e7\u0001\u00e7\u0001\u00e7\u0001\u00e7\u0001\u00e8\u0001"+
+		"\u00e8\u0001\u00e8\u0001\u00e8\u0001\u00e8\u0001\u00e9\u0001\u00e9\u0001"+
+		"\u00e9\u0001\u00e9\u0001\u00e9\u0001\u00ea\u0001\u00ea\u0001\u00ea\u0001"+
+		"\u00ea\u0001\u00ea\u0001\u00eb\u0001\u00eb\u0001\u00eb\u0001\u00eb\u0001"+
+		"\u00eb\u0001\u00ec\u0001\u00ec\u0001\u00ec\u0001\u00ec\u0001\u00ec\u0001"+
+		"\u00ed\u0001\u00ed\u0001\u00ed\u0001\u00ed\u0001\u00ed\u0001\u00ee\u0001"+
+		"\u00ee\u0001\u00ee\u0001\u00ee\u0001\u00ee\u0001\u00ef\u0001\u00ef\u0001"+
+		"\u00ef\u0001\u00ef\u0001\u00ef\u0001\u00f0\u0001\u00f0\u0001\u00f0\u0001"+
+		"\u00f0\u0001\u00f0\u0001\u00f1\u0001\u00f1\u0001\u00f1\u0001\u00f1\u0001"+
+		"\u00f1\u0001\u00f2\u0001\u00f2\u0001\u00f2\u0001\u00f2\u0001\u00f2\u0001"+
+		"\u00f3\u0001\u00f3\u0001\u00f3\u0001\u00f3\u0001\u00f3\u0001\u00f4\u0001"+
+		"\u00f4\u0001\u00f4\u0001\u00f4\u0001\u00f4\u0001\u00f5\u0001\u00f5\u0001"+
+		"\u00f5\u0001\u00f5\u0001\u00f5\u0001\u00f6\u0001\u00f6\u0001\u00f6\u0001"+
+		"\u00f6\u0001\u00f6\u0001\u00f7\u0001\u00f7\u0001\u00f7\u0001\u00f7\u0001"+
+		"\u00f7\u0001\u00f8\u0001\u00f8\u0001\u00f8\u0001\u00f8\u0001\u00f8\u0001"+
+		"\u00f9\u0001\u00f9\u0001\u00f9\u0001\u00f9\u0001\u00f9\u0001\u00fa\u0001"+
+		"\u00fa\u0001\u00fa\u0001\u00fa\u0001\u00fb\u0001\u00fb\u0001\u00fb\u0001"+
+		"\u00fb\u0001\u00fc\u0001\u00fc\u0001\u00fc\u0001\u00fc\u0001\u00fd\u0001"+
+		"\u00fd\u0001\u00fd\u0001\u00fd\u0001\u00fe\u0001\u00fe\u0001\u00fe\u0001"+
+		"\u00fe\u0001\u00ff\u0001\u00ff\u0001\u00ff\u0001\u00ff\u0001\u00ff\u0001"+
+		"\u0100\u0004\u0100\u088f\b\u0100\u000b\u0100\f\u0100\u0890\u0001\u0100"+
+		"\u0001\u0100\u0001\u0101\u0001\u0101\u0001\u0101\u0001\u0101\u0001\u0101"+
+		"\u0001\u0102\u0001\u0102\u0001\u0102\u0001\u0102\u0001\u0102\u0001\u0103"+
+		"\u0001\u0103\u0001\u0103\u0001\u0103\u0001\u0103\u0001\u0104\u0001\u0104"+
+		"\u0001\u0104\u0001\u0104\u0001\u0104\u0001\u0105\u0001\u0105\u0001\u0105"+
+		"\u0001\u0105\u0001\u0105\u0001\u0106\u0001\u0106\u0001\u0106\u0001\u0106"+
+		"\u0001\u0106\u0001\u0107\u0001\u0107\u0001\u0107\u0001\u0107\u0001\u0107"+
+		"\u0002\u06df\u06ec\u0000\u0108\u0002\u0001\u0004\u0002\u0006\u0003\b\u0004"+
+		"\n\u0005\f\u0006\u000e\u0007\u0010\b\u0012\t\u0014\n\u0016\u000b\u0018"+
+		"\f\u001a\r\u001c\u000e\u001e\u000f \u0010\"\u0011$\u0012&\u0013(\u0014"+
+		"*\u0015,\u0016.\u00170\u00182\u00194\u001a6\u001b8\u001c:\u001d<\u001e"+
+		">\u001f@ B!D\"F#H$J%L&N\'P(R)T*V+X,Z-\\.^/`0b1d2f3h4j5l6n7p8r9t:v;x<z"+
+		"=|>~?\u0080@\u0082A\u0084B\u0086C\u0088D\u008aE\u008cF\u008eG\u0090H\u0092"+
+		"I\u0094J\u0096K\u0098L\u009aM\u009cN\u009eO\u00a0P\u00a2Q\u00a4R\u00a6"+
+		"S\u00a8T\u00aaU\u00acV\u00aeW\u00b0X\u00b2Y\u00b4Z\u00b6[\u00b8\\\u00ba"+
+		"]\u00bc^\u00be_\u00c0`\u00c2a\u00c4b\u00c6c\u00c8d\u00cae\u00ccf\u00ce"+
+		"g\u00d0h\u00d2i\u00d4j\u00d6k\u00d8l\u00dam\u00dcn\u00deo\u00e0p\u00e2"+
+		"q\u00e4r\u00e6s\u00e8t\u00eau\u00ecv\u00eew\u00f0x\u00f2y\u00f4z\u00f6"+
+		"{\u00f8|\u00fa}\u00fc~\u00fe\u007f\u0100\u0080\u0102\u0081\u0104\u0082"+
+		"\u0106\u0083\u0108\u0084\u010a\u0085\u010c\u0086\u010e\u0087\u0110\u0088"+
+		"\u0112\u0089\u0114\u008a\u0116\u008b\u0118\u008c\u011a\u008d\u011c\u008e"+
+		"\u011e\u008f\u0120\u0090\u0122\u0091\u0124\u0092\u0126\u0093\u0128\u0094"+
+		"\u012a\u0095\u012c\u0096\u012e\u0097\u0130\u0098\u0132\u0099\u0134\u009a"+
+		"\u0136\u009b\u0138\u009c\u013a\u009d\u013c\u009e\u013e\u009f\u0140\u00a0"+
+		"\u0142\u00a1\u0144\u00a2\u0146\u00a3\u0148\u00a4\u014a\u00a5\u014c\u00a6"+
+		"\u014e\u00a7\u0150\u00a8\u0152\u00a9\u0154\u00aa\u0156\u00ab\u0158\u00ac"+
+		"\u015a\u00ad\u015c\u00ae\u015e\u00af\u0160\u00b0\u0162\u00b1\u0164\u00b2"+
+		"\u0166\u00b3\u0168\u0000\u016a\u0000\u016c\u0000\u016e\u0000\u0170\u0000"+
+		"\u0172\u0000\u0174\u0000\u0176\u0000\u0178\u0000\u017a\u0000\u017c\u0000"+
+		"\u017e\u0000\u0180\u0000\u0182\u0000\u0184\u0000\u0186\u0000\u0188\u0000"+
+		"\u018a\u0000\u018c\u0000\u018e\u0000\u0190\u0000\u0192\u0000\u0194\u0000"+
+		"\u0196\u0000\u0198\u0000\u019a\u0000\u019c\u0000\u019e\u0000\u01a0\u0000"+
+		"\u01a2\u0000\u01a4\u0000\u01a6\u0000\u01a8\u0000\u01aa\u0000\u01ac\u0000"+
+		"\u01ae\u0000\u01b0\u0000\u01b2\u0000\u01b4\u0000\u01b6\u0000\u01b8\u0000"+
+		"\u01ba\u0000\u01bc\u0000\u01be\u0000\u01c0\u0000\u01c2\u0000\u01c4\u0000"+
+		"\u01c6\u0000\u01c8\u0000\u01ca\u0000\u01cc\u0000\u01ce\u0000\u01d0\u0000"+
+		"\u01d2\u0000\u01d4\u0000\u01d6\u0000\u01d8\u0000\u01da\u0000\u01dc\u0000"+
+		"\u01de\u0000\u01e0\u0000\u01e2\u0000\u01e4\u0000\u01e6\u0000\u01e8\u0000"+
+		"\u01ea\u0000\u01ec\u0000\u01ee\u0000\u01f0\u0000\u01f2\u0000\u01f4\u0000"+
+		"\u01f6\u0000\u01f8\u0000\u01fa\u0000\u01fc\u0000\u01fe\u0000\u0200\u0000"+
+		"\u0202\u00b4\u0204\u0000\u0206\u0000\u0208\u0000\u020a\u0000\u020c\u0000"+
+		"\u020e\u0000\u0210\u0000\u0002\u0000\u0001$\u0002\u0000AAaa\u0002\u0000"+
+		"DDdd\u0002\u0000GGgg\u0002\u0000RRrr\u0002\u0000EEee\u0002\u0000TTtt\u0002"+
+		"\u0000LLll\u0002\u0000OOoo\u0002\u0000WWww\u0002\u0000NNnn\u0002\u0000"+
+		"YYyy\u0002\u0000PPpp\u0002\u0000SSss\u0002\u0000CCcc\u0002\u0000UUuu\u0002"+
+		"\u0000HHhh\u0002\u0000IIii\u0002\u0000ZZzz\u0002\u0000BBbb\u0002\u0000"+
+		"MMmm\u0002\u0000FFff\u0002\u0000QQqq\u0002\u0000XXxx\u0002\u0000JJjj\u0002"+
+		"\u0000KKkk\u0002\u0000VVvv\u0001\u0000$$\u0002\u0000\'\'\\\\\u0001\u0000"+
+		"09\u0002\u0000AZaz\u0005\u0000$$09AZ__az\u0001\u0000\"\"\u0003\u0000\t"+
+		"\n\r\r  \u0002\u0000\n\n\r\r\u0003\u000009AFaf\u0002\u0000++--\u08d9\u0000"+
+		"\u0002\u0001\u0000\u0000\u0000\u0000\u0004\u0001\u0000\u0000\u0000\u0000"+
+		"\u0006\u0001\u0000\u0000\u0000\u0000\b\u0001\u0000\u0000\u0000\u0000\n"+
+		"\u0001\u0000\u0000\u0000\u0000\f\u0001\u0000\u0000\u0000\u0000\u000e\u0001"+
+		"\u0000\u0000\u0000\u0000\u0010\u0001\u0000\u0000\u0000\u0000\u0012\u0001"+
+		"\u0000\u0000\u0000\u0000\u0014\u0001\u0000\u0000\u0000\u0000\u0016\u0001"+
+		"\u0000\u0000\u0000\u0000\u0018\u0001\u0000\u0000\u0000\u0000\u001a\u0001"+
+		"\u0000\u0000\u0000\u0000\u001c\u0001\u0000\u0000\u0000\u0000\u001e\u0001"+
+		"\u0000\u0000\u0000\u0000 \u0001\u0000\u0000\u0000\u0000\"\u0001\u0000"+
+		"\u0000\u0000\u0000$\u0001\u0000\u0000\u0000\u0000&\u0001\u0000\u0000\u0000"+
+		"\u0000(\u0001\u0000\u0000\u0000\u0000*\u0001\u0000\u0000\u0000\u0000,"+
+		"\u0001\u0000\u0000\u0000\u0000.\u0001\u0000\u0000\u0000\u00000\u0001\u0000"+
+		"\u0000\u0000\u00002\u0001\u0000\u0000\u0000\u00004\u0001\u0000\u0000\u0000"+
+		"\u00006\u0001\u0000\u0000\u0000\u00008\u0001\u0000\u0000\u0000\u0000:"+
+		"\u0001\u0000\u0000\u0000\u0000<\u0001\u0000\u0000\u0000\u0000>\u0001\u0000"+
+		"\u0000\u0000\u0000@\u0001\u0000\u0000\u0000\u0000B\u0001\u0000\u0000\u0000"+
+		"\u0000D\u0001\u0000\u0000\u0000\u0000F\u0001\u0000\u0000\u0000\u0000H"+
+		"\u0001\u0000\u0000\u0000\u0000J\u0001\u0000\u0000\u0000\u0000L\u0001\u0000"+
+		"\u0000\u0000\u0000N\u0001\u0000\u0000\u0000\u0000P\u0001\u0000\u0000\u0000"+
+		"\u0000R\u0001\u0000\u0000\u0000\u0000T\u0001\u0000\u0000\u0000\u0000V"+
+		"\u0001\u0000\u0000\u0000\u0000X\u0001\u0000\u0000\u0000\u0000Z\u0001\u0000"+
+		"\u0000\u0000\u0000\\\u0001\u0000\u0000\u0000\u0000^\u0001\u0000\u0000"+
+		"\u0000\u0000`\u0001\u0000\u0000\u0000\u0000b\u0001\u0000\u0000\u0000\u0000"+
+		"d\u0001\u0000\u0000\u0000\u0000f\u0001\u0000\u0000\u0000\u0000h\u0001"+
+		"\u0000\u0000\u0000\u0000j\u0001\u0000\u0000\u0000\u0000l\u0001\u0000\u0000"+
+		"\u0000\u0000n\u0001\u0000\u0000\u0000\u0000p\u0001\u0000\u0000\u0000\u0000"+
+		"r\u0001\u0000\u0000\u0000\u0000t\u0001\u0000\u0000\u0000\u0000v\u0001"+
+		"\u0000\u0000\u0000\u0000x\u0001\u0000\u0000\u0000\u0000z\u0001\u0000\u0000"+
+		"\u0000\u0000|\u0001\u0000\u0000\u0000\u0000~\u0001\u0000\u0000\u0000\u0000"+
+		"\u0080\u0001\u0000\u0000\u0000\u0000\u0082\u0001\u0000\u0000\u0000\u0000"+
+		"\u0084\u0001\u0000\u0000\u0000\u0000\u0086\u0001\u0000\u0000\u0000\u0000"+
+		"\u0088\u0001\u0000\u0000\u0000\u0000\u008a\u0001\u0000\u0000\u0000\u0000"+
+		"\u008c\u0001\u0000\u0000\u0000\u0000\u008e\u0001\u0000\u0000\u0000\u0000"+
+		"\u0090\u0001\u0000\u0000\u0000\u0000\u0092\u0001\u0000\u0000\u0000\u0000"+
+		"\u0094\u0001\u0000\u0000\u0000\u0000\u0096\u0001\u0000\u0000\u0000\u0000"+
+		"\u0098\u0001\u0000\u0000\u0000\u0000\u009a\u0001\u0000\u0000\u0000\u0000"+
+		"\u009c\u0001\u0000\u0000\u0000\u0000\u009e\u0001\u0000\u0000\u0000\u0000"+
+		"\u00a0\u0001\u0000\u0000\u0000\u0000\u00a2\u0001\u0000\u0000\u0000\u0000"+
+		"\u00a4\u0001\u0000\u0000\u0000\u0000\u00a6\u0001\u0000\u0000\u0000\u0000"+
+		"\u00a8\u0001\u0000\u0000\u0000\u0000\u00aa\u0001\u0000\u0000\u0000\u0000"+
+		"\u00ac\u0001\u0000\u0000\u0000\u0000\u00ae\u0001\u0000\u0000\u0000\u0000"+
+		"\u00b0\u0001\u0000\u0000\u0000\u0000\u00b2\u0001\u0000\u0000\u0000\u0000"+
+		"\u00b4\u0001\u0000\u0000\u0000\u0000\u00b6\u0001\u0000\u0000\u0000\u0000"+
+		"\u00b8\u0001\u0000\u0000\u0000\u0000\u00ba\u0001\u0000\u0000\u0000\u0000"+
+		"\u00bc\u0001\u0000\u0000\u0000\u0000\u00be\u0001\u0000\u0000\u0000\u0000"+
+		"\u00c0\u0001\u0000\u0000\u0000\u0000\u00c2\u0001\u0000\u0000\u0000\u0000"+
+		"\u00c4\u0001\u0000\u0000\u0000\u0000\u00c6\u0001\u0000\u0000\u0000\u0000"+
+		"\u00c8\u0001\u0000\u0000\u0000\u0000\u00ca\u0001\u0000\u0000\u0000\u0000"+
+		"\u00cc\u0001\u0000\u0000\u0000\u0000\u00ce\u0001\u0000\u0000\u0000\u0000"+
+		"\u00d0\u0001\u0000\u0000\u0000\u0000\u00d2\u0001\u0000\u0000\u0000\u0000"+
+		"\u00d4\u0001\u0000\u0000\u0000\u0000\u00d6\u0001\u0000\u0000\u0000\u0000"+
+		"\u00d8\u0001\u0000\u0000\u0000\u0000\u00da\u0001\u0000\u0000\u0000\u0000"+
+		"\u00dc\u0001\u0000\u0000\u0000\u0000\u00de\u0001\u0000\u0000\u0000\u0000"+
+		"\u00e0\u0001\u0000\u0000\u0000\u0000\u00e2\u0001\u0000\u0000\u0000\u0000"+
+		"\u00e4\u0001\u0000\u0000\u0000\u0000\u00e6\u0001\u0000\u0000\u0000\u0000"+
+		"\u00e8\u0001\u0000\u0000\u0000\u0000\u00ea\u0001\u0000\u0000\u0000\u0000"+
+		"\u00ec\u0001\u0000\u0000\u0000\u0000\u00ee\u0001\u0000\u0000\u0000\u0000"+
+		"\u00f0\u0001\u0000\u0000\u0000\u0000\u00f2\u0001\u0000\u0000\u0000\u0000"+
+		"\u00f4\u0001\u0000\u0000\u0000\u0000\u00f6\u0001\u0000\u0000\u0000\u0000"+
+		"\u00f8\u0001\u0000\u0000\u0000\u0000\u00fa\u0001\u0000\u0000\u0000\u0000"+
+		"\u00fc\u0001\u0000\u0000\u0000\u0000\u00fe\u0001\u0000\u0000\u0000\u0000"+
+		"\u0100\u0001\u0000\u0000\u0000\u0000\u0102\u0001\u0000\u0000\u0000\u0000"+
+		"\u0104\u0001\u0000\u0000\u0000\u0000\u0106\u0001\u0000\u0000\u0000\u0000"+
+		"\u0108\u0001\u0000\u0000\u0000\u0000\u010a\u0001\u0000\u0000\u0000\u0000"+
+		"\u010c\u0001\u0000\u0000\u0000\u0000\u010e\u0001\u0000\u0000\u0000\u0000"+
+		"\u0110\u0001\u0000\u0000\u0000\u0000\u0112\u0001\u0000\u0000\u0000\u0000"+
+		"\u0114\u0001\u0000\u0000\u0000\u0000\u0116\u0001\u0000\u0000\u0000\u0000"+
+		"\u0118\u0001\u0000\u0000\u0000\u0000\u011a\u0001\u0000\u0000\u0000\u0000"+
+		"\u011c\u0001\u0000\u0000\u0000\u0000\u011e\u0001\u0000\u0000\u0000\u0000"+
+		"\u0120\u0001\u0000\u0000\u0000\u0000\u0122\u0001\u0000\u0000\u0000\u0000"+
+		"\u0124\u0001\u0000\u0000\u0000\u0000\u0126\u0001\u0000\u0000\u0000\u0000"+
+		"\u0128\u0001\u0000\u0000\u0000\u0000\u012a\u0001\u0000\u0000\u0000\u0000"+
+		"\u012c\u0001\u0000\u0000\u0000\u0000\u012e\u0001\u0000\u0000\u0000\u0000"+
+		"\u0130\u0001\u0000\u0000\u0000\u0000\u0132\u0001\u0000\u0000\u0000\u0000"+
+		"\u0134\u0001\u0000\u0000\u0000\u0000\u0136\u0001\u0000\u0000\u0000\u0000"+
+		"\u0138\u0001\u0000\u0000\u0000\u0000\u013a\u0001\u0000\u0000\u0000\u0000"+
+		"\u013c\u0001\u0000\u0000\u0000\u0000\u013e\u0001\u0000\u0000\u0000\u0000"+
+		"\u0140\u0001\u0000\u0000\u0000\u0000\u0142\u0001\u0000\u0000\u0000\u0000"+
+		"\u0144\u0001\u0000\u0000\u0000\u0000\u0146\u0001\u0000\u0000\u0000\u0000"+
+		"\u0148\u0001\u0000\u0000\u0000\u0000\u014a\u0001\u0000\u0000\u0000\u0000"+
+		"\u014c\u0001\u0000\u0000\u0000\u0000\u014e\u0001\u0000\u0000\u0000\u0000"+
+		"\u0150\u0001\u0000\u0000\u0000\u0000\u0152\u0001\u0000\u0000\u0000\u0000"+
+		"\u0154\u0001\u0000\u0000\u0000\u0000\u0156\u0001\u0000\u0000\u0000\u0000"+
+		"\u0158\u0001\u0000\u0000\u0000\u0000\u015a\u0001\u0000\u0000\u0000\u0000"+
+		"\u015c\u0001\u0000\u0000\u0000\u0000\u015e\u0001\u0000\u0000\u0000\u0000"+
+		"\u0160\u0001\u0000\u0000\u0000\u0000\u0162\u0001\u0000\u0000\u0000\u0000"+
+		"\u0164\u0001\u0000\u0000\u0000\u0000\u0166\u0001\u0000\u0000\u0000\u0001"+
+		"\u0170\u0001\u0000\u0000\u0000\u0001\u0172\u0001\u0000\u0000\u0000\u0001"+
+		"\u0174\u0001\u0000\u0000\u0000\u0001\u0176\u0001\u0000\u0000\u0000\u0001"+
+		"\u0178\u0001\u0000\u0000\u0000\u0001\u017a\u0001\u0000\u0000\u0000\u0001"+
+		"\u017c\u0001\u0000\u0000\u0000\u0001\u017e\u0001\u0000\u0000\u0000\u0001"+
+		"\u0180\u0001\u0000\u0000\u0000\u0001\u0182\u0001\u0000\u0000\u0000\u0001"+
+		"\u0184\u0001\u0000\u0000\u0000\u0001\u0186\u0001\u0000\u0000\u0000\u0001"+
+		"\u0188\u0001\u0000\u0000\u0000\u0001\u018a\u0001\u0000\u0000\u0000\u0001"+
+		"\u018c\u0001\u0000\u0000\u0000\u0001\u018e\u0001\u0000\u0000\u0000\u0001"+
+		"\u0190\u0001\u0000\u0000\u0000\u0001\u0192\u0001\u0000\u0000\u0000\u0001"+
+		"\u0194\u0001\u0000\u0000\u0000\u0001\u0196\u0001\u0000\u0000\u0000\u0001"+
+		"\u0198\u0001\u0000\u0000\u0000\u0001\u019a\u0001\u0000\u0000\u0000\u0001"+
+		"\u019c\u0001\u0000\u0000\u0000\u0001\u019e\u0001\u0000\u0000\u0000\u0001"+
+		"\u01a0\u0001\u0000\u0000\u0000\u0001\u01a2\u0001\u0000\u0000\u0000\u0001"+
+		"\u01a4\u0001\u0000\u0000\u0000\u0001\u01a6\u0001\u0000\u0000\u0000\u0001"+
+		"\u01a8\u0001\u0000\u0000\u0000\u0001\u01aa\u0001\u0000\u0000\u0000\u0001"+
+		"\u01ac\u0001\u0000\u0000\u0000\u0001\u01ae\u0001\u0000\u0000\u0000\u0001"+
+		"\u01b0\u0001\u0000\u0000\u0000\u0001\u01b2\u0001\u0000\u0000\u0000\u0001"+
+		"\u01b4\u0001\u0000\u0000\u0000\u0001\u01b6\u0001\u0000\u0000\u0000\u0001"+
+		"\u01b8\u0001\u0000\u0000\u0000\u0001\u01ba\u0001\u0000\u0000\u0000\u0001"+
+		"\u01bc\u0001\u0000\u0000\u0000\u0001\u01be\u0001\u0000\u0000\u0000\u0001"+
+		"\u01c0\u0001\u0000\u0000\u0000\u0001\u01c2\u0001\u0000\u0000\u0000\u0001"+
+		"\u01c4\u0001\u0000\u0000\u0000\u0001\u01c6\u0001\u0000\u0000\u0000\u0001"+
+		"\u01c8\u0001\u0000\u0000\u0000\u0001\u01ca\u0001\u0000\u0000\u0000\u0001"+
+		"\u01cc\u0001\u0000\u0000\u0000\u0001\u01ce\u0001\u0000\u0000\u0000\u0001"+
+		"\u01d0\u0001\u0000\u0000\u0000\u0001\u01d2\u0001\u0000\u0000\u0000\u0001"+
+		"\u01d4\u0001\u0000\u0000\u0000\u0001\u01d6\u0001\u0000\u0000\u0000\u0001"+
+		"\u01d8\u0001\u0000\u0000\u0000\u0001\u01da\u0001\u0000\u0000\u0000\u0001"+
+		"\u01dc\u0001\u0000\u0000\u0000\u0001\u01de\u0001\u0000\u0000\u0000\u0001"+
+		"\u01e0\u0001\u0000\u0000\u0000\u0001\u01e2\u0001\u0000\u0000\u0000\u0001"+
+		"\u01e4\u0001\u0000\u0000\u0000\u0001\u01e6\u0001\u0000\u0000\u0000\u0001"+
+		"\u01e8\u0001\u0000\u0000\u0000\u0001\u01ea\u0001\u0000\u0000\u0000\u0001"+
+		"\u01ec\u0001\u0000\u0000\u0000\u0001\u01ee\u0001\u0000\u0000\u0000\u0001"+
+		"\u01f0\u0001\u0000\u0000\u0000\u0001\u01f2\u0001\u0000\u0000\u0000\u0001"+
+		"\u01f4\u0001\u0000\u0000\u0000\u0001\u01f6\u0001\u0000\u0000\u0000\u0001"+
+		"\u01f8\u0001\u0000\u0000\u0000\u0001\u01fa\u0001\u0000\u0000\u0000\u0001"+
+		"\u01fc\u0001\u0000\u0000\u0000\u0001\u01fe\u0001\u0000\u0000\u0000\u0001"+
+		"\u0200\u0001\u0000\u0000\u0000\u0001\u0202\u0001\u0000\u0000\u0000\u0001"+
+		"\u0204\u0001\u0000\u0000\u0000\u0001\u0206\u0001\u0000\u0000\u0000\u0001"+
+		"\u0208\u0001\u0000\u0000\u0000\u0001\u020a\u0001\u0000\u0000\u0000\u0001"+
+		"\u020c\u0001\u0000\u0000\u0000\u0001\u020e\u0001\u0000\u0000\u0000\u0001"+
+		"\u0210\u0001\u0000\u0000\u0000\u0002\u0212\u0001\u0000\u0000\u0000\u0004"+
+		"\u0216\u0001\u0000\u0000\u0000\u0006\u0218\u0001\u0000\u0000\u0000\b\u021c"+
+		"\u0001\u0000\u0000\u0000\n\u021e\u0001\u0000\u0000\u0000\f\u0222\u0001"+
+		"\u0000\u0000\u0000\u000e\u0224\u0001\u0000\u0000\u0000\u0010\u0228\u0001"+
+		"\u0000\u0000\u0000\u0012\u022a\u0001\u0000\u0000\u0000\u0014\u022c\u0001"+
+		"\u0000\u0000\u0000\u0016\u0230\u0001\u0000\u0000\u0000\u0018\u0232\u0001"+
+		"\u0000\u0000\u0000\u001a\u0234\u0001\u0000\u0000\u0000\u001c\u0236\u0001"+
+		"\u0000\u0000\u0000\u001e\u023a\u0001\u0000\u0000\u0000 \u023d\u0001\u0000"+
+		"\u0000\u0000\"\u023f\u0001\u0000\u0000\u0000$\u0241\u0001\u0000\u0000"+
+		"\u0000&\u0243\u0001\u0000\u0000\u0000(\u0247\u0001\u0000\u0000\u0000*"+
+		"\u024b\u0001\u0000\u0000\u0000,\u024d\u0001\u0000\u0000\u0000.\u0250\u0001"+
+		"\u0000\u0000\u00000\u0253\u0001\u0000\u0000\u00002\u0257\u0001\u0000\u0000"+
+		"\u00004\u0261\u0001\u0000\u0000\u00006\u0265\u0001\u0000\u0000\u00008"+
+		"\u026b\u0001\u0000\u0000\u0000:\u0271\u0001\u0000\u0000\u0000<\u0277\u0001"+
+		"\u0000\u0000\u0000>\u027b\u0001\u0000\u0000\u0000@\u0281\u0001\u0000\u0000"+
+		"\u0000B\u0284\u0001\u0000\u0000\u0000D\u0288\u0001\u0000\u0000\u0000F"+
+		"\u0292\u0001\u0000\u0000\u0000H\u0298\u0001\u0000\u0000\u0000J\u029e\u0001"+
+		"\u0000\u0000\u0000L\u02a1\u0001\u0000\u0000\u0000N\u02a8\u0001\u0000\u0000"+
+		"\u0000P\u02b3\u0001\u0000\u0000\u0000R\u02c0\u0001\u0000\u0000\u0000T"+
+		"\u02c8\u0001\u0000\u0000\u0000V\u02d4\u0001\u0000\u0000\u0000X\u02dd\u0001"+
+		"\u0000\u0000\u0000Z\u02e4\u0001\u0000\u0000\u0000\\\u02eb\u0001\u0000"+
+		"\u0000\u0000^\u02f2\u0001\u0000\u0000\u0000`\u02f7\u0001\u0000\u0000\u0000"+
+		"b\u0300\u0001\u0000\u0000\u0000d\u0309\u0001\u0000\u0000\u0000f\u030e"+
+		"\u0001\u0000\u0000\u0000h\u031d\u0001\u0000\u0000\u0000j\u0329\u0001\u0000"+
+		"\u0000\u0000l\u0331\u0001\u0000\u0000\u0000n\u0339\u0001\u0000\u0000\u0000"+
+		"p\u0342\u0001\u0000\u0000\u0000r\u0348\u0001\u0000\u0000\u0000t\u0352"+
+		"\u0001\u0000\u0000\u0000v\u035c\u0001\u0000\u0000\u0000x\u0361\u0001\u0000"+
+		"\u0000\u0000z\u0366\u0001\u0000\u0000\u0000|\u036f\u0001\u0000\u0000\u0000"+
+		"~\u0379\u0001\u0000\u0000\u0000\u0080\u037f\u0001\u0000\u0000\u0000\u0082"+
+		"\u0382\u0001\u0000\u0000\u0000\u0084\u0385\u0001\u0000\u0000\u0000\u0086"+
+		"\u038b\u0001\u0000\u0000\u0000\u0088\u0394\u0001\u0000\u0000\u0000\u008a"+
+		"\u039d\u0001\u0000\u0000\u0000\u008c\u03a3\u0001\u0000\u0000\u0000\u008e"+
+		"\u03aa\u0001\u0000\u0000\u0000\u0090\u03af\u0001\u0000\u0000\u0000\u0092"+
+		"\u03b2\u0001\u0000\u0000\u0000\u0094\u03b7\u0001\u0000\u0000\u0000\u0096"+
+		"\u03bb\u0001\u0000\u0000\u0000\u0098\u03c0\u0001\u0000\u0000\u0000\u009a"+
+		"\u03cb\u0001\u0000\u0000\u0000\u009c\u03d5\u0001\u0000\u0000\u0000\u009e"+
+		"\u03de\u0001\u0000\u0000\u0000\u00a0\u03e4\u0001\u0000\u0000\u0000\u00a2"+
+		"\u03ee\u0001\u0000\u0000\u0000\u00a4\u03fb\u0001\u0000\u0000\u0000\u00a6"+
+		"\u0402\u0001\u0000\u0000\u0000\u00a8\u0408\u0001\u0000\u0000\u0000\u00aa"+
+		"\u0415\u0001\u0000\u0000\u0000\u00ac\u041c\u0001\u0000\u0000\u0000\u00ae"+
+		"\u0420\u0001\u0000\u0000\u0000\u00b0\u042c\u0001\u0000\u0000\u0000\u00b2"+
+		"\u0438\u0001\u0000\u0000\u0000\u00b4\u043c\u0001\u0000\u0000\u0000\u00b6"+
+		"\u0441\u0001\u0000\u0000\u0000\u00b8\u0446\u0001\u0000\u0000\u0000\u00ba"+
+		"\u044b\u0001\u0000\u0000\u0000\u00bc\u044f\u0001\u0000\u0000\u0000\u00be"+
+		"\u0457\u0001\u0000\u0000\u0000\u00c0\u045a\u0001\u0000\u0000\u0000\u00c2"+
+		"\u0460\u0001\u0000\u0000\u0000\u00c4\u046a\u0001\u0000\u0000\u0000\u00c6"+
+		"\u0473\u0001\u0000\u0000\u0000\u00c8\u0477\u0001\u0000\u0000\u0000\u00ca"+
+		"\u0482\u0001\u0000\u0000\u0000\u00cc\u048e\u0001\u0000\u0000\u0000\u00ce"+
+		"\u0496\u0001\u0000\u0000\u0000\u00d0\u049d\u0001\u0000\u0000\u0000\u00d2"+
+		"\u04a6\u0001\u0000\u0000\u0000\u00d4\u04ae\u0001\u0000\u0000\u0000\u00d6"+
+		"\u04ba\u0001\u0000\u0000\u0000\u00d8\u04c2\u0001\u0000\u0000\u0000\u00da"+
+		"\u04c9\u0001\u0000\u0000\u0000\u00dc\u04ce\u0001\u0000\u0000\u0000\u00de"+
+		"\u04d4\u0001\u0000\u0000\u0000\u00e0\u04db\u0001\u0000\u0000\u0000\u00e2"+
+		"\u04e2\u0001\u0000\u0000\u0000\u00e4\u04ea\u0001\u0000\u0000\u0000\u00e6"+
+		"\u04f0\u0001\u0000\u0000\u0000\u00e8\u04f6\u0001\u0000\u0000\u0000\u00ea"+
+		"\u04fd\u0001\u0000\u0000\u0000\u00ec\u0505\u0001\u0000\u0000\u0000\u00ee"+
+		"\u050b\u0001\u0000\u0000\u0000\u00f0\u0515\u0001\u0000\u0000\u0000\u00f2"+
+		"\u051d\u0001\u0000\u0000\u0000\u00f4\u0523\u0001\u0000\u0000\u0000\u00f6"+
+		"\u0527\u0001\u0000\u0000\u0000\u00f8\u0531\u0001\u0000\u0000\u0000\u00fa"+
+		"\u0536\u0001\u0000\u0000\u0000\u00fc\u053c\u0001\u0000\u0000\u0000\u00fe"+
+		"\u0544\u0001\u0000\u0000\u0000\u0100\u0549\u0001\u0000\u0000\u0000\u0102"+
+		"\u0554\u0001\u0000\u0000\u0000\u0104\u0558\u0001\u0000\u0000\u0000\u0106"+
+		"\u055c\u0001\u0000\u0000\u0000\u0108\u0563\u0001\u0000\u0000\u0000\u010a"+
+		"\u056c\u0001\u0000\u0000\u0000\u010c\u0575\u0001\u0000\u0000\u0000\u010e"+
+		"\u057b\u0001\u0000\u0000\u0000\u0110\u0580\u0001\u0000\u0000\u0000\u0112"+
+		"\u0586\u0001\u0000\u0000\u0000\u0114\u058b\u0001\u0000\u0000\u0000\u0116"+
+		"\u0592\u0001\u0000\u0000\u0000\u0118\u0597\u0001\u0000\u0000\u0000\u011a"+
+		"\u059f\u0001\u0000\u0000\u0000\u011c\u05a4\u0001\u0000\u0000\u0000\u011e"+
+		"\u05ae\u0001\u0000\u0000\u0000\u0120\u05b4\u0001\u0000\u0000\u0000\u0122"+
+		"\u05bb\u0001\u0000\u0000\u0000\u0124\u05c0\u0001\u0000\u0000\u0000\u0126"+
+		"\u05c8\u0001\u0000\u0000\u0000\u0128\u05d0\u0001\u0000\u0000\u0000\u012a"+
+		"\u05d5\u0001\u0000\u0000\u0000\u012c\u05dd\u0001\u0000\u0000\u0000\u012e"+
+		"\u05e4\u0001\u0000\u0000\u0000\u0130\u05ea\u0001\u0000\u0000\u0000\u0132"+
+		"\u05f2\u0001\u0000\u0000\u0000\u0134\u05f9\u0001\u0000\u0000\u0000\u0136"+
+		"\u05fe\u0001\u0000\u0000\u0000\u0138\u0602\u0001\u0000\u0000\u0000\u013a"+
+		"\u060a\u0001\u0000\u0000\u0000\u013c\u060f\u0001\u0000\u0000\u0000\u013e"+
+		"\u0617\u0001\u0000\u0000\u0000\u0140\u061b\u0001\u0000\u0000\u0000\u0142"+
+		"\u0624\u0001\u0000\u0000\u0000\u0144\u0629\u0001\u0000\u0000\u0000\u0146"+
+		"\u0632\u0001\u0000\u0000\u0000\u0148\u0637\u0001\u0000\u0000\u0000\u014a"+
+		"\u063f\u0001\u0000\u0000\u0000\u014c\u0645\u0001\u0000\u0000\u0000\u014e"+
+		"\u064d\u0001\u0000\u0000\u0000\u0150\u0654\u0001\u0000\u0000\u0000\u0152"+
+		"\u0662\u0001\u0000\u0000\u0000\u0154\u0670\u0001\u0000\u0000\u0000\u0156"+
+		"\u0675\u0001\u0000\u0000\u0000\u0158\u0697\u0001\u0000\u0000\u0000\u015a"+
+		"\u06b2\u0001\u0000\u0000\u0000\u015c\u06c2\u0001\u0000\u0000\u0000\u015e"+
+		"\u06c4\u0001\u0000\u0000\u0000\u0160\u06d2\u0001\u0000\u0000\u0000\u0162"+
+		"\u06d8\u0001\u0000\u0000\u0000\u0164\u06e6\u0001\u0000\u0000\u0000\u0166"+
+		"\u0713\u0001\u0000\u0000\u0000\u0168\u0717\u0001\u0000\u0000\u0000\u016a"+
+		"\u071c\u0001\u0000\u0000\u0000\u016c\u071e\u0001\u0000\u0000\u0000\u016e"+
+		"\u0720\u0001\u0000\u0000\u0000\u0170\u0729\u0001\u0000\u0000\u0000\u0172"+
+		"\u072e\u0001\u0000\u0000\u0000\u0174\u0732\u0001\u0000\u0000\u0000\u0176"+
+		"\u0736\u0001\u0000\u0000\u0000\u0178\u073a\u0001\u0000\u0000\u0000\u017a"+
+		"\u073e\u0001\u0000\u0000\u0000\u017c\u0743\u0001\u0000\u0000\u0000\u017e"+
+		"\u0748\u0001\u0000\u0000\u0000\u0180\u074d\u0001\u0000\u0000\u0000\u0182"+
+		"\u0752\u0001\u0000\u0000\u0000\u0184\u0757\u0001\u0000\u0000\u0000\u0186"+
+		"\u075c\u0001\u0000\u0000\u0000\u0188\u0761\u0001\u0000\u0000\u0000\u018a"+
+		"\u0766\u0001\u0000\u0000\u0000\u018c\u076b\u0001\u0000\u0000\u0000\u018e"+
+		"\u0770\u0001\u0000\u0000\u0000\u0190\u0775\u0001\u0000\u0000\u0000\u0192"+
+		"\u077a\u0001\u0000\u0000\u0000\u0194\u077f\u0001\u0000\u0000\u0000\u0196"+
+		"\u0784\u0001\u0000\u0000\u0000\u0198\u0789\u0001\u0000\u0000\u0000\u019a"+
+		"\u078e\u0001\u0000\u0000\u0000\u019c\u0793\u0001\u0000\u0000\u0000\u019e"+
+		"\u0798\u0001\u0000\u0000\u0000\u01a0\u079d\u0001\u0000\u0000\u0000\u01a2"+
+		"\u07a2\u0001\u0000\u0000\u0000\u01a4\u07a7\u0001\u0000\u0000\u0000\u01a6"+
+		"\u07ac\u0001\u0000\u0000\u0000\u01a8\u07b1\u0001\u0000\u0000\u0000\u01aa"+
+		"\u07b6\u0001\u0000\u0000\u0000\u01ac\u07bb\u0001\u0000\u0000\u0000\u01ae"+
+		"\u07c0\u0001\u0000\u0000\u0000\u01b0\u07c5\u0001\u0000\u0000\u0000\u01b2"+
+		"\u07ca\u0001\u0000\u0000\u0000\u01b4\u07cf\u0001\u0000\u0000\u0000\u01b6"+
+		"\u07d4\u0001\u0000\u0000\u0000\u01b8\u07d9\u0001\u0000\u0000\u0000\u01ba"+
+		"\u07de\u0001\u0000\u0000\u0000\u01bc\u07e3\u0001\u0000\u0000\u0000\u01be"+
+		"\u07e8\u0001\u0000\u0000\u0000\u01c0\u07ed\u0001\u0000\u0000\u0000\u01c2"+
+		"\u07f2\u0001\u0000\u0000\u0000\u01c4\u07f7\u0001\u0000\u0000\u0000\u01c6"+
+		"\u07fc\u0001\u0000\u0000\u0000\u01c8\u0801\u0001\u0000\u0000\u0000\u01ca"+
+		"\u0806\u0001\u0000\u0000\u0000\u01cc\u080b\u0001\u0000\u0000\u0000\u01ce"+
+		"\u0810\u0001\u0000\u0000\u0000\u01d0\u0815\u0001\u0000\u0000\u0000\u01d2"+
+		"\u081a\u0001\u0000\u0000\u0000\u01d4\u081f\u0001\u0000\u0000\u0000\u01d6"+
+		"\u0824\u0001\u0000\u0000\u0000\u01d8\u0829\u0001\u0000\u0000\u0000\u01da"+
+		"\u082e\u0001\u0000\u0000\u0000\u01dc\u0833\u0001\u0000\u0000\u0000\u01de"+
+		"\u0838\u0001\u0000\u0000\u0000\u01e0\u083d\u0001\u0000\u0000\u0000\u01e2"+
+		"\u0842\u0001\u0000\u0000\u0000\u01e4\u0847\u0001\u0000\u0000\u0000\u01e6"+
+		"\u084c\u0001\u0000\u0000\u0000\u01e8\u0851\u0001\u0000\u0000\u0000\u01ea"+
+		"\u0856\u0001\u0000\u0000\u0000\u01ec\u085b\u0001\u0000\u0000\u0000\u01ee"+
+		"\u0860\u0001\u0000\u0000\u0000\u01f0\u0865\u0001\u0000\u0000\u0000\u01f2"+
+		"\u086a\u0001\u0000\u0000\u0000\u01f4\u086f\u0001\u0000\u0000\u0000\u01f6"+
+		"\u0874\u0001\u0000\u0000\u0000\u01f8\u0878\u0001\u0000\u0000\u0000\u01fa"+
+		"\u087c\u0001\u0000\u0000\u0000\u01fc\u0880\u0001\u0000\u0000\u0000\u01fe"+
+		"\u0884\u0001\u0000\u0000\u0000\u0200\u0888\u0001\u0000\u0000\u0000\u0202"+
+		"\u088e\u0001\u0000\u0000\u0000\u0204\u0894\u0001\u0000\u0000\u0000\u0206"+
+		"\u0899\u0001\u0000\u0000\u0000\u0208\u089e\u0001\u0000\u0000\u0000\u020a"+
+		"\u08a3\u0001\u0000\u0000\u0000\u020c\u08a8\u0001\u0000\u0000\u0000\u020e"+
+		"\u08ad\u0001\u0000\u0000\u0000\u0210\u08b2\u0001\u0000\u0000\u0000\u0212"+
+		"\u0213\u0005(\u0000\u0000\u0213\u0214\u0001\u0000\u0000\u0000\u0214\u0215"+
+		"\u0006\u0000\u0000\u0000\u0215\u0003\u0001\u0000\u0000\u0000\u0216\u0217"+
+		"\u0005)\u0000\u0000\u0217\u0005\u0001\u0000\u0000\u0000\u0218\u0219\u0005"+
+		"{\u0000\u0000\u0219\u021a\u0001\u0000\u0000\u0000\u021a\u021b\u0006\u0002"+
+		"\u0000\u0000\u021b\u0007\u0001\u0000\u0000\u0000\u021c\u021d\u0005}\u0000"+
+		"\u0000\u021d\t\u0001\u0000\u0000\u0000\u021e\u021f\u0005[\u0000\u0000"+
+		"\u021f\u0220\u0001\u0000\u0000\u0000\u0220\u0221\u0006\u0004\u0000\u0000"+
+		"\u0221\u000b\u0001\u0000\u0000\u0000\u0222\u0223\u0005]\u0000\u0000\u0223"+
+		"\r\u0001\u0000\u0000\u0000\u0224\u0225\u0005,\u0000\u0000\u0225\u0226"+
+		"\u0001\u0000\u0000\u0000\u0226\u0227\u0006\u0006\u0000\u0000\u0227\u000f"+
+		"\u0001\u0000\u0000\u0000\u0228\u0229\u0005;\u0000\u0000\u0229\u0011\u0001"+
+		"\u0000\u0000\u0000\u022a\u022b\u0005:\u0000\u0000\u022b\u0013\u0001\u0000"+
+		"\u0000\u0000\u022c\u022d\u0005.\u0000\u0000\u022d\u022e\u0001\u0000\u0000"+
+		"\u0000\u022e\u022f\u0006\t\u0000\u0000\u022f\u0015\u0001\u0000\u0000\u0000"+
+		"\u0230\u0231\u0005*\u0000\u0000\u0231\u0017\u0001\u0000\u0000\u0000\u0232"+
+		"\u0233\u0005/\u0000\u0000\u0233\u0019\u0001\u0000\u0000\u0000\u0234\u0235"+
+		"\u0005%\u0000\u0000\u0235\u001b\u0001\u0000\u0000\u0000\u0236\u0237\u0005"+
+		"+\u0000\u0000\u0237\u0238\u0001\u0000\u0000\u0000\u0238\u0239\u0006\r"+
+		"\u0000\u0000\u0239\u001d\u0001\u0000\u0000\u0000\u023a\u023b\u0005-\u0000"+
+		"\u0000\u023b\u023c\u0005-\u0000\u0000\u023c\u001f\u0001\u0000\u0000\u0000"+
+		"\u023d\u023e\u0005-\u0000\u0000\u023e!\u0001\u0000\u0000\u0000\u023f\u0240"+
+		"\u0005\"\u0000\u0000\u0240#\u0001\u0000\u0000\u0000\u0241\u0242\u0005"+
+		"\'\u0000\u0000\u0242%\u0001\u0000\u0000\u0000\u0243\u0244\u0005=\u0000"+
+		"\u0000\u0244\u0245\u0001\u0000\u0000\u0000\u0245\u0246\u0006\u0012\u0000"+
+		"\u0000\u0246\'\u0001\u0000\u0000\u0000\u0247\u0248\u0005<\u0000\u0000"+
+		"\u0248\u0249\u0001\u0000\u0000\u0000\u0249\u024a\u0006\u0013\u0000\u0000"+
+		"\u024a)\u0001\u0000\u0000\u0000\u024b\u024c\u0005>\u0000\u0000\u024c+"+
+		"\u0001\u0000\u0000\u0000\u024d\u024e\u0005<\u0000\u0000\u024e\u024f\u0005"+
+		"=\u0000\u0000\u024f-\u0001\u0000\u0000\u0000\u0250\u0251\u0005>\u0000"+
+		"\u0000\u0251\u0252\u0005=\u0000\u0000\u0252/\u0001\u0000\u0000\u0000\u0253"+
+		"\u0254\u0007\u0000\u0000\u0000\u0254\u0255\u0007\u0001\u0000\u0000\u0255"+
+		"\u0256\u0007\u0001\u0000\u0000\u02561\u0001\u0000\u0000\u0000\u0257\u0258"+
+		"\u0007\u0000\u0000\u0000\u0258\u0259\u0007\u0002\u0000\u0000\u0259\u025a"+
+		"\u0007\u0002\u0000\u0000\u025a\u025b\u0007\u0003\u0000\u0000\u025b\u025c"+
+		"\u0007\u0004\u0000\u0000\u025c\u025d\u0007\u0002\u0000\u0000\u025d\u025e"+
+		"\u0007\u0000\u0000\u0000\u025e\u025f\u0007\u0005\u0000\u0000\u025f\u0260"+
+		"\u0007\u0004\u0000\u0000\u02603\u0001\u0000\u0000\u0000\u0261\u0262\u0007"+
+		"\u0000\u0000\u0000\u0262\u0263\u0007\u0006\u0000\u0000\u0263\u0264\u0007"+
+		"\u0006\u0000\u0000\u02645\u0001\u0000\u0000\u0000\u0265\u0266\u0007\u0000"+
+		"\u0000\u0000\u0266\u0267\u0007\u0006\u0000\u0000\u0267\u0268\u0007\u0006"+
+		"\u0000\u0000\u0268\u0269\u0007\u0007\u0000\u0000\u0269\u026a\u0007\b\u0000"+
+		"\u0000\u026a7\u0001\u0000\u0000\u0000\u026b\u026c\u0007\u0000\u0000\u0000"+
+		"\u026c\u026d\u0007\u0006\u0000\u0000\u026d\u026e\u0007\u0005\u0000\u0000"+
+		"\u026e\u026f\u0007\u0004\u0000\u0000\u026f\u0270\u0007\u0003\u0000\u0000"+
+		"\u02709\u0001\u0000\u0000\u0000\u0271\u0272\u0007\u0000\u0000\u0000\u0272"+
+		"\u0273\u0007\t\u0000\u0000\u0273\u0274\u0007\u0001\u0000\u0000\u0274\u0275"+
+		"\u0001\u0000\u0000\u0000\u0275\u0276\u0006\u001c\u0000\u0000\u0276;\u0001"+
+		"\u0000\u0000\u0000\u0277\u0278\u0007\u0000\u0000\u0000\u0278\u0279\u0007"+
+		"\t\u0000\u0000\u0279\u027a\u0007\n\u0000\u0000\u027a=\u0001\u0000\u0000"+
+		"\u0000\u027b\u027c\u0007\u0000\u0000\u0000\u027c\u027d\u0007\u000b\u0000"+
+		"\u0000\u027d\u027e\u0007\u000b\u0000\u0000\u027e\u027f\u0007\u0006\u0000"+
+		"\u0000\u027f\u0280\u0007\n\u0000\u0000\u0280?\u0001\u0000\u0000\u0000"+
+		"\u0281\u0282\u0007\u0000\u0000\u0000\u0282\u0283\u0007\f\u0000\u0000\u0283"+
+		"A\u0001\u0000\u0000\u0000\u0284\u0285\u0007\u0000\u0000\u0000\u0285\u0286"+
+		"\u0007\f\u0000\u0000\u0286\u0287\u0007\r\u0000\u0000\u0287C\u0001\u0000"+
+		"\u0000\u0000\u0288\u0289\u0007\u0000\u0000\u0000\u0289\u028a\u0007\u000e"+
+		"\u0000\u0000\u028a\u028b\u0007\u0005\u0000\u0000\u028b\u028c\u0007\u000f"+
+		"\u0000\u0000\u028c\u028d\u0007\u0007\u0000\u0000\u028d\u028e\u0007\u0003"+
+		"\u0000\u0000\u028e\u028f\u0007\u0010\u0000\u0000\u028f\u0290\u0007\u0011"+
+		"\u0000\u0000\u0290\u0291\u0007\u0004\u0000\u0000\u0291E\u0001\u0000\u0000"+
+		"\u0000\u0292\u0293\u0007\u0012\u0000\u0000\u0293\u0294\u0007\u0000\u0000"+
+		"\u0000\u0294\u0295\u0007\u0005\u0000\u0000\u0295\u0296\u0007\r\u0000\u0000"+
+		"\u0296\u0297\u0007\u000f\u0000\u0000\u0297G\u0001\u0000\u0000\u0000\u0298"+
+		"\u0299\u0007\u0012\u0000\u0000\u0299\u029a\u0007\u0004\u0000\u0000\u029a"+
+		"\u029b\u0007\u0002\u0000\u0000\u029b\u029c\u0007\u0010\u0000\u0000\u029c"+
+		"\u029d\u0007\t\u0000\u0000\u029dI\u0001\u0000\u0000\u0000\u029e\u029f"+
+		"\u0007\u0012\u0000\u0000\u029f\u02a0\u0007\n\u0000\u0000\u02a0K\u0001"+
+		"\u0000\u0000\u0000\u02a1\u02a2\u0007\r\u0000\u0000\u02a2\u02a3\u0007\u0000"+
+		"\u0000\u0000\u02a3\u02a4\u0007\u0006\u0000\u0000\u02a4\u02a5\u0007\u0006"+
+		"\u0000\u0000\u02a5\u02a6\u0007\u0004\u0000\u0000\u02a6\u02a7\u0007\u0001"+
+		"\u0000\u0000\u02a7M\u0001\u0000\u0000\u0000\u02a8\u02a9\u0007\r\u0000"+
+		"\u0000\u02a9\u02aa\u0007\u0006\u0000\u0000\u02aa\u02ab\u0007\u000e\u0000"+
+		"\u0000\u02ab\u02ac\u0007\f\u0000\u0000\u02ac\u02ad\u0007\u0005\u0000\u0000"+
+		"\u02ad\u02ae\u0007\u0004\u0000\u0000\u02ae\u02af\u0007\u0003\u0000\u0000"+
+		"\u02af\u02b0\u0007\u0010\u0000\u0000\u02b0\u02b1\u0007\t\u0000\u0000\u02b1"+
+		"\u02b2\u0007\u0002\u0000\u0000\u02b2O\u0001\u0000\u0000\u0000\u02b3\u02b4"+
+		"\u0007\r\u0000\u0000\u02b4\u02b5\u0007\u0007\u0000\u0000\u02b5\u02b6\u0007"+
+		"\u0006\u0000\u0000\u02b6\u02b7\u0007\u000e\u0000\u0000\u02b7\u02b8\u0007"+
+		"\u0013\u0000\u0000\u02b8\u02b9\u0007\t\u0000\u0000\u02b9\u02ba\u0007\u0014"+
+		"\u0000\u0000\u02ba\u02bb\u0007\u0000\u0000\u0000\u02bb\u02bc\u0007\u0013"+
+		"\u0000\u0000\u02bc\u02bd\u0007\u0010\u0000\u0000\u02bd\u02be\u0007\u0006"+
+		"\u0000\u0000\u02be\u02bf\u0007\n\u0000\u0000\u02bfQ\u0001\u0000\u0000"+
+		"\u0000\u02c0\u02c1\u0007\r\u0000\u0000\u02c1\u02c2\u0007\u0007\u0000\u0000"+
+		"\u02c2\u02c3\u0007\u0013\u0000\u0000\u02c3\u02c4\u0007\u000b\u0000\u0000"+
+		"\u02c4\u02c5\u0007\u0000\u0000\u0000\u02c5\u02c6\u0007\r\u0000\u0000\u02c6"+
+		"\u02c7\u0007\u0005\u0000\u0000\u02c7S\u0001\u0000\u0000\u0000\u02c8\u02c9"+
+		"\u0007\r\u0000\u0000\u02c9\u02ca\u0007\u0007\u0000\u0000\u02ca\u02cb\u0007"+
+		"\t\u0000\u0000\u02cb\u02cc\u0007\f\u0000\u0000\u02cc\u02cd\u0007\u0010"+
+		"\u0000\u0000\u02cd\u02ce\u0007\f\u0000\u0000\u02ce\u02cf\u0007\u0005\u0000"+
+		"\u0000\u02cf\u02d0\u0007\u0004\u0000\u0000\u02d0\u02d1\u0007\t\u0000\u0000"+
+		"\u02d1\u02d2\u0007\r\u0000\u0000\u02d2\u02d3\u0007\n\u0000\u0000\u02d3"+
+		"U\u0001\u0000\u0000\u0000\u02d4\u02d5\u0007\r\u0000\u0000\u02d5\u02d6"+
+		"\u0007\u0007\u0000\u0000\u02d6\u02d7\u0007\t\u0000\u0000\u02d7\u02d8\u0007"+
+		"\u0005\u0000\u0000\u02d8\u02d9\u0007\u0000\u0000\u0000\u02d9\u02da\u0007"+
+		"\u0010\u0000\u0000\u02da\u02db\u0007\t\u0000\u0000\u02db\u02dc\u0007\f"+
+		"\u0000\u0000\u02dcW\u0001\u0000\u0000\u0000\u02dd\u02de\u0007\r\u0000"+
+		"\u0000\u02de\u02df\u0007\u0003\u0000\u0000\u02df\u02e0\u0007\u0004\u0000"+
+		"\u0000\u02e0\u02e1\u0007\u0000\u0000\u0000\u02e1\u02e2\u0007\u0005\u0000"+
+		"\u0000\u02e2\u02e3\u0007\u0004\u0000\u0000\u02e3Y\u0001\u0000\u0000\u0000"+
+		"\u02e4\u02e5\u0007\r\u0000\u0000\u02e5\u02e6\u0007\u000e\u0000\u0000\u02e6"+
+		"\u02e7\u0007\f\u0000\u0000\u02e7\u02e8\u0007\u0005\u0000\u0000\u02e8\u02e9"+
+		"\u0007\u0007\u0000\u0000\u02e9\u02ea\u0007\u0013\u0000\u0000\u02ea[\u0001"+
+		"\u0000\u0000\u0000\u02eb\u02ec\u0007\u0001\u0000\u0000\u02ec\u02ed\u0007"+
+		"\u0004\u0000\u0000\u02ed\u02ee\u0007\u0006\u0000\u0000\u02ee\u02ef\u0007"+
+		"\u0004\u0000\u0000\u02ef\u02f0\u0007\u0005\u0000\u0000\u02f0\u02f1\u0007"+
+		"\u0004\u0000\u0000\u02f1]\u0001\u0000\u0000\u0000\u02f2\u02f3\u0007\u0001"+
+		"\u0000\u0000\u02f3\u02f4\u0007\u0004\u0000\u0000\u02f4\u02f5\u0007\f\u0000"+
+		"\u0000\u02f5\u02f6\u0007\r\u0000\u0000\u02f6_\u0001\u0000\u0000\u0000"+
+		"\u02f7\u02f8\u0007\u0001\u0000\u0000\u02f8\u02f9\u0007\u0004\u0000\u0000"+
+		"\u02f9\u02fa\u0007\f\u0000\u0000\u02fa\u02fb\u0007\r\u0000\u0000\u02fb"+
+		"\u02fc\u0007\u0003\u0000\u0000\u02fc\u02fd\u0007\u0010\u0000\u0000\u02fd"+
+		"\u02fe\u0007\u0012\u0000\u0000\u02fe\u02ff\u0007\u0004\u0000\u0000\u02ff"+
+		"a\u0001\u0000\u0000\u0000\u0300\u0301\u0007\u0001\u0000\u0000\u0301\u0302"+
+		"\u0007\u0010\u0000\u0000\u0302\u0303\u0007\f\u0000\u0000\u0303\u0304\u0007"+
+		"\u0005\u0000\u0000\u0304\u0305\u0007\u0010\u0000\u0000\u0305\u0306\u0007"+
+		"\t\u0000\u0000\u0306\u0307\u0007\r\u0000\u0000\u0307\u0308\u0007\u0005"+
+		"\u0000\u0000\u0308c\u0001\u0000\u0000\u0000\u0309\u030a\u0007\u0001\u0000"+
+		"\u0000\u030a\u030b\u0007\u0003\u0000\u0000\u030b\u030c\u0007\u0007\u0000"+
+		"\u0000\u030c\u030d\u0007\u000b\u0000\u0000\u030de\u0001\u0000\u0000\u0000"+
+		"\u030e\u030f\u0007\u0001\u0000\u0000\u030f\u0310\u0007\u000e\u0000\u0000"+
+		"\u0310\u0311\u0007\u0003\u0000\u0000\u0311\u0312\u0007\u0000\u0000\u0000"+
+		"\u0312\u0313\u0007\u0012\u0000\u0000\u0313\u0314\u0007\u0006\u0000\u0000"+
+		"\u0314\u0315\u0007\u0004\u0000\u0000\u0315\u0316\u0005_\u0000\u0000\u0316"+
+		"\u0317\u0007\b\u0000\u0000\u0317\u0318\u0007\u0003\u0000\u0000\u0318\u0319"+
+		"\u0007\u0010\u0000\u0000\u0319\u031a\u0007\u0005\u0000\u0000\u031a\u031b"+
+		"\u0007\u0004\u0000\u0000\u031b\u031c\u0007\f\u0000\u0000\u031cg\u0001"+
+		"\u0000\u0000\u0000\u031d\u031e\u0007\u0004\u0000\u0000\u031e\u031f\u0007"+
+		"\u0000\u0000\u0000\u031f\u0320\u0007\r\u0000\u0000\u0320\u0321\u0007\u000f"+
+		"\u0000\u0000\u0321\u0322\u0005_\u0000\u0000\u0322\u0323\u0007\u0015\u0000"+
+		"\u0000\u0323\u0324\u0007\u000e\u0000\u0000\u0324\u0325\u0007\u0007\u0000"+
+		"\u0000\u0325\u0326\u0007\u0003\u0000\u0000\u0326\u0327\u0007\u000e\u0000"+
+		"\u0000\u0327\u0328\u0007\u0013\u0000\u0000\u0328i\u0001\u0000\u0000\u0000"+
+		"\u0329\u032a\u0007\u0004\u0000\u0000\u032a\u032b\u0007\t\u0000\u0000\u032b"+
+		"\u032c\u0007\u0005\u0000\u0000\u032c\u032d\u0007\u0003\u0000\u0000\u032d"+
+		"\u032e\u0007\u0010\u0000\u0000\u032e\u032f\u0007\u0004\u0000\u0000\u032f"+
+		"\u0330\u0007\f\u0000\u0000\u0330k\u0001\u0000\u0000\u0000\u0331\u0332"+
+		"\u0007\u0004\u0000\u0000\u0332\u0333\u0007\u0016\u0000\u0000\u0333\u0334"+
+		"\u0007\u0004\u0000\u0000\u0334\u0335\u0007\r\u0000\u0000\u0335\u0336\u0007"+
+		"\u000e\u0000\u0000\u0336\u0337\u0007\u0005\u0000\u0000\u0337\u0338\u0007"+
+		"\u0004\u0000\u0000\u0338m\u0001\u0000\u0000\u0000\u0339\u033a\u0007\u0004"+
+		"\u0000\u0000\u033a\u033b\u0007\u0016\u0000\u0000\u033b\u033c\u0007\u0010"+
+		"\u0000\u0000\u033c\u033d\u0007\f\u0000\u0000\u033d\u033e\u0007\u0005\u0000"+
+		"\u0000\u033e\u033f\u0007\f\u0000\u0000\u033f\u0340\u0001\u0000\u0000\u0000"+
+		"\u0340\u0341\u00066\u0000\u0000\u0341o\u0001\u0000\u0000\u0000\u0342\u0343"+
+		"\u0007\u0014\u0000\u0000\u0343\u0344\u0007\u0000\u0000\u0000\u0344\u0345"+
+		"\u0007\u0006\u0000\u0000\u0345\u0346\u0007\f\u0000\u0000\u0346\u0347\u0007"+
+		"\u0004\u0000\u0000\u0347q\u0001\u0000\u0000\u0000\u0348\u0349\u0007\u0014"+
+		"\u0000\u0000\u0349\u034a\u0007\u0010\u0000\u0000\u034a\u034b\u0007\u0006"+
+		"\u0000\u0000\u034b\u034c\u0007\u0005\u0000\u0000\u034c\u034d\u0007\u0004"+
+		"\u0000\u0000\u034d\u034e\u0007\u0003\u0000\u0000\u034e\u034f\u0007\u0010"+
+		"\u0000\u0000\u034f\u0350\u0007\t\u0000\u0000\u0350\u0351\u0007\u0002\u0000"+
+		"\u0000\u0351s\u0001\u0000\u0000\u0000\u0352\u0353\u0007\u0014\u0000\u0000"+
+		"\u0353\u0354\u0007\u0010\u0000\u0000\u0354\u0355\u0007\t\u0000\u0000\u0355"+
+		"\u0356\u0007\u0000\u0000\u0000\u0356\u0357\u0007\u0006\u0000\u0000\u0357"+
+		"\u0358\u0007\u0014\u0000\u0000\u0358\u0359\u0007\u000e\u0000\u0000\u0359"+
+		"\u035a\u0007\t\u0000\u0000\u035a\u035b\u0007\r\u0000\u0000\u035bu\u0001"+
+		"\u0000\u0000\u0000\u035c\u035d\u0007\u0014\u0000\u0000\u035d\u035e\u0007"+
+		"\u0003\u0000\u0000\u035e\u035f\u0007\u0007\u0000\u0000\u035f\u0360\u0007"+
+		"\u0013\u0000\u0000\u0360w\u0001\u0000\u0000\u0000\u0361\u0362\u0007\u0014"+
+		"\u0000\u0000\u0362\u0363\u0007\u000e\u0000\u0000\u0363\u0364\u0007\u0006"+
+		"\u0000\u0000\u0364\u0365\u0007\u0006\u0000\u0000\u0365y\u0001\u0000\u0000"+
+		"\u0000\u0366\u0367\u0007\u0014\u0000\u0000\u0367\u0368\u0007\u000e\u0000"+
+		"\u0000\u0368\u0369\u0007\t\u0000\u0000\u0369\u036a\u0007\r\u0000\u0000"+
+		"\u036a\u036b\u0007\u0005\u0000\u0000\u036b\u036c\u0007\u0010\u0000\u0000"+
+		"\u036c\u036d\u0007\u0007\u0000\u0000\u036d\u036e\u0007\t\u0000\u0000\u036e"+
+		"{\u0001\u0000\u0000\u0000\u036f\u0370\u0007\u0014\u0000\u0000\u0370\u0371"+
+		"\u0007\u000e\u0000\u0000\u0371\u0372\u0007\t\u0000\u0000\u0372\u0373\u0007"+
+		"\r\u0000\u0000\u0373\u0374\u0007\u0005\u0000\u0000\u0374\u0375\u0007\u0010"+
+		"\u0000\u0000\u0375\u0376\u0007\u0007\u0000\u0000\u0376\u0377\u0007\t\u0000"+
+		"\u0000\u0377\u0378\u0007\f\u0000\u0000\u0378}\u0001\u0000\u0000\u0000"+
+		"\u0379\u037a\u0007\u0002\u0000\u0000\u037a\u037b\u0007\u0003\u0000\u0000"+
+		"\u037b\u037c\u0007\u0000\u0000\u0000\u037c\u037d\u0007\t\u0000\u0000\u037d"+
+		"\u037e\u0007\u0005\u0000\u0000\u037e\u007f\u0001\u0000\u0000\u0000\u037f"+
+		"\u0380\u0007\u0010\u0000\u0000\u0380\u0381\u0007\u0014\u0000\u0000\u0381"+
+		"\u0081\u0001\u0000\u0000\u0000\u0382\u0383\u0007\u0010\u0000\u0000\u0383"+
+		"\u0384\u0007\t\u0000\u0000\u0384\u0083\u0001\u0000\u0000\u0000\u0385\u0386"+
+		"\u0007\u0010\u0000\u0000\u0386\u0387\u0007\t\u0000\u0000\u0387\u0388\u0007"+
+		"\u0001\u0000\u0000\u0388\u0389\u0007\u0004\u0000\u0000\u0389\u038a\u0007"+
+		"\u0016\u0000\u0000\u038a\u0085\u0001\u0000\u0000\u0000\u038b\u038c\u0007"+
+		"\u0010\u0000\u0000\u038c\u038d\u0007\t\u0000\u0000\u038d\u038e\u0007\u0014"+
+		"\u0000\u0000\u038e\u038f\u0007\u0010\u0000\u0000\u038f\u0390\u0007\t\u0000"+
+		"\u0000\u0390\u0391\u0007\u0010\u0000\u0000\u0391\u0392\u0007\u0005\u0000"+
+		"\u0000\u0392\u0393\u0007\n\u0000\u0000\u0393\u0087\u0001\u0000\u0000\u0000"+
+		"\u0394\u0395\u0007\u0010\u0000\u0000\u0395\u0396\u0007\t\u0000\u0000\u0396"+
+		"\u0397\u0007\u0010\u0000\u0000\u0397\u0398\u0007\u0005\u0000\u0000\u0398"+
+		"\u0399\u0007\r\u0000\u0000\u0399\u039a\u0007\u0007\u0000\u0000\u039a\u039b"+
+		"\u0007\t\u0000\u0000\u039b\u039c\u0007\u0001\u0000\u0000\u039c\u0089\u0001"+
+		"\u0000\u0000\u0000\u039d\u039e\u0007\u0010\u0000\u0000\u039e\u039f\u0007"+
+		"\t\u0000\u0000\u039f\u03a0\u0007\u000b\u0000\u0000\u03a0\u03a1\u0007\u000e"+
+		"\u0000\u0000\u03a1\u03a2\u0007\u0005\u0000\u0000\u03a2\u008b\u0001\u0000"+
+		"\u0000\u0000\u03a3\u03a4\u0007\u0010\u0000\u0000\u03a4\u03a5\u0007\t\u0000"+
+		"\u0000\u03a5\u03a6\u0007\f\u0000\u0000\u03a6\u03a7\u0007\u0004\u0000\u0000"+
+		"\u03a7\u03a8\u0007\u0003\u0000\u0000\u03a8\u03a9\u0007\u0005\u0000\u0000"+
+		"\u03a9\u008d\u0001\u0000\u0000\u0000\u03aa\u03ab\u0007\u0010\u0000\u0000"+
+		"\u03ab\u03ac\u0007\t\u0000\u0000\u03ac\u03ad\u0007\u0005\u0000\u0000\u03ad"+
+		"\u03ae\u0007\u0007\u0000\u0000\u03ae\u008f\u0001\u0000\u0000\u0000\u03af"+
+		"\u03b0\u0007\u0010\u0000\u0000\u03b0\u03b1\u0007\f\u0000\u0000\u03b1\u0091"+
+		"\u0001\u0000\u0000\u0000\u03b2\u03b3\u0007\u0017\u0000\u0000\u03b3\u03b4"+
+		"\u0007\f\u0000\u0000\u03b4\u03b5\u0007\u0007\u0000\u0000\u03b5\u03b6\u0007"+
+		"\t\u0000\u0000\u03b6\u0093\u0001\u0000\u0000\u0000\u03b7\u03b8\u0007\u0018"+
+		"\u0000\u0000\u03b8\u03b9\u0007\u0004\u0000\u0000\u03b9\u03ba\u0007\n\u0000"+
+		"\u0000\u03ba\u0095\u0001\u0000\u0000\u0000\u03bb\u03bc\u0007\u0018\u0000"+
+		"\u0000\u03bc\u03bd\u0007\u0004\u0000\u0000\u03bd\u03be\u0007\n\u0000\u0000"+
+		"\u03be\u03bf\u0007\f\u0000\u0000\u03bf\u0097\u0001\u0000\u0000\u0000\u03c0"+
+		"\u03c1\u0007\u0018\u0000\u0000\u03c1\u03c2\u0007\u0004\u0000\u0000\u03c2"+
+		"\u03c3\u0007\n\u0000\u0000\u03c3\u03c4\u0007\f\u0000\u0000\u03c4\u03c5"+
+		"\u0007\u000b\u0000\u0000\u03c5\u03c6\u0007\u0000\u0000\u0000\u03c6\u03c7"+
+		"\u0007\r\u0000\u0000\u03c7\u03c8\u0007\u0004\u0000\u0000\u03c8\u03c9\u0001"+
+		"\u0000\u0000\u0000\u03c9\u03ca\u0006K\u0000\u0000\u03ca\u0099\u0001\u0000"+
+		"\u0000\u0000\u03cb\u03cc\u0007\u0018\u0000\u0000\u03cc\u03cd\u0007\u0004"+
+		"\u0000\u0000\u03cd\u03ce\u0007\n\u0000\u0000\u03ce\u03cf\u0007\f\u0000"+
+		"\u0000\u03cf\u03d0\u0007\u000b\u0000\u0000\u03d0\u03d1\u0007\u0000\u0000"+
+		"\u0000\u03d1\u03d2\u0007\r\u0000\u0000\u03d2\u03d3\u0007\u0004\u0000\u0000"+
+		"\u03d3\u03d4\u0007\f\u0000\u0000\u03d4\u009b\u0001\u0000\u0000\u0000\u03d5"+
+		"\u03d6\u0007\u0006\u0000\u0000\u03d6\u03d7\u0007\u0000\u0000\u0000\u03d7"+
+		"\u03d8\u0007\t\u0000\u0000\u03d8\u03d9\u0007\u0002\u0000\u0000\u03d9\u03da"+
+		"\u0007\u000e\u0000\u0000\u03da\u03db\u0007\u0000\u0000\u0000\u03db\u03dc"+
+		"\u0007\u0002\u0000\u0000\u03dc\u03dd\u0007\u0004\u0000\u0000\u03dd\u009d"+
+		"\u0001\u0000\u0000\u0000\u03de\u03df\u0007\u0006\u0000\u0000\u03df\u03e0"+
+		"\u0007\u0010\u0000\u0000\u03e0\u03e1\u0007\u0013\u0000\u0000\u03e1\u03e2"+
+		"\u0007\u0010\u0000\u0000\u03e2\u03e3\u0007\u0005\u0000\u0000\u03e3\u009f"+
+		"\u0001\u0000\u0000\u0000\u03e4\u03e5\u0007\u0006\u0000\u0000\u03e5\u03e6"+
+		"\u0007\u0007\u0000\u0000\u03e6\u03e7\u0007\r\u0000\u0000\u03e7\u03e8\u0007"+
+		"\u0000\u0000\u0000\u03e8\u03e9\u0007\u0006\u0000\u0000\u03e9\u03ea\u0005"+
+		"_\u0000\u0000\u03ea\u03eb\u0007\u0007\u0000\u0000\u03eb\u03ec\u0007\t"+
+		"\u0000\u0000\u03ec\u03ed\u0007\u0004\u0000\u0000\u03ed\u00a1\u0001\u0000"+
+		"\u0000\u0000\u03ee\u03ef\u0007\u0006\u0000\u0000\u03ef\u03f0\u0007\u0007"+
+		"\u0000\u0000\u03f0\u03f1\u0007\r\u0000\u0000\u03f1\u03f2\u0007\u0000\u0000"+
+		"\u0000\u03f2\u03f3\u0007\u0006\u0000\u0000\u03f3\u03f4\u0005_\u0000\u0000"+
+		"\u03f4\u03f5\u0007\u0015\u0000\u0000\u03f5\u03f6\u0007\u000e\u0000\u0000"+
+		"\u03f6\u03f7\u0007\u0007\u0000\u0000\u03f7\u03f8\u0007\u0003\u0000\u0000"+
+		"\u03f8\u03f9\u0007\u000e\u0000\u0000\u03f9\u03fa\u0007\u0013\u0000\u0000"+
+		"\u03fa\u00a3\u0001\u0000\u0000\u0000\u03fb\u03fc\u0007\u0006\u0000\u0000"+
+		"\u03fc\u03fd\u0007\u0007\u0000\u0000\u03fd\u03fe\u0007\u0002\u0000\u0000"+
+		"\u03fe\u03ff\u0007\u0002\u0000\u0000\u03ff\u0400\u0007\u0004\u0000\u0000"+
+		"\u0400\u0401\u0007\u0001\u0000\u0000\u0401\u00a5\u0001\u0000\u0000\u0000"+
+		"\u0402\u0403\u0007\u0006\u0000\u0000\u0403\u0404\u0007\u0007\u0000\u0000"+
+		"\u0404\u0405\u0007\u0002\u0000\u0000\u0405\u0406\u0007\u0010\u0000\u0000"+
+		"\u0406\u0407\u0007\t\u0000\u0000\u0407\u00a7\u0001\u0000\u0000\u0000\u0408"+
+		"\u0409\u0007\u0013\u0000\u0000\u0409\u040a\u0007\u0000\u0000\u0000\u040a"+
+		"\u040b\u0007\u0005\u0000\u0000\u040b\u040c\u0007\u0004\u0000\u0000\u040c"+
+		"\u040d\u0007\u0003\u0000\u0000\u040d\u040e\u0007\u0010\u0000\u0000\u040e"+
+		"\u040f\u0007\u0000\u0000\u0000\u040f\u0410\u0007\u0006\u0000\u0000\u0410"+
+		"\u0411\u0007\u0010\u0000\u0000\u0411\u0412\u0007\u0011\u0000\u0000\u0412"+
+		"\u0413\u0007\u0004\u0000\u0000\u0413\u0414\u0007\u0001\u0000\u0000\u0414"+
+		"\u00a9\u0001\u0000\u0000\u0000\u0415\u0416\u0007\u0013\u0000\u0000\u0416"+
+		"\u0417\u0007\u0007\u0000\u0000\u0417\u0418\u0007\u0001\u0000\u0000\u0418"+
+		"\u0419\u0007\u0010\u0000\u0000\u0419\u041a\u0007\u0014\u0000\u0000\u041a"+
+		"\u041b\u0007\n\u0000\u0000\u041b\u00ab\u0001\u0000\u0000\u0000\u041c\u041d"+
+		"\u0007\t\u0000\u0000\u041d\u041e\u0007\u0000\u0000\u0000\u041e\u041f\u0007"+
+		"\t\u0000\u0000\u041f\u00ad\u0001\u0000\u0000\u0000\u0420\u0421\u0007\t"+
+		"\u0000\u0000\u0421\u0422\u0007\u0007\u0000\u0000\u0422\u0423\u0007\u0003"+
+		"\u0000\u0000\u0423\u0424\u0007\u0004\u0000\u0000\u0424\u0425\u0007\r\u0000"+
+		"\u0000\u0425\u0426\u0007\u000e\u0000\u0000\u0426\u0427\u0007\u0003\u0000"+
+		"\u0000\u0427\u0428\u0007\f\u0000\u0000\u0428\u0429\u0007\u0010\u0000\u0000"+
+		"\u0429\u042a\u0007\u0019\u0000\u0000\u042a\u042b\u0007\u0004\u0000\u0000"+
+		"\u042b\u00af\u0001\u0000\u0000\u0000\u042c\u042d\u0007\t\u0000\u0000\u042d"+
+		"\u042e\u0007\u0007\u0000\u0000\u042e\u042f\u0007\f\u0000\u0000\u042f\u0430"+
+		"\u0007\u000e\u0000\u0000\u0430\u0431\u0007\u000b\u0000\u0000\u0431\u0432"+
+		"\u0007\u0004\u0000\u0000\u0432\u0433\u0007\u0003\u0000\u0000\u0433\u0434"+
+		"\u0007\u000e\u0000\u0000\u0434\u0435\u0007\f\u0000\u0000\u0435\u0436\u0007"+
+		"\u0004\u0000\u0000\u0436\u0437\u0007\u0003\u0000\u0000\u0437\u00b1\u0001"+
+		"\u0000\u0000\u0000\u0438\u0439\u0007\t\u0000\u0000\u0439\u043a\u0007\u0007"+
+		"\u0000\u0000\u043a\u043b\u0007\u0005\u0000\u0000\u043b\u00b3\u0001\u0000"+
+		"\u0000\u0000\u043c\u043d\u0007\t\u0000\u0000\u043d\u043e\u0007\u000e\u0000"+
+		"\u0000\u043e\u043f\u0007\u0006\u0000\u0000\u043f\u0440\u0007\u0006\u0000"+
+		"\u0000\u0440\u00b5\u0001\u0000\u0000\u0000\u0441\u0442\u0007\u0007\u0000"+
+		"\u0000\u0442\u0443\u0007\u0014\u0000\u0000\u0443\u0444\u0001\u0000\u0000"+
+		"\u0000\u0444\u0445\u0006Z\u0000\u0000\u0445\u00b7\u0001\u0000\u0000\u0000"+
+		"\u0446\u0447\u0007\u0007\u0000\u0000\u0447\u0448\u0007\t\u0000\u0000\u0448"+
+		"\u0449\u0001\u0000\u0000\u0000\u0449\u044a\u0006[\u0000\u0000\u044a\u00b9"+
+		"\u0001\u0000\u0000\u0000\u044b\u044c\u0007\u0007\u0000\u0000\u044c\u044d"+
+		"\u0007\t\u0000\u0000\u044d\u044e\u0007\u0004\u0000\u0000\u044e\u00bb\u0001"+
+		"\u0000\u0000\u0000\u044f\u0450\u0007\u0007\u0000\u0000\u0450\u0451\u0007"+
+		"\u000b\u0000\u0000\u0451\u0452\u0007\u0005\u0000\u0000\u0452\u0453\u0007"+
+		"\u0010\u0000\u0000\u0453\u0454\u0007\u0007\u0000\u0000\u0454\u0455\u0007"+
+		"\t\u0000\u0000\u0455\u0456\u0007\f\u0000\u0000\u0456\u00bd\u0001\u0000"+
+		"\u0000\u0000\u0457\u0458\u0007\u0007\u0000\u0000\u0458\u0459\u0007\u0003"+
+		"\u0000\u0000\u0459\u00bf\u0001\u0000\u0000\u0000\u045a\u045b\u0007\u0007"+
+		"\u0000\u0000\u045b\u045c\u0007\u0003\u0000\u0000\u045c\u045d\u0007\u0001"+
+		"\u0000\u0000\u045d\u045e\u0007\u0004\u0000\u0000\u045e\u045f\u0007\u0003"+
+		"\u0000\u0000\u045f\u00c1\u0001\u0000\u0000\u0000\u0460\u0461\u0007\u000b"+
+		"\u0000\u0000\u0461\u0462\u0007\u0000\u0000\u0000\u0462\u0463\u0007\u0003"+
+		"\u0000\u0000\u0463\u0464\u0007\u0005\u0000\u0000\u0464\u0465\u0007\u0010"+
+		"\u0000\u0000\u0465\u0466\u0007\u0005\u0000\u0000\u0466\u0467\u0007\u0010"+
+		"\u0000\u0000\u0467\u0468\u0007\u0007\u0000\u0000\u0468\u0469\u0007\t\u0000"+
+		"\u0000\u0469\u00c3\u0001\u0000\u0000\u0000\u046a\u046b\u0007\u000b\u0000"+
+		"\u0000\u046b\u046c\u0007\u0000\u0000\u0000\u046c\u046d\u0007\f\u0000\u0000"+
+		"\u046d\u046e\u0007\f\u0000\u0000\u046e\u046f\u0007\b\u0000\u0000\u046f"+
+		"\u0470\u0007\u0007\u0000\u0000\u0470\u0471\u0007\u0003\u0000\u0000\u0471"+
+		"\u0472\u0007\u0001\u0000\u0000\u0472\u00c5\u0001\u0000\u0000\u0000\u0473"+
+		"\u0474\u0007\u000b\u0000\u0000\u0474\u0475\u0007\u0004\u0000\u0000\u0475"+
+		"\u0476\u0007\u0003\u0000\u0000\u0476\u00c7\u0001\u0000\u0000\u0000\u0477"+
+		"\u0478\u0007\u000b\u0000\u0000\u0478\u0479\u0007\u0004\u0000\u0000\u0479"+
+		"\u047a\u0007\u0003\u0000\u0000\u047a\u047b\u0007\u0013\u0000\u0000\u047b"+
+		"\u047c\u0007\u0010\u0000\u0000\u047c\u047d\u0007\f\u0000\u0000\u047d\u047e"+
+		"\u0007\f\u0000\u0000\u047e\u047f\u0007\u0010\u0000\u0000\u047f\u0480\u0007"+
+		"\u0007\u0000\u0000\u0480\u0481\u0007\t\u0000\u0000\u0481\u00c9\u0001\u0000"+
+		"\u0000\u0000\u0482\u0483\u0007\u000b\u0000\u0000\u0483\u0484\u0007\u0004"+
+		"\u0000\u0000\u0484\u0485\u0007\u0003\u0000\u0000\u0485\u0486\u0007\u0013"+
+		"\u0000\u0000\u0486\u0487\u0007\u0010\u0000\u0000\u0487\u0488\u0007\f\u0000"+
+		"\u0000\u0488\u0489\u0007\f\u0000\u0000\u0489\u048a\u0007\u0010\u0000\u0000"+
+		"\u048a\u048b\u0007\u0007\u0000\u0000\u048b\u048c\u0007\t\u0000\u0000\u048c"+
+		"\u048d\u0007\f\u0000\u0000\u048d\u00cb\u0001\u0000\u0000\u0000\u048e\u048f"+
+		"\u0007\u000b\u0000\u0000\u048f\u0490\u0007\u0003\u0000\u0000\u0490\u0491"+
+		"\u0007\u0010\u0000\u0000\u0491\u0492\u0007\u0013\u0000\u0000\u0492\u0493"+
+		"\u0007\u0000\u0000\u0000\u0493\u0494\u0007\u0003\u0000\u0000\u0494\u0495"+
+		"\u0007\n\u0000\u0000\u0495\u00cd\u0001\u0000\u0000\u0000\u0496\u0497\u0007"+
+		"\u0015\u0000\u0000\u0497\u0498\u0007\u000e\u0000\u0000\u0498\u0499\u0007"+
+		"\u0007\u0000\u0000\u0499\u049a\u0007\u0003\u0000\u0000\u049a\u049b\u0007"+
+		"\u000e\u0000\u0000\u049b\u049c\u0007\u0013\u0000\u0000\u049c\u00cf\u0001"+
+		"\u0000\u0000\u0000\u049d\u049e\u0007\u0003\u0000\u0000\u049e\u049f\u0007"+
+		"\u0004\u0000\u0000\u049f\u04a0\u0007\t\u0000\u0000\u04a0\u04a1\u0007\u0000"+
+		"\u0000\u0000\u04a1\u04a2\u0007\u0013\u0000\u0000\u04a2\u04a3\u0007\u0004"+
+		"\u0000\u0000\u04a3\u04a4\u0001\u0000\u0000\u0000\u04a4\u04a5\u0006g\u0000"+
+		"\u0000\u04a5\u00d1\u0001\u0000\u0000\u0000\u04a6\u04a7\u0007\u0003\u0000"+
+		"\u0000\u04a7\u04a8\u0007\u0004\u0000\u0000\u04a8\u04a9\u0007\u000b\u0000"+
+		"\u0000\u04a9\u04aa\u0007\u0006\u0000\u0000\u04aa\u04ab\u0007\u0000\u0000"+
+		"\u0000\u04ab\u04ac\u0007\r\u0000\u0000\u04ac\u04ad\u0007\u0004\u0000\u0000"+
+		"\u04ad\u00d3\u0001\u0000\u0000\u0000\u04ae\u04af\u0007\u0003\u0000\u0000"+
+		"\u04af\u04b0\u0007\u0004\u0000\u0000\u04b0\u04b1\u0007\u000b\u0000\u0000"+
+		"\u04b1\u04b2\u0007\u0006\u0000\u0000\u04b2\u04b3\u0007\u0010\u0000\u0000"+
+		"\u04b3\u04b4\u0007\r\u0000\u0000\u04b4\u04b5\u0007\u0000\u0000\u0000\u04b5"+
+		"\u04b6\u0007\u0005\u0000\u0000\u04b6\u04b7\u0007\u0010\u0000\u0000\u04b7"+
+		"\u04b8\u0007\u0007\u0000\u0000\u04b8\u04b9\u0007\t\u0000\u0000\u04b9\u00d5"+
+		"\u0001\u0000\u0000\u0000\u04ba\u04bb\u0007\u0003\u0000\u0000\u04bb\u04bc"+
+		"\u0007\u0004\u0000\u0000\u04bc\u04bd\u0007\u0005\u0000\u0000\u04bd\u04be"+
+		"\u0007\u000e\u0000\u0000\u04be\u04bf\u0007\u0003\u0000\u0000\u04bf\u04c0"+
+		"\u0007\t\u0000\u0000\u04c0\u04c1\u0007\f\u0000\u0000\u04c1\u00d7\u0001"+
+		"\u0000\u0000\u0000\u04c2\u04c3\u0007\u0003\u0000\u0000\u04c3\u04c4\u0007"+
+		"\u0004\u0000\u0000\u04c4\u04c5\u0007\u0019\u0000\u0000\u04c5\u04c6\u0007"+
+		"\u0007\u0000\u0000\u04c6\u04c7\u0007\u0018\u0000\u0000\u04c7\u04c8\u0007"+
+		"\u0004\u0000\u0000\u04c8\u00d9\u0001\u0000\u0000\u0000\u04c9\u04ca\u0007"+
+		"\u0003\u0000\u0000\u04ca\u04cb\u0007\u0007\u0000\u0000\u04cb\u04cc\u0007"+
+		"\u0006\u0000\u0000\u04cc\u04cd\u0007\u0004\u0000\u0000\u04cd\u00db\u0001"+
+		"\u0000\u0000\u0000\u04ce\u04cf\u0007\u0003\u0000\u0000\u04cf\u04d0\u0007"+
+		"\u0007\u0000\u0000\u04d0\u04d1\u0007\u0006\u0000\u0000\u04d1\u04d2\u0007"+
+		"\u0004\u0000\u0000\u04d2\u04d3\u0007\f\u0000\u0000\u04d3\u00dd\u0001\u0000"+
+		"\u0000\u0000\u04d4\u04d5\u0007\f\u0000\u0000\u04d5\u04d6\u0007\r\u0000"+
+		"\u0000\u04d6\u04d7\u0007\u000f\u0000\u0000\u04d7\u04d8\u0007\u0004\u0000"+
+		"\u0000\u04d8\u04d9\u0007\u0013\u0000\u0000\u04d9\u04da\u0007\u0000\u0000"+
+		"\u0000\u04da\u00df\u0001\u0000\u0000\u0000\u04db\u04dc\u0007\f\u0000\u0000"+
+		"\u04dc\u04dd\u0007\u0004\u0000\u0000\u04dd\u04de\u0007\u0006\u0000\u0000"+
+		"\u04de\u04df\u0007\u0004\u0000\u0000\u04df\u04e0\u0007\r\u0000\u0000\u04e0"+
+		"\u04e1\u0007\u0005\u0000\u0000\u04e1\u00e1\u0001\u0000\u0000\u0000\u04e2"+
+		"\u04e4\u0003\u00e4q\u0000\u04e3\u04e5\u0003\u0160\u00af\u0000\u04e4\u04e3"+
+		"\u0001\u0000\u0000\u0000\u04e4\u04e5\u0001\u0000\u0000\u0000\u04e5\u04e6"+
+		"\u0001\u0000\u0000\u0000\u04e6\u04e7\u0003(\u0013\u0000\u04e7\u04e8\u0001"+
+		"\u0000\u0000\u0000\u04e8\u04e9\u0006p\u0000\u0000\u04e9\u00e3\u0001\u0000"+
+		"\u0000\u0000\u04ea\u04eb\u0007\f\u0000\u0000\u04eb\u04ec\u0007\u0004\u0000"+
+		"\u0000\u04ec\u04ed\u0007\u0005\u0000\u0000\u04ed\u04ee\u0001\u0000\u0000"+
+		"\u0000\u04ee\u04ef\u0006q\u0000\u0000\u04ef\u00e5\u0001\u0000\u0000\u0000"+
+		"\u04f0\u04f1\u0007\f\u0000\u0000\u04f1\u04f2\u0007\u0014\u0000\u0000\u04f2"+
+		"\u04f3\u0007\u000e\u0000\u0000\u04f3\u04f4\u0007\t\u0000\u0000\u04f4\u04f5"+
+		"\u0007\r\u0000\u0000\u04f5\u00e7\u0001\u0000\u0000\u0000\u04f6\u04f7\u0007"+
+		"\f\u0000\u0000\u04f7\u04f8\u0007\u0005\u0000\u0000\u04f8\u04f9\u0007\u0000"+
+		"\u0000\u0000\u04f9\u04fa\u0007\u0005\u0000\u0000\u04fa\u04fb\u0007\u0010"+
+		"\u0000\u0000\u04fb\u04fc\u0007\r\u0000\u0000\u04fc\u00e9\u0001\u0000\u0000"+
+		"\u0000\u04fd\u04fe\u0007\f\u0000\u0000\u04fe\u04ff\u0007\u0005\u0000\u0000"+
+		"\u04ff\u0500\u0007\u0007\u0000\u0000\u0500\u0501\u0007\u0003\u0000\u0000"+
+		"\u0501\u0502\u0007\u0000\u0000\u0000\u0502\u0503\u0007\u0002\u0000\u0000"+
+		"\u0503\u0504\u0007\u0004\u0000\u0000\u0504\u00eb\u0001\u0000\u0000\u0000"+
+		"\u0505\u0506\u0007\f\u0000\u0000\u0506\u0507\u0007\u0005\u0000\u0000\u0507"+
+		"\u0508\u0007\n\u0000\u0000\u0508\u0509\u0007\u000b\u0000\u0000\u0509\u050a"+
+		"\u0007\u0004\u0000\u0000\u050a\u00ed\u0001\u0000\u0000\u0000\u050b\u050c"+
+		"\u0007\f\u0000\u0000\u050c\u050d\u0007\u000e\u0000\u0000\u050d\u050e\u0007"+
+		"\u000b\u0000\u0000\u050e\u050f\u0007\u0004\u0000\u0000\u050f\u0510\u0007"+
+		"\u0003\u0000\u0000\u0510\u0511\u0007\u000e\u0000\u0000\u0511\u0512\u0007"+
+		"\f\u0000\u0000\u0512\u0513\u0007\u0004\u0000\u0000\u0513\u0514\u0007\u0003"+
+		"\u0000\u0000\u0514\u00ef\u0001\u0000\u0000\u0000\u0515\u0516\u0007\u0005"+
+		"\u0000\u0000\u0516\u0517\u0007\u0000\u0000\u0000\u0517\u0518\u0007\u0012"+
+		"\u0000\u0000\u0518\u0519\u0007\u0006\u0000\u0000\u0519\u051a\u0007\u0004"+
+		"\u0000\u0000\u051a\u051b\u0001\u0000\u0000\u0000\u051b\u051c\u0006w\u0000"+
+		"\u0000\u051c\u00f1\u0001\u0000\u0000\u0000\u051d\u051e\u0007\u0005\u0000"+
+		"\u0000\u051e\u051f\u0007\u000f\u0000\u0000\u051f\u0520\u0007\u0003\u0000"+
+		"\u0000\u0520\u0521\u0007\u0004\u0000\u0000\u0521\u0522\u0007\u0004\u0000"+
+		"\u0000\u0522\u00f3\u0001\u0000\u0000\u0000\u0523\u0524\u0003\u00f6z\u0000"+
+		"\u0524\u0525\u0003\u0160\u00af\u0000\u0525\u0526\u0003\u0154\u00a9\u0000"+
+		"\u0526\u00f5\u0001\u0000\u0000\u0000\u0527\u0528\u0007\u0005\u0000\u0000"+
+		"\u0528\u0529\u0007\u0010\u0000\u0000\u0529\u052a\u0007\u0013\u0000\u0000"+
+		"\u052a\u052b\u0007\u0004\u0000\u0000\u052b\u052c\u0007\f\u0000\u0000\u052c"+
+		"\u052d\u0007\u0005\u0000\u0000\u052d\u052e\u0007\u0000\u0000\u0000\u052e"+
+		"\u052f\u0007\u0013\u0000\u0000\u052f\u0530\u0007\u000b\u0000\u0000\u0530"+
+		"\u00f7\u0001\u0000\u0000\u0000\u0531\u0532\u0007\u0005\u0000\u0000\u0532"+
+		"\u0533\u0007\u0007\u0000\u0000\u0533\u0534\u0001\u0000\u0000\u0000\u0534"+
+		"\u0535\u0006{\u0000\u0000\u0535\u00f9\u0001\u0000\u0000\u0000\u0536\u0537"+
+		"\u0007\u0005\u0000\u0000\u0537\u0538\u0007\u0007\u0000\u0000\u0538\u0539"+
+		"\u0007\u0018\u0000\u0000\u0539\u053a\u0007\u0004\u0000\u0000\u053a\u053b"+
+		"\u0007\t\u0000\u0000\u053b\u00fb\u0001\u0000\u0000\u0000\u053c\u053d\u0007"+
+		"\u0005\u0000\u0000\u053d\u053e\u0007\u0003\u0000\u0000\u053e\u053f\u0007"+
+		"\u0010\u0000\u0000\u053f\u0540\u0007\u0002\u0000\u0000\u0540\u0541\u0007"+
+		"\u0002\u0000\u0000\u0541\u0542\u0007\u0004\u0000\u0000\u0542\u0543\u0007"+
+		"\u0003\u0000\u0000\u0543\u00fd\u0001\u0000\u0000\u0000\u0544\u0545\u0007"+
+		"\u0005\u0000\u0000\u0545\u0546\u0007\u0003\u0000\u0000\u0546\u0547\u0007"+
+		"\u000e\u0000\u0000\u0547\u0548\u0007\u0004\u0000\u0000\u0548\u00ff\u0001"+
+		"\u0000\u0000\u0000\u0549\u054a\u0007\u0005\u0000\u0000\u054a\u054b\u0007"+
+		"\u0003\u0000\u0000\u054b\u054c\u0007\u000e\u0000\u0000\u054c\u054d\u0007"+
+		"\t\u0000\u0000\u054d\u054e\u0007\r\u0000\u0000\u054e\u054f\u0007\u0000"+
+		"\u0000\u0000\u054f\u0550\u0007\u0005\u0000\u0000\u0550\u0551\u0007\u0004"+
+		"\u0000\u0000\u0551\u0552\u0001\u0000\u0000\u0000\u0552\u0553\u0006\u007f"+
+		"\u0000\u0000\u0553\u0101\u0001\u0000\u0000\u0000\u0554\u0555\u0007\u0005"+
+		"\u0000\u0000\u0555\u0556\u0007\u0005\u0000\u0000\u0556\u0557\u0007\u0006"+
+		"\u0000\u0000\u0557\u0103\u0001\u0000\u0000\u0000\u0558\u0559\u0007\u0005"+
+		"\u0000\u0000\u0559\u055a\u0007\b\u0000\u0000\u055a\u055b\u0007\u0007\u0000"+
+		"\u0000\u055b\u0105\u0001\u0000\u0000\u0000\u055c\u055d\u0007\u0005\u0000"+
+		"\u0000\u055d\u055e\u0007\n\u0000\u0000\u055e\u055f\u0007\u000b\u0000\u0000"+
+		"\u055f\u0560\u0007\u0004\u0000\u0000\u0560\u0561\u0001\u0000\u0000\u0000"+
+		"\u0561\u0562\u0006\u0082\u0000\u0000\u0562\u0107\u0001\u0000\u0000\u0000"+
+		"\u0563\u0564\u0007\u000e\u0000\u0000\u0564\u0565\u0007\t\u0000\u0000\u0565"+
+		"\u0566\u0007\u0006\u0000\u0000\u0566\u0567\u0007\u0007\u0000\u0000\u0567"+
+		"\u0568\u0007\u0002\u0000\u0000\u0568\u0569\u0007\u0002\u0000\u0000\u0569"+
+		"\u056a\u0007\u0004\u0000\u0000\u056a\u056b\u0007\u0001\u0000\u0000\u056b"+
+		"\u0109\u0001\u0000\u0000\u0000\u056c\u056d\u0007\u000e\u0000\u0000\u056d"+
+		"\u056e\u0007\u000b\u0000\u0000\u056e\u056f\u0007\u0001\u0000\u0000\u056f"+
+		"\u0570\u0007\u0000\u0000\u0000\u0570\u0571\u0007\u0005\u0000\u0000\u0571"+
+		"\u0572\u0007\u0004\u0000\u0000\u0572\u0573\u0001\u0000\u0000\u0000\u0573"+
+		"\u0574\u0006\u0084\u0000\u0000\u0574\u010b\u0001\u0000\u0000\u0000\u0575"+
+		"\u0576\u0007\u000e\u0000\u0000\u0576\u0577\u0007\f\u0000\u0000\u0577\u0578"+
+		"\u0007\u0004\u0000\u0000\u0578\u0579\u0001\u0000\u0000\u0000\u0579\u057a"+
+		"\u0006\u0085\u0000\u0000\u057a\u010d\u0001\u0000\u0000\u0000\u057b\u057c"+
+		"\u0007\u000e\u0000\u0000\u057c\u057d\u0007\f\u0000\u0000\u057d\u057e\u0007"+
+		"\u0004\u0000\u0000\u057e\u057f\u0007\u0003\u0000\u0000\u057f\u010f\u0001"+
+		"\u0000\u0000\u0000\u0580\u0581\u0007\u000e\u0000\u0000\u0581\u0582\u0007"+
+		"\f\u0000\u0000\u0582\u0583\u0007\u0010\u0000\u0000\u0583\u0584\u0007\t"+
+		"\u0000\u0000\u0584\u0585\u0007\u0002\u0000\u0000\u0585\u0111\u0001\u0000"+
+		"\u0000\u0000\u0586\u0587\u0007\u000e\u0000\u0000\u0587\u0588\u0007\u000e"+
+		"\u0000\u0000\u0588\u0589\u0007\u0010\u0000\u0000\u0589\u058a\u0007\u0001"+
+		"\u0000\u0000\u058a\u0113\u0001\u0000\u0000\u0000\u058b\u058c\u0007\u0019"+
+		"\u0000\u0000\u058c\u058d\u0007\u0000\u0000\u0000\u058d\u058e\u0007\u0006"+
+		"\u0000\u0000\u058e\u058f\u0007\u000e\u0000\u0000\u058f\u0590\u0007\u0004"+
+		"\u0000\u0000\u0590\u0591\u0007\f\u0000\u0000\u0591\u0115\u0001\u0000\u0000"+
+		"\u0000\u0592\u0593\u0007\u0019\u0000\u0000\u0593\u0594\u0007\u0010\u0000"+
+		"\u0000\u0594\u0595\u0007\u0004\u0000\u0000\u0595\u0596\u0007\b\u0000\u0000"+
+		"\u0596\u0117\u0001\u0000\u0000\u0000\u0597\u0598\u0007\b\u0000\u0000\u0598"+
+		"\u0599\u0007\u000f\u0000\u0000\u0599\u059a\u0007\u0004\u0000\u0000\u059a"+
+		"\u059b\u0007\u0003\u0000\u0000\u059b\u059c\u0007\u0004\u0000\u0000\u059c"+
+		"\u059d\u0001\u0000\u0000\u0000\u059d\u059e\u0006\u008b\u0000\u0000\u059e"+
+		"\u0119\u0001\u0000\u0000\u0000\u059f\u05a0\u0007\b\u0000\u0000\u05a0\u05a1"+
+		"\u0007\u0010\u0000\u0000\u05a1\u05a2\u0007\u0005\u0000\u0000\u05a2\u05a3"+
+		"\u0007\u000f\u0000\u0000\u05a3\u011b\u0001\u0000\u0000\u0000\u05a4\u05a5"+
+		"\u0007\b\u0000\u0000\u05a5\u05a6\u0007\u0003\u0000\u0000\u05a6\u05a7\u0007"+
+		"\u0010\u0000\u0000\u05a7\u05a8\u0007\u0005\u0000\u0000\u05a8\u05a9\u0007"+
+		"\u0004\u0000\u0000\u05a9\u05aa\u0007\u0005\u0000\u0000\u05aa\u05ab\u0007"+
+		"\u0010\u0000\u0000\u05ab\u05ac\u0007\u0013\u0000\u0000\u05ac\u05ad\u0007"+
+		"\u0004\u0000\u0000\u05ad\u011d\u0001\u0000\u0000\u0000\u05ae\u05af\u0007"+
+		"\u0000\u0000\u0000\u05af\u05b0\u0007\f\u0000\u0000\u05b0\u05b1\u0007\r"+
+		"\u0000\u0000\u05b1\u05b2\u0007\u0010\u0000\u0000\u05b2\u05b3\u0007\u0010"+
+		"\u0000\u0000\u05b3\u011f\u0001\u0000\u0000\u0000\u05b4\u05b5\u0007\u0012"+
+		"\u0000\u0000\u05b5\u05b6\u0007\u0010\u0000\u0000\u05b6\u05b7\u0007\u0002"+
+		"\u0000\u0000\u05b7\u05b8\u0007\u0010\u0000\u0000\u05b8\u05b9\u0007\t\u0000"+
+		"\u0000\u05b9\u05ba\u0007\u0005\u0000\u0000\u05ba\u0121\u0001\u0000\u0000"+
+		"\u0000\u05bb\u05bc\u0007\u0012\u0000\u0000\u05bc\u05bd\u0007\u0006\u0000"+
+		"\u0000\u05bd\u05be\u0007\u0007\u0000\u0000\u05be\u05bf\u0007\u0012\u0000"+
+		"\u0000\u05bf\u0123\u0001\u0000\u0000\u0000\u05c0\u05c1\u0007\u0012\u0000"+
+		"\u0000\u05c1\u05c2\u0007\u0007\u0000\u0000\u05c2\u05c3\u0007\u0007\u0000"+
+		"\u0000\u05c3\u05c4\u0007\u0006\u0000\u0000\u05c4\u05c5\u0007\u0004\u0000"+
+		"\u0000\u05c5\u05c6\u0007\u0000\u0000\u0000\u05c6\u05c7\u0007\t\u0000\u0000"+
+		"\u05c7\u0125\u0001\u0000\u0000\u0000\u05c8\u05c9\u0007\r\u0000\u0000\u05c9"+
+		"\u05ca\u0007\u0007\u0000\u0000\u05ca\u05cb\u0007\u000e\u0000\u0000\u05cb"+
+		"\u05cc\u0007\t\u0000\u0000\u05cc\u05cd\u0007\u0005\u0000\u0000\u05cd\u05ce"+
+		"\u0007\u0004\u0000\u0000\u05ce\u05cf\u0007\u0003\u0000\u0000\u05cf\u0127"+
+		"\u0001\u0000\u0000\u0000\u05d0\u05d1\u0007\u0001\u0000\u0000\u05d1\u05d2"+
+		"\u0007\u0000\u0000\u0000\u05d2\u05d3\u0007\u0005\u0000\u0000\u05d3\u05d4"+
+		"\u0007\u0004\u0000\u0000\u05d4\u0129\u0001\u0000\u0000\u0000\u05d5\u05d6"+
+		"\u0007\u0001\u0000\u0000\u05d6\u05d7\u0007\u0004\u0000\u0000\u05d7\u05d8"+
+		"\u0007\r\u0000\u0000\u05d8\u05d9\u0007\u0010\u0000\u0000\u05d9\u05da\u0007"+
+		"\u0013\u0000\u0000\u05da\u05db\u0007\u0000\u0000\u0000\u05db\u05dc\u0007"+
+		"\u0006\u0000\u0000\u05dc\u012b\u0001\u0000\u0000\u0000\u05dd\u05de\u0007"+
+		"\u0001\u0000\u0000\u05de\u05df\u0007\u0007\u0000\u0000\u05df\u05e0\u0007"+
+		"\u000e\u0000\u0000\u05e0\u05e1\u0007\u0012\u0000\u0000\u05e1\u05e2\u0007"+
+		"\u0006\u0000\u0000\u05e2\u05e3\u0007\u0004\u0000\u0000\u05e3\u012d\u0001"+
+		"\u0000\u0000\u0000\u05e4\u05e5\u0007\u0014\u0000\u0000\u05e5\u05e6\u0007"+
+		"\u0006\u0000\u0000\u05e6\u05e7\u0007\u0007\u0000\u0000\u05e7\u05e8\u0007"+
+		"\u0000\u0000\u0000\u05e8\u05e9\u0007\u0005\u0000\u0000\u05e9\u012f\u0001"+
+		"\u0000\u0000\u0000\u05ea\u05ec\u0003\u0132\u0098\u0000\u05eb\u05ed\u0003"+
+		"\u0160\u00af\u0000\u05ec\u05eb\u0001\u0000\u0000\u0000\u05ec\u05ed\u0001"+
+		"\u0000\u0000\u0000\u05ed\u05ee\u0001\u0000\u0000\u0000\u05ee\u05ef\u0003"+
+		"(\u0013\u0000\u05ef\u05f0\u0001\u0000\u0000\u0000\u05f0\u05f1\u0006\u0097"+
+		"\u0000\u0000\u05f1\u0131\u0001\u0000\u0000\u0000\u05f2\u05f3\u0007\u0014"+
+		"\u0000\u0000\u05f3\u05f4\u0007\u0003\u0000\u0000\u05f4\u05f5\u0007\u0007"+
+		"\u0000\u0000\u05f5\u05f6\u0007\u0011\u0000\u0000\u05f6\u05f7\u0007\u0004"+
+		"\u0000\u0000\u05f7\u05f8\u0007\t\u0000\u0000\u05f8\u0133\u0001\u0000\u0000"+
+		"\u0000\u05f9\u05fa\u0007\u0010\u0000\u0000\u05fa\u05fb\u0007\t\u0000\u0000"+
+		"\u05fb\u05fc\u0007\u0004\u0000\u0000\u05fc\u05fd\u0007\u0005\u0000\u0000"+
+		"\u05fd\u0135\u0001\u0000\u0000\u0000\u05fe\u05ff\u0007\u0010\u0000\u0000"+
+		"\u05ff\u0600\u0007\t\u0000\u0000\u0600\u0601\u0007\u0005\u0000\u0000\u0601"+
+		"\u0137\u0001\u0000\u0000\u0000\u0602\u0604\u0003\u013a\u009c\u0000\u0603"+
+		"\u0605\u0003\u0160\u00af\u0000\u0604\u0603\u0001\u0000\u0000\u0000\u0604"+
+		"\u0605\u0001\u0000\u0000\u0000\u0605\u0606\u0001\u0000\u0000\u0000\u0606"+
+		"\u0607\u0003(\u0013\u0000\u0607\u0608\u0001\u0000\u0000\u0000\u0608\u0609"+
+		"\u0006\u009b\u0000\u0000\u0609\u0139\u0001\u0000\u0000\u0000\u060a\u060b"+
+		"\u0007\u0006\u0000\u0000\u060b\u060c\u0007\u0010\u0000\u0000\u060c\u060d"+
+		"\u0007\f\u0000\u0000\u060d\u060e\u0007\u0005\u0000\u0000\u060e\u013b\u0001"+
+		"\u0000\u0000\u0000\u060f\u0611\u0003\u013e\u009e\u0000\u0610\u0612\u0003"+
+		"\u0160\u00af\u0000\u0611\u0610\u0001\u0000\u0000\u0000\u0611\u0612\u0001"+
+		"\u0000\u0000\u0000\u0612\u0613\u0001\u0000\u0000\u0000\u0613\u0614\u0003"+
+		"(\u0013\u0000\u0614\u0615\u0001\u0000\u0000\u0000\u0615\u0616\u0006\u009d"+
+		"\u0000\u0000\u0616\u013d\u0001\u0000\u0000\u0000\u0617\u0618\u0007\u0013"+
+		"\u0000\u0000\u0618\u0619\u0007\u0000\u0000\u0000\u0619\u061a\u0007\u000b"+
+		"\u0000\u0000\u061a\u013f\u0001\u0000\u0000\u0000\u061b\u061c\u0007\f\u0000"+
+		"\u0000\u061c\u061d\u0007\u0013\u0000\u0000\u061d\u061e\u0007\u0000\u0000"+
+		"\u0000\u061e\u061f\u0007\u0006\u0000\u0000\u061f\u0620\u0007\u0006\u0000"+
+		"\u0000\u0620\u0621\u0007\u0010\u0000\u0000\u0621\u0622\u0007\t\u0000\u0000"+
+		"\u0622\u0623\u0007\u0005\u0000\u0000\u0623\u0141\u0001\u0000\u0000\u0000"+
+		"\u0624\u0625\u0007\u0005\u0000\u0000\u0625\u0626\u0007\u0004\u0000\u0000"+
+		"\u0626\u0627\u0007\u0016\u0000\u0000\u0627\u0628\u0007\u0005\u0000\u0000"+
+		"\u0628\u0143\u0001\u0000\u0000\u0000\u0629\u062a\u0007\u0005\u0000\u0000"+
+		"\u062a\u062b\u0007\u0010\u0000\u0000\u062b\u062c\u0007\u0013\u0000\u0000"+
+		"\u062c\u062d\u0007\u0004\u0000\u0000\u062d\u062e\u0007\u000e\u0000\u0000"+
+		"\u062e\u062f\u0007\u000e\u0000\u0000\u062f\u0630\u0007\u0010\u0000\u0000"+
+		"\u0630\u0631\u0007\u0001\u0000\u0000\u0631\u0145\u0001\u0000\u0000\u0000"+
+		"\u0632\u0633\u0007\u0005\u0000\u0000\u0633\u0634\u0007\u0010\u0000\u0000"+
+		"\u0634\u0635\u0007\u0013\u0000\u0000\u0635\u0636\u0007\u0004\u0000\u0000"+
+		"\u0636\u0147\u0001\u0000\u0000\u0000\u0637\u0638\u0007\u0005\u0000\u0000"+
+		"\u0638\u0639\u0007\u0010\u0000\u0000\u0639\u063a\u0007\t\u0000\u0000\u063a"+
+		"\u063b\u0007\n\u0000\u0000\u063b\u063c\u0007\u0010\u0000\u0000\u063c\u063d"+
+		"\u0007\t\u0000\u0000\u063d\u063e\u0007\u0005\u0000\u0000\u063e\u0149\u0001"+
+		"\u0000\u0000\u0000\u063f\u0640\u0007\u0005\u0000\u0000\u0640\u0641\u0007"+
+		"\u000e\u0000\u0000\u0641\u0642\u0007\u000b\u0000\u0000\u0642\u0643\u0007"+
+		"\u0006\u0000\u0000\u0643\u0644\u0007\u0004\u0000\u0000\u0644\u014b\u0001"+
+		"\u0000\u0000\u0000\u0645\u0646\u0007\u0019\u0000\u0000\u0646\u0647\u0007"+
+		"\u0000\u0000\u0000\u0647\u0648\u0007\u0003\u0000\u0000\u0648\u0649\u0007"+
+		"\r\u0000\u0000\u0649\u064a\u0007\u000f\u0000\u0000\u064a\u064b\u0007\u0000"+
+		"\u0000\u0000\u064b\u064c\u0007\u0003\u0000\u0000\u064c\u014d\u0001\u0000"+
+		"\u0000\u0000\u064d\u064e\u0007\u0019\u0000\u0000\u064e\u064f\u0007\u0000"+
+		"\u0000\u0000\u064f\u0650\u0007\u0003\u0000\u0000\u0650\u0651\u0007\u0010"+
+		"\u0000\u0000\u0651\u0652\u0007\t\u0000\u0000\u0652\u0653\u0007\u0005\u0000"+
+		"\u0000\u0653\u014f\u0001\u0000\u0000\u0000\u0654\u0655\u0005$\u0000\u0000"+
+		"\u0655\u0656\u0005$\u0000\u0000\u0656\u065c\u0001\u0000\u0000\u0000\u0657"+
+		"\u065b\b\u001a\u0000\u0000\u0658\u0659\u0005$\u0000\u0000\u0659\u065b"+
+		"\b\u001a\u0000\u0000\u065a\u0657\u0001\u0000\u0000\u0000\u065a\u0658\u0001"+
+		"\u0000\u0000\u0000\u065b\u065e\u0001\u0000\u0000\u0000\u065c\u065a\u0001"+
+		"\u0000\u0000\u0000\u065c\u065d\u0001\u0000\u0000\u0000\u065d\u065f\u0001"+
+		"\u0000\u0000\u0000\u065e\u065c\u0001\u0000\u0000\u0000\u065f\u0660\u0005"+
+		"$\u0000\u0000\u0660\u0661\u0005$\u0000\u0000\u0661\u0151\u0001\u0000\u0000"+
+		"\u0000\u0662\u066a\u0005\'\u0000\u0000\u0663\u0664\u0005\\\u0000\u0000"+
+		"\u0664\u0669\t\u0000\u0000\u0000\u0665\u0666\u0005\'\u0000\u0000\u0666"+
+		"\u0669\u0005\'\u0000\u0000\u0667\u0669\b\u001b\u0000\u0000\u0668\u0663"+
+		"\u0001\u0000\u0000\u0000\u0668\u0665\u0001\u0000\u0000\u0000\u0668\u0667"+
+		"\u0001\u0000\u0000\u0000\u0669\u066c\u0001\u0000\u0000\u0000\u066a\u0668"+
+		"\u0001\u0000\u0000\u0000\u066a\u066b\u0001\u0000\u0000\u0000\u066b\u066d"+
+		"\u0001\u0000\u0000\u0000\u066c\u066a\u0001\u0000\u0000\u0000\u066d\u066e"+
+		"\u0005\'\u0000\u0000\u066e\u0153\u0001\u0000\u0000\u0000\u066f\u0671\u0003"+
+		"\u016c\u00b5\u0000\u0670\u066f\u0001\u0000\u0000\u0000\u0671\u0672\u0001"+
+		"\u0000\u0000\u0000\u0672\u0670\u0001\u0000\u0000\u0000\u0672\u0673\u0001"+
+		"\u0000\u0000\u0000\u0673\u0155\u0001\u0000\u0000\u0000\u0674\u0676\u0003"+
+		" \u000f\u0000\u0675\u0674\u0001\u0000\u0000\u0000\u0675\u0676\u0001\u0000"+
+		"\u0000\u0000\u0676\u0678\u0001\u0000\u0000\u0000\u0677\u0679\u0007\u001c"+
+		"\u0000\u0000\u0678\u0677\u0001\u0000\u0000\u0000\u0679\u067a\u0001\u0000"+
+		"\u0000\u0000\u067a\u0678\u0001\u0000\u0000\u0000\u067a\u067b\u0001\u0000"+
+		"\u0000\u0000\u067b\u0682\u0001\u0000\u0000\u0000\u067c\u067e\u0003\u0014"+
+		"\t\u0000\u067d\u067f\u0007\u001c\u0000\u0000\u067e\u067d\u0001\u0000\u0000"+
+		"\u0000\u067f\u0680\u0001\u0000\u0000\u0000\u0680\u067e\u0001\u0000\u0000"+
+		"\u0000\u0680\u0681\u0001\u0000\u0000\u0000\u0681\u0683\u0001\u0000\u0000"+
+		"\u0000\u0682\u067c\u0001\u0000\u0000\u0000\u0682\u0683\u0001\u0000\u0000"+
+		"\u0000\u0683\u0157\u0001\u0000\u0000\u0000\u0684\u0685\u0007\u0016\u0000"+
+		"\u0000\u0685\u0689\u0005\'\u0000\u0000\u0686\u0687\u0003\u016a\u00b4\u0000"+
+		"\u0687\u0688\u0003\u016a\u00b4\u0000\u0688\u068a\u0001\u0000\u0000\u0000"+
+		"\u0689\u0686\u0001\u0000\u0000\u0000\u068a\u068b\u0001\u0000\u0000\u0000"+
+		"\u068b\u0689\u0001\u0000\u0000\u0000\u068b\u068c\u0001\u0000\u0000\u0000"+
+		"\u068c\u068d\u0001\u0000\u0000\u0000\u068d\u068e\u0005\'\u0000\u0000\u068e"+
+		"\u0698\u0001\u0000\u0000\u0000\u068f\u0690\u00050\u0000\u0000\u0690\u0691"+
+		"\u0007\u0016\u0000\u0000\u0691\u0693\u0001\u0000\u0000\u0000\u0692\u0694"+
+		"\u0003\u016a\u00b4\u0000\u0693\u0692\u0001\u0000\u0000\u0000\u0694\u0695"+
+		"\u0001\u0000\u0000\u0000\u0695\u0693\u0001\u0000\u0000\u0000\u0695\u0696"+
+		"\u0001\u0000\u0000\u0000\u0696\u0698\u0001\u0000\u0000\u0000\u0697\u0684"+
+		"\u0001\u0000\u0000\u0000\u0697\u068f\u0001\u0000\u0000\u0000\u0698\u0159"+
+		"\u0001\u0000\u0000\u0000\u0699\u069b\u0003\u016c\u00b5\u0000\u069a\u0699"+
+		"\u0001\u0000\u0000\u0000\u069b\u069c\u0001\u0000\u0000\u0000\u069c\u069a"+
+		"\u0001\u0000\u0000\u0000\u069c\u069d\u0001\u0000\u0000\u0000\u069d\u069f"+
+		"\u0001\u0000\u0000\u0000\u069e\u06a0\u0005.\u0000\u0000\u069f\u069e\u0001"+
+		"\u0000\u0000\u0000\u069f\u06a0\u0001\u0000\u0000\u0000\u06a0\u06a1\u0001"+
+		"\u0000\u0000\u0000\u06a1\u06a2\u0003\u016e\u00b6\u0000\u06a2\u06b3\u0001"+
+		"\u0000\u0000\u0000\u06a3\u06a5\u0003\u016c\u00b5\u0000\u06a4\u06a3\u0001"+
+		"\u0000\u0000\u0000\u06a5\u06a8\u0001\u0000\u0000\u0000\u06a6\u06a4\u0001"+
+		"\u0000\u0000\u0000\u06a6\u06a7\u0001\u0000\u0000\u0000\u06a7\u06a9\u0001"+
+		"\u0000\u0000\u0000\u06a8\u06a6\u0001\u0000\u0000\u0000\u06a9\u06ab\u0005"+
+		".\u0000\u0000\u06aa\u06ac\u0003\u016c\u00b5\u0000\u06ab\u06aa\u0001\u0000"+
+		"\u0000\u0000\u06ac\u06ad\u0001\u0000\u0000\u0000\u06ad\u06ab\u0001\u0000"+
+		"\u0000\u0000\u06ad\u06ae\u0001\u0000\u0000\u0000\u06ae\u06b0\u0001\u0000"+
+		"\u0000\u0000\u06af\u06b1\u0003\u016e\u00b6\u0000\u06b0\u06af\u0001\u0000"+
+		"\u0000\u0000\u06b0\u06b1\u0001\u0000\u0000\u0000\u06b1\u06b3\u0001\u0000"+
+		"\u0000\u0000\u06b2\u069a\u0001\u0000\u0000\u0000\u06b2\u06a6\u0001\u0000"+
+		"\u0000\u0000\u06b3\u015b\u0001\u0000\u0000\u0000\u06b4\u06b8\u0007\u001d"+
+		"\u0000\u0000\u06b5\u06b7\u0007\u001e\u0000\u0000\u06b6\u06b5\u0001\u0000"+
+		"\u0000\u0000\u06b7\u06ba\u0001\u0000\u0000\u0000\u06b8\u06b6\u0001\u0000"+
+		"\u0000\u0000\u06b8\u06b9\u0001\u0000\u0000\u0000\u06b9\u06c3\u0001\u0000"+
+		"\u0000\u0000\u06ba\u06b8\u0001\u0000\u0000\u0000\u06bb\u06bd\u0005\"\u0000"+
+		"\u0000\u06bc\u06be\b\u001f\u0000\u0000\u06bd\u06bc\u0001\u0000\u0000\u0000"+
+		"\u06be\u06bf\u0001\u0000\u0000\u0000\u06bf\u06bd\u0001\u0000\u0000\u0000"+
+		"\u06bf\u06c0\u0001\u0000\u0000\u0000\u06c0\u06c1\u0001\u0000\u0000\u0000"+
+		"\u06c1\u06c3\u0005\"\u0000\u0000\u06c2\u06b4\u0001\u0000\u0000\u0000\u06c2"+
+		"\u06bb\u0001\u0000\u0000\u0000\u06c3\u015d\u0001\u0000\u0000\u0000\u06c4"+
+		"\u06c5\u0003\u0168\u00b3\u0000\u06c5\u06c6\u0003\u0168\u00b3\u0000\u06c6"+
+		"\u06c7\u0005-\u0000\u0000\u06c7\u06c8\u0003\u0168\u00b3\u0000\u06c8\u06c9"+
+		"\u0005-\u0000\u0000\u06c9\u06ca\u0003\u0168\u00b3\u0000\u06ca\u06cb\u0005"+
+		"-\u0000\u0000\u06cb\u06cc\u0003\u0168\u00b3\u0000\u06cc\u06cd\u0005-\u0000"+
+		"\u0000\u06cd\u06ce\u0003\u0168\u00b3\u0000\u06ce\u06cf\u0003\u0168\u00b3"+
+		"\u0000\u06cf\u06d0\u0003\u0168\u00b3\u0000\u06d0\u015f\u0001\u0000\u0000"+
+		"\u0000\u06d1\u06d3\u0007 \u0000\u0000\u06d2\u06d1\u0001\u0000\u0000\u0000"+
+		"\u06d3\u06d4\u0001\u0000\u0000\u0000\u06d4\u06d2\u0001\u0000\u0000\u0000"+
+		"\u06d4\u06d5\u0001\u0000\u0000\u0000\u06d5\u06d6\u0001\u0000\u0000\u0000"+
+		"\u06d6\u06d7\u0006\u00af\u0001\u0000\u06d7\u0161\u0001\u0000\u0000\u0000"+
+		"\u06d8\u06d9\u0005/\u0000\u0000\u06d9\u06da\u0005*\u0000\u0000\u06da\u06db"+
+		"\u0005!\u0000\u0000\u06db\u06dd\u0001\u0000\u0000\u0000\u06dc\u06de\t"+
+		"\u0000\u0000\u0000\u06dd\u06dc\u0001\u0000\u0000\u0000\u06de\u06df\u0001"+
+		"\u0000\u0000\u0000\u06df\u06e0\u0001\u0000\u0000\u0000\u06df\u06dd\u0001"+
+		"\u0000\u0000\u0000\u06e0\u06e1\u0001\u0000\u0000\u0000\u06e1\u06e2\u0005"+
+		"*\u0000\u0000\u06e2\u06e3\u0005/\u0000\u0000\u06e3\u06e4\u0001\u0000\u0000"+
+		"\u0000\u06e4\u06e5\u0006\u00b0\u0001\u0000\u06e5\u0163\u0001\u0000\u0000"+
+		"\u0000\u06e6\u06e7\u0005/\u0000\u0000\u06e7\u06e8\u0005*\u0000\u0000\u06e8"+
+		"\u06ec\u0001\u0000\u0000\u0000\u06e9\u06eb\t\u0000\u0000\u0000\u06ea\u06e9"+
+		"\u0001\u0000\u0000\u0000\u06eb\u06ee\u0001\u0000\u0000\u0000\u06ec\u06ed"+
+		"\u0001\u0000\u0000\u0000\u06ec\u06ea\u0001\u0000\u0000\u0000\u06ed\u06ef"+
+		"\u0001\u0000\u0000\u0000\u06ee\u06ec\u0001\u0000\u0000\u0000\u06ef\u06f0"+
+		"\u0005*\u0000\u0000\u06f0\u06f1\u0005/\u0000\u0000\u06f1\u06f2\u0001\u0000"+
+		"\u0000\u0000\u06f2\u06f3\u0006\u00b1\u0001\u0000\u06f3\u0165\u0001\u0000"+
+		"\u0000\u0000\u06f4\u06f5\u0005-\u0000\u0000\u06f5\u06f6\u0005-\u0000\u0000"+
+		"\u06f6\u06fb\u0005 \u0000\u0000\u06f7\u06fb\u0005#\u0000\u0000\u06f8\u06f9"+
+		"\u0005/\u0000\u0000\u06f9\u06fb\u0005/\u0000\u0000\u06fa\u06f4\u0001\u0000"+
+		"\u0000\u0000\u06fa\u06f7\u0001\u0000\u0000\u0000\u06fa\u06f8\u0001\u0000"+
+		"\u0000\u0000\u06fb\u06ff\u0001\u0000\u0000\u0000\u06fc\u06fe\b!\u0000"+
+		"\u0000\u06fd\u06fc\u0001\u0000\u0000\u0000\u06fe\u0701\u0001\u0000\u0000"+
+		"\u0000\u06ff\u06fd\u0001\u0000\u0000\u0000\u06ff\u0700\u0001\u0000\u0000"+
+		"\u0000\u0700\u0707\u0001\u0000\u0000\u0000\u0701\u06ff\u0001\u0000\u0000"+
+		"\u0000\u0702\u0704\u0005\r\u0000\u0000\u0703\u0702\u0001\u0000\u0000\u0000"+
+		"\u0703\u0704\u0001\u0000\u0000\u0000\u0704\u0705\u0001\u0000\u0000\u0000"+
+		"\u0705\u0708\u0005\n\u0000\u0000\u0706\u0708\u0005\u0000\u0000\u0001\u0707"+
+		"\u0703\u0001\u0000\u0000\u0000\u0707\u0706\u0001\u0000\u0000\u0000\u0708"+
+		"\u0714\u0001\u0000\u0000\u0000\u0709\u070a\u0005-\u0000\u0000\u070a\u070b"+
+		"\u0005-\u0000\u0000\u070b\u0711\u0001\u0000\u0000\u0000\u070c\u070e\u0005"+
+		"\r\u0000\u0000\u070d\u070c\u0001\u0000\u0000\u0000\u070d\u070e\u0001\u0000"+
+		"\u0000\u0000\u070e\u070f\u0001\u0000\u0000\u0000\u070f\u0712\u0005\n\u0000"+
+		"\u0000\u0710\u0712\u0005\u0000\u0000\u0001\u0711\u070d\u0001\u0000\u0000"+
+		"\u0000\u0711\u0710\u0001\u0000\u0000\u0000\u0712\u0714\u0001\u0000\u0000"+
+		"\u0000\u0713\u06fa\u0001\u0000\u0000\u0000\u0713\u0709\u0001\u0000\u0000"+
+		"\u0000\u0714\u0715\u0001\u0000\u0000\u0000\u0715\u0716\u0006\u00b2\u0001"+
+		"\u0000\u0716\u0167\u0001\u0000\u0000\u0000\u0717\u0718\u0007\"\u0000\u0000"+
+		"\u0718\u0719\u0007\"\u0000\u0000\u0719\u071a\u0007\"\u0000\u0000\u071a"+
+		"\u071b\u0007\"\u0000\u0000\u071b\u0169\u0001\u0000\u0000\u0000\u071c\u071d"+
+		"\u0007\"\u0000\u0000\u071d\u016b\u0001\u0000\u0000\u0000\u071e\u071f\u0007"+
+		"\u001c\u0000\u0000\u071f\u016d\u0001\u0000\u0000\u0000\u0720\u0722\u0007"+
+		"\u0004\u0000\u0000\u0721\u0723\u0007#\u0000\u0000\u0722\u0721\u0001\u0000"+
+		"\u0000\u0000\u0722\u0723\u0001\u0000\u0000\u0000\u0723\u0725\u0001\u0000"+
+		"\u0000\u0000\u0724\u0726\u0003\u016c\u00b5\u0000\u0725\u0724\u0001\u0000"+
+		"\u0000\u0000\u0726\u0727\u0001\u0000\u0000\u0000\u0727\u0725\u0001\u0000"+
+		"\u0000\u0000\u0727\u0728\u0001\u0000\u0000\u0000\u0728\u016f\u0001\u0000"+
+		"\u0000\u0000\u0729\u072a\u0003\u0010\u0007\u0000\u072a\u072b\u0001\u0000"+
+		"\u0000\u0000\u072b\u072c\u0006\u00b7\u0002\u0000\u072c\u072d\u0006\u00b7"+
+		"\u0003\u0000\u072d\u0171\u0001\u0000\u0000\u0000\u072e\u072f\u0003\u0006"+
+		"\u0002\u0000\u072f\u0730\u0001\u0000\u0000\u0000\u0730\u0731\u0006\u00b8"+
+		"\u0004\u0000\u0731\u0173\u0001\u0000\u0000\u0000\u0732\u0733\u0003\n\u0004"+
+		"\u0000\u0733\u0734\u0001\u0000\u0000\u0000\u0734\u0735\u0006\u00b9\u0005"+
+		"\u0000\u0735\u0175\u0001\u0000\u0000\u0000\u0736\u0737\u0003\u0002\u0000"+
+		"\u0000\u0737\u0738\u0001\u0000\u0000\u0000\u0738\u0739\u0006\u00ba\u0006"+
+		"\u0000\u0739\u0177\u0001\u0000\u0000\u0000\u073a\u073b\u0003(\u0013\u0000"+
+		"\u073b\u073c\u0001\u0000\u0000\u0000\u073c\u073d\u0006\u00bb\u0007\u0000"+
+		"\u073d\u0179\u0001\u0000\u0000\u0000\u073e\u073f\u0003\u0004\u0001\u0000"+
+		"\u073f\u0740\u0001\u0000\u0000\u0000\u0740\u0741\u0006\u00bc\b\u0000\u0741"+
+		"\u0742\u0006\u00bc\u0003\u0000\u0742\u017b\u0001\u0000\u0000\u0000\u0743"+
+		"\u0744\u0003\b\u0003\u0000\u0744\u0745\u0001\u0000\u0000\u0000\u0745\u0746"+
+		"\u0006\u00bd\t\u0000\u0746\u0747\u0006\u00bd\u0003\u0000\u0747\u017d\u0001"+
+		"\u0000\u0000\u0000\u0748\u0749\u0003\f\u0005\u0000\u0749\u074a\u0001\u0000"+
+		"\u0000\u0000\u074a\u074b\u0006\u00be\n\u0000\u074b\u074c\u0006\u00be\u0003"+
+		"\u0000\u074c\u017f\u0001\u0000\u0000\u0000\u074d\u074e\u0003*\u0014\u0000"+
+		"\u074e\u074f\u0001\u0000\u0000\u0000\u074f\u0750\u0006\u00bf\u000b\u0000"+
+		"\u0750\u0751\u0006\u00bf\u0003\u0000\u0751\u0181\u0001\u0000\u0000\u0000"+
+		"\u0752\u0753\u00030\u0017\u0000\u0753\u0754\u0001\u0000\u0000\u0000\u0754"+
+		"\u0755\u0006\u00c0\f\u0000\u0755\u0756\u0006\u00c0\u0003\u0000\u0756\u0183"+
+		"\u0001\u0000\u0000\u0000\u0757\u0758\u00032\u0018\u0000\u0758\u0759\u0001"+
+		"\u0000\u0000\u0000\u0759\u075a\u0006\u00c1\r\u0000\u075a\u075b\u0006\u00c1"+
+		"\u0003\u0000\u075b\u0185\u0001\u0000\u0000\u0000\u075c\u075d\u00036\u001a"+
+		"\u0000\u075d\u075e\u0001\u0000\u0000\u0000\u075e\u075f\u0006\u00c2\u000e"+
+		"\u0000\u075f\u0760\u0006\u00c2\u0003\u0000\u0760\u0187\u0001\u0000\u0000"+
+		"\u0000\u0761\u0762\u00038\u001b\u0000\u0762\u0763\u0001\u0000\u0000\u0000"+
+		"\u0763\u0764\u0006\u00c3\u000f\u0000\u0764\u0765\u0006\u00c3\u0003\u0000"+
+		"\u0765\u0189\u0001\u0000\u0000\u0000\u0766\u0767\u0003:\u001c\u0000\u0767"+
+		"\u0768\u0001\u0000\u0000\u0000\u0768\u0769\u0006\u00c4\u0010\u0000\u0769"+
+		"\u076a\u0006\u00c4\u0003\u0000\u076a\u018b\u0001\u0000\u0000\u0000\u076b"+
+		"\u076c\u0003<\u001d\u0000\u076c\u076d\u0001\u0000\u0000\u0000\u076d\u076e"+
+		"\u0006\u00c5\u0011\u0000\u076e\u076f\u0006\u00c5\u0003\u0000\u076f\u018d"+
+		"\u0001\u0000\u0000\u0000\u0770\u0771\u0003>\u001e\u0000\u0771\u0772\u0001"+
+		"\u0000\u0000\u0000\u0772\u0773\u0006\u00c6\u0012\u0000\u0773\u0774\u0006"+
+		"\u00c6\u0003\u0000\u0774\u018f\u0001\u0000\u0000\u0000\u0775\u0776\u0003"+
+		"B \u0000\u0776\u0777\u0001\u0000\u0000\u0000\u0777\u0778\u0006\u00c7\u0013"+
+		"\u0000\u0778\u0779\u0006\u00c7\u0003\u0000\u0779\u0191\u0001\u0000\u0000"+
+		"\u0000\u077a\u077b\u0003D!\u0000\u077b\u077c\u0001\u0000\u0000\u0000\u077c"+
+		"\u077d\u0006\u00c8\u0014\u0000\u077d\u077e\u0006\u00c8\u0003\u0000\u077e"+
+		"\u0193\u0001\u0000\u0000\u0000\u077f\u0780\u0003F\"\u0000\u0780\u0781"+
+		"\u0001\u0000\u0000\u0000\u0781\u0782\u0006\u00c9\u0015\u0000\u0782\u0783"+
+		"\u0006\u00c9\u0003\u0000\u0783\u0195\u0001\u0000\u0000\u0000\u0784\u0785"+
+		"\u0003H#\u0000\u0785\u0786\u0001\u0000\u0000\u0000\u0786\u0787\u0006\u00ca"+
+		"\u0016\u0000\u0787\u0788\u0006\u00ca\u0003\u0000\u0788\u0197\u0001\u0000"+
+		"\u0000\u0000\u0789\u078a\u0003J$\u0000\u078a\u078b\u0001\u0000\u0000\u0000"+
+		"\u078b\u078c\u0006\u00cb\u0017\u0000\u078c\u078d\u0006\u00cb\u0003\u0000"+
+		"\u078d\u0199\u0001\u0000\u0000\u0000\u078e\u078f\u0003P\'\u0000\u078f"+
+		"\u0790\u0001\u0000\u0000\u0000\u0790\u0791\u0006\u00cc\u0018\u0000\u0791"+
+		"\u0792\u0006\u00cc\u0003\u0000\u0792\u019b\u0001\u0000\u0000\u0000\u0793"+
+		"\u0794\u0003X+\u0000\u0794\u0795\u0001\u0000\u0000\u0000\u0795\u0796\u0006"+
+		"\u00cd\u0019\u0000\u0796\u0797\u0006\u00cd\u0003\u0000\u0797\u019d\u0001"+
+		"\u0000\u0000\u0000\u0798\u0799\u0003\\-\u0000\u0799\u079a\u0001\u0000"+
+		"\u0000\u0000\u079a\u079b\u0006\u00ce\u001a\u0000\u079b\u079c\u0006\u00ce"+
+		"\u0003\u0000\u079c\u019f\u0001\u0000\u0000\u0000\u079d\u079e\u0003^.\u0000"+
+		"\u079e\u079f\u0001\u0000\u0000\u0000\u079f\u07a0\u0006\u00cf\u001b\u0000"+
+		"\u07a0\u07a1\u0006\u00cf\u0003\u0000\u07a1\u01a1\u0001\u0000\u0000\u0000"+
+		"\u07a2\u07a3\u0003d1\u0000\u07a3\u07a4\u0001\u0000\u0000\u0000\u07a4\u07a5"+
+		"\u0006\u00d0\u001c\u0000\u07a5\u07a6\u0006\u00d0\u0003\u0000\u07a6\u01a3"+
+		"\u0001\u0000\u0000\u0000\u07a7\u07a8\u0003f2\u0000\u07a8\u07a9\u0001\u0000"+
+		"\u0000\u0000\u07a9\u07aa\u0006\u00d1\u001d\u0000\u07aa\u07ab\u0006\u00d1"+
+		"\u0003\u0000\u07ab\u01a5\u0001\u0000\u0000\u0000\u07ac\u07ad\u0003j4\u0000"+
+		"\u07ad\u07ae\u0001\u0000\u0000\u0000\u07ae\u07af\u0006\u00d2\u001e\u0000"+
+		"\u07af\u07b0\u0006\u00d2\u0003\u0000\u07b0\u01a7\u0001\u0000\u0000\u0000"+
+		"\u07b1\u07b2\u0003p7\u0000\u07b2\u07b3\u0001\u0000\u0000\u0000\u07b3\u07b4"+
+		"\u0006\u00d3\u001f\u0000\u07b4\u07b5\u0006\u00d3\u0003\u0000\u07b5\u01a9"+
+		"\u0001\u0000\u0000\u0000\u07b6\u07b7\u0003v:\u0000\u07b7\u07b8\u0001\u0000"+
+		"\u0000\u0000\u07b8\u07b9\u0006\u00d4 \u0000\u07b9\u07ba\u0006\u00d4\u0003"+
+		"\u0000\u07ba\u01ab\u0001\u0000\u0000\u0000\u07bb\u07bc\u0003x;\u0000\u07bc"+
+		"\u07bd\u0001\u0000\u0000\u0000\u07bd\u07be\u0006\u00d5!\u0000\u07be\u07bf"+
+		"\u0006\u00d5\u0003\u0000\u07bf\u01ad\u0001\u0000\u0000\u0000\u07c0\u07c1"+
+		"\u0003~>\u0000\u07c1\u07c2\u0001\u0000\u0000\u0000\u07c2\u07c3\u0006\u00d6"+
+		"\"\u0000\u07c3\u07c4\u0006\u00d6\u0003\u0000\u07c4\u01af\u0001\u0000\u0000"+
+		"\u0000\u07c5\u07c6\u0003\u0080?\u0000\u07c6\u07c7\u0001\u0000\u0000\u0000"+
+		"\u07c7\u07c8\u0006\u00d7#\u0000\u07c8\u07c9\u0006\u00d7\u0003\u0000\u07c9"+
+		"\u01b1\u0001\u0000\u0000\u0000\u07ca\u07cb\u0003\u0082@\u0000\u07cb\u07cc"+
+		"\u0001\u0000\u0000\u0000\u07cc\u07cd\u0006\u00d8$\u0000\u07cd\u07ce\u0006"+
+		"\u00d8\u0003\u0000\u07ce\u01b3\u0001\u0000\u0000\u0000\u07cf\u07d0\u0003"+
+		"\u0084A\u0000\u07d0\u07d1\u0001\u0000\u0000\u0000\u07d1\u07d2\u0006\u00d9"+
+		"%\u0000\u07d2\u07d3\u0006\u00d9\u0003\u0000\u07d3\u01b5\u0001\u0000\u0000"+
+		"\u0000\u07d4\u07d5\u0003\u0086B\u0000\u07d5\u07d6\u0001\u0000\u0000\u0000"+
+		"\u07d6\u07d7\u0006\u00da&\u0000\u07d7\u07d8\u0006\u00da\u0003\u0000\u07d8"+
+		"\u01b7\u0001\u0000\u0000\u0000\u07d9\u07da\u0003\u008cE\u0000\u07da\u07db"+
+		"\u0001\u0000\u0000\u0000\u07db\u07dc\u0006\u00db\'\u0000\u07dc\u07dd\u0006"+
+		"\u00db\u0003\u0000\u07dd\u01b9\u0001\u0000\u0000\u0000\u07de\u07df\u0003"+
+		"\u008eF\u0000\u07df\u07e0\u0001\u0000\u0000\u0000\u07e0\u07e1\u0006\u00dc"+
+		"(\u0000\u07e1\u07e2\u0006\u00dc\u0003\u0000\u07e2\u01bb\u0001\u0000\u0000"+
+		"\u0000\u07e3\u07e4\u0003\u0098K\u0000\u07e4\u07e5\u0001\u0000\u0000\u0000"+
+		"\u07e5\u07e6\u0006\u00dd)\u0000\u07e6\u07e7\u0006\u00dd\u0003\u0000\u07e7"+
+		"\u01bd\u0001\u0000\u0000\u0000\u07e8\u07e9\u0003\u009eN\u0000\u07e9\u07ea"+
+		"\u0001\u0000\u0000\u0000\u07ea\u07eb\u0006\u00de*\u0000\u07eb\u07ec\u0006"+
+		"\u00de\u0003\u0000\u07ec\u01bf\u0001\u0000\u0000\u0000\u07ed\u07ee\u0003"+
+		"\u00a4Q\u0000\u07ee\u07ef\u0001\u0000\u0000\u0000\u07ef\u07f0\u0006\u00df"+
+		"+\u0000\u07f0\u07f1\u0006\u00df\u0003\u0000\u07f1\u01c1\u0001\u0000\u0000"+
+		"\u0000\u07f2\u07f3\u0003\u00aaT\u0000\u07f3\u07f4\u0001\u0000\u0000\u0000"+
+		"\u07f4\u07f5\u0006\u00e0,\u0000\u07f5\u07f6\u0006\u00e0\u0003\u0000\u07f6"+
+		"\u01c3\u0001\u0000\u0000\u0000\u07f7\u07f8\u0003\u00acU\u0000\u07f8\u07f9"+
+		"\u0001\u0000\u0000\u0000\u07f9\u07fa\u0006\u00e1-\u0000\u07fa\u07fb\u0006"+
+		"\u00e1\u0003\u0000\u07fb\u01c5\u0001\u0000\u0000\u0000\u07fc\u07fd\u0003"+
+		"\u00aeV\u0000\u07fd\u07fe\u0001\u0000\u0000\u0000\u07fe\u07ff\u0006\u00e2"+
+		".\u0000\u07ff\u0800\u0006\u00e2\u0003\u0000\u0800\u01c7\u0001\u0000\u0000"+
+		"\u0000\u0801\u0802\u0003\u00b2X\u0000\u0802\u0803\u0001\u0000\u0000\u0000"+
+		"\u0803\u0804\u0006\u00e3/\u0000\u0804\u0805\u0006\u00e3\u0003\u0000\u0805"+
+		"\u01c9\u0001\u0000\u0000\u0000\u0806\u0807\u0003\u00b4Y\u0000\u0807\u0808"+
+		"\u0001\u0000\u0000\u0000\u0808\u0809\u0006\u00e40\u0000\u0809\u080a\u0006"+
+		"\u00e4\u0003\u0000\u080a\u01cb\u0001\u0000\u0000\u0000\u080b\u080c\u0003"+
+		"\u00b6Z\u0000\u080c\u080d\u0001\u0000\u0000\u0000\u080d\u080e\u0006\u00e5"+
+		"1\u0000\u080e\u080f\u0006\u00e5\u0003\u0000\u080f\u01cd\u0001\u0000\u0000"+
+		"\u0000\u0810\u0811\u0003\u00b8[\u0000\u0811\u0812\u0001\u0000\u0000\u0000"+
+		"\u0812\u0813\u0006\u00e62\u0000\u0813\u0814\u0006\u00e6\u0003\u0000\u0814"+
+		"\u01cf\u0001\u0000\u0000\u0000\u0815\u0816\u0003\u00be^\u0000\u0816\u0817"+
+		"\u0001\u0000\u0000\u0000\u0817\u0818\u0006\u00e73\u0000\u0818\u0819\u0006"+
+		"\u00e7\u0003\u0000\u0819\u01d1\u0001\u0000\u0000\u0000\u081a\u081b\u0003"+
+		"\u00c0_\u0000\u081b\u081c\u0001\u0000\u0000\u0000\u081c\u081d\u0006\u00e8"+
+		"4\u0000\u081d\u081e\u0006\u00e8\u0003\u0000\u081e\u01d3\u0001\u0000\u0000"+
+		"\u0000\u081f\u0820\u0003\u00cce\u0000\u0820\u0821\u0001\u0000\u0000\u0000"+
+		"\u0821\u0822\u0006\u00e95\u0000\u0822\u0823\u0006\u00e9\u0003\u0000\u0823"+
+		"\u01d5\u0001\u0000\u0000\u0000\u0824\u0825\u0003\u00d0g\u0000\u0825\u0826"+
+		"\u0001\u0000\u0000\u0000\u0826\u0827\u0006\u00ea6\u0000\u0827\u0828\u0006"+
+		"\u00ea\u0003\u0000\u0828\u01d7\u0001\u0000\u0000\u0000\u0829\u082a\u0003"+
+		"\u00d2h\u0000\u082a\u082b\u0001\u0000\u0000\u0000\u082b\u082c\u0006\u00eb"+
+		"7\u0000\u082c\u082d\u0006\u00eb\u0003\u0000\u082d\u01d9\u0001\u0000\u0000"+
+		"\u0000\u082e\u082f\u0003\u00d8k\u0000\u082f\u0830\u0001\u0000\u0000\u0000"+
+		"\u0830\u0831\u0006\u00ec8\u0000\u0831\u0832\u0006\u00ec\u0003\u0000\u0832"+
+		"\u01db\u0001\u0000\u0000\u0000\u0833\u0834\u0003\u00den\u0000\u0834\u0835"+
+		"\u0001\u0000\u0000\u0000\u0835\u0836\u0006\u00ed9\u0000\u0836\u0837\u0006"+
+		"\u00ed\u0003\u0000\u0837\u01dd\u0001\u0000\u0000\u0000\u0838\u0839\u0003"+
+		"\u00e0o\u0000\u0839\u083a\u0001\u0000\u0000\u0000\u083a\u083b\u0006\u00ee"+
+		":\u0000\u083b\u083c\u0006\u00ee\u0003\u0000\u083c\u01df\u0001\u0000\u0000"+
+		"\u0000\u083d\u083e\u0003\u00e4q\u0000\u083e\u083f\u0001\u0000\u0000\u0000"+
+		"\u083f\u0840\u0006\u00ef;\u0000\u0840\u0841\u0006\u00ef\u0003\u0000\u0841"+
+		"\u01e1\u0001\u0000\u0000\u0000\u0842\u0843\u0003\u00f0w\u0000\u0843\u0844"+
+		"\u0001\u0000\u0000\u0000\u0844\u0845\u0006\u00f0<\u0000\u0845\u0846\u0006"+
+		"\u00f0\u0003\u0000\u0846\u01e3\u0001\u0000\u0000\u0000\u0847\u0848\u0003"+
+		"\u00f8{\u0000\u0848\u0849\u0001\u0000\u0000\u0000\u0849\u084a\u0006\u00f1"+
+		"=\u0000\u084a\u084b\u0006\u00f1\u0003\u0000\u084b\u01e5\u0001\u0000\u0000"+
+		"\u0000\u084c\u084d\u0003\u00fa|\u0000\u084d\u084e\u0001\u0000\u0000\u0000"+
+		"\u084e\u084f\u0006\u00f2>\u0000\u084f\u0850\u0006\u00f2\u0003\u0000\u0850"+
+		"\u01e7\u0001\u0000\u0000\u0000\u0851\u0852\u0003\u0100\u007f\u0000\u0852"+
+		"\u0853\u0001\u0000\u0000\u0000\u0853\u0854\u0006\u00f3?\u0000\u0854\u0855"+
+		"\u0006\u00f3\u0003\u0000\u0855\u01e9\u0001\u0000\u0000\u0000\u0856\u0857"+
+		"\u0003\u0108\u0083\u0000\u0857\u0858\u0001\u0000\u0000\u0000\u0858\u0859"+
+		"\u0006\u00f4@\u0000\u0859\u085a\u0006\u00f4\u0003\u0000\u085a\u01eb\u0001"+
+		"\u0000\u0000\u0000\u085b\u085c\u0003\u010a\u0084\u0000\u085c\u085d\u0001"+
+		"\u0000\u0000\u0000\u085d\u085e\u0006\u00f5A\u0000\u085e\u085f\u0006\u00f5"+
+		"\u0003\u0000\u085f\u01ed\u0001\u0000\u0000\u0000\u0860\u0861\u0003\u010c"+
+		"\u0085\u0000\u0861\u0862\u0001\u0000\u0000\u0000\u0862\u0863\u0006\u00f6"+
+		"B\u0000\u0863\u0864\u0006\u00f6\u0003\u0000\u0864\u01ef\u0001\u0000\u0000"+
+		"\u0000\u0865\u0866\u0003\u0110\u0087\u0000\u0866\u0867\u0001\u0000\u0000"+
+		"\u0000\u0867\u0868\u0006\u00f7C\u0000\u0868\u0869\u0006\u00f7\u0003\u0000"+
+		"\u0869\u01f1\u0001\u0000\u0000\u0000\u086a\u086b\u0003\u0118\u008b\u0000"+
+		"\u086b\u086c\u0001\u0000\u0000\u0000\u086c\u086d\u0006\u00f8D\u0000\u086d"+
+		"\u086e\u0006\u00f8\u0003\u0000\u086e\u01f3\u0001\u0000\u0000\u0000\u086f"+
+		"\u0870\u0003\u011a\u008c\u0000\u0870\u0871\u0001\u0000\u0000\u0000\u0871"+
+		"\u0872\u0006\u00f9E\u0000\u0872\u0873\u0006\u00f9\u0003\u0000\u0873\u01f5"+
+		"\u0001\u0000\u0000\u0000\u0874\u0875\u0003\u013c\u009d\u0000\u0875\u0876"+
+		"\u0001\u0000\u0000\u0000\u0876\u0877\u0006\u00faF\u0000\u0877\u01f7\u0001"+
+		"\u0000\u0000\u0000\u0878\u0879\u0003\u00f4y\u0000\u0879\u087a\u0001\u0000"+
+		"\u0000\u0000\u087a\u087b\u0006\u00fbG\u0000\u087b\u01f9\u0001\u0000\u0000"+
+		"\u0000\u087c\u087d\u0003\u0130\u0097\u0000\u087d\u087e\u0001\u0000\u0000"+
+		"\u0000\u087e\u087f\u0006\u00fcH\u0000\u087f\u01fb\u0001\u0000\u0000\u0000"+
+		"\u0880\u0881\u0003\u00e2p\u0000\u0881\u0882\u0001\u0000\u0000\u0000\u0882"+
+		"\u0883\u0006\u00fdI\u0000\u0883\u01fd\u0001\u0000\u0000\u0000\u0884\u0885"+
+		"\u0003\u0138\u009b\u0000\u0885\u0886\u0001\u0000\u0000\u0000\u0886\u0887"+
+		"\u0006\u00feJ\u0000\u0887\u01ff\u0001\u0000\u0000\u0000\u0888\u0889\u0003"+
+		"\u015c\u00ad\u0000\u0889\u088a\u0001\u0000\u0000\u0000\u088a\u088b\u0006"+
+		"\u00ffK\u0000\u088b\u088c\u0006\u00ff\u0003\u0000\u088c\u0201\u0001\u0000"+
+		"\u0000\u0000\u088d\u088f\u0007 \u0000\u0000\u088e\u088d\u0001\u0000\u0000"+
+		"\u0000\u088f\u0890\u0001\u0000\u0000\u0000\u0890\u088e\u0001\u0000\u0000"+
+		"\u0000\u0890\u0891\u0001\u0000\u0000\u0000\u0891\u0892\u0001\u0000\u0000"+
+		"\u0000\u0892\u0893\u0006\u0100\u0001\u0000\u0893\u0203\u0001\u0000\u0000"+
+		"\u0000\u0894\u0895\u0003\u015e\u00ae\u0000\u0895\u0896\u0001\u0000\u0000"+
+		"\u0000\u0896\u0897\u0006\u0101L\u0000\u0897\u0898\u0006\u0101\u0003\u0000"+
+		"\u0898\u0205\u0001\u0000\u0000\u0000\u0899\u089a\u0003\u0150\u00a7\u0000"+
+		"\u089a\u089b\u0001\u0000\u0000\u0000\u089b\u089c\u0006\u0102M\u0000\u089c"+
+		"\u089d\u0006\u0102\u0003\u0000\u089d\u0207\u0001\u0000\u0000\u0000\u089e"+
+		"\u089f\u0003\u0152\u00a8\u0000\u089f\u08a0\u0001\u0000\u0000\u0000\u08a0"+
+		"\u08a1\u0006\u0103N\u0000\u08a1\u08a2\u0006\u0103\u0003\u0000\u08a2\u0209"+
+		"\u0001\u0000\u0000\u0000\u08a3\u08a4\u0003\u0154\u00a9\u0000\u08a4\u08a5"+
+		"\u0001\u0000\u0000\u0000\u08a5\u08a6\u0006\u0104O\u0000\u08a6\u08a7\u0006"+
+		"\u0104\u0003\u0000\u08a7\u020b\u0001\u0000\u0000\u0000\u08a8\u08a9\u0003"+
+		"\u0156\u00aa\u0000\u08a9\u08aa\u0001\u0000\u0000\u0000\u08aa\u08ab\u0006"+
+		"\u0105P\u0000\u08ab\u08ac\u0006\u0105\u0003\u0000\u08ac\u020d\u0001\u0000"+
+		"\u0000\u0000\u08ad\u08ae\u0003\u0158\u00ab\u0000\u08ae\u08af\u0001\u0000"+
+		"\u0000\u0000\u08af\u08b0\u0006\u0106Q\u0000\u08b0\u08b1\u0006\u0106\u0003"+
+		"\u0000\u08b1\u020f\u0001\u0000\u0000\u0000\u08b2\u08b3\u0003\u015a\u00ac"+
+		"\u0000\u08b3\u08b4\u0001\u0000\u0000\u0000\u08b4\u08b5\u0006\u0107R\u0000"+
+		"\u08b5\u08b6\u0006\u0107\u0003\u0000\u08b6\u0211\u0001\u0000\u0000\u0000"+
+		"(\u0000\u0001\u04e4\u05ec\u0604\u0611\u065a\u065c\u0668\u066a\u0672\u0675"+
+		"\u067a\u0680\u0682\u068b\u0695\u0697\u069c\u069f\u06a6\u06ad\u06b0\u06b2"+
+		"\u06b8\u06bf\u06c2\u06d4\u06df\u06ec\u06fa\u06ff\u0703\u0707\u070d\u0711"+
+		"\u0713\u0722\u0727\u0890S\u0005\u0001\u0000\u0000\u0001\u0000\u0007\b"+
+		"\u0000\u0004\u0000\u0000\u0007\u0003\u0000\u0007\u0005\u0000\u0007\u0001"+
+		"\u0000\u0007\u0014\u0000\u0007\u0002\u0000\u0007\u0004\u0000\u0007\u0006"+
+		"\u0000\u0007\u0015\u0000\u0007\u0018\u0000\u0007\u0019\u0000\u0007\u001b"+
+		"\u0000\u0007\u001c\u0000\u0007\u001d\u0000\u0007\u001e\u0000\u0007\u001f"+
+		"\u0000\u0007!\u0000\u0007\"\u0000\u0007#\u0000\u0007$\u0000\u0007%\u0000"+
+		"\u0007(\u0000\u0007,\u0000\u0007.\u0000\u0007/\u0000\u00072\u0000\u0007"+
+		"3\u0000\u00075\u0000\u00078\u0000\u0007;\u0000\u0007<\u0000\u0007?\u0000"+
+		"\u0007@\u0000\u0007A\u0000\u0007B\u0000\u0007C\u0000\u0007F\u0000\u0007"+
+		"G\u0000\u0007L\u0000\u0007O\u0000\u0007R\u0000\u0007U\u0000\u0007V\u0000"+
+		"\u0007W\u0000\u0007Y\u0000\u0007Z\u0000\u0007[\u0000\u0007\\\u0000\u0007"+
+		"_\u0000\u0007`\u0000\u0007f\u0000\u0007h\u0000\u0007i\u0000\u0007l\u0000"+
+		"\u0007o\u0000\u0007p\u0000\u0007r\u0000\u0007x\u0000\u0007|\u0000\u0007"+
+		"}\u0000\u0007\u0080\u0000\u0007\u0084\u0000\u0007\u0085\u0000\u0007\u0086"+
+		"\u0000\u0007\u0088\u0000\u0007\u008c\u0000\u0007\u008d\u0000\u0007\u009e"+
+		"\u0000\u0007z\u0000\u0007\u0098\u0000\u0007q\u0000\u0007\u009c\u0000\u0007"+
+		"\u00ae\u0000\u0007\u00af\u0000\u0007\u00a8\u0000\u0007\u00a9\u0000\u0007"+
+		"\u00aa\u0000\u0007\u00ab\u0000\u0007\u00ac\u0000\u0007\u00ad\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -18,16 +18,18 @@ package io.nosqlbench.adapter.http.core;
 
 import io.nosqlbench.adapter.http.errors.InvalidResponseBodyException;
 import io.nosqlbench.adapter.http.errors.InvalidStatusCodeException;
-import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.CycleOp;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.AsyncCycleOp;
 import com.google.gson.JsonParser;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
-public class HttpOp implements CycleOp {
+public class HttpOp implements AsyncCycleOp<Object> {
 
     public final Pattern ok_status;
     public final Pattern ok_body;
@@ -57,23 +59,51 @@ public class HttpOp implements CycleOp {
 
     @Override
     public Object apply(long value) {
-        HttpResponse.BodyHandler<String> bodyreader = HttpResponse.BodyHandlers.ofString();
         HttpResponse<String> response = null;
         Exception error = null;
         long startat = System.nanoTime();
         try {
-            CompletableFuture<HttpResponse<String>> responseFuture = client.sendAsync(request, bodyreader);
+            CompletableFuture<HttpResponse<String>> responseFuture = client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
             response = responseFuture.get(space.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-            space.statusCodeHistogram.update(response.statusCode());
+        } catch (Exception e) {
+            error = e;
+        }
+        return handleResponse(response, error, startat);
+    }
 
-            if (ok_status != null) {
-                if (!ok_status.matcher(String.valueOf(response.statusCode())).matches()) {
-                    throw new InvalidStatusCodeException(ok_status, response.statusCode());
+    @Override
+    public CompletionStage<Object> applyAsync(long value) {
+        long startat = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .orTimeout(space.getTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .handle((response, throwable) -> {
+                if (throwable instanceof CompletionException ce && ce.getCause() != null) {
+                    throwable = ce.getCause();
                 }
-            }
-            if (ok_body != null) {
-                if (!ok_body.matcher(response.body()).matches()) {
-                    throw new InvalidResponseBodyException(ok_body, response.body());
+                Exception error = null;
+                if (throwable instanceof Exception e) {
+                    error = e;
+                } else if (throwable != null) {
+                    error = new RuntimeException(throwable);
+                }
+                return handleResponse(response, error, startat);
+            });
+    }
+
+    private Object handleResponse(HttpResponse<String> response, Exception error, long startat) {
+        try {
+            if (error == null) {
+                space.statusCodeHistogram.update(response.statusCode());
+
+                if (ok_status != null) {
+                    if (!ok_status.matcher(String.valueOf(response.statusCode())).matches()) {
+                        throw new InvalidStatusCodeException(ok_status, response.statusCode());
+                    }
+                }
+                if (ok_body != null) {
+                    if (!ok_body.matcher(response.body()).matches()) {
+                        throw new InvalidResponseBodyException(ok_body, response.body());
+                    }
                 }
             }
         } catch (Exception e) {
@@ -26,14 +26,17 @@ import io.nosqlbench.adapters.api.templating.ParsedOp;
 import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
 import io.nosqlbench.nb.api.labels.NBLabels;
 import io.nosqlbench.nb.api.errors.OpConfigError;
+import io.nosqlbench.nb.api.errors.ResultVerificationError;
 import io.nosqlbench.nb.api.components.core.NBBaseComponent;
 import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -51,6 +54,10 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
     public static final String VERIFIER_INIT = "verifier-init";
     public static final String EXPECTED_RESULT = "expected-result";
     public static final String VERIFIER_IMPORTS = "verifier-imports";
+    public static final String VERIFIER_COMPILE = "verifier-compile";
+    public static final String VERIFY_ROWS = "verify-rows";
+    public static final String VERIFY_FIELDS = "verify-fields";
+    public static final String VERIFY_RECALL = "verify-recall";
     public static final String START_TIMERS = "start-timers";
     public static final String STOP_TIMERS = "stop-timers";
 
@@ -76,6 +83,11 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
      */
     private final CycleFunction<Boolean> _verifier;
     private final ThreadLocal<CycleFunction<Boolean>> tlVerifier;
+    /**
+     * verifiers which are evaluated directly in Java, ahead of any scripted verifiers
+     */
+    private final CycleResultVerifier[] resultVerifiers;
+    private final boolean hasVerifiers;
 
     protected BaseOpDispenser(final DriverAdapter<? extends T, ? extends S> adapter, final ParsedOp op) {
         super(adapter);
@@ -96,10 +108,12 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
 
         this.configureInstrumentation(op);
         this.configureVerifierImports(op);
-        List<CycleFunction<Boolean>> verifiers = new ArrayList<>();
-        verifiers = configureVerifiers(op);
+        List<CycleResultVerifier> resultVerifierList = configureResultVerifiers(op);
+        List<CycleFunction<Boolean>> verifiers = configureVerifiers(op, resultVerifierList);
+        this.resultVerifiers = resultVerifierList.toArray(new CycleResultVerifier[0]);
         this._verifier = CycleFunctions.of((a, b) -> a && b, verifiers, true);
-        this.tlVerifier = ThreadLocal.withInitial(_verifier::newInstance);
+        this.tlVerifier = verifiers.isEmpty() ? null : ThreadLocal.withInitial(_verifier::newInstance);
+        this.hasVerifiers = (tlVerifier != null) || (this.resultVerifiers.length > 0);
         this.verifierTimer = create().timer(
             "verifier",
             3,
@@ -113,7 +127,30 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
     }
 
     public CycleFunction<Boolean> getVerifier() {
-        return this.tlVerifier.get();
+        return (tlVerifier != null) ? this.tlVerifier.get() : this._verifier;
+    }
+
+    @Override
+    public boolean hasVerifiers() {
+        return this.hasVerifiers;
+    }
+
+    @Override
+    public void verify(long cycle, Object result, int triesLeft) {
+        for (CycleResultVerifier resultVerifier : resultVerifiers) {
+            boolean isGood;
+            try {
+                isGood = resultVerifier.verify(cycle, result);
+            } catch (Exception e) {
+                throw new ResultVerificationError(e, triesLeft, resultVerifier.getExpressionDetails());
+            }
+            if (!isGood) {
+                throw new ResultVerificationError("result verification failed", triesLeft, resultVerifier.getExpressionDetails());
+            }
+        }
+        if (tlVerifier != null) {
+            OpDispenser.super.verify(cycle, result, triesLeft);
+        }
     }
 
     private void configureVerifierImports(ParsedOp op) {
@@ -128,8 +165,49 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         }
     }
 
-    private List<CycleFunction<Boolean>> configureVerifiers(ParsedOp op) {
+    private List<CycleResultVerifier> configureResultVerifiers(ParsedOp op) {
+        List<CycleResultVerifier> verifiers = new ArrayList<>();
+        try {
+            // verifier values are often plain numbers or booleans, which are taken as the literal text of a template
+            op.getTemplateMap().takeAsOptionalStringTemplate(VERIFY_ROWS, true)
+                .map(tpl -> new CycleResultVerifiers.RowCount(CycleResultVerifiers.valueOf(VERIFY_ROWS, tpl), tpl.getStmt()))
+                .ifPresent(verifiers::add);
+
+            String namePrefix = op.getName() + "-verifier-";
+            op.getTemplateMap().takeAsNamedTemplates(VERIFY_FIELDS, true).forEach((name, tpl) -> {
+                String field = name.startsWith(namePrefix) ? name.substring(namePrefix.length()) : name;
+                verifiers.add(new CycleResultVerifiers.FieldEquals(field, CycleResultVerifiers.valueOf(field, tpl), tpl.getStmt()));
+            });
+
+            Map<String, ParsedTemplateString> recall = new HashMap<>();
+            op.getTemplateMap().takeAsNamedTemplates(VERIFY_RECALL, true).forEach((name, tpl) ->
+                recall.put(name.startsWith(namePrefix) ? name.substring(namePrefix.length()) : name, tpl));
+            if (!recall.isEmpty()) {
+                ParsedTemplateString expected = recall.get("expected");
+                if (expected == null) {
+                    throw new OpConfigError(VERIFY_RECALL + " requires an 'expected' field with the relevant ids");
+                }
+                int k = recall.containsKey("k") ? Integer.parseInt(recall.get("k").getStmt().trim()) : 0;
+                double min = recall.containsKey("min") ? Double.parseDouble(recall.get("min").getStmt().trim()) : 1.0d;
+                verifiers.add(new CycleResultVerifiers.RecallAtLeast(
+                    CycleResultVerifiers.valueOf("expected", expected), k, min, expected.getStmt()));
+            }
+        } catch (OpConfigError oce) {
+            throw oce;
+        } catch (Exception e) {
+            throw new OpConfigError("error in result verifier:" + e.getMessage(), e);
+        }
+        verifiers.forEach(v -> logger.info("configured result verifier:" + v.getExpressionDetails()));
+        return verifiers;
+    }
+
+    /**
+     * Configure the scripted verifiers. Those which are within the {@link CompiledExpression} subset are compiled
+     * and added to the provided result verifiers instead, unless {@value VERIFIER_COMPILE} is set to false.
+     */
+    private List<CycleFunction<Boolean>> configureVerifiers(ParsedOp op, List<CycleResultVerifier> resultVerifiers) {
         Binding variables = new Binding();
+        boolean compile = op.takeStaticConfigOr(VERIFIER_COMPILE, true);
 
         Map<String, ParsedTemplateString> initBlocks = op.getTemplateMap().takeAsNamedTemplates(VERIFIER_INIT);
         try {
@@ -148,6 +226,13 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         List<CycleFunction<Boolean>> verifierFunctions = new ArrayList<>();
         try {
             namedVerifiers.forEach((verifierName,stringTemplate) -> {
+                Optional<CompiledExpression> compiled = compile ? CompiledExpression.compile(stringTemplate) : Optional.empty();
+                if (compiled.isPresent()) {
+                    CompiledBooleanCycleFunction verifier = new CompiledBooleanCycleFunction(verifierName, compiled.get());
+                    logger.info("configured compiled verifier:" + verifier);
+                    resultVerifiers.add(verifier);
+                    return;
+                }
                 GroovyBooleanCycleFunction verifier =
                     new GroovyBooleanCycleFunction(verifierName, stringTemplate, verifierImports, verifierStaticImports, variables);
                 logger.info("configured verifier:" + verifier);
@@ -158,13 +243,22 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         }
 
         try {
-             op.takeAsOptionalStringTemplate(EXPECTED_RESULT)
-                .map(tpl -> new GroovyObjectEqualityFunction(op.getName()+"-"+EXPECTED_RESULT, tpl, verifierImports, verifierStaticImports, variables))
-                .map(vl -> {
-                    logger.info("Configured equality verifier: " + vl);
-                    return vl;
-                })
-                 .ifPresent(verifierFunctions::add);
+            Optional<ParsedTemplateString> expected = op.takeAsOptionalStringTemplate(EXPECTED_RESULT);
+            Optional<CompiledExpression> compiled = (compile && expected.isPresent()) ?
+                CompiledExpression.compileExpected(expected.get()) : Optional.empty();
+            if (compiled.isPresent()) {
+                CompiledObjectEqualityFunction verifier = new CompiledObjectEqualityFunction(op.getName()+"-"+EXPECTED_RESULT, compiled.get());
+                logger.info("Configured compiled equality verifier: " + verifier);
+                resultVerifiers.add(verifier);
+            } else {
+                expected
+                    .map(tpl -> new GroovyObjectEqualityFunction(op.getName()+"-"+EXPECTED_RESULT, tpl, verifierImports, verifierStaticImports, variables))
+                    .map(vl -> {
+                        logger.info("Configured equality verifier: " + vl);
+                        return vl;
+                    })
+                    .ifPresent(verifierFunctions::add);
+            }
         } catch (Exception gre) {
             throw new OpConfigError("error in verifier:" + gre.getMessage(), gre);
         }
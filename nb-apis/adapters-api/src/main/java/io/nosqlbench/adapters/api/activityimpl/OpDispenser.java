@@ -17,6 +17,7 @@
 package io.nosqlbench.adapters.api.activityimpl;
 
 import io.nosqlbench.adapters.api.evalctx.CycleFunction;
+import io.nosqlbench.nb.api.errors.ResultVerificationError;
 
 import java.util.function.LongFunction;
 
@@ -86,5 +87,36 @@ public interface OpDispenser<T> extends LongFunction<T>, OpResultTracker {
 
     CycleFunction<Boolean> getVerifier();
 
+    /**
+     * @return true if this dispenser has any verifiers which need to be called
+     * via {@link #verify(long, Object, int)}. When this is false, callers should skip verification altogether.
+     */
+    default boolean hasVerifiers() {
+        return true;
+    }
+
+    /**
+     * Verify the result of an op, throwing a {@link ResultVerificationError} if it is not valid.
+     *
+     * @param cycle The cycle of the op which produced the result
+     * @param result The result of the op
+     * @param triesLeft The number of tries remaining for this op, for error reporting
+     */
+    default void verify(long cycle, Object result, int triesLeft) {
+        CycleFunction<Boolean> verifier = getVerifier();
+        try {
+            verifier.setVariable("result", result);
+            verifier.setVariable("cycle", cycle);
+            Boolean isGood = verifier.apply(cycle);
+            if (!isGood) {
+                throw new ResultVerificationError("result verification failed", triesLeft, verifier.getExpressionDetails());
+            }
+        } catch (ResultVerificationError rve) {
+            throw rve;
+        } catch (Exception e) {
+            throw new ResultVerificationError(e, triesLeft, verifier.getExpressionDetails());
+        }
+    }
+
     String getOpName();
 }
@@ -167,13 +167,18 @@ public abstract class BaseDriverAdapter<R extends Op, S> extends NBBaseComponent
                 .add(Param.optional("tags", String.class, "tags to be used to filter operations"))
                 .add(Param.defaultTo("errors", "stop", "error handler configuration"))
                 .add(Param.optional("threads").setRegex("\\d+|\\d+x|auto").setDescription("number of concurrent operations, controlled by threadpool"))
+                .add(Param.optional("async", Integer.class, "number of async operations to keep in flight, divided across all threads"))
+                .add(Param.optional("threading").setRegex("platform|virtual").setDescription("whether activity threads are platform or virtual threads"))
                 .add(Param.optional("stride").setRegex("\\d+"))
+                .add(Param.optional("inputstripe").setRegex("\\d+[KMBGTPE]?").setDescription("number of cycles each thread claims at once from the cycle range, to reduce contention at high thread counts"))
                 .add(Param.optional("striderate", String.class, "rate limit for strides per second"))
                 .add(Param.optional("cycles").setRegex("\\d+[KMBGTPE]?|\\d+[KMBGTPE]?\\.\\.\\d+[KMBGTPE]?").setDescription("cycle interval to use"))
                 .add(Param.optional("recycles").setDescription("allow cycles to be re-used this many times"))
                 .add(Param.optional(List.of("cyclerate", "targetrate", "rate"), String.class, "rate limit for cycles per second"))
                 .add(Param.optional("seq", String.class, "sequencing algorithm"))
                 .add(Param.optional("instrument", Boolean.class))
+                .add(Param.optional("sharded_timers", Boolean.class, "record activity timers into a histogram shard per thread, to avoid contention at high thread counts"))
+                .add(Param.optional("counting_meters", Boolean.class, "only count events when activity timers are updated, computing their rates when read"))
                 .add(Param.optional(List.of("workload", "yaml"), String.class, "location of workload yaml file"))
                 .add(Param.optional("driver", String.class))
                 .add(Param.defaultTo("dryrun", "none").setRegex("(op|jsonnet|emit|none)"))
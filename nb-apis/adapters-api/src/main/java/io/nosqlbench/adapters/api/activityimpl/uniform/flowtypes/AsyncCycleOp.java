@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <H2>AsyncCycleOp: f(cycle) -> CompletionStage&lt;T&gt;</H2>
+ * <p>An AsyncCycleOp is a {@link CycleOp} which is able to submit its work without
+ * blocking the calling thread. When an activity is configured with the <em>async</em>
+ * parameter, the runtime will call {@link #applyAsync(long)} and keep up to <em>async</em>
+ * operations in flight per thread, completing each one when its stage completes.</p>
+ *
+ * <p>When the activity is not configured for async operation, {@link #apply(long)} is
+ * called instead. By default, this simply waits for the async form to complete, but
+ * implementations are encouraged to provide their own form with driver-appropriate
+ * timeouts.</p>
+ *
+ * @param <T> The result type of the operation
+ */
+public interface AsyncCycleOp<T> extends CycleOp<T> {
+
+    /**
+     * <p>Submit an operation for the given cycle, returning a stage which will complete
+     * when the result is available. This method should not block waiting for the result.</p>
+     *
+     * @param value The cycle value for which an operation is run
+     * @return A stage which completes with the result of the operation, or exceptionally with its error
+     */
+    CompletionStage<T> applyAsync(long value);
+
+    @Override
+    default T apply(long value) {
+        try {
+            return applyAsync(value).toCompletableFuture().join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw ce;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <H2>ContinuationOp: f(cycle) -> CompletionStage&lt;OpContinuation&lt;T&gt;&gt;</H2>
+ * <p>A ContinuationOp is an {@link AsyncCycleOp} whose stage yields both a result and an optional
+ * follow-up op, as an {@link OpContinuation}. This is the async counterpart of {@link OpGenerator}:
+ * the follow-up is decided within the stage, so the runtime can schedule it as soon as the stage
+ * completes, without holding a thread for the whole chain or reading state back from the op.</p>
+ *
+ * <p>Each follow-up op is treated as a separate hop of the same cycle, with its own tries and timer
+ * measurements. Follow-up ops may be of any op type, including further ContinuationOps.</p>
+ *
+ * @param <T> The result type of the operation
+ */
+public interface ContinuationOp<T> extends AsyncCycleOp<T> {
+
+    /**
+     * <p>Submit an operation for the given cycle, returning a stage which will complete with the result
+     * and any follow-up op. This method should not block waiting for the result.</p>
+     *
+     * @param value The cycle value for which an operation is run
+     * @return A stage which completes with the continuation of the operation, or exceptionally with its error
+     */
+    CompletionStage<OpContinuation<T>> applyContinuation(long value);
+
+    /**
+     * Wait for the continuation of this op, as used by synchronous activities. Implementations
+     * are encouraged to override this with driver-appropriate timeouts.
+     */
+    default OpContinuation<T> awaitContinuation(long value) {
+        try {
+            return applyContinuation(value).toCompletableFuture().join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw ce;
+        }
+    }
+
+    /**
+     * The result-only form of {@link #applyContinuation(long)}. Any follow-up op is discarded.
+     */
+    @Override
+    default CompletionStage<T> applyAsync(long value) {
+        return applyContinuation(value).thenApply(OpContinuation::result);
+    }
+
+    /**
+     * The result-only form of {@link #awaitContinuation(long)}. Any follow-up op is discarded.
+     */
+    @Override
+    default T apply(long value) {
+        return awaitContinuation(value).result();
+    }
+}
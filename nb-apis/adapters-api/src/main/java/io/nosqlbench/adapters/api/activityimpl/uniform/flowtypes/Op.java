@@ -27,6 +27,8 @@ package io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes;
  *  the result type from your operation. In some cases preparing a result body to
  *  hand down the chain is more costly, so implementing this interface allows the runtime
  *  to be more optimized.</li>
+ *  <li>{@link AsyncCycleOp}</li> - A {@link CycleOp} which can also submit its work without
+ *  blocking the calling thread, for activities which are configured with the async parameter.</li>
  *  <li>{@link ChainingOp}</li>
  *  <li>{@link RunnableOp}</li>
  * </ul>
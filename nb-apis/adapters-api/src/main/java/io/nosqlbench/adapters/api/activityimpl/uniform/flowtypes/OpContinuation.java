@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes;
+
+/**
+ * The outcome of one step of a {@link ContinuationOp}: the result of the step, and optionally a follow-up
+ * op which continues the same cycle, such as a rebound statement for an unapplied LWT.
+ *
+ * @param result The result of the step
+ * @param nextOp The op to run next for the same cycle, or null if the cycle is complete
+ * @param <T> The result type of the operation
+ */
+public record OpContinuation<T>(T result, Op nextOp) {
+
+    /**
+     * @return a continuation which completes the cycle with the given result
+     */
+    public static <T> OpContinuation<T> done(T result) {
+        return new OpContinuation<>(result, null);
+    }
+
+    public boolean hasNextOp() {
+        return nextOp != null;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.evalctx;
+
+/**
+ * A verifier which evaluates a {@link CompiledExpression} according to groovy truth. This is the compiled
+ * counterpart of {@link GroovyBooleanCycleFunction}. When used as a {@link CycleResultVerifier}, the result
+ * is passed as an argument and the same instance may be shared by all threads.
+ */
+public class CompiledBooleanCycleFunction implements CycleFunction<Boolean>, CycleResultVerifier {
+
+    private final String name;
+    private final CompiledExpression expression;
+    private Object result;
+
+    public CompiledBooleanCycleFunction(String name, CompiledExpression expression) {
+        this.name = name;
+        this.expression = expression;
+    }
+
+    @Override
+    public boolean verify(long cycle, Object result) {
+        return expression.test(cycle, result);
+    }
+
+    @Override
+    public Boolean apply(long value) {
+        return expression.test(value, result);
+    }
+
+    /**
+     * Only the <em>result</em> variable is used by compiled expressions. Others are ignored.
+     */
+    @Override
+    public <V> void setVariable(String name, V value) {
+        if (name.equals("result")) {
+            this.result = value;
+        }
+    }
+
+    @Override
+    public CycleFunction<Boolean> newInstance() {
+        return new CompiledBooleanCycleFunction(name, expression);
+    }
+
+    @Override
+    public String getExpressionDetails() {
+        return expression.getExpressionDetails();
+    }
+
+    @Override
+    public String toString() {
+        return name + ":" + expression;
+    }
+}
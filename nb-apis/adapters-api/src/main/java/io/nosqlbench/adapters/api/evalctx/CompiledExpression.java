@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.evalctx;
+
+import io.nosqlbench.virtdata.core.bindings.Bindings;
+import io.nosqlbench.virtdata.core.bindings.BindingsTemplate;
+import io.nosqlbench.virtdata.core.templates.BindPoint;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <P>A verifier expression which is compiled once per op template into a tree of Java nodes, rather than
+ * being evaluated as a groovy script. The <em>result</em> and <em>cycle</em> values are passed to each
+ * evaluation as arguments, so a compiled expression is stateless and can be shared across threads.</P>
+ *
+ * <P>Only a restricted subset of groovy expression syntax is supported:
+ * <UL>
+ * <LI>literals: numbers, single or double-quoted strings, true, false, null</LI>
+ * <LI>variables: result, cycle, and any bindings referenced in the template like {name}</LI>
+ * <LI>operators: {@code || && ! == != < <= > >= + - * / %} and parentheses</LI>
+ * <LI>property access on maps (result.name), indexing (result[0], result['name']) and array length</LI>
+ * <LI>the methods size(), isEmpty(), length(), toString(), contains(x), containsKey(x), get(x),
+ * startsWith(x), endsWith(x) and equals(x)</LI>
+ * </UL>
+ * Anything else, including multiple statements, is not compiled. Callers should fall back to the groovy
+ * implementation in that case.</P>
+ */
+public final class CompiledExpression implements ExpressionDetails {
+
+    private final String text;
+    private final Node root;
+
+    CompiledExpression(String text, Node root) {
+        this.text = text;
+        this.root = root;
+    }
+
+    /**
+     * Compile a verifier template, if it is within the supported expression subset.
+     *
+     * @param template
+     *     The template to compile, where any bind points are made available as variables
+     * @return A compiled expression, or {@link Optional#empty()} if the template can not be compiled
+     */
+    public static Optional<CompiledExpression> compile(ParsedTemplateString template) {
+        return compile(template, true);
+    }
+
+    /**
+     * Compile an expected result template, if it is within the supported expression subset. As with
+     * {@link GroovyObjectEqualityFunction}, the <em>result</em> variable is not visible to the expression, so any
+     * template which refers to it is not compiled.
+     */
+    public static Optional<CompiledExpression> compileExpected(ParsedTemplateString template) {
+        return compile(template, false);
+    }
+
+    private static Optional<CompiledExpression> compile(ParsedTemplateString template, boolean resultVisible) {
+        String text = template.getPositionalStatement();
+        List<BindPoint> bindPoints = template.getBindPoints();
+        Map<String, Integer> bindingIndexes = new HashMap<>();
+        for (int i = 0; i < bindPoints.size(); i++) {
+            bindingIndexes.putIfAbsent(bindPoints.get(i).getAnchor(), i);
+        }
+        Bindings bindings = bindPoints.isEmpty() ? null : new BindingsTemplate(bindPoints).resolveBindings();
+        return new CompiledExpressionParser(text, bindings, bindingIndexes, resultVisible).parse()
+            .map(n -> new CompiledExpression(text, n));
+    }
+
+    /**
+     * Compile a plain expression with no bindings, if it is within the supported expression subset.
+     */
+    public static Optional<CompiledExpression> compile(String text) {
+        return new CompiledExpressionParser(text, null, Map.of(), true).parse()
+            .map(n -> new CompiledExpression(text, n));
+    }
+
+    /**
+     * @return the value of the expression for the given cycle and result
+     */
+    public Object eval(long cycle, Object result) {
+        return root.eval(cycle, result);
+    }
+
+    /**
+     * @return the value of the expression, according to groovy truth
+     */
+    public boolean test(long cycle, Object result) {
+        return root.test(cycle, result);
+    }
+
+    @Override
+    public String getExpressionDetails() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return "compiled(" + text + ")";
+    }
+
+    /**
+     * An element of a compiled expression tree. Nodes which produce boolean values override
+     * {@link #test(long, Object)} so that no boxing is needed for them.
+     */
+    interface Node {
+        Object eval(long cycle, Object result);
+
+        default boolean test(long cycle, Object result) {
+            return CompiledExpressionParser.truth(eval(cycle, result));
+        }
+    }
+}
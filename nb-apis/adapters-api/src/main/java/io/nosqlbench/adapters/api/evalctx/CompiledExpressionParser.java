@@ -0,0 +1,795 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.evalctx;
+
+import io.nosqlbench.adapters.api.evalctx.CompiledExpression.Node;
+import io.nosqlbench.virtdata.core.bindings.Bindings;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A recursive descent parser for the expression subset described in {@link CompiledExpression}.
+ * Parsing produces a tree of nodes, or nothing if the text uses any syntax outside of the subset.
+ * The static helpers implement the parts of groovy semantics which the subset relies on, like
+ * groovy truth and numeric equality across boxed types.
+ */
+final class CompiledExpressionParser {
+
+    private static final Set<String> TWO_CHAR_OPS = Set.of("==", "!=", "<=", ">=", "&&", "||");
+    private static final String ONE_CHAR_OPS = "!<>+-*/%()[].,";
+    private static final Set<String> UNSUPPORTED_WORDS = Set.of(
+        "def", "var", "return", "if", "else", "new", "in", "instanceof", "as", "for", "while", "this", "super", "class"
+    );
+    private static final Map<String, Integer> METHOD_ARITY = Map.of(
+        "size", 0, "isEmpty", 0, "length", 0, "toString", 0,
+        "contains", 1, "containsKey", 1, "get", 1, "startsWith", 1, "endsWith", 1, "equals", 1
+    );
+
+    private final String text;
+    private final Bindings bindings;
+    private final Map<String, Integer> bindingIndexes;
+    private final boolean resultVisible;
+    private List<Token> tokens;
+    private int pos;
+
+    CompiledExpressionParser(String text, Bindings bindings, Map<String, Integer> bindingIndexes, boolean resultVisible) {
+        this.text = text;
+        this.bindings = bindings;
+        this.bindingIndexes = bindingIndexes;
+        this.resultVisible = resultVisible;
+    }
+
+    Optional<Node> parse() {
+        try {
+            tokens = tokenize(text);
+            pos = 0;
+            if (peekIs(Kind.IDENT, "return")) {
+                pos++;
+            }
+            Node root = parseOr();
+            while (acceptOp(";")) {
+                // trailing statement terminators are allowed
+            }
+            if (pos != tokens.size()) {
+                return Optional.empty();
+            }
+            return Optional.of(root);
+        } catch (Unsupported unsupported) {
+            return Optional.empty();
+        }
+    }
+
+    // parsing, from lowest to highest precedence
+
+    private Node parseOr() {
+        Node left = parseAnd();
+        while (acceptOp("||")) {
+            Node l = left, r = parseAnd();
+            left = bool((c, res) -> l.test(c, res) || r.test(c, res));
+        }
+        return left;
+    }
+
+    private Node parseAnd() {
+        Node left = parseEquality();
+        while (acceptOp("&&")) {
+            Node l = left, r = parseEquality();
+            left = bool((c, res) -> l.test(c, res) && r.test(c, res));
+        }
+        return left;
+    }
+
+    private Node parseEquality() {
+        Node left = parseRelational();
+        while (true) {
+            if (acceptOp("==")) {
+                Node l = left, r = parseRelational();
+                left = bool((c, res) -> equal(l.eval(c, res), r.eval(c, res)));
+            } else if (acceptOp("!=")) {
+                Node l = left, r = parseRelational();
+                left = bool((c, res) -> !equal(l.eval(c, res), r.eval(c, res)));
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Node parseRelational() {
+        Node left = parseAdditive();
+        while (true) {
+            Node l = left;
+            if (acceptOp("<")) {
+                Node r = parseAdditive();
+                left = bool((c, res) -> compare(l.eval(c, res), r.eval(c, res)) < 0);
+            } else if (acceptOp("<=")) {
+                Node r = parseAdditive();
+                left = bool((c, res) -> compare(l.eval(c, res), r.eval(c, res)) <= 0);
+            } else if (acceptOp(">")) {
+                Node r = parseAdditive();
+                left = bool((c, res) -> compare(l.eval(c, res), r.eval(c, res)) > 0);
+            } else if (acceptOp(">=")) {
+                Node r = parseAdditive();
+                left = bool((c, res) -> compare(l.eval(c, res), r.eval(c, res)) >= 0);
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Node parseAdditive() {
+        Node left = parseMultiplicative();
+        while (true) {
+            char op;
+            if (acceptOp("+")) {
+                op = '+';
+            } else if (acceptOp("-")) {
+                op = '-';
+            } else {
+                return left;
+            }
+            Node l = left, r = parseMultiplicative();
+            left = (c, res) -> arithmetic(op, l.eval(c, res), r.eval(c, res));
+        }
+    }
+
+    private Node parseMultiplicative() {
+        Node left = parseUnary();
+        while (true) {
+            char op;
+            if (acceptOp("*")) {
+                op = '*';
+            } else if (acceptOp("/")) {
+                op = '/';
+            } else if (acceptOp("%")) {
+                op = '%';
+            } else {
+                return left;
+            }
+            Node l = left, r = parseUnary();
+            left = (c, res) -> arithmetic(op, l.eval(c, res), r.eval(c, res));
+        }
+    }
+
+    private Node parseUnary() {
+        if (acceptOp("!")) {
+            Node operand = parseUnary();
+            return bool((c, res) -> !operand.test(c, res));
+        }
+        if (acceptOp("-")) {
+            Node operand = parseUnary();
+            return (c, res) -> negate(operand.eval(c, res));
+        }
+        return parsePostfix();
+    }
+
+    private Node parsePostfix() {
+        Node node = parsePrimary();
+        while (true) {
+            if (acceptOp(".")) {
+                Token name = next();
+                if (name.kind != Kind.IDENT) {
+                    throw Unsupported.INSTANCE;
+                }
+                if (acceptOp("(")) {
+                    List<Node> args = new ArrayList<>();
+                    if (!acceptOp(")")) {
+                        do {
+                            args.add(parseOr());
+                        } while (acceptOp(","));
+                        expectOp(")");
+                    }
+                    node = methodCall(node, name.text, args);
+                } else {
+                    node = new PropertyNode(node, name.text);
+                }
+            } else if (acceptOp("[")) {
+                Node target = node, key = parseOr();
+                expectOp("]");
+                node = (c, res) -> index(target.eval(c, res), key.eval(c, res));
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private Node parsePrimary() {
+        Token token = next();
+        switch (token.kind) {
+            case LITERAL:
+                Object value = token.value;
+                if (value instanceof Boolean b) {
+                    boolean constant = b;
+                    return bool((c, res) -> constant);
+                }
+                return (c, res) -> value;
+            case IDENT:
+                if (token.text.equals("result")) {
+                    if (!resultVisible) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    return (c, res) -> res;
+                } else if (token.text.equals("cycle")) {
+                    return (c, res) -> c;
+                }
+                Integer bindingIndex = bindingIndexes.get(token.text);
+                if (bindingIndex != null) {
+                    int index = bindingIndex;
+                    return (c, res) -> bindings.get(index, c);
+                }
+                throw Unsupported.INSTANCE;
+            case OP:
+                if (token.text.equals("(")) {
+                    Node inner = parseOr();
+                    expectOp(")");
+                    return inner;
+                }
+            default:
+                throw Unsupported.INSTANCE;
+        }
+    }
+
+    private Node methodCall(Node target, String name, List<Node> args) {
+        Integer arity = METHOD_ARITY.get(name);
+        if (arity == null || arity != args.size()) {
+            throw Unsupported.INSTANCE;
+        }
+        if (arity == 0) {
+            return new MethodNode(target, name, null);
+        }
+        return new MethodNode(target, name, args.get(0));
+    }
+
+    // tokens
+
+    private enum Kind {
+        LITERAL, IDENT, OP
+    }
+
+    private record Token(Kind kind, String text, Object value) {
+    }
+
+    private Token next() {
+        if (pos >= tokens.size()) {
+            throw Unsupported.INSTANCE;
+        }
+        return tokens.get(pos++);
+    }
+
+    private boolean peekIs(Kind kind, String text) {
+        return pos < tokens.size() && tokens.get(pos).kind == kind && tokens.get(pos).text.equals(text);
+    }
+
+    private boolean acceptOp(String op) {
+        if (peekIs(Kind.OP, op)) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectOp(String op) {
+        if (!acceptOp(op)) {
+            throw Unsupported.INSTANCE;
+        }
+    }
+
+    private static List<Token> tokenize(String s) {
+        List<Token> tokens = new ArrayList<>();
+        int len = s.length();
+        int i = 0;
+        while (i < len) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isDigit(c)) {
+                int start = i;
+                boolean decimal = false;
+                while (i < len && Character.isDigit(s.charAt(i))) {
+                    i++;
+                }
+                if (i + 1 < len && s.charAt(i) == '.' && Character.isDigit(s.charAt(i + 1))) {
+                    decimal = true;
+                    i++;
+                    while (i < len && Character.isDigit(s.charAt(i))) {
+                        i++;
+                    }
+                }
+                if (i < len && Character.isJavaIdentifierPart(s.charAt(i))) {
+                    // numeric type suffixes, exponents and hex are left to groovy
+                    throw Unsupported.INSTANCE;
+                }
+                String number = s.substring(start, i);
+                Object value;
+                if (decimal) {
+                    value = new BigDecimal(number);
+                } else {
+                    BigInteger integer = new BigInteger(number);
+                    value = integer.bitLength() < 32 ? (Object) integer.intValue() :
+                        integer.bitLength() < 64 ? (Object) integer.longValue() : integer;
+                }
+                tokens.add(new Token(Kind.LITERAL, number, value));
+            } else if (c == '\'' || c == '"') {
+                StringBuilder sb = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= len) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    char d = s.charAt(i++);
+                    if (d == c) {
+                        break;
+                    } else if (d == '$' && c == '"') {
+                        // GString interpolation
+                        throw Unsupported.INSTANCE;
+                    } else if (d == '\\') {
+                        if (i >= len) {
+                            throw Unsupported.INSTANCE;
+                        }
+                        char escaped = s.charAt(i++);
+                        switch (escaped) {
+                            case 'n' -> sb.append('\n');
+                            case 't' -> sb.append('\t');
+                            case '\\', '\'', '"', '$' -> sb.append(escaped);
+                            default -> throw Unsupported.INSTANCE;
+                        }
+                    } else {
+                        sb.append(d);
+                    }
+                }
+                tokens.add(new Token(Kind.LITERAL, sb.toString(), sb.toString()));
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < len && Character.isJavaIdentifierPart(s.charAt(i))) {
+                    i++;
+                }
+                String word = s.substring(start, i);
+                switch (word) {
+                    case "true" -> tokens.add(new Token(Kind.LITERAL, word, Boolean.TRUE));
+                    case "false" -> tokens.add(new Token(Kind.LITERAL, word, Boolean.FALSE));
+                    case "null" -> tokens.add(new Token(Kind.LITERAL, word, null));
+                    default -> {
+                        if (UNSUPPORTED_WORDS.contains(word) && !(word.equals("return") && tokens.isEmpty())) {
+                            throw Unsupported.INSTANCE;
+                        }
+                        tokens.add(new Token(Kind.IDENT, word, null));
+                    }
+                }
+            } else {
+                String two = (i + 1 < len) ? s.substring(i, i + 2) : "";
+                char following = (i + 2 < len) ? s.charAt(i + 2) : ' ';
+                if (TWO_CHAR_OPS.contains(two)) {
+                    // exclude groovy operators like ===, ==~, <=> and !==
+                    if (following == '=' || following == '~' || following == '>') {
+                        throw Unsupported.INSTANCE;
+                    }
+                    tokens.add(new Token(Kind.OP, two, null));
+                    i += 2;
+                } else if (c == ';') {
+                    tokens.add(new Token(Kind.OP, ";", null));
+                    i++;
+                } else if (ONE_CHAR_OPS.indexOf(c) >= 0) {
+                    // exclude groovy operators like **, .., .&, =~, ?. and <<
+                    char after = (i + 1 < len) ? s.charAt(i + 1) : ' ';
+                    if ((c == '*' && after == '*') || (c == '.' && (after == '.' || after == '&' || after == '@'))
+                        || (c == '<' && after == '<') || (c == '>' && after == '>')) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    tokens.add(new Token(Kind.OP, String.valueOf(c), null));
+                    i++;
+                } else {
+                    throw Unsupported.INSTANCE;
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // nodes which need more than a lambda
+
+    private interface BoolFunction {
+        boolean test(long cycle, Object result);
+    }
+
+    private static Node bool(BoolFunction function) {
+        return new Node() {
+            @Override
+            public Object eval(long cycle, Object result) {
+                return function.test(cycle, result);
+            }
+
+            @Override
+            public boolean test(long cycle, Object result) {
+                return function.test(cycle, result);
+            }
+        };
+    }
+
+    /**
+     * Map values are read directly. Other objects are read with a bean getter, which is cached for the last seen type.
+     */
+    private static final class PropertyNode implements Node {
+        private final Node target;
+        private final String name;
+        private final String getter;
+        private final String isGetter;
+        private volatile CachedMethod cached;
+
+        private PropertyNode(Node target, String name) {
+            this.target = target;
+            this.name = name;
+            String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            this.getter = "get" + capitalized;
+            this.isGetter = "is" + capitalized;
+        }
+
+        @Override
+        public Object eval(long cycle, Object result) {
+            Object object = target.eval(cycle, result);
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object == null) {
+                throw new NullPointerException("Cannot get property '" + name + "' on null object");
+            } else if (object.getClass().isArray() && name.equals("length")) {
+                return Array.getLength(object);
+            }
+            CachedMethod method = cached;
+            if (method == null || method.type != object.getClass()) {
+                method = new CachedMethod(object.getClass(), findMethod(object.getClass(), getter, isGetter, 0));
+                cached = method;
+            }
+            return method.invoke(object, name);
+        }
+    }
+
+    /**
+     * Common collection and string methods are called directly. Other objects are called reflectively, with the
+     * method cached for the last seen type.
+     */
+    private static final class MethodNode implements Node {
+        private final Node target;
+        private final String name;
+        private final Node arg;
+        private volatile CachedMethod cached;
+
+        private MethodNode(Node target, String name, Node arg) {
+            this.target = target;
+            this.name = name;
+            this.arg = arg;
+        }
+
+        @Override
+        public Object eval(long cycle, Object result) {
+            Object object = target.eval(cycle, result);
+            Object argument = (arg != null) ? arg.eval(cycle, result) : null;
+            if (object == null) {
+                throw new NullPointerException("Cannot invoke method " + name + "() on null object");
+            }
+            switch (name) {
+                case "size":
+                case "length":
+                    if (object instanceof Collection<?> collection) {
+                        return collection.size();
+                    } else if (object instanceof Map<?, ?> map) {
+                        return map.size();
+                    } else if (object instanceof CharSequence chars) {
+                        return chars.length();
+                    } else if (object.getClass().isArray()) {
+                        return Array.getLength(object);
+                    }
+                    break;
+                case "isEmpty":
+                    if (object instanceof Collection<?> collection) {
+                        return collection.isEmpty();
+                    } else if (object instanceof Map<?, ?> map) {
+                        return map.isEmpty();
+                    } else if (object instanceof CharSequence chars) {
+                        return chars.isEmpty();
+                    }
+                    break;
+                case "toString":
+                    return object.toString();
+                case "equals":
+                    return Objects.equals(object, argument);
+                case "contains":
+                    if (object instanceof Collection<?> collection) {
+                        return collection.contains(argument);
+                    } else if (object instanceof CharSequence chars) {
+                        return chars.toString().contains(String.valueOf(argument));
+                    }
+                    break;
+                case "containsKey":
+                    if (object instanceof Map<?, ?> map) {
+                        return map.containsKey(argument);
+                    }
+                    break;
+                case "get":
+                    if (object instanceof Map<?, ?> || object instanceof List<?>) {
+                        return index(object, argument);
+                    }
+                    break;
+                case "startsWith":
+                    if (object instanceof CharSequence chars) {
+                        return chars.toString().startsWith(String.valueOf(argument));
+                    }
+                    break;
+                case "endsWith":
+                    if (object instanceof CharSequence chars) {
+                        return chars.toString().endsWith(String.valueOf(argument));
+                    }
+                    break;
+            }
+            CachedMethod method = cached;
+            if (method == null || method.type != object.getClass()) {
+                method = new CachedMethod(object.getClass(), findMethod(object.getClass(), name, null, (arg != null) ? 1 : 0));
+                cached = method;
+            }
+            return (arg != null) ? method.invoke(object, name, argument) : method.invoke(object, name);
+        }
+    }
+
+    private record CachedMethod(Class<?> type, Method method) {
+        Object invoke(Object target, String name, Object... args) {
+            if (method == null) {
+                throw new IllegalArgumentException("No property or method '" + name + "' for type " + type.getCanonicalName());
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Error calling '" + name + "' on " + type.getCanonicalName() + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name, String altName, int arity) {
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == arity && !Modifier.isStatic(method.getModifiers())
+                && (method.getName().equals(name) || method.getName().equals(altName))) {
+                if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                    return method;
+                }
+                try {
+                    // methods of non-public implementation classes are only callable once opened
+                    method.setAccessible(true);
+                    return method;
+                } catch (RuntimeException ignored) {
+                }
+            }
+        }
+        return null;
+    }
+
+    // groovy semantics
+
+    static boolean truth(Object value) {
+        if (value == null) {
+            return false;
+        } else if (value instanceof Boolean b) {
+            return b;
+        } else if (value instanceof BigDecimal bd) {
+            return bd.signum() != 0;
+        } else if (value instanceof BigInteger bi) {
+            return bi.signum() != 0;
+        } else if (value instanceof Double || value instanceof Float) {
+            return ((Number) value).doubleValue() != 0.0d;
+        } else if (value instanceof Number n) {
+            return n.longValue() != 0L;
+        } else if (value instanceof CharSequence chars) {
+            return !chars.isEmpty();
+        } else if (value instanceof Collection<?> collection) {
+            return !collection.isEmpty();
+        } else if (value instanceof Map<?, ?> map) {
+            return !map.isEmpty();
+        } else if (value instanceof Iterator<?> iterator) {
+            return iterator.hasNext();
+        } else if (value instanceof Character ch) {
+            return ch != 0;
+        } else if (value.getClass().isArray()) {
+            return Array.getLength(value) > 0;
+        }
+        return true;
+    }
+
+    static boolean equal(Object left, Object right) {
+        if (left == right) {
+            return true;
+        } else if (left == null || right == null) {
+            return false;
+        } else if (left instanceof Number l && right instanceof Number r) {
+            return compareNumbers(l, r) == 0;
+        } else if (left instanceof CharSequence l && right instanceof CharSequence r) {
+            return l.toString().equals(r.toString());
+        }
+        return left.equals(right);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compare(Object left, Object right) {
+        if (left == right) {
+            return 0;
+        } else if (left == null) {
+            return -1;
+        } else if (right == null) {
+            return 1;
+        } else if (left instanceof Number l && right instanceof Number r) {
+            return compareNumbers(l, r);
+        } else if (left instanceof CharSequence l && right instanceof CharSequence r) {
+            return l.toString().compareTo(r.toString());
+        } else if (left instanceof Comparable comparable && left.getClass().isInstance(right)) {
+            return comparable.compareTo(right);
+        }
+        throw new IllegalArgumentException("Cannot compare " + left.getClass().getCanonicalName() + " with " +
+            right.getClass().getCanonicalName());
+    }
+
+    private static boolean isFloating(Number n) {
+        return n instanceof Double || n instanceof Float;
+    }
+
+    private static boolean isBig(Number n) {
+        return n instanceof BigDecimal || n instanceof BigInteger;
+    }
+
+    private static BigDecimal toBigDecimal(Number n) {
+        if (n instanceof BigDecimal bd) {
+            return bd;
+        } else if (n instanceof BigInteger bi) {
+            return new BigDecimal(bi);
+        } else if (isFloating(n)) {
+            return BigDecimal.valueOf(n.doubleValue());
+        }
+        return BigDecimal.valueOf(n.longValue());
+    }
+
+    private static int compareNumbers(Number l, Number r) {
+        if (isBig(l) || isBig(r)) {
+            return toBigDecimal(l).compareTo(toBigDecimal(r));
+        } else if (isFloating(l) || isFloating(r)) {
+            double x = l.doubleValue(), y = r.doubleValue();
+            return (x < y) ? -1 : ((x > y) ? 1 : 0);
+        }
+        return Long.compare(l.longValue(), r.longValue());
+    }
+
+    static Object arithmetic(char op, Object left, Object right) {
+        if (op == '+' && (left instanceof CharSequence || right instanceof CharSequence)) {
+            return String.valueOf(left) + right;
+        }
+        if (!(left instanceof Number l) || !(right instanceof Number r)) {
+            throw new IllegalArgumentException("Cannot apply '" + op + "' to " + left + " and " + right);
+        }
+        if (isFloating(l) || isFloating(r)) {
+            double x = l.doubleValue(), y = r.doubleValue();
+            return switch (op) {
+                case '+' -> x + y;
+                case '-' -> x - y;
+                case '*' -> x * y;
+                case '/' -> x / y;
+                default -> x % y;
+            };
+        }
+        if (op == '/' || l instanceof BigDecimal || r instanceof BigDecimal) {
+            // like groovy, division of integral values produces a decimal
+            BigDecimal x = toBigDecimal(l), y = toBigDecimal(r);
+            return switch (op) {
+                case '+' -> x.add(y);
+                case '-' -> x.subtract(y);
+                case '*' -> x.multiply(y);
+                case '/' -> divide(x, y);
+                default -> x.remainder(y);
+            };
+        }
+        if (l instanceof BigInteger || r instanceof BigInteger) {
+            BigInteger x = toBigInteger(l), y = toBigInteger(r);
+            return switch (op) {
+                case '+' -> x.add(y);
+                case '-' -> x.subtract(y);
+                case '*' -> x.multiply(y);
+                default -> x.remainder(y);
+            };
+        }
+        long x = l.longValue(), y = r.longValue();
+        long value = switch (op) {
+            case '+' -> x + y;
+            case '-' -> x - y;
+            case '*' -> x * y;
+            default -> x % y;
+        };
+        // like groovy, integer operands produce an integer, but it is widened rather than truncated on overflow
+        if (!(l instanceof Long) && !(r instanceof Long) && value == (int) value) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    /**
+     * Divide exactly where the quotient terminates, otherwise to ten more digits than the operands, as groovy does.
+     */
+    private static BigDecimal divide(BigDecimal x, BigDecimal y) {
+        try {
+            return x.divide(y);
+        } catch (ArithmeticException nonTerminating) {
+            return x.divide(y, new MathContext(Math.max(x.precision(), y.precision()) + 10));
+        }
+    }
+
+    private static BigInteger toBigInteger(Number n) {
+        return (n instanceof BigInteger bi) ? bi : BigInteger.valueOf(n.longValue());
+    }
+
+    static Object negate(Object value) {
+        if (value instanceof BigDecimal bd) {
+            return bd.negate();
+        } else if (value instanceof BigInteger bi) {
+            return bi.negate();
+        } else if (value instanceof Double d) {
+            return -d;
+        } else if (value instanceof Float f) {
+            return -f;
+        } else if (value instanceof Long l) {
+            return -l;
+        } else if (value instanceof Number n) {
+            int i = n.intValue();
+            return (i == Integer.MIN_VALUE) ? -(long) i : (Object) (-i);
+        }
+        throw new IllegalArgumentException("Cannot negate " + value);
+    }
+
+    static Object index(Object target, Object key) {
+        if (target instanceof Map<?, ?> map) {
+            return map.get(key);
+        } else if (target == null) {
+            throw new NullPointerException("Cannot get index [" + key + "] on null object");
+        } else if (!(key instanceof Number n)) {
+            throw new IllegalArgumentException("Index [" + key + "] must be a number for " + target.getClass().getCanonicalName());
+        } else if (target instanceof List<?> list) {
+            int i = n.intValue();
+            return list.get(i < 0 ? list.size() + i : i);
+        } else if (target.getClass().isArray()) {
+            int i = n.intValue();
+            return Array.get(target, i < 0 ? Array.getLength(target) + i : i);
+        } else if (target instanceof CharSequence chars) {
+            int i = n.intValue();
+            return String.valueOf(chars.charAt(i < 0 ? chars.length() + i : i));
+        }
+        throw new IllegalArgumentException("Cannot index into " + target.getClass().getCanonicalName());
+    }
+
+    /**
+     * Thrown to abandon parsing of an expression which is outside of the supported subset.
+     */
+    private static final class Unsupported extends RuntimeException {
+        private static final Unsupported INSTANCE = new Unsupported();
+
+        private Unsupported() {
+            super("unsupported expression", null, false, false);
+        }
+    }
+}
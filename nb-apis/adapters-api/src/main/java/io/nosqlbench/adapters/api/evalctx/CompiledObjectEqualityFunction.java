@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.evalctx;
+
+/**
+ * A verifier which compares the result of an operation with the value of a {@link CompiledExpression}. This is the
+ * compiled counterpart of {@link GroovyObjectEqualityFunction}, with the same comparison rules. The expression should
+ * be compiled with {@link CompiledExpression#compileExpected(io.nosqlbench.virtdata.core.templates.ParsedTemplateString)},
+ * so that it can not see the result which it is compared to.
+ */
+public class CompiledObjectEqualityFunction implements CycleFunction<Boolean>, CycleResultVerifier {
+
+    private final String name;
+    private final CompiledExpression expression;
+    private Object result;
+
+    public CompiledObjectEqualityFunction(String name, CompiledExpression expression) {
+        this.name = name;
+        this.expression = expression;
+    }
+
+    @Override
+    public boolean verify(long cycle, Object result) {
+        Object expected = expression.eval(cycle, null);
+        return CompiledExpressionParser.equal(expected, result);
+    }
+
+    @Override
+    public Boolean apply(long value) {
+        return verify(value, result);
+    }
+
+    /**
+     * Intercept and reserve the value of the result injected variable for comparison. Other variables are not
+     * used by compiled expressions.
+     */
+    @Override
+    public <V> void setVariable(String name, V value) {
+        if (name.equals("result")) {
+            this.result = value;
+        }
+    }
+
+    @Override
+    public CycleFunction<Boolean> newInstance() {
+        return new CompiledObjectEqualityFunction(name, expression);
+    }
+
+    @Override
+    public String getExpressionDetails() {
+        return expression.getExpressionDetails();
+    }
+
+    @Override
+    public String toString() {
+        return name + ":" + expression;
+    }
+}
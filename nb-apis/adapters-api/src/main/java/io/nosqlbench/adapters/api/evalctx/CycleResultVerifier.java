@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.evalctx;
+
+/**
+ * A result check which is evaluated directly in Java, without a scripting environment.
+ * Unlike a {@link CycleFunction}, the result is passed as an argument rather than injected as a
+ * variable, so implementations are stateless and may be shared across threads.
+ */
+public interface CycleResultVerifier extends ExpressionDetails {
+
+    /**
+     * @param cycle the cycle of the op which produced the result
+     * @param result the result of the op
+     * @return true if the result is valid
+     */
+    boolean verify(long cycle, Object result);
+}
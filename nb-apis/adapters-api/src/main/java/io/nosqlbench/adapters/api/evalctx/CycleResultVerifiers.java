@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.evalctx;
+
+import io.nosqlbench.nb.api.errors.OpConfigError;
+import io.nosqlbench.virtdata.core.bindings.Bindings;
+import io.nosqlbench.virtdata.core.bindings.BindingsTemplate;
+import io.nosqlbench.virtdata.core.templates.BindPoint;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.LongFunction;
+
+/**
+ * Built-in {@link CycleResultVerifier}s for the most common checks, which would otherwise require
+ * a groovy verifier:
+ * <UL>
+ * <LI>{@link RowCount} - the result has the expected number of elements</LI>
+ * <LI>{@link FieldEquals} - a named field of the result, or of its first row, has the expected value</LI>
+ * <LI>{@link RecallAtLeast} - the ids in the result have at least the given recall against the expected ids</LI>
+ * </UL>
+ * Expected values may be given as literals, or as a single binding like <em>{expected_count}</em>.
+ */
+public class CycleResultVerifiers {
+
+    /**
+     * Create a function which provides the value of a template, which must be either a literal value or
+     * a single binding point.
+     */
+    public static LongFunction<Object> valueOf(String name, ParsedTemplateString template) {
+        if (template.getBindPoints().isEmpty()) {
+            String literal = template.getPositionalStatement();
+            return l -> literal;
+        }
+        BindPoint bindPoint = template.asBinding().orElseThrow(
+            () -> new OpConfigError("verifier field '" + name + "' must be a literal value or a single binding, but was '" +
+                template.getStmt() + "'")
+        );
+        Bindings bindings = new BindingsTemplate(List.of(bindPoint)).resolveBindings();
+        return l -> bindings.get(0, l);
+    }
+
+    public static class RowCount implements CycleResultVerifier {
+        private final LongFunction<Object> expected;
+        private final String details;
+
+        public RowCount(LongFunction<Object> expected, String details) {
+            this.expected = expected;
+            this.details = details;
+        }
+
+        @Override
+        public boolean verify(long cycle, Object result) {
+            return sizeOf(result) == asLong(expected.apply(cycle));
+        }
+
+        @Override
+        public String getExpressionDetails() {
+            return "rows == " + details;
+        }
+    }
+
+    public static class FieldEquals implements CycleResultVerifier {
+        private final String field;
+        private final LongFunction<Object> expected;
+        private final String details;
+
+        public FieldEquals(String field, LongFunction<Object> expected, String details) {
+            this.field = field;
+            this.expected = expected;
+            this.details = details;
+        }
+
+        @Override
+        public boolean verify(long cycle, Object result) {
+            Object row = result;
+            if (row instanceof List<?> list) {
+                row = list.isEmpty() ? null : list.getFirst();
+            }
+            if (!(row instanceof Map<?, ?> map)) {
+                return false;
+            }
+            Object actual = map.get(field);
+            Object wanted = expected.apply(cycle);
+            if (Objects.equals(actual, wanted)) {
+                return true;
+            }
+            return actual != null && wanted != null && actual.toString().equals(wanted.toString());
+        }
+
+        @Override
+        public String getExpressionDetails() {
+            return field + " == " + details;
+        }
+    }
+
+    /**
+     * Recall is computed without allocating per cycle. The relevant ids are copied into a buffer which is
+     * reused by each thread and sorted, so that each of the actual ids can be found with a binary search.
+     */
+    public static class RecallAtLeast implements CycleResultVerifier {
+        private final LongFunction<Object> expected;
+        private final int k;
+        private final double minimum;
+        private final String details;
+        private final ThreadLocal<IdBuffers> buffers = ThreadLocal.withInitial(IdBuffers::new);
+
+        /**
+         * @param expected the expected (relevant) ids
+         * @param k the number of leading ids of each set to compare, or 0 to use all of them
+         * @param minimum the minimum recall which is valid, between 0.0 and 1.0
+         */
+        public RecallAtLeast(LongFunction<Object> expected, int k, double minimum, String details) {
+            this.expected = expected;
+            this.k = k;
+            this.minimum = minimum;
+            this.details = details;
+        }
+
+        @Override
+        public boolean verify(long cycle, Object result) {
+            Object relevantIds = expected.apply(cycle);
+            int relevantCount = (k > 0) ? Math.min(k, idCount(relevantIds)) : idCount(relevantIds);
+            if (relevantCount == 0) {
+                return true;
+            }
+            int actualCount = (k > 0) ? Math.min(k, idCount(result)) : idCount(result);
+            IdBuffers buffer = buffers.get();
+            long[] relevant = buffer.relevant(relevantCount);
+            copyIds(relevantIds, relevant, relevantCount);
+            Arrays.sort(relevant, 0, relevantCount);
+            long[] actual = buffer.actual(actualCount);
+            copyIds(result, actual, actualCount);
+            int found = 0;
+            for (int i = 0; i < actualCount; i++) {
+                if (Arrays.binarySearch(relevant, 0, relevantCount, actual[i]) >= 0) {
+                    found++;
+                }
+            }
+            return ((double) found / relevantCount) >= minimum;
+        }
+
+        @Override
+        public String getExpressionDetails() {
+            return "recall(k=" + k + ") >= " + minimum + " for " + details;
+        }
+    }
+
+    private static final class IdBuffers {
+        private long[] relevant = new long[128];
+        private long[] actual = new long[128];
+
+        private long[] relevant(int size) {
+            if (relevant.length < size) {
+                relevant = new long[size];
+            }
+            return relevant;
+        }
+
+        private long[] actual(int size) {
+            if (actual.length < size) {
+                actual = new long[size];
+            }
+            return actual;
+        }
+    }
+
+    private static long sizeOf(Object result) {
+        if (result == null) {
+            return 0L;
+        } else if (result instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (result instanceof Map<?, ?> map) {
+            return map.size();
+        } else if (result.getClass().isArray()) {
+            return Array.getLength(result);
+        } else if (result instanceof Iterable<?> iterable) {
+            long count = 0L;
+            for (Object ignored : iterable) {
+                count++;
+            }
+            return count;
+        }
+        throw new RuntimeException("Unable to count rows in a result of type " + result.getClass().getCanonicalName());
+    }
+
+    private static long asLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(String.valueOf(value).trim());
+    }
+
+    private static int idCount(Object value) {
+        if (value instanceof long[] longs) {
+            return longs.length;
+        } else if (value instanceof int[] ints) {
+            return ints.length;
+        } else if (value instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (value instanceof Object[] objects) {
+            return objects.length;
+        }
+        throw new RuntimeException("Unable to read ids from a value of type " +
+            (value == null ? "null" : value.getClass().getCanonicalName()));
+    }
+
+    /**
+     * Copy the first count ids of a value which is known to hold at least that many, as counted by
+     * {@link #idCount(Object)}.
+     */
+    private static void copyIds(Object value, long[] into, int count) {
+        if (value instanceof long[] longs) {
+            System.arraycopy(longs, 0, into, 0, count);
+        } else if (value instanceof int[] ints) {
+            for (int i = 0; i < count; i++) {
+                into[i] = ints[i];
+            }
+        } else if (value instanceof Object[] objects) {
+            for (int i = 0; i < count; i++) {
+                into[i] = asLong(objects[i]);
+            }
+        } else if (value instanceof List<?> list && list instanceof RandomAccess) {
+            for (int i = 0; i < count; i++) {
+                into[i] = asLong(list.get(i));
+            }
+        } else if (value instanceof Collection<?> collection) {
+            int i = 0;
+            for (Object element : collection) {
+                if (i == count) {
+                    break;
+                }
+                into[i++] = asLong(element);
+            }
+        }
+    }
+}
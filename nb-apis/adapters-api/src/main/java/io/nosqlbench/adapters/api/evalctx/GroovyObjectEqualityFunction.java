@@ -23,8 +23,9 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * This evaluator uses {@link Object#equals(Object)} to compare the results of an operation with
- * a constructed value. The script used is meant to only construct the object to compare with.
+ * This evaluator compares the results of an operation with a constructed value. Numbers are compared by value
+ * and character sequences by content, as with the groovy == operator, so that an expected value of 3 matches a
+ * result of 3L. Other values are compared with {@link Object#equals(Object)}. The script used is meant to only construct the object to compare with.
  * All context variables can be injected into the script context except for one, the <em>result</em>
  * variable. This is intercepted and then used as a basis for comparison to the result of executing the
  * script.
@@ -42,7 +43,7 @@ public class GroovyObjectEqualityFunction extends GroovyCycleFunction<Boolean> {
         Map<String, Object> values = bindingFunctions.getAllMap(value);
         values.forEach((k,v)-> variableBindings.setVariable(k,v));
         Object scriptResult= script.run();
-        return scriptResult.equals(result);
+        return CompiledExpressionParser.equal(scriptResult, result);
     }
 
     /**
@@ -33,6 +33,7 @@ import io.nosqlbench.nb.api.config.standard.NBConfiguration;
 import io.nosqlbench.nb.api.errors.OpConfigError;
 import io.nosqlbench.nb.api.labels.NBLabelSpec;
 import io.nosqlbench.nb.api.labels.NBLabels;
+import io.nosqlbench.virtdata.core.bindings.CompiledBindings;
 import io.nosqlbench.virtdata.core.templates.BindPoint;
 import io.nosqlbench.virtdata.core.templates.CapturePoint;
 import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
@@ -781,6 +782,19 @@ public class ParsedOp extends NBBaseComponent implements LongFunction<Map<String
         return tmap.newArrayBinderFromBindPoints(bindPoints);
     }
 
+    /**
+     * Adapters which can accept primitive values may use this instead of
+     * {@link #newArrayBinderFromBindPoints(List)} to avoid boxing long, int and double values.
+     *
+     * @param bindPoints
+     *     The {@link BindPoint}s for which the {@link CompiledBindings} will be created
+     * @return a new {@link CompiledBindings} which can produce an {@link Object} array from a long input,
+     * or write the values into a {@link io.nosqlbench.virtdata.core.bindings.BindTarget}
+     */
+    public CompiledBindings newCompiledBindingsFromBindPoints(List<BindPoint> bindPoints) {
+        return tmap.newCompiledBindingsFromBindPoints(bindPoints);
+    }
+
     /**
      * Get the {@link LongFunction} which is used to resolve a dynamic field value.
      *
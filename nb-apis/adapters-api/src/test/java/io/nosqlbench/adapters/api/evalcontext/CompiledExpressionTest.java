@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.evalcontext;
+
+import groovy.lang.Binding;
+import io.nosqlbench.adapters.api.evalctx.CompiledBooleanCycleFunction;
+import io.nosqlbench.adapters.api.evalctx.CompiledExpression;
+import io.nosqlbench.adapters.api.evalctx.CompiledObjectEqualityFunction;
+import io.nosqlbench.adapters.api.evalctx.GroovyBooleanCycleFunction;
+import io.nosqlbench.adapters.api.evalctx.GroovyCycleFunction;
+import io.nosqlbench.adapters.api.evalctx.GroovyObjectEqualityFunction;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledExpressionTest {
+
+    @Test
+    public void testCompiledMatchesGroovy() {
+        List<Object> results = List.of(
+            List.of(1, 2, 3),
+            List.of(),
+            Map.of("name", "row3", "count", 3),
+            "abc"
+        );
+        List<String> expressions = List.of(
+            "result.size() == 3",
+            "result.isEmpty()",
+            "!result",
+            "result && cycle > 2",
+            "result.size() >= 2 && result.size() < 4",
+            "cycle % 2 == 1 || cycle == 4",
+            "result.toString().length() > 2",
+            "5 / 2 == 2.5",
+            "-cycle + 3 == 0",
+            "return result.size() != 0;"
+        );
+        for (String expression : expressions) {
+            CompiledExpression compiled = CompiledExpression.compile(new ParsedTemplateString(expression, Map.of()))
+                .orElseThrow(() -> new AssertionError("expected '" + expression + "' to compile"));
+            for (Object result : results) {
+                GroovyBooleanCycleFunction groovy = new GroovyBooleanCycleFunction(
+                    "groovy", new ParsedTemplateString(expression, Map.of()), List.of(), new ArrayList<>(), new Binding()
+                );
+                groovy.setVariable("result", result);
+                groovy.setVariable("cycle", 3L);
+                boolean expected = groovy.apply(3L);
+                assertThat(compiled.test(3L, result))
+                    .describedAs("'" + expression + "' for result " + result)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testArithmeticTypesMatchGroovy() {
+        for (String expression : List.of(
+            "1 + 2", "7 - 9", "3 * 4", "10 % 4", "-5", "cycle + 1", "cycle * 2", "-cycle", "2147483647 - 1",
+            "5 / 2", "4 / 2", "1.5 * 2", "12345678901234567890 * 2", "12345678901234567890 % 7", "1 + 0.5"
+        )) {
+            ParsedTemplateString template = new ParsedTemplateString(expression, Map.of());
+            GroovyCycleFunction<Object> groovy = new GroovyCycleFunction<>("groovy", template, List.of(), new ArrayList<>(), new Binding());
+            groovy.setVariable("cycle", 3L);
+            Object expected = groovy.apply(3L);
+            Object actual = CompiledExpression.compile(template).orElseThrow().eval(3L, null);
+            assertThat(actual).describedAs(expression).isInstanceOf(expected.getClass());
+            assertThat(actual.toString()).describedAs(expression).isEqualTo(expected.toString());
+        }
+    }
+
+    @Test
+    public void testCompiledEqualityMatchesGroovy() {
+        List<Object> results = List.of(3, 3L, 4, 6L, new BigDecimal("2.5"), 2.5d, "row3", "3", true);
+        List<ParsedTemplateString> templates = List.of(
+            new ParsedTemplateString("1 + 2", Map.of()),
+            new ParsedTemplateString("cycle", Map.of()),
+            new ParsedTemplateString("cycle * 2", Map.of()),
+            new ParsedTemplateString("5 / 2", Map.of()),
+            new ParsedTemplateString("'row' + cycle", Map.of()),
+            new ParsedTemplateString("cycle.toString()", Map.of()),
+            new ParsedTemplateString("{id} + 1", Map.of("id", "Identity()")),
+            new ParsedTemplateString("cycle > 2", Map.of())
+        );
+        for (ParsedTemplateString template : templates) {
+            CompiledObjectEqualityFunction compiled = new CompiledObjectEqualityFunction(
+                "compiled", CompiledExpression.compileExpected(template)
+                .orElseThrow(() -> new AssertionError("expected '" + template.getStmt() + "' to compile")));
+            for (Object result : results) {
+                GroovyObjectEqualityFunction groovy = new GroovyObjectEqualityFunction(
+                    "groovy", template, List.of(), new ArrayList<>(), new Binding()
+                );
+                groovy.setVariable("result", result);
+                groovy.setVariable("cycle", 3L);
+                boolean expected = groovy.apply(3L);
+                assertThat(compiled.verify(3L, result))
+                    .describedAs("'" + template.getStmt() + "' for result " + result)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testExpectedResultCanNotSeeResult() {
+        ParsedTemplateString template = new ParsedTemplateString("result.size()", Map.of());
+        assertThat(CompiledExpression.compile(template)).isPresent();
+        assertThat(CompiledExpression.compileExpected(template)).isEmpty();
+    }
+
+    @Test
+    public void testMapAndIndexAccess() {
+        CompiledExpression fields = CompiledExpression.compile(
+            new ParsedTemplateString("result.name == 'row' + cycle && result['count'] == 3", Map.of())).orElseThrow();
+        assertThat(fields.test(3L, Map.of("name", "row3", "count", 3L))).isTrue();
+        assertThat(fields.test(4L, Map.of("name", "row3", "count", 3L))).isFalse();
+
+        CompiledExpression indexed = CompiledExpression.compile(
+            new ParsedTemplateString("result[0] == 1 && result[-1] == 3", Map.of())).orElseThrow();
+        assertThat(indexed.test(0L, List.of(1, 2, 3))).isTrue();
+        assertThat(indexed.test(0L, new long[]{1L, 2L, 3L})).isTrue();
+    }
+
+    @Test
+    public void testBindingsAreVariables() {
+        ParsedTemplateString template = new ParsedTemplateString("result == {id} + 1", Map.of("id", "Identity()"));
+        CompiledBooleanCycleFunction verifier =
+            new CompiledBooleanCycleFunction("test", CompiledExpression.compile(template).orElseThrow());
+        assertThat(verifier.verify(5L, 6L)).isTrue();
+        assertThat(verifier.verify(5L, 5L)).isFalse();
+    }
+
+    @Test
+    public void testUnsupportedSyntaxIsNotCompiled() {
+        for (String expression : List.of(
+            "def x = result.size(); x == 3",
+            "result.size() == 3; false",
+            "result?.size() == 3",
+            "result ==~ /abc/",
+            "result instanceof List",
+            "\"row$cycle\" == result",
+            "undefined_variable == 3",
+            "result.collect()"
+        )) {
+            assertThat(CompiledExpression.compile(new ParsedTemplateString(expression, Map.of())))
+                .describedAs(expression).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.evalcontext;
+
+import io.nosqlbench.adapters.api.evalctx.CycleResultVerifiers;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CycleResultVerifiersTest {
+
+    @Test
+    public void testRowCount() {
+        CycleResultVerifiers.RowCount rows = new CycleResultVerifiers.RowCount(l -> "3", "3");
+        assertThat(rows.verify(1L, List.of(1, 2, 3))).isTrue();
+        assertThat(rows.verify(1L, new long[]{1L, 2L, 3L})).isTrue();
+        assertThat(rows.verify(1L, List.of(1, 2))).isFalse();
+        assertThat(rows.verify(1L, null)).isFalse();
+    }
+
+    @Test
+    public void testFieldEquals() {
+        CycleResultVerifiers.FieldEquals field = new CycleResultVerifiers.FieldEquals("name", l -> "row" + l, "{name}");
+        assertThat(field.verify(5L, Map.of("name", "row5"))).isTrue();
+        assertThat(field.verify(5L, List.of(Map.of("name", "row5"), Map.of("name", "row6")))).isTrue();
+        assertThat(field.verify(6L, Map.of("name", "row5"))).isFalse();
+        assertThat(field.verify(5L, List.of())).isFalse();
+
+        CycleResultVerifiers.FieldEquals numeric = new CycleResultVerifiers.FieldEquals("count", l -> "42", "42");
+        assertThat(numeric.verify(1L, Map.of("count", 42))).isTrue();
+    }
+
+    @Test
+    public void testRecallAtLeast() {
+        CycleResultVerifiers.RecallAtLeast recall =
+            new CycleResultVerifiers.RecallAtLeast(l -> new int[]{1, 2, 3, 4}, 4, 0.75d, "{expected}");
+        assertThat(recall.verify(1L, new long[]{1L, 2L, 3L, 9L})).isTrue();
+        assertThat(recall.verify(1L, List.of(1L, 9L, 8L, 7L))).isFalse();
+
+        CycleResultVerifiers.RecallAtLeast atTwo =
+            new CycleResultVerifiers.RecallAtLeast(l -> List.of(1, 2, 3, 4), 2, 1.0d, "{expected}");
+        assertThat(atTwo.verify(1L, new int[]{2, 1, 7, 8})).isTrue();
+    }
+
+    @Test
+    public void testRecallWithUnsortedAndLargeIdSets() {
+        long[] expected = new long[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (i * 7919L) % 1000L;
+        }
+        CycleResultVerifiers.RecallAtLeast recall =
+            new CycleResultVerifiers.RecallAtLeast(l -> expected, 0, 0.9d, "{expected}");
+        long[] actual = new long[1000];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = (i < 950) ? i : 5000L + i;
+        }
+        assertThat(recall.verify(1L, actual)).isTrue();
+        for (int i = 800; i < actual.length; i++) {
+            actual[i] = 5000L + i;
+        }
+        assertThat(recall.verify(1L, actual)).isFalse();
+
+        CycleResultVerifiers.RecallAtLeast ofSet =
+            new CycleResultVerifiers.RecallAtLeast(l -> new TreeSet<>(List.of(9L, 3L, 5L)), 0, 1.0d, "{expected}");
+        assertThat(ofSet.verify(1L, new Object[]{5L, "3", 9})).isTrue();
+        assertThat(ofSet.verify(1L, new Object[]{5L, 3L})).isFalse();
+    }
+
+}
@@ -70,6 +70,23 @@ public class NBCreators {
         return timer;
     }
 
+    /**
+     * Create a timer which records into a separate histogram shard for each thread, for timers which are
+     * updated concurrently on every cycle. Optionally, the timer's meter only counts events, and computes its
+     * moving average rates when they are read.
+     */
+    public NBMetricTimer shardedTimer(String metricFamilyName, int hdrdigits, boolean countingMeter, MetricCategory category, String description) {
+        NBLabels labels = base.getLabels().and("name", metricFamilyName);
+        NBMetricTimer timer = new NBMetricTimer(
+            labels,
+            new DeltaHdrHistogramReservoir(labels, hdrdigits, true),
+            countingMeter ? new CountingMeter() : new Meter(),
+            description, category
+        );
+        base.addComponentMetric(timer, category, description);
+        return timer;
+    }
+
     public Meter meter(String metricFamilyName, MetricCategory category, String description) {
         NBLabels labels = base.getLabels().and("name", metricFamilyName);
         NBMetricMeter meter = new NBMetricMeter(labels,description, category);
@@ -163,6 +180,11 @@ public class NBCreators {
         return reporter;
     }
 
+    public PromPullReporterComponent pullReporter(String listenAddress, long millis, NBLabels extraLabels) {
+        PromPullReporterComponent reporter = new PromPullReporterComponent(this.base, listenAddress, millis, extraLabels);
+        return reporter;
+    }
+
     public BobyqaOptimizerInstance bobyqaOptimizer() {
         return new BobyqaOptimizerInstance(base);
     }
@@ -198,7 +220,6 @@ public class NBCreators {
             new HistoIntervalLogger(base, sessionName, logfile, compiledPattern, millis);
         logger.debug(() -> "Adding " + histoIntervalLogger + " to session " + sessionName);
         base.addMetricsCloseable(histoIntervalLogger);
-        base.addListener(histoIntervalLogger);
     }
 
     public void histoStatsLogger(String sessionName, String pattern, String filename, long millis) {
@@ -219,6 +240,10 @@ public class NBCreators {
         return new SqliteReporter(component, url, millis, filter);
     }
 
+    public JournalReporter journalReporter(NBComponent component, Path journalPath, long millis, MetricInstanceFilter filter) {
+        return new JournalReporter(component, journalPath, millis, filter);
+    }
+
     public static class Log4jReporterBuilder {
         private final NBComponent component;
         private Logger logger = LogManager.getLogger(Log4JMetricsReporter.class);
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.nb.api.engine.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.EWMA;
+import com.codahale.metrics.Meter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A meter which only counts events when they are marked. The moving average rates are brought up
+ * to date when they are read, by spreading the events counted since the last read evenly over the
+ * elapsed tick intervals. This makes marking as cheap as a single {@link LongAdder} increment, at
+ * the cost of less precise moving averages when the event rate changes between reads.
+ */
+public class CountingMeter extends Meter {
+
+    private static final long TICK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    private final LongAdder count = new LongAdder();
+    private final EWMA m1Rate = EWMA.oneMinuteEWMA();
+    private final EWMA m5Rate = EWMA.fiveMinuteEWMA();
+    private final EWMA m15Rate = EWMA.fifteenMinuteEWMA();
+    private final Clock clock;
+    private final long startTime;
+    private long lastTick;
+    private long lastCount;
+
+    public CountingMeter() {
+        this(Clock.defaultClock());
+    }
+
+    public CountingMeter(Clock clock) {
+        this.clock = clock;
+        this.startTime = clock.getTick();
+        this.lastTick = startTime;
+    }
+
+    @Override
+    public void mark() {
+        count.increment();
+    }
+
+    @Override
+    public void mark(long n) {
+        count.add(n);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMeanRate() {
+        long elapsed = clock.getTick() - startTime;
+        if (elapsed <= 0) {
+            return 0.0d;
+        }
+        return (double) getCount() / elapsed * TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    public double getOneMinuteRate() {
+        catchUp();
+        return m1Rate.getRate(TimeUnit.SECONDS);
+    }
+
+    @Override
+    public double getFiveMinuteRate() {
+        catchUp();
+        return m5Rate.getRate(TimeUnit.SECONDS);
+    }
+
+    @Override
+    public double getFifteenMinuteRate() {
+        catchUp();
+        return m15Rate.getRate(TimeUnit.SECONDS);
+    }
+
+    private synchronized void catchUp() {
+        long ticks = (clock.getTick() - lastTick) / TICK_INTERVAL;
+        if (ticks <= 0) {
+            return;
+        }
+        lastTick += ticks * TICK_INTERVAL;
+        long current = count.sum();
+        long delta = current - lastCount;
+        lastCount = current;
+        long share = delta / ticks;
+        long remainder = delta % ticks;
+        for (long i = 0; i < ticks; i++) {
+            long events = share + (i < remainder ? 1 : 0);
+            m1Rate.update(events);
+            m1Rate.tick();
+            m5Rate.update(events);
+            m5Rate.tick();
+            m15Rate.update(events);
+            m15Rate.tick();
+        }
+    }
+}
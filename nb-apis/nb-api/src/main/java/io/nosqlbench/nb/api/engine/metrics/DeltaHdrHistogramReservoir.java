@@ -23,9 +23,15 @@ import io.nosqlbench.nb.api.labels.NBLabels;
 import org.HdrHistogram.Histogram;
 import org.HdrHistogram.HistogramLogWriter;
 import org.HdrHistogram.Recorder;
+import org.HdrHistogram.SingleWriterRecorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * A custom wrapping of snapshotting logic on the HdrHistogram. This histogram will always report the last histogram
  * since it was most recently asked for with the getDeltaSnapshot(...) method.
@@ -34,11 +40,19 @@ import org.apache.logging.log4j.Logger;
  *
  * <p>This implementation also supports attaching a single log writer. If a log writer is attached, each
  * time an interval is snapshotted internally, the data will also be written to an hdr log via the writer.</p>
+ *
+ * <p>A sharded reservoir gives each recording thread its own {@link SingleWriterRecorder}, so that
+ * concurrent updates do not contend on a shared recorder. The shards are merged into a single
+ * interval histogram when a snapshot is taken. The shards of threads which have terminated are
+ * merged one last time and then dropped, so short-lived threads do not accumulate shards.</p>
  */
 public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledElement {
     private static final Logger logger = LogManager.getLogger(DeltaHdrHistogramReservoir.class);
 
     private final Recorder recorder;
+    private final int significantDigits;
+    private final ThreadLocal<Shard> shard;
+    private final List<Shard> shards;
     private Histogram lastHistogram;
 
     private Histogram intervalHistogram;
@@ -53,7 +67,26 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
      * @param significantDigits how many significant digits to track in the reservoir
      */
     public DeltaHdrHistogramReservoir(NBLabels labels, int significantDigits) {
+        this(labels, significantDigits, false);
+    }
+
+    /**
+     * Create a reservoir which is optionally sharded per recording thread.
+     *
+     * @param labels            the labels to give to the reservoir, for logging purposes
+     * @param significantDigits how many significant digits to track in the reservoir
+     * @param sharded           whether to record into a separate recorder for each thread
+     */
+    public DeltaHdrHistogramReservoir(NBLabels labels, int significantDigits, boolean sharded) {
         this.labels = labels;
+        this.significantDigits = significantDigits;
+        if (sharded) {
+            this.shards = new CopyOnWriteArrayList<>();
+            this.shard = ThreadLocal.withInitial(this::newShard);
+        } else {
+            this.shards = null;
+            this.shard = null;
+        }
         this.recorder = new Recorder(significantDigits);
 
         /*
@@ -75,7 +108,55 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
 
     @Override
     public void update(long value) {
-        recorder.recordValue(value);
+        if (shard != null) {
+            shard.get().recorder.recordValue(value);
+        } else {
+            recorder.recordValue(value);
+        }
+    }
+
+    public boolean isSharded() {
+        return shards != null;
+    }
+
+    private Shard newShard() {
+        Shard newShard = new Shard(Thread.currentThread(), new SingleWriterRecorder(significantDigits));
+        shards.add(newShard);
+        return newShard;
+    }
+
+    /**
+     * @return the number of thread shards which are currently kept, or 0 if this reservoir is not sharded
+     */
+    int getShardCount() {
+        return (shards != null) ? shards.size() : 0;
+    }
+
+    /**
+     * Each shard keeps the interval histogram it last returned, so it can be recycled on the
+     * next flip. Shards are only accessed by the snapshotting thread while holding the
+     * reservoir's lock. The owning thread is only weakly referenced, so that a shard does not
+     * keep a terminated thread reachable.
+     */
+    private static final class Shard {
+        private final WeakReference<Thread> owner;
+        private final SingleWriterRecorder recorder;
+        private Histogram interval;
+
+        private Shard(Thread owner, SingleWriterRecorder recorder) {
+            this.owner = new WeakReference<>(owner);
+            this.recorder = recorder;
+        }
+
+        private boolean isOwnerTerminated() {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+
+        private Histogram next() {
+            interval = recorder.getIntervalHistogram(interval);
+            return interval;
+        }
     }
 
     /**
@@ -100,18 +181,59 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
     }
 
     /**
-     * @return a copy of the accumulated state since the reservoir last had a snapshot
+     * Copy the data accumulated since the last snapshot into the provided histogram, reusing its
+     * buffers. Unlike {@link #getNextHdrHistogram()}, this does not change the last snapshot of
+     * this reservoir, since the provided histogram remains owned by the caller.
+     *
+     * @param into a histogram to reuse, or null to allocate a new one
+     * @return the provided histogram, holding the data since the last snapshot
      */
-    private synchronized Histogram getDataSinceLastSnapshotAndUpdate() {
+    public synchronized Histogram getNextHdrHistogram(Histogram into) {
+        Histogram interval = flipInterval();
+        Histogram target = (into != null) ? into : new Histogram(significantDigits);
+        interval.copyInto(target);
+        target.setTag(interval.getTag());
+        target.setStartTimeStamp(interval.getStartTimeStamp());
+        target.setEndTimeStamp(interval.getEndTimeStamp());
+        if (null != this.writer) {
+            writer.outputIntervalHistogram(target);
+        }
+        return target;
+    }
+
+    private Histogram flipInterval() {
         intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        if (shards != null) {
+            List<Shard> terminated = null;
+            for (Shard each : shards) {
+                // checked before reading, so that the final values of a terminated owner are included
+                boolean ownerTerminated = each.isOwnerTerminated();
+                intervalHistogram.add(each.next());
+                if (ownerTerminated) {
+                    if (terminated == null) {
+                        terminated = new ArrayList<>();
+                    }
+                    terminated.add(each);
+                }
+            }
+            if (terminated != null) {
+                shards.removeAll(terminated);
+            }
+        }
         long intervalHistogramStartTime = intervalHistogramEndTime;
         intervalHistogramEndTime = System.currentTimeMillis();
 
         intervalHistogram.setTag(this.labels.linearizeValues("name"));
         intervalHistogram.setStartTimeStamp(intervalHistogramStartTime);
         intervalHistogram.setEndTimeStamp(intervalHistogramEndTime);
+        return intervalHistogram;
+    }
 
-        lastHistogram = intervalHistogram.copy();
+    /**
+     * @return a copy of the accumulated state since the reservoir last had a snapshot
+     */
+    private synchronized Histogram getDataSinceLastSnapshotAndUpdate() {
+        lastHistogram = flipInterval().copy();
         lastHistogram.setTag(this.labels.linearizeValues("name"));
 
         if (null != this.writer) {
@@ -130,7 +252,7 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
     }
 
     public DeltaHdrHistogramReservoir copySettings() {
-        return new DeltaHdrHistogramReservoir(this.labels, intervalHistogram.getNumberOfSignificantValueDigits());
+        return new DeltaHdrHistogramReservoir(this.labels, significantDigits, isSharded());
     }
 
     public void attachLogWriter(HistogramLogWriter logWriter) {
@@ -26,4 +26,22 @@ public interface HdrDeltaHistogramProvider {
      */
     Histogram getNextHdrDeltaHistogram();
 
+    /**
+     * Copy the interval data into the provided histogram, then reset the histogram reservoir. Implementations
+     * should reuse the provided histogram instead of allocating a new one.
+     * @param into a histogram to reuse, or null
+     * @return the histogram holding the interval data
+     */
+    default Histogram getNextHdrDeltaHistogram(Histogram into) {
+        Histogram next = getNextHdrDeltaHistogram();
+        if (into == null) {
+            return next;
+        }
+        next.copyInto(into);
+        into.setTag(next.getTag());
+        into.setStartTimeStamp(next.getStartTimeStamp());
+        into.setEndTimeStamp(next.getEndTimeStamp());
+        return into;
+    }
+
 }
@@ -16,8 +16,10 @@
 
 package io.nosqlbench.nb.api.engine.metrics;
 
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
 import io.nosqlbench.nb.api.components.core.NBComponent;
 import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
 import org.HdrHistogram.HistogramLogWriter;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
@@ -25,21 +27,17 @@ import org.apache.logging.log4j.LogManager;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintStream;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Pattern;
 
 /**
- * HistoIntervalLogger runs a separate thread to snapshotAndWrite encoded histograms on a regular interval.
- * It listens to the metrics registry for any new metrics that match the pattern. Any metrics
- * which both match the pattern and which are {@link EncodableHistogram}s are written the configured
- * logfile at the configured interval.
+ * HistoIntervalLogger writes encoded histograms from each frame of the {@link MetricsSnapshotScheduler}.
+ * Any metrics which both match the pattern and which provide {@link EncodableHistogram}s are written to
+ * the configured logfile at the configured interval.
  */
-public class HistoIntervalLogger extends CapabilityHook<HdrDeltaHistogramAttachment> implements Runnable, MetricsCloseable {
+public class HistoIntervalLogger extends NBBaseComponent implements MetricsFrameListener, MetricsCloseable {
     private final static Logger logger = LogManager.getLogger(HistoIntervalLogger.class);
 
     private final String sessionName;
-    //    private final long intervalMillis;
     private final long intervalLength;
 
     public File getLogfile() {
@@ -50,10 +48,8 @@ public class HistoIntervalLogger extends CapabilityHook<HdrDeltaHistogramAttachm
     private PrintStream logStream;
     private HistogramLogWriter writer;
     private final Pattern pattern;
-
-    private final List<WriterTarget> targets = new CopyOnWriteArrayList<>();
-    private PeriodicRunnable<HistoIntervalLogger> executor;
-    private long lastRunTime;
+    private final MetricsSnapshotScheduler scheduler;
+    private boolean closed;
 
     public HistoIntervalLogger(NBComponent parent, String sessionName, File file, Pattern pattern, long intervalLength) {
         super(parent);
@@ -62,6 +58,8 @@ public class HistoIntervalLogger extends CapabilityHook<HdrDeltaHistogramAttachm
         this.pattern = pattern;
         this.intervalLength = intervalLength;
         startLogging();
+        this.scheduler = MetricsSnapshotScheduler.lookup(this);
+        scheduler.subscribe(this, intervalLength);
     }
 
     public boolean matches(String metricName) {
@@ -87,9 +85,6 @@ public class HistoIntervalLogger extends CapabilityHook<HdrDeltaHistogramAttachm
         } catch (FileNotFoundException e) {
             throw new RuntimeException("Error while starting histogram log writer", e);
         }
-
-        this.executor = new PeriodicRunnable<HistoIntervalLogger>(this.getInterval(),this);
-        executor.startDaemonThread();
     }
 
     public String toString() {
@@ -101,62 +96,41 @@ public class HistoIntervalLogger extends CapabilityHook<HdrDeltaHistogramAttachm
     }
 
     @Override
-    public synchronized void onCapableAdded(String name, HdrDeltaHistogramAttachment chainedHistogram) {
-        if (pattern.matcher(name).matches()) {
-            this.targets.add(new WriterTarget(name,chainedHistogram.attachHdrDeltaHistogram()));
+    public synchronized void onFrame(MetricsFrame frame) {
+        if (closed) {
+            return;
         }
-    }
-
-    @Override
-    public synchronized void onCapableRemoved(String name, HdrDeltaHistogramAttachment capable) {
-        this.targets.remove(new WriterTarget(name,null));
-    }
-
-    @Override
-    protected Class<HdrDeltaHistogramAttachment> getCapabilityClass() {
-        return HdrDeltaHistogramAttachment.class;
-    }
-
-    @Override
-    public void run() {
-        for (WriterTarget target : targets) {
-            writer.outputIntervalHistogram(target.histoProvider.getNextHdrDeltaHistogram());
+        for (MetricsFrame.Sample sample : frame.getSamples()) {
+            Histogram histogram = sample.getHistogram();
+            if (histogram != null && matches(sample.getLabels().linearizeAsMetrics())) {
+                writer.outputIntervalHistogram(histogram);
+            }
         }
-        lastRunTime = System.currentTimeMillis();
     }
 
+    /**
+     * Write the last partial interval, if any, before closing the log.
+     */
     @Override
     public void closeMetrics() {
-        executor.close();
-        long potentialWriteTime = System.currentTimeMillis();
-        if (lastRunTime +1000 < potentialWriteTime) {
-            logger.debug(() -> "Writing last partial histo log:" + this);
-            run();
-        } else {
-            logger.debug("Not writing last partial histo log <1s:" + this);
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
         }
-        logStream.close();
-    }
-
-    private static class WriterTarget implements Comparable<WriterTarget> {
-
-        public String name;
-        public HdrDeltaHistogramProvider histoProvider;
-
-        public WriterTarget(String name, HdrDeltaHistogramProvider attach) {
-            this.name = name;
-            this.histoProvider = attach;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            return name.equals(((WriterTarget)obj).name);
+        logger.debug(() -> "Writing last partial histo log:" + this);
+        scheduler.flush(this);
+        scheduler.unsubscribe(this);
+        synchronized (this) {
+            closed = true;
+            logStream.close();
         }
+    }
 
-        @Override
-        public int compareTo(WriterTarget obj) {
-            return name.compareTo(obj.name);
-        }
+    @Override
+    protected void teardown() {
+        closeMetrics();
+        super.teardown();
     }
 
 }
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.nb.api.engine.metrics;
+
+import com.codahale.metrics.*;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetric;
+import io.nosqlbench.nb.api.labels.NBLabeledElement;
+import io.nosqlbench.nb.api.labels.NBLabels;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <P>A single consistent view of a set of metrics, as taken once per interval by the
+ * {@link MetricsSnapshotScheduler} and shared by all reporters. Each {@link Sample} holds the
+ * values which reporters used to read from the live metrics directly: counts, gauge values,
+ * moving average rates, and the histogram data for the interval.</P>
+ *
+ * <P>Frames are not modified while they are being delivered. The scheduler reuses the sample
+ * buffers for later intervals, so listeners must copy anything which they need to retain after
+ * {@link MetricsFrameListener#onFrame(MetricsFrame)} returns.</P>
+ */
+public final class MetricsFrame {
+
+    private final long startMillis;
+    private final long endMillis;
+    private final List<Sample> samples;
+
+    public MetricsFrame(long startMillis, long endMillis, List<Sample> samples) {
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.samples = List.copyOf(samples);
+    }
+
+    /**
+     * Capture a frame from live metrics directly, without buffer reuse. This is meant for one-off
+     * reports like end-of-session summaries.
+     */
+    public static MetricsFrame capture(long startMillis, List<? extends NBMetric> metrics) {
+        List<Sample> samples = new ArrayList<>(metrics.size());
+        for (NBMetric metric : metrics) {
+            samples.add(Sample.of(metric));
+        }
+        return new MetricsFrame(startMillis, System.currentTimeMillis(), samples);
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getEndMillis() {
+        return endMillis;
+    }
+
+    public List<Sample> getSamples() {
+        return samples;
+    }
+
+    public List<NBMetric> getMetrics() {
+        List<NBMetric> metrics = new ArrayList<>(samples.size());
+        for (Sample sample : samples) {
+            if (sample.getMetric() instanceof NBMetric nbMetric) {
+                metrics.add(nbMetric);
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * @return the samples of metrics which are of the given type
+     */
+    public List<Sample> samplesOf(Class<?> metricType) {
+        List<Sample> found = new ArrayList<>();
+        for (Sample sample : samples) {
+            if (metricType.isInstance(sample.getMetric())) {
+                found.add(sample);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public String toString() {
+        return "frame[" + startMillis + ".." + endMillis + "] " + samples.size() + " samples";
+    }
+
+    /**
+     * The values of a single metric within a frame. The presence of each kind of value follows the
+     * capabilities of the metric, so a timer has a count, rates and a snapshot, while a gauge only
+     * has a value.
+     */
+    public static final class Sample {
+        private final NBLabeledElement metric;
+        private boolean counting;
+        private long count;
+        private boolean gauge;
+        private Object value;
+        private boolean metered;
+        private double meanRate;
+        private double oneMinuteRate;
+        private double fiveMinuteRate;
+        private double fifteenMinuteRate;
+        private org.HdrHistogram.Histogram histogram;
+        private Snapshot snapshot;
+
+        Sample(NBLabeledElement metric) {
+            this.metric = metric;
+        }
+
+        /**
+         * Read the current values of a metric. Histogram data is read through
+         * {@link Sampling#getSnapshot()}, as reporters did before frames were introduced.
+         */
+        public static Sample of(Object metric) {
+            if (!(metric instanceof NBLabeledElement labeled)) {
+                throw new RuntimeException(
+                    "Unknown label set for metric type '" + metric.getClass().getCanonicalName() + '\''
+                );
+            }
+            Sample sample = new Sample(labeled);
+            sample.readValues(metric);
+            if (metric instanceof Sampling sampling) {
+                sample.snapshot = sampling.getSnapshot();
+            }
+            return sample;
+        }
+
+        /**
+         * Read the current values of the metric, copying interval histogram data into the buffer
+         * which this sample kept from the previous interval.
+         */
+        void capture() {
+            readValues(metric);
+            if (metric instanceof HdrDeltaHistogramProvider provider) {
+                histogram = provider.getNextHdrDeltaHistogram(histogram);
+                snapshot = new DeltaHistogramSnapshot(histogram);
+            } else if (metric instanceof Sampling sampling) {
+                snapshot = sampling.getSnapshot();
+            }
+        }
+
+        private void readValues(Object source) {
+            if (source instanceof Counting c) {
+                counting = true;
+                count = c.getCount();
+            }
+            if (source instanceof Gauge<?> g) {
+                gauge = true;
+                value = g.getValue();
+            }
+            if (source instanceof Metered m) {
+                metered = true;
+                meanRate = m.getMeanRate();
+                oneMinuteRate = m.getOneMinuteRate();
+                fiveMinuteRate = m.getFiveMinuteRate();
+                fifteenMinuteRate = m.getFifteenMinuteRate();
+            }
+        }
+
+        /**
+         * Fold a later sample of the same metric into this one. Point-in-time values are replaced,
+         * while histogram data is added, so that this sample covers both intervals.
+         */
+        void accumulate(Sample later) {
+            counting = later.counting;
+            count = later.count;
+            gauge = later.gauge;
+            value = later.value;
+            metered = later.metered;
+            meanRate = later.meanRate;
+            oneMinuteRate = later.oneMinuteRate;
+            fiveMinuteRate = later.fiveMinuteRate;
+            fifteenMinuteRate = later.fifteenMinuteRate;
+            if (later.histogram != null) {
+                if (histogram == null) {
+                    histogram = new org.HdrHistogram.Histogram(later.histogram.getNumberOfSignificantValueDigits());
+                }
+                boolean first = histogram.getTotalCount() == 0 && snapshot == null;
+                histogram.add(later.histogram);
+                if (first) {
+                    histogram.setStartTimeStamp(later.histogram.getStartTimeStamp());
+                }
+                histogram.setEndTimeStamp(later.histogram.getEndTimeStamp());
+                histogram.setTag(later.histogram.getTag());
+                snapshot = new DeltaHistogramSnapshot(histogram);
+            } else {
+                snapshot = later.snapshot;
+            }
+        }
+
+        /**
+         * Clear accumulated data before this sample is reused for a new period.
+         */
+        void reset() {
+            if (histogram != null) {
+                histogram.reset();
+            }
+            snapshot = null;
+        }
+
+        public NBLabeledElement getMetric() {
+            return metric;
+        }
+
+        public NBLabels getLabels() {
+            return metric.getLabels();
+        }
+
+        public boolean isCounting() {
+            return counting;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public boolean isGauge() {
+            return gauge;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public boolean isMetered() {
+            return metered;
+        }
+
+        public double getMeanRate() {
+            return meanRate;
+        }
+
+        public double getOneMinuteRate() {
+            return oneMinuteRate;
+        }
+
+        public double getFiveMinuteRate() {
+            return fiveMinuteRate;
+        }
+
+        public double getFifteenMinuteRate() {
+            return fifteenMinuteRate;
+        }
+
+        public boolean isSampling() {
+            return snapshot != null;
+        }
+
+        /**
+         * @return the histogram summary for the interval, or null if the metric does not sample values
+         */
+        public Snapshot getSnapshot() {
+            return snapshot;
+        }
+
+        /**
+         * @return the HDR histogram for the interval, or null if the metric does not provide one
+         */
+        public org.HdrHistogram.Histogram getHistogram() {
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.nb.api.engine.metrics;
+
+/**
+ * A receiver of the metrics frames which are published by a {@link MetricsSnapshotScheduler}.
+ */
+public interface MetricsFrameListener {
+
+    /**
+     * Report the given frame. This is called on the scheduler thread, so implementations should not
+     * block for longer than needed. The frame is only valid for the duration of this call.
+     *
+     * @param frame the metrics for the interval of this listener
+     */
+    void onFrame(MetricsFrame frame);
+}
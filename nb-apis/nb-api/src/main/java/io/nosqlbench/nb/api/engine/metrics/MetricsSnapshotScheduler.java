@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.nb.api.engine.metrics;
+
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetric;
+import io.nosqlbench.nb.api.labels.NBLabeledElement;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * <P>Takes one snapshot of all metrics in a component tree for all reporters, and publishes it as
+ * a {@link MetricsFrame} to the {@link MetricsFrameListener}s which are subscribed. Without this,
+ * each reporter would walk the metrics on its own schedule, and delta histograms would only be
+ * seen by whichever reporter read them first.</P>
+ *
+ * <P>There is one scheduler for each component tree, found with {@link #lookup(NBComponent)}.
+ * Listeners subscribe with their own reporting interval. A snapshot is taken whenever any
+ * interval is due, and is folded into the pending data of every other interval, so each listener
+ * sees all data for its interval. The cost of a snapshot depends on the number of metrics and
+ * distinct intervals, not on the number of listeners. Histogram buffers are reused from one
+ * snapshot to the next.</P>
+ */
+public class MetricsSnapshotScheduler extends NBBaseComponent implements Runnable {
+    private static final Logger logger = LogManager.getLogger(MetricsSnapshotScheduler.class);
+    private static final Map<NBComponent, MetricsSnapshotScheduler> schedulers = new IdentityHashMap<>();
+
+    private final NBComponent root;
+    private final Lock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<Long, Interval> intervals = new TreeMap<>();
+    private final Map<NBLabeledElement, MetricsFrame.Sample> buffers = new IdentityHashMap<>();
+    private final Thread thread;
+    private final Thread shutdownHook;
+    private long lastSnapshotMillis = System.currentTimeMillis();
+    private boolean running = true;
+
+    private MetricsSnapshotScheduler(NBComponent root) {
+        super(root, NBLabels.forKV("_type", "metrics-snapshots"));
+        this.root = root;
+        this.shutdownHook = new Thread(this::flushAll, "shutdownhook-METRICS-SNAPSHOTS");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        this.thread = Thread.ofVirtual().name("METRICS-SNAPSHOTS").start(this);
+    }
+
+    /**
+     * @return the scheduler for the component tree which contains the given component
+     */
+    public static MetricsSnapshotScheduler lookup(NBComponent component) {
+        NBComponent root = component;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        synchronized (schedulers) {
+            return schedulers.computeIfAbsent(root, MetricsSnapshotScheduler::new);
+        }
+    }
+
+    public void subscribe(MetricsFrameListener listener, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new RuntimeException("The reporting interval for " + listener + " must be positive, but was " + intervalMillis);
+        }
+        lock.lock();
+        try {
+            intervals.computeIfAbsent(intervalMillis, Interval::new).listeners.add(listener);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void unsubscribe(MetricsFrameListener listener) {
+        lock.lock();
+        try {
+            intervals.values().removeIf(interval -> {
+                interval.listeners.remove(listener);
+                return interval.listeners.isEmpty();
+            });
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take a snapshot now and publish all pending data for the interval of the given listener,
+     * without waiting for the end of the interval. Other intervals keep the new data pending.
+     */
+    public void flush(MetricsFrameListener listener) {
+        lock.lock();
+        try {
+            snapshot(System.currentTimeMillis(), interval -> interval.listeners.contains(listener));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushAll() {
+        lock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            snapshot(System.currentTimeMillis(), interval -> true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            lock.lock();
+            try {
+                if (!running) {
+                    return;
+                }
+                long now = System.currentTimeMillis();
+                long nextDue = intervals.values().stream().mapToLong(i -> i.nextDue).min().orElse(Long.MAX_VALUE);
+                if (nextDue > now) {
+                    long waitMillis = (nextDue == Long.MAX_VALUE) ? TimeUnit.SECONDS.toMillis(60) : nextDue - now;
+                    changed.await(waitMillis, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                snapshot(now, interval -> interval.nextDue <= now);
+            } catch (InterruptedException ignored) {
+            } catch (Exception e) {
+                logger.error("error while taking metrics snapshot: " + e, e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Capture all metrics once, then offer the frame to every interval, publishing it for those
+     * which are due. Must be called while holding the lock.
+     */
+    private void snapshot(long now, Predicate<Interval> due) {
+        if (intervals.isEmpty()) {
+            return;
+        }
+        MetricsFrame frame = new MetricsFrame(lastSnapshotMillis, now, capture());
+        lastSnapshotMillis = now;
+        for (Interval interval : intervals.values()) {
+            interval.offer(frame, now, due.test(interval));
+        }
+    }
+
+    private List<MetricsFrame.Sample> capture() {
+        List<NBMetric> metrics = root.find().metrics();
+        List<MetricsFrame.Sample> samples = new ArrayList<>(metrics.size());
+        Set<NBLabeledElement> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (NBMetric metric : metrics) {
+            MetricsFrame.Sample sample = buffers.computeIfAbsent(metric, MetricsFrame.Sample::new);
+            try {
+                sample.capture();
+                samples.add(sample);
+                seen.add(metric);
+            } catch (Exception e) {
+                logger.warn("unable to read metric " + metric.getLabels().linearizeAsMetrics() + ": " + e);
+            }
+        }
+        buffers.keySet().retainAll(seen);
+        return samples;
+    }
+
+    @Override
+    protected void teardown() {
+        lock.lock();
+        try {
+            running = false;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            logger.warn("interrupted while joining metrics snapshot thread");
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException alreadyShuttingDown) {
+            // the hook has already been started, and will see that this scheduler is no longer running
+        }
+        synchronized (schedulers) {
+            schedulers.remove(root);
+        }
+        super.teardown();
+    }
+
+    /**
+     * The listeners which share a reporting interval, and the data which is pending for them
+     * since their last frame.
+     */
+    private static final class Interval {
+        private final long millis;
+        private final List<MetricsFrameListener> listeners = new CopyOnWriteArrayList<>();
+        private final Map<NBLabeledElement, MetricsFrame.Sample> pool = new IdentityHashMap<>();
+        private final Map<NBLabeledElement, MetricsFrame.Sample> pending = new LinkedHashMap<>();
+        private long periodStart = System.currentTimeMillis();
+        private long nextDue;
+
+        private Interval(long millis) {
+            this.millis = millis;
+            this.nextDue = periodStart + millis;
+        }
+
+        private void offer(MetricsFrame frame, long now, boolean due) {
+            if (due && pending.isEmpty()) {
+                publish(new MetricsFrame(periodStart, now, frame.getSamples()));
+            } else {
+                for (MetricsFrame.Sample sample : frame.getSamples()) {
+                    MetricsFrame.Sample accumulated = pending.get(sample.getMetric());
+                    if (accumulated == null) {
+                        accumulated = pool.computeIfAbsent(sample.getMetric(), MetricsFrame.Sample::new);
+                        accumulated.reset();
+                        pending.put(sample.getMetric(), accumulated);
+                    }
+                    accumulated.accumulate(sample);
+                }
+                if (due) {
+                    publish(new MetricsFrame(periodStart, now, new ArrayList<>(pending.values())));
+                    pool.keySet().retainAll(pending.keySet());
+                    pending.clear();
+                }
+            }
+            if (due) {
+                periodStart = now;
+                long following = nextDue + millis;
+                nextDue = (now < nextDue || following <= now) ? now + millis : following;
+            }
+        }
+
+        private void publish(MetricsFrame frame) {
+            for (MetricsFrameListener listener : listeners) {
+                try {
+                    listener.onFrame(frame);
+                } catch (Exception e) {
+                    logger.error("error while reporting metrics to " + listener + ": " + e, e);
+                }
+            }
+        }
+    }
+}
@@ -121,6 +121,11 @@ public class NBMetricHistogram extends Histogram implements DeltaSnapshotter, Hd
         return hdrDeltaReservoir.getNextHdrHistogram();
     }
 
+    @Override
+    public org.HdrHistogram.Histogram getNextHdrDeltaHistogram(org.HdrHistogram.Histogram into) {
+        return hdrDeltaReservoir.getNextHdrHistogram(into);
+    }
+
     @Override
     public NBLabels getLabels() {
         return this.labels;
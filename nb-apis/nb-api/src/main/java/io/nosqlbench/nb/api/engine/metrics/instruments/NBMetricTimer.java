@@ -16,6 +16,8 @@
 
 package io.nosqlbench.nb.api.engine.metrics.instruments;
 
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.Timer;
 import io.nosqlbench.nb.api.engine.metrics.*;
 import io.nosqlbench.nb.api.engine.metrics.*;
@@ -33,6 +35,7 @@ public class NBMetricTimer extends Timer implements DeltaSnapshotter, HdrDeltaHi
     private long cacheExpiry;
     private List<Timer> mirrors;
     private final NBLabels labels;
+    private final Meter meter;
 
     public NBMetricTimer(
         final NBLabels labels,
@@ -40,7 +43,22 @@ public class NBMetricTimer extends Timer implements DeltaSnapshotter, HdrDeltaHi
         String description,
         MetricCategory... categories
     ) {
-        super(deltaHdrHistogramReservoir);
+        this(labels, deltaHdrHistogramReservoir, new Meter(), description, categories);
+    }
+
+    /**
+     * Create a timer with a specific meter, such as a {@link CountingMeter} for timers which are
+     * updated at high rates by many threads.
+     */
+    public NBMetricTimer(
+        final NBLabels labels,
+        final DeltaHdrHistogramReservoir deltaHdrHistogramReservoir,
+        final Meter meter,
+        String description,
+        MetricCategory... categories
+    ) {
+        super(meter, new com.codahale.metrics.Histogram(deltaHdrHistogramReservoir), Clock.defaultClock());
+        this.meter = meter;
         this.description = description;
         this.categories = categories;
         this.labels = labels;
@@ -69,7 +87,8 @@ public class NBMetricTimer extends Timer implements DeltaSnapshotter, HdrDeltaHi
     public synchronized NBMetricTimer attachHdrDeltaHistogram() {
         if (null == mirrors) this.mirrors = new CopyOnWriteArrayList<>();
         final DeltaHdrHistogramReservoir sameConfigReservoir = deltaHdrHistogramReservoir.copySettings();
-        final NBMetricTimer mirror = new NBMetricTimer(labels, sameConfigReservoir, description, categories);
+        final Meter sameTypeMeter = (meter instanceof CountingMeter) ? new CountingMeter() : new Meter();
+        final NBMetricTimer mirror = new NBMetricTimer(labels, sameConfigReservoir, sameTypeMeter, description, categories);
         this.mirrors.add(mirror);
         return mirror;
     }
@@ -85,6 +104,11 @@ public class NBMetricTimer extends Timer implements DeltaSnapshotter, HdrDeltaHi
         return deltaHdrHistogramReservoir.getNextHdrHistogram();
     }
 
+    @Override
+    public Histogram getNextHdrDeltaHistogram(Histogram into) {
+        return deltaHdrHistogramReservoir.getNextHdrHistogram(into);
+    }
+
     @Override
     public void update(final long duration, final TimeUnit unit) {
         super.update(duration, unit);
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of a metrics journal file. All values are big-endian.
+ *
+ * <pre>{@code
+ * file    := header block*
+ * header  := magic:int version:short framesPerIndex:short startMillis:long
+ * block   := type:byte length:int payload[length]
+ * series  := id:varint kind:byte handleLength:varint handle:utf8[handleLength]
+ * frame   := startMillis:long endMillis:long samples:int sample*
+ * sample  := seriesId:varint
+ *            [count delta:zigzag varint]          (COUNTING)
+ *            [value:double]                       (GAUGE)
+ *            [mean m1 m5 m15:float]               (METERED)
+ *            [length:varint hdr:bytes[length]]    (HISTOGRAM, compressed HdrHistogram encoding)
+ * index   := previousIndex:long seriesCount:int seriesOffset:long* frameCount:int (start:long end:long offset:long)*
+ * trailer := lastIndex:long magic:int
+ * }</pre>
+ *
+ * <p>Counts are written as deltas from the previous count of the same series. An index block is written after
+ * every group of frames, and the delta base of every series is reset to zero after it, so that any group can be
+ * decoded without reading the frames before it. A journal which was closed cleanly ends with a trailer, from
+ * which all index blocks can be found without scanning the file.</p>
+ */
+final class JournalFormat {
+
+    static final int MAGIC = 0x4E424D4A; // "NBMJ"
+    static final short VERSION = 1;
+    static final int FILE_HEADER_BYTES = 16;
+    static final int BLOCK_HEADER_BYTES = 5;
+    static final int TRAILER_BYTES = BLOCK_HEADER_BYTES + Long.BYTES + Integer.BYTES;
+
+    static final byte SERIES_BLOCK = 1;
+    static final byte FRAME_BLOCK = 2;
+    static final byte INDEX_BLOCK = 3;
+    static final byte TRAILER_BLOCK = 4;
+
+    static final int COUNTING = 1;
+    static final int GAUGE = 2;
+    static final int METERED = 4;
+    static final int HISTOGRAM = 8;
+
+    private JournalFormat() {
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static String kindName(int kind) {
+        StringBuilder sb = new StringBuilder();
+        if ((kind & COUNTING) != 0) sb.append("count,");
+        if ((kind & GAUGE) != 0) sb.append("gauge,");
+        if ((kind & METERED) != 0) sb.append("rates,");
+        if ((kind & HISTOGRAM) != 0) sb.append("histogram,");
+        return sb.isEmpty() ? "none" : sb.substring(0, sb.length() - 1);
+    }
+}
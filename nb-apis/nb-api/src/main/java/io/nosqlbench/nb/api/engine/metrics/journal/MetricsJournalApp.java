@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.journal;
+
+import io.nosqlbench.nb.annotations.Service;
+import io.nosqlbench.nb.api.apps.BundledApp;
+import org.HdrHistogram.HistogramLogWriter;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+/**
+ * Inspect and extract data from metrics journals which were written with <pre>--report-journal-to</pre>.
+ */
+@Command(
+    name = "journal",
+    description = "Inspect and extract data from a metrics journal",
+    mixinStandardHelpOptions = true,
+    subcommands = {MetricsJournalApp.Dump.class, MetricsJournalApp.Query.class}
+)
+@Service(value = BundledApp.class, selector = "journal")
+public class MetricsJournalApp implements BundledApp, Callable<Integer> {
+
+    public static void main(String[] args) {
+        System.exit(new MetricsJournalApp().applyAsInt(args));
+    }
+
+    @Override
+    public int applyAsInt(String[] args) {
+        return new CommandLine(new MetricsJournalApp()).execute(args);
+    }
+
+    @Override
+    public Integer call() {
+        new CommandLine(this).usage(System.out);
+        return 2;
+    }
+
+    @Command(name = "dump", description = "Summarize the series and frames of a metrics journal")
+    static class Dump implements Callable<Integer> {
+
+        @Parameters(index = "0", description = "The journal file")
+        Path journal;
+
+        @Option(names = {"--frames"}, description = "List every frame, not only the summary")
+        boolean listFrames;
+
+        @Override
+        public Integer call() {
+            try (MetricsJournalReader reader = new MetricsJournalReader(journal)) {
+                PrintStream out = System.out;
+                List<MetricsJournalReader.FrameRef> frames = reader.getFrames();
+                out.println("journal: " + journal);
+                out.println("started: " + Instant.ofEpochMilli(reader.getStartMillis()));
+                out.println("closed cleanly: " + reader.isComplete());
+                out.println("frames: " + frames.size());
+                if (!frames.isEmpty()) {
+                    out.println("range: " + Instant.ofEpochMilli(frames.getFirst().startMillis())
+                        + " .. " + Instant.ofEpochMilli(frames.getLast().endMillis()));
+                }
+                out.println("series: " + reader.getSeries().size());
+                for (MetricsJournalReader.Series series : reader.getSeries()) {
+                    out.printf(Locale.US, "%6d %-24s %s%n", series.id(), series.kindName(), series.handle());
+                }
+                if (listFrames) {
+                    for (MetricsJournalReader.FrameRef frame : frames) {
+                        out.printf(Locale.US, "frame %d..%d @%d%n", frame.startMillis(), frame.endMillis(), frame.offset());
+                    }
+                }
+            }
+            return 0;
+        }
+    }
+
+    @Command(name = "query", description = "Extract the samples of matching series within a time range")
+    static class Query implements Callable<Integer> {
+
+        @Parameters(index = "0", description = "The journal file")
+        Path journal;
+
+        @Option(names = {"--series"}, description = "A regex which must match the series label handle")
+        String series = ".*";
+
+        @Option(names = {"--from"}, description = "The earliest frame end time, as epoch millis or an ISO-8601 instant")
+        String from;
+
+        @Option(names = {"--to"}, description = "The latest frame end time, as epoch millis or an ISO-8601 instant")
+        String to;
+
+        @Option(names = {"--format"}, description = "Output format, one of csv or hlog (HdrHistogram interval log)")
+        String format = "csv";
+
+        @Option(names = {"--out"}, description = "The file to write to, instead of stdout")
+        Path outfile;
+
+        @Override
+        public Integer call() throws FileNotFoundException {
+            Pattern pattern = Pattern.compile(series);
+            long fromMillis = from == null ? Long.MIN_VALUE : parseTime(from);
+            long toMillis = to == null ? Long.MAX_VALUE : parseTime(to);
+            PrintStream out = outfile == null ? System.out : new PrintStream(outfile.toFile());
+            try (MetricsJournalReader reader = new MetricsJournalReader(journal)) {
+                switch (format) {
+                    case "csv" -> {
+                        out.println("start,end,series,count,value,min,max,mean,p50,p90,p99,p999,mean_rate,m1_rate,m5_rate,m15_rate");
+                        reader.read(fromMillis, toMillis, s -> pattern.matcher(s.handle()).find(), sample -> out.println(toCsv(sample)));
+                    }
+                    case "hlog" -> {
+                        HistogramLogWriter writer = new HistogramLogWriter(out);
+                        writer.outputComment("histograms from metrics journal " + journal);
+                        writer.outputLogFormatVersion();
+                        writer.outputStartTime(reader.getStartMillis());
+                        writer.setBaseTime(reader.getStartMillis());
+                        writer.outputLegend();
+                        reader.read(fromMillis, toMillis, s -> pattern.matcher(s.handle()).find(), sample -> {
+                            if (sample.histogram() != null) {
+                                writer.outputIntervalHistogram(sample.histogram());
+                            }
+                        });
+                    }
+                    default -> throw new RuntimeException("Unknown format '" + format + "', must be one of csv or hlog");
+                }
+            } finally {
+                out.flush();
+                if (outfile != null) {
+                    out.close();
+                }
+            }
+            return 0;
+        }
+
+        private static long parseTime(String spec) {
+            return spec.matches("-?[0-9]+") ? Long.parseLong(spec) : Instant.parse(spec).toEpochMilli();
+        }
+
+        private static String toCsv(MetricsJournalReader.JournalSample sample) {
+            int kind = sample.series().kind();
+            StringBuilder sb = new StringBuilder();
+            sb.append(sample.startMillis()).append(',').append(sample.endMillis()).append(',');
+            sb.append('"').append(sample.series().handle().replace("\"", "\"\"")).append('"').append(',');
+            if ((kind & JournalFormat.COUNTING) != 0) sb.append(sample.count());
+            sb.append(',');
+            if ((kind & JournalFormat.GAUGE) != 0) sb.append(sample.value());
+            sb.append(',');
+            if (sample.histogram() != null) {
+                sb.append(sample.histogram().getMinValue()).append(',')
+                    .append(sample.histogram().getMaxValue()).append(',')
+                    .append(sample.histogram().getMean()).append(',')
+                    .append(sample.histogram().getValueAtPercentile(50.0d)).append(',')
+                    .append(sample.histogram().getValueAtPercentile(90.0d)).append(',')
+                    .append(sample.histogram().getValueAtPercentile(99.0d)).append(',')
+                    .append(sample.histogram().getValueAtPercentile(99.9d)).append(',');
+            } else {
+                sb.append(",,,,,,,");
+            }
+            if ((kind & JournalFormat.METERED) != 0) {
+                sb.append(sample.meanRate()).append(',')
+                    .append(sample.oneMinuteRate()).append(',')
+                    .append(sample.fiveMinuteRate()).append(',')
+                    .append(sample.fifteenMinuteRate());
+            } else {
+                sb.append(",,,");
+            }
+            return sb.toString();
+        }
+    }
+}
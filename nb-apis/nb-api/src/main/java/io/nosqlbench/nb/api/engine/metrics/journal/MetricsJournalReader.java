@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.journal;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+
+import static io.nosqlbench.nb.api.engine.metrics.journal.JournalFormat.*;
+
+/**
+ * Random access to a metrics journal which was written by {@link MetricsJournalWriter}. The file is mapped into
+ * memory, and only the index blocks are read up front. Frames are decoded on demand, starting from the beginning
+ * of the index group which contains them.
+ *
+ * <p>A journal without a trailer, as left behind by a process which did not exit cleanly, is read by walking the
+ * block headers instead. A partial block at the end of such a file is ignored.</p>
+ */
+public class MetricsJournalReader implements AutoCloseable {
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    private final Path path;
+    private final Arena arena = Arena.ofShared();
+    private final MemorySegment segment;
+    private final long startMillis;
+    private final Map<Integer, Series> series = new TreeMap<>();
+    private final List<FrameRef> frames = new ArrayList<>();
+    private final boolean complete;
+
+    public record Series(int id, int kind, String handle) {
+        public String kindName() {
+            return JournalFormat.kindName(kind);
+        }
+    }
+
+    /**
+     * The location of a frame, and the position of the first frame in its index group within
+     * {@link #getFrames()}.
+     */
+    public record FrameRef(long startMillis, long endMillis, long offset, int groupStart) {
+    }
+
+    /**
+     * One decoded sample. Fields which do not apply to the kind of the series are zero or null.
+     */
+    public record JournalSample(Series series, long startMillis, long endMillis, long count, double value,
+                                double meanRate, double oneMinuteRate, double fiveMinuteRate,
+                                double fifteenMinuteRate, Histogram histogram) {
+    }
+
+    public MetricsJournalReader(Path path) {
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        } catch (IOException e) {
+            arena.close();
+            throw new RuntimeException("Unable to map metrics journal '" + path + "': " + e, e);
+        }
+        if (segment.byteSize() < FILE_HEADER_BYTES || segment.get(INT, 0) != MAGIC) {
+            arena.close();
+            throw new RuntimeException("'" + path + "' is not a metrics journal");
+        }
+        short version = segment.get(SHORT, 4);
+        if (version != VERSION) {
+            arena.close();
+            throw new RuntimeException("metrics journal '" + path + "' has unsupported version " + version);
+        }
+        this.startMillis = segment.get(LONG, 8);
+        this.complete = hasTrailer();
+        if (complete) {
+            readIndexes();
+        } else {
+            scanBlocks();
+        }
+    }
+
+    private boolean hasTrailer() {
+        long at = segment.byteSize() - TRAILER_BYTES;
+        return at >= FILE_HEADER_BYTES
+            && segment.get(ValueLayout.JAVA_BYTE, at) == TRAILER_BLOCK
+            && segment.get(INT, at + 1) == Long.BYTES + Integer.BYTES
+            && segment.get(INT, at + BLOCK_HEADER_BYTES + Long.BYTES) == MAGIC;
+    }
+
+    /**
+     * Follow the chain of index blocks back from the trailer, then register their contents in file order.
+     */
+    private void readIndexes() {
+        Deque<Long> indexes = new ArrayDeque<>();
+        long index = segment.get(LONG, segment.byteSize() - TRAILER_BYTES + BLOCK_HEADER_BYTES);
+        while (index >= 0) {
+            indexes.push(index);
+            index = segment.get(LONG, index + BLOCK_HEADER_BYTES);
+        }
+        for (long offset : indexes) {
+            long at = offset + BLOCK_HEADER_BYTES + Long.BYTES;
+            int seriesCount = segment.get(INT, at);
+            at += Integer.BYTES;
+            for (int i = 0; i < seriesCount; i++) {
+                readSeries(segment.get(LONG, at));
+                at += Long.BYTES;
+            }
+            int frameCount = segment.get(INT, at);
+            at += Integer.BYTES;
+            int groupStart = frames.size();
+            for (int i = 0; i < frameCount; i++) {
+                frames.add(new FrameRef(segment.get(LONG, at), segment.get(LONG, at + 8), segment.get(LONG, at + 16), groupStart));
+                at += 3 * Long.BYTES;
+            }
+        }
+    }
+
+    /**
+     * Walk all block headers, reading series and frame locations without decoding frame contents.
+     */
+    private void scanBlocks() {
+        long at = FILE_HEADER_BYTES;
+        int groupStart = 0;
+        while (at + BLOCK_HEADER_BYTES <= segment.byteSize()) {
+            byte type = segment.get(ValueLayout.JAVA_BYTE, at);
+            int length = segment.get(INT, at + 1);
+            if (length < 0 || at + BLOCK_HEADER_BYTES + length > segment.byteSize()) {
+                break;
+            }
+            switch (type) {
+                case SERIES_BLOCK -> readSeries(at);
+                case FRAME_BLOCK -> frames.add(new FrameRef(
+                    segment.get(LONG, at + BLOCK_HEADER_BYTES),
+                    segment.get(LONG, at + BLOCK_HEADER_BYTES + 8),
+                    at,
+                    groupStart
+                ));
+                case INDEX_BLOCK -> groupStart = frames.size();
+                default -> {
+                }
+            }
+            at += BLOCK_HEADER_BYTES + length;
+        }
+    }
+
+    private void readSeries(long offset) {
+        Cursor cursor = new Cursor(offset + BLOCK_HEADER_BYTES);
+        int id = (int) cursor.varLong();
+        int kind = cursor.readByte();
+        int length = (int) cursor.varLong();
+        String handle = new String(segment.asSlice(cursor.at, length).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+        series.put(id, new Series(id, kind, handle));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * @return true if the journal was closed cleanly, and was read from its index blocks
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public Collection<Series> getSeries() {
+        return Collections.unmodifiableCollection(series.values());
+    }
+
+    public List<FrameRef> getFrames() {
+        return Collections.unmodifiableList(frames);
+    }
+
+    /**
+     * Decode the samples of all frames which end within [fromMillis, toMillis], for the series which are
+     * accepted by the filter. Histograms of other series are skipped without being decoded.
+     */
+    public void read(long fromMillis, long toMillis, Predicate<Series> filter, Consumer<JournalSample> sink) {
+        int first = firstFrameEndingAtOrAfter(fromMillis);
+        if (first >= frames.size()) {
+            return;
+        }
+        Map<Integer, Boolean> accepted = new HashMap<>();
+        long[] counts = new long[series.isEmpty() ? 0 : Collections.max(series.keySet()) + 1];
+        int groupStart = -1;
+        for (int i = frames.get(first).groupStart(); i < frames.size(); i++) {
+            FrameRef frame = frames.get(i);
+            if (frame.endMillis() > toMillis) {
+                break;
+            }
+            if (frame.groupStart() != groupStart) {
+                groupStart = frame.groupStart();
+                Arrays.fill(counts, 0L);
+            }
+            boolean emit = i >= first;
+            Cursor cursor = new Cursor(frame.offset() + BLOCK_HEADER_BYTES + 2 * Long.BYTES);
+            int samples = cursor.readInt();
+            for (int s = 0; s < samples; s++) {
+                Series current = series.get((int) cursor.varLong());
+                boolean include = emit && accepted.computeIfAbsent(current.id(), id -> filter.test(current));
+                long count = 0L;
+                double value = 0.0d;
+                double mean = 0.0d, m1 = 0.0d, m5 = 0.0d, m15 = 0.0d;
+                Histogram histogram = null;
+                if ((current.kind() & COUNTING) != 0) {
+                    count = counts[current.id()] + unzigzag(cursor.varLong());
+                    counts[current.id()] = count;
+                }
+                if ((current.kind() & GAUGE) != 0) {
+                    value = segment.get(DOUBLE, cursor.at);
+                    cursor.at += Double.BYTES;
+                }
+                if ((current.kind() & METERED) != 0) {
+                    mean = segment.get(FLOAT, cursor.at);
+                    m1 = segment.get(FLOAT, cursor.at + 4);
+                    m5 = segment.get(FLOAT, cursor.at + 8);
+                    m15 = segment.get(FLOAT, cursor.at + 12);
+                    cursor.at += 4 * Float.BYTES;
+                }
+                if ((current.kind() & HISTOGRAM) != 0) {
+                    int length = (int) cursor.varLong();
+                    if (include && length > 0) {
+                        histogram = decodeHistogram(cursor.at, length);
+                        histogram.setStartTimeStamp(frame.startMillis());
+                        histogram.setEndTimeStamp(frame.endMillis());
+                        histogram.setTag(current.handle());
+                    }
+                    cursor.at += length;
+                }
+                if (include) {
+                    sink.accept(new JournalSample(current, frame.startMillis(), frame.endMillis(), count, value,
+                        mean, m1, m5, m15, histogram));
+                }
+            }
+        }
+    }
+
+    private int firstFrameEndingAtOrAfter(long millis) {
+        int low = 0, high = frames.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (frames.get(mid).endMillis() < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Histogram decodeHistogram(long at, int length) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(segment.asSlice(at, length).asByteBuffer(), 0L);
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Corrupt histogram at offset " + at + " of metrics journal '" + path + "'", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private final class Cursor {
+        private long at;
+
+        private Cursor(long at) {
+            this.at = at;
+        }
+
+        private int readByte() {
+            return segment.get(ValueLayout.JAVA_BYTE, at++) & 0xFF;
+        }
+
+        private int readInt() {
+            int value = segment.get(INT, at);
+            at += Integer.BYTES;
+            return value;
+        }
+
+        private long varLong() {
+            long value = 0L;
+            int shift = 0;
+            int b;
+            do {
+                b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
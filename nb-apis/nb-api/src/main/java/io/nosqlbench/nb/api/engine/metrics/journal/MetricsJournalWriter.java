@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.journal;
+
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static io.nosqlbench.nb.api.engine.metrics.journal.JournalFormat.*;
+
+/**
+ * Append metrics frames to a journal file in the layout described by {@link JournalFormat}. Blocks are encoded
+ * into a buffer which is reused for every frame, and written with a single channel write each.
+ */
+public class MetricsJournalWriter implements AutoCloseable {
+    public static final int DEFAULT_FRAMES_PER_INDEX = 64;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int framesPerIndex;
+    private final Map<String, Series> series = new HashMap<>();
+    private final List<Long> groupSeriesOffsets = new ArrayList<>();
+    private long[] groupFrames = new long[DEFAULT_FRAMES_PER_INDEX * 3];
+    private int groupFrameCount;
+    private ByteBuffer block = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer hdrBuffer = ByteBuffer.allocate(8 * 1024);
+    private long position;
+    private long lastIndexOffset = -1L;
+    private boolean closed;
+
+    public MetricsJournalWriter(Path path, long startMillis) {
+        this(path, startMillis, DEFAULT_FRAMES_PER_INDEX);
+    }
+
+    public MetricsJournalWriter(Path path, long startMillis, int framesPerIndex) {
+        if (framesPerIndex < 1 || framesPerIndex > Short.MAX_VALUE) {
+            throw new RuntimeException("frames per index must be between 1 and " + Short.MAX_VALUE + ", but was " + framesPerIndex);
+        }
+        this.path = path;
+        this.framesPerIndex = framesPerIndex;
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to open metrics journal '" + path + "': " + e, e);
+        }
+        block.clear();
+        block.putInt(MAGIC).putShort(VERSION).putShort((short) framesPerIndex).putLong(startMillis);
+        write(block.flip());
+    }
+
+    /**
+     * Append a frame, with only the samples which are accepted by the filter.
+     */
+    public synchronized void append(MetricsFrame frame, Predicate<MetricsFrame.Sample> filter) {
+        if (closed) {
+            throw new RuntimeException("metrics journal '" + path + "' is already closed");
+        }
+        List<Series> frameSeries = new ArrayList<>(frame.getSamples().size());
+        List<MetricsFrame.Sample> samples = new ArrayList<>(frame.getSamples().size());
+        for (MetricsFrame.Sample sample : frame.getSamples()) {
+            if (filter.test(sample)) {
+                frameSeries.add(seriesFor(sample));
+                samples.add(sample);
+            }
+        }
+
+        startBlock(FRAME_BLOCK);
+        block.putLong(frame.getStartMillis()).putLong(frame.getEndMillis()).putInt(samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            encodeSample(frameSeries.get(i), samples.get(i));
+        }
+        long offset = finishBlock();
+
+        if (groupFrames.length < (groupFrameCount + 1) * 3) {
+            groupFrames = Arrays.copyOf(groupFrames, groupFrames.length * 2);
+        }
+        groupFrames[groupFrameCount * 3] = frame.getStartMillis();
+        groupFrames[groupFrameCount * 3 + 1] = frame.getEndMillis();
+        groupFrames[groupFrameCount * 3 + 2] = offset;
+        groupFrameCount++;
+        if (groupFrameCount >= framesPerIndex) {
+            writeIndex();
+        }
+    }
+
+    private Series seriesFor(MetricsFrame.Sample sample) {
+        String handle = sample.getLabels().linearizeAsMetrics();
+        Series known = series.get(handle);
+        if (known != null) {
+            return known;
+        }
+        int kind = (sample.isCounting() ? COUNTING : 0)
+            | (sample.isGauge() ? GAUGE : 0)
+            | (sample.isMetered() ? METERED : 0)
+            | (sample.getHistogram() != null ? HISTOGRAM : 0);
+        Series added = new Series(series.size(), kind);
+        byte[] name = handle.getBytes(StandardCharsets.UTF_8);
+        startBlock(SERIES_BLOCK);
+        ensure(name.length + 16);
+        putVarLong(block, added.id);
+        block.put((byte) kind);
+        putVarLong(block, name.length);
+        block.put(name);
+        groupSeriesOffsets.add(finishBlock());
+        series.put(handle, added);
+        return added;
+    }
+
+    private void encodeSample(Series series, MetricsFrame.Sample sample) {
+        ensure(64);
+        putVarLong(block, series.id);
+        if ((series.kind & COUNTING) != 0) {
+            long count = sample.getCount();
+            putVarLong(block, zigzag(count - series.lastCount));
+            series.lastCount = count;
+        }
+        if ((series.kind & GAUGE) != 0) {
+            block.putDouble(sample.getValue() instanceof Number number ? number.doubleValue() : Double.NaN);
+        }
+        if ((series.kind & METERED) != 0) {
+            block.putFloat((float) sample.getMeanRate())
+                .putFloat((float) sample.getOneMinuteRate())
+                .putFloat((float) sample.getFiveMinuteRate())
+                .putFloat((float) sample.getFifteenMinuteRate());
+        }
+        if ((series.kind & HISTOGRAM) != 0) {
+            Histogram histogram = sample.getHistogram();
+            if (histogram == null) {
+                putVarLong(block, 0L);
+                return;
+            }
+            int needed = histogram.getNeededByteBufferCapacity();
+            if (hdrBuffer.capacity() < needed) {
+                hdrBuffer = ByteBuffer.allocate(needed);
+            }
+            hdrBuffer.clear();
+            int length = histogram.encodeIntoCompressedByteBuffer(hdrBuffer);
+            ensure(length + 10);
+            putVarLong(block, length);
+            block.put(hdrBuffer.array(), 0, length);
+        }
+    }
+
+    /**
+     * Write an index of the series and frames since the last index, and reset the count deltas, so that
+     * the next group of frames can be decoded on its own.
+     */
+    private void writeIndex() {
+        startBlock(INDEX_BLOCK);
+        ensure(16 + groupSeriesOffsets.size() * Long.BYTES + groupFrameCount * 3 * Long.BYTES);
+        block.putLong(lastIndexOffset);
+        block.putInt(groupSeriesOffsets.size());
+        for (long offset : groupSeriesOffsets) {
+            block.putLong(offset);
+        }
+        block.putInt(groupFrameCount);
+        for (int i = 0; i < groupFrameCount * 3; i++) {
+            block.putLong(groupFrames[i]);
+        }
+        lastIndexOffset = finishBlock();
+        groupSeriesOffsets.clear();
+        groupFrameCount = 0;
+        for (Series known : series.values()) {
+            known.lastCount = 0L;
+        }
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to sync metrics journal '" + path + "': " + e, e);
+        }
+    }
+
+    private void startBlock(byte type) {
+        block.clear();
+        block.put(type);
+        block.putInt(0);
+    }
+
+    /**
+     * @return the offset of the block in the file
+     */
+    private long finishBlock() {
+        block.putInt(1, block.position() - BLOCK_HEADER_BYTES);
+        long offset = position;
+        write(block.flip());
+        return offset;
+    }
+
+    private void ensure(int bytes) {
+        if (block.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(block.capacity() * 2, block.position() + bytes));
+            block.flip();
+            larger.put(block);
+            block = larger;
+        }
+    }
+
+    private void write(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write metrics journal '" + path + "': " + e, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Write the last index and the trailer, and close the file.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writeIndex();
+        block.clear();
+        block.put(TRAILER_BLOCK).putInt(Long.BYTES + Integer.BYTES).putLong(lastIndexOffset).putInt(MAGIC);
+        write(block.flip());
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to close metrics journal '" + path + "': " + e, e);
+        }
+    }
+
+    private static final class Series {
+        private final int id;
+        private final int kind;
+        private long lastCount;
+
+        private Series(int id, int kind) {
+            this.id = id;
+            this.kind = kind;
+        }
+    }
+}
@@ -16,12 +16,13 @@
 
 package io.nosqlbench.nb.api.engine.metrics.reporters;
 
-import com.codahale.metrics.Timer;
 import com.codahale.metrics.*;
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrameListener;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
 import io.nosqlbench.nb.api.labels.NBLabels;
 import io.nosqlbench.nb.api.components.core.NBComponent;
-import io.nosqlbench.nb.api.components.core.NBFinders;
-import io.nosqlbench.nb.api.components.core.PeriodicTaskComponent;
 import io.nosqlbench.nb.api.engine.metrics.instruments.*;
 
 import java.io.PrintStream;
@@ -29,7 +30,12 @@ import java.text.DateFormat;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
-public class ConsoleReporter extends PeriodicTaskComponent {
+/**
+ * Print metrics to a stream in a human-readable form. A console reporter prints a single report with
+ * {@link #report()}, or reports each frame from the {@link MetricsSnapshotScheduler} once
+ * {@link #subscribe()} is called.
+ */
+public class ConsoleReporter extends NBBaseComponent implements MetricsFrameListener {
     private static final int CONSOLE_WIDTH = 80;
 
     private final PrintStream output;
@@ -41,10 +47,13 @@ public class ConsoleReporter extends PeriodicTaskComponent {
     private final long rateFactor;
     private final String durationUnit = TimeUnit.NANOSECONDS.toString().toLowerCase(Locale.US);
     private final long durationFactor = TimeUnit.NANOSECONDS.toNanos(1);
+    private final long intervalMillis;
+    private MetricsSnapshotScheduler scheduler;
 
     public ConsoleReporter(NBComponent node, NBLabels extraLabels, long millis, boolean oneLastTime,
                            PrintStream output, Set<MetricAttribute> disabledMetricAttributes) {
-        super(node, extraLabels, millis, "REPORT-CONSOLE", FirstReport.OnInterval, LastReport.OnInterrupt);
+        super(node, extraLabels);
+        this.intervalMillis = millis;
         this.output = output;
         this.dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT,
             DateFormat.MEDIUM,
@@ -56,32 +65,39 @@ public class ConsoleReporter extends PeriodicTaskComponent {
         this.rateFactor = TimeUnit.NANOSECONDS.toSeconds(1);
     }
 
+    /**
+     * Report each frame of the metrics snapshot scheduler at the interval of this reporter, until it is closed.
+     */
+    public synchronized ConsoleReporter subscribe() {
+        if (scheduler == null) {
+            scheduler = MetricsSnapshotScheduler.lookup(this);
+            scheduler.subscribe(this, intervalMillis);
+        }
+        return this;
+    }
+
     @Override
-    protected void task() {
-        report();
+    public void onFrame(MetricsFrame frame) {
+        report(frame);
     }
 
     public void report() {
-        report(NBFinders.allMetricsWithType(NBMetricGauge.class, getParent()),
-            NBFinders.allMetricsWithType(NBMetricCounter.class, getParent()),
-            NBFinders.allMetricsWithType(NBMetricHistogram.class, getParent()),
-            NBFinders.allMetricsWithType(NBMetricMeter.class, getParent()),
-            NBFinders.allMetricsWithType(NBMetricTimer.class, getParent())
-        );
+        report(MetricsFrame.capture(clock.getTime(), getParent().find().metrics()));
     }
 
-    public void report(List<NBMetricGauge> gauges,
-                       List<NBMetricCounter> counters,
-                       List<NBMetricHistogram> histograms,
-                       List<NBMetricMeter> meters,
-                       List<NBMetricTimer> timers) {
-        final String dateTime = dateFormat.format(new Date(clock.getTime()));
+    public void report(MetricsFrame frame) {
+        List<MetricsFrame.Sample> gauges = frame.samplesOf(NBMetricGauge.class);
+        List<MetricsFrame.Sample> counters = frame.samplesOf(NBMetricCounter.class);
+        List<MetricsFrame.Sample> histograms = frame.samplesOf(NBMetricHistogram.class);
+        List<MetricsFrame.Sample> meters = frame.samplesOf(NBMetricMeter.class);
+        List<MetricsFrame.Sample> timers = frame.samplesOf(NBMetricTimer.class);
+        final String dateTime = dateFormat.format(new Date(frame.getEndMillis()));
         printWithBanner(dateTime, '=');
         output.println();
 
         if (!gauges.isEmpty()) {
             printWithBanner("-- Gauges", '-');
-            for (NBMetricGauge gauge : gauges) {
+            for (MetricsFrame.Sample gauge : gauges) {
                 output.println(gauge.getLabels().linearizeAsMetrics());
                 printGauge(gauge);
             }
@@ -90,7 +106,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
 
         if (!counters.isEmpty()) {
             printWithBanner("-- Counters", '-');
-            for (NBMetricCounter counter : counters) {
+            for (MetricsFrame.Sample counter : counters) {
                 output.println(counter.getLabels().linearizeAsMetrics());
                 printCounter(counter);
             }
@@ -99,7 +115,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
 
         if (!histograms.isEmpty()) {
             printWithBanner("-- Histograms", '-');
-            for (NBMetricHistogram histogram : histograms) {
+            for (MetricsFrame.Sample histogram : histograms) {
                 output.println(histogram.getLabels().linearizeAsMetrics());
                 printHistogram(histogram);
             }
@@ -108,7 +124,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
 
         if (!meters.isEmpty()) {
             printWithBanner("-- Meters", '-');
-            for (NBMetricMeter meter : meters) {
+            for (MetricsFrame.Sample meter : meters) {
                 output.println(meter.getLabels().linearizeAsMetrics());
                 printMeter(meter);
             }
@@ -117,7 +133,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
 
         if (!timers.isEmpty()) {
             printWithBanner("-- Timers", '-');
-            for (NBMetricTimer timer : timers) {
+            for (MetricsFrame.Sample timer : timers) {
                 output.println(timer.getLabels().linearizeAsMetrics());
                 printTimer(timer);
             }
@@ -128,7 +144,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
         output.flush();
     }
 
-    private void printMeter(Meter meter) {
+    private void printMeter(MetricsFrame.Sample meter) {
         printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", meter.getCount()));
         printIfEnabled(MetricAttribute.MEAN_RATE, String.format(locale, "         mean rate = %2.2f events/%s", convertRate(meter.getMeanRate()), getRateUnit()));
         printIfEnabled(MetricAttribute.M1_RATE, String.format(locale, "     1-minute rate = %2.2f events/%s", convertRate(meter.getOneMinuteRate()), getRateUnit()));
@@ -136,15 +152,15 @@ public class ConsoleReporter extends PeriodicTaskComponent {
         printIfEnabled(MetricAttribute.M15_RATE, String.format(locale, "    15-minute rate = %2.2f events/%s", convertRate(meter.getFifteenMinuteRate()), getRateUnit()));
     }
 
-    private void printCounter(Counter counter) {
+    private void printCounter(MetricsFrame.Sample counter) {
         output.printf(locale, "             count = %d%n", counter.getCount());
     }
 
-    private void printGauge(Gauge<?> gauge) {
+    private void printGauge(MetricsFrame.Sample gauge) {
         output.printf(locale, "             value = %s%n", gauge.getValue());
     }
 
-    private void printHistogram(Histogram histogram) {
+    private void printHistogram(MetricsFrame.Sample histogram) {
         printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", histogram.getCount()));
         Snapshot snapshot = histogram.getSnapshot();
         printIfEnabled(MetricAttribute.MIN, String.format(locale, "               min = %d", snapshot.getMin()));
@@ -159,7 +175,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
         printIfEnabled(MetricAttribute.P999, String.format(locale, "            99.9%% <= %2.2f", snapshot.get999thPercentile()));
     }
 
-    private void printTimer(Timer timer) {
+    private void printTimer(MetricsFrame.Sample timer) {
         final Snapshot snapshot = timer.getSnapshot();
         printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", timer.getCount()));
         printIfEnabled(MetricAttribute.MEAN_RATE, String.format(locale, "         mean rate = %2.2f calls/%s", convertRate(timer.getMeanRate()), getRateUnit()));
@@ -225,33 +241,21 @@ public class ConsoleReporter extends PeriodicTaskComponent {
     }
 
     public void reportOnce(List<NBMetric> summaryMetrics) {
-        List<NBMetricGauge> gauges = new ArrayList<>();
-        List<NBMetricCounter> counters = new ArrayList<>();
-        List<NBMetricHistogram> histograms = new ArrayList<>();
-        List<NBMetricMeter> meters = new ArrayList<>();
-        List<NBMetricTimer> timers = new ArrayList<>();
-        for (NBMetric metric : summaryMetrics) {
-            if (metric instanceof NBMetricGauge) {
-                gauges.add((NBMetricGauge) metric);
-            }
-            if (metric instanceof NBMetricCounter) {
-                counters.add((NBMetricCounter) metric);
-            }
-            if (metric instanceof NBMetricHistogram) {
-                histograms.add((NBMetricHistogram) metric);
-            }
-            if (metric instanceof NBMetricMeter) {
-                meters.add((NBMetricMeter) metric);
-            }
-            if (metric instanceof NBMetricTimer) {
-                timers.add((NBMetricTimer) metric);
-            }
-        }
-        report(gauges, counters, histograms, meters, timers);
+        report(MetricsFrame.capture(clock.getTime(), summaryMetrics));
     }
 
     public void reportCountsOnce(List<NBMetric> summaryMetrics) {
         // TODO: implement counts only renderer
         // TODO: resolve ambiguity around reporting counts only or reporting nothing for short sessions
     }
+
+    @Override
+    protected void teardown() {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.unsubscribe(this);
+            }
+        }
+        super.teardown();
+    }
 }
@@ -19,8 +19,11 @@ package io.nosqlbench.nb.api.engine.metrics.reporters;
 import com.codahale.metrics.*;
 import io.nosqlbench.nb.api.labels.NBLabelUtils;
 import io.nosqlbench.nb.api.labels.NBLabels;
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
 import io.nosqlbench.nb.api.components.core.NBComponent;
-import io.nosqlbench.nb.api.components.core.PeriodicTaskComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrameListener;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
 import io.nosqlbench.nb.api.engine.metrics.instruments.*;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,18 +34,16 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
-public class CsvReporter extends PeriodicTaskComponent {
+public class CsvReporter extends NBBaseComponent implements MetricsFrameListener {
     private static final Logger logger = LogManager.getLogger(CsvReporter.class);
     private final Path reportTo;
     private final String separator = ",";
     private final MetricInstanceFilter filter;
     private final Locale locale = Locale.US;
-    private final Clock clock = Clock.defaultClock();
     private final String histogramFormat;
     private final String meterFormat;
     private final String timerFormat;
@@ -54,13 +55,12 @@ public class CsvReporter extends PeriodicTaskComponent {
     private final TimeUnit durationUnit = TimeUnit.NANOSECONDS;
     private final long durationFactor;
     private final long rateFactor;
-    private final NBComponent component;
+    private final MetricsSnapshotScheduler scheduler;
     private Map<Path, PrintWriter> outstreams = new HashMap<>();
 
     public CsvReporter(NBComponent node, Path reportTo, long intervalMs, MetricInstanceFilter filter,
                        NBLabels extraLabels) {
-        super(node, extraLabels, intervalMs, "REPORT-CSV", FirstReport.OnInterval, LastReport.OnInterrupt);
-        this.component = node;
+        super(node, extraLabels);
         this.reportTo = reportTo;
         this.filter = filter;
         this.durationFactor = durationUnit.toNanos(1);
@@ -83,7 +83,8 @@ public class CsvReporter extends PeriodicTaskComponent {
                 throw new RuntimeException(e);
             }
         }
-
+        this.scheduler = MetricsSnapshotScheduler.lookup(node);
+        scheduler.subscribe(this, intervalMs);
     }
 
     public CsvReporter(NBComponent node, Path reportTo, long intervalMs, MetricInstanceFilter filter) {
@@ -91,33 +92,31 @@ public class CsvReporter extends PeriodicTaskComponent {
     }
 
     @Override
-    public void task() {
-        List<NBMetric> metrics = component.find().metrics();
-        final long timestamp = TimeUnit.MILLISECONDS.toSeconds(clock.getTime());
-        NBLabels commonLabels = NBLabelUtils.commonLabels(metrics);
+    public void onFrame(MetricsFrame frame) {
+        final long timestamp = TimeUnit.MILLISECONDS.toSeconds(frame.getEndMillis());
+        NBLabels commonLabels = NBLabelUtils.commonLabels(frame.getMetrics());
         logger.info("Factoring out common labels for CSV metrics logging: " + commonLabels.linearizeAsMetrics());
 
-        for (NBMetric metric : metrics) {
-            String name = metric.getLabels().difference(commonLabels).linearize_bare("scenario","activity","name");
-//            metric.getLabels().difference(commonLabels);
-            switch (metric) {
+        for (MetricsFrame.Sample sample : frame.getSamples()) {
+            String name = sample.getLabels().difference(commonLabels).linearize_bare("scenario","activity","name");
+            switch (sample.getMetric()) {
                 case NBMetricGauge gauge:
-                    reportGauge(timestamp, name, gauge);
+                    reportGauge(timestamp, name, sample);
                     break;
                 case NBMetricCounter counter:
-                    reportCounter(timestamp, name, counter);
+                    reportCounter(timestamp, name, sample);
                     break;
                 case NBMetricHistogram histogram:
-                    reportHistogram(timestamp, name, histogram);
+                    reportHistogram(timestamp, name, sample);
                     break;
                 case NBMetricTimer timer:
-                    reportTimer(timestamp, name, timer);
+                    reportTimer(timestamp, name, sample);
                     break;
                 case NBMetricMeter meter:
-                    reportMeter(timestamp, name, meter);
+                    reportMeter(timestamp, name, sample);
                     break;
                 default:
-                    throw new RuntimeException("Unrecognized metric type to report '" + metric.getClass().getSimpleName() + "'");
+                    throw new RuntimeException("Unrecognized metric type to report '" + sample.getMetric().getClass().getSimpleName() + "'");
             }
         }
     }
@@ -131,7 +130,7 @@ public class CsvReporter extends PeriodicTaskComponent {
         return rate * rateFactor;
     }
 
-    private void reportTimer(long timestamp, String name, Timer timer) {
+    private void reportTimer(long timestamp, String name, MetricsFrame.Sample timer) {
         final Snapshot snapshot = timer.getSnapshot();
 
         report(timestamp,
@@ -157,7 +156,7 @@ public class CsvReporter extends PeriodicTaskComponent {
             this.durationUnit);
     }
 
-    private void reportMeter(long timestamp, String name, Meter meter) {
+    private void reportMeter(long timestamp, String name, MetricsFrame.Sample meter) {
         report(timestamp,
             name,
             meterHeader,
@@ -170,7 +169,7 @@ public class CsvReporter extends PeriodicTaskComponent {
             this.rateUnit);
     }
 
-    private void reportHistogram(long timestamp, String name, Histogram histogram) {
+    private void reportHistogram(long timestamp, String name, MetricsFrame.Sample histogram) {
         final Snapshot snapshot = histogram.getSnapshot();
 
         report(timestamp,
@@ -190,11 +189,11 @@ public class CsvReporter extends PeriodicTaskComponent {
             snapshot.get999thPercentile());
     }
 
-    private void reportCounter(long timestamp, String name, Counter counter) {
+    private void reportCounter(long timestamp, String name, MetricsFrame.Sample counter) {
         report(timestamp, name, "count", "%d", counter.getCount());
     }
 
-    private void reportGauge(long timestamp, String name, Gauge<?> gauge) {
+    private void reportGauge(long timestamp, String name, MetricsFrame.Sample gauge) {
         report(timestamp, name, "value", "%s", gauge.getValue());
     }
 
@@ -224,7 +223,12 @@ public class CsvReporter extends PeriodicTaskComponent {
         }
     }
 
+    @Override
     public void teardown() {
+        scheduler.unsubscribe(this);
+        for (PrintWriter out : outstreams.values()) {
+            out.close();
+        }
         super.teardown();
     }
 
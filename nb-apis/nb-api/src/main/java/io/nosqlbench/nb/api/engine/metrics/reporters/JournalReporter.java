@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.reporters;
+
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrameListener;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetric;
+import io.nosqlbench.nb.api.engine.metrics.journal.MetricsJournalWriter;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+
+/**
+ * Append every reporting interval to a compact binary metrics journal, for long-running sessions where
+ * text formats grow too large to analyze. Journals are read back with the <pre>journal</pre> app.
+ */
+public class JournalReporter extends NBBaseComponent implements MetricsFrameListener {
+    private static final Logger logger = LogManager.getLogger(JournalReporter.class);
+    private final MetricInstanceFilter filter;
+    private final MetricsJournalWriter writer;
+    private final MetricsSnapshotScheduler scheduler;
+
+    public JournalReporter(NBComponent parent, Path journalPath, long intervalMs, MetricInstanceFilter filter, NBLabels extraLabels) {
+        super(parent, extraLabels);
+        this.filter = filter;
+        this.writer = new MetricsJournalWriter(journalPath, System.currentTimeMillis());
+        logger.info(() -> "journaling metrics to " + journalPath + " every " + intervalMs + "ms");
+        this.scheduler = MetricsSnapshotScheduler.lookup(parent);
+        scheduler.subscribe(this, intervalMs);
+    }
+
+    public JournalReporter(NBComponent parent, Path journalPath, long intervalMs, MetricInstanceFilter filter) {
+        this(parent, journalPath, intervalMs, filter, null);
+    }
+
+    @Override
+    public void onFrame(MetricsFrame frame) {
+        writer.append(frame, this::accepts);
+    }
+
+    private boolean accepts(MetricsFrame.Sample sample) {
+        return filter == null
+            || (sample.getMetric() instanceof NBMetric metric && filter.matches(metric.getHandle(), metric));
+    }
+
+    /**
+     * Write the last partial interval before closing the journal.
+     */
+    @Override
+    protected void teardown() {
+        scheduler.flush(this);
+        scheduler.unsubscribe(this);
+        writer.close();
+        super.teardown();
+    }
+}
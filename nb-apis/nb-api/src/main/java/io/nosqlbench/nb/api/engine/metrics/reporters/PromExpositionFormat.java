@@ -17,9 +17,9 @@
 package io.nosqlbench.nb.api.engine.metrics.reporters;
 
 import com.codahale.metrics.*;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
 import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
 import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetric;
-import io.nosqlbench.nb.api.labels.NBLabeledElement;
 import io.nosqlbench.nb.api.labels.NBLabels;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,7 +27,6 @@ import org.apache.logging.log4j.Logger;
 import java.io.IOException;
 import java.io.Writer;
 import java.time.Clock;
-import java.time.Instant;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -58,146 +57,163 @@ public class PromExpositionFormat {
      */
     public static StringBuilder format(final Clock clock, final StringBuilder builder, final Object... metrics) {
         final StringBuilder buffer = (null != builder) ? builder : new StringBuilder();
-        final Instant instant = clock.instant();
+        final long epochMillis = clock.instant().toEpochMilli();
 
         for (final Object metric : metrics) {
-            NBLabels labels = null;
+            appendDescription(buffer, metric);
+            appendSample(buffer, epochMillis, MetricsFrame.Sample.of(metric));
+        }
 
-            if (metric instanceof NBMetric nbm) {
-                MetricCategory[] categories = nbm.getCategories();
-                buffer.append("# CATEGORIES: ")
-                    .append(Arrays.stream(categories).map(MetricCategory::name).collect(Collectors.joining(", ")))
-                    .append("\n");
-                String description = nbm.getDescription();
-                buffer.append("# DESCRIPTION: ").append(description).append("\n");
+        return buffer;
+    }
 
-            }
+    /**
+     * Format all samples of a metrics frame, using the end of the frame as the observation time.
+     *
+     * @param frame
+     *     The frame of metrics to format
+     * @param builder
+     *     A string builder to append to
+     * @return A string representation of the metrics in prometheus exposition format
+     */
+    public static StringBuilder format(final MetricsFrame frame, final StringBuilder builder) {
+        final StringBuilder buffer = (null != builder) ? builder : new StringBuilder();
+        for (final MetricsFrame.Sample sample : frame.getSamples()) {
+            appendDescription(buffer, sample.getMetric());
+            appendSample(buffer, frame.getEndMillis(), sample);
+        }
+        return buffer;
+    }
+
+    private static void appendDescription(final StringBuilder buffer, final Object metric) {
+        if (metric instanceof NBMetric nbm) {
+            MetricCategory[] categories = nbm.getCategories();
+            buffer.append("# CATEGORIES: ")
+                .append(Arrays.stream(categories).map(MetricCategory::name).collect(Collectors.joining(", ")))
+                .append("\n");
+            String description = nbm.getDescription();
+            buffer.append("# DESCRIPTION: ").append(description).append("\n");
+        }
+    }
 
-            if (metric instanceof final NBLabeledElement labeled) labels = labeled.getLabels();
-            else throw new RuntimeException(
-                "Unknown label set for metric type '" + metric.getClass().getCanonicalName() + '\''
-            );
-            final long epochMillis = instant.toEpochMilli();
+    private static void appendSample(final StringBuilder buffer, final long epochMillis, final MetricsFrame.Sample sample) {
+        final NBLabels labels = sample.getLabels();
 
-            if (metric instanceof final Counting counting) {
-                buffer.append("# TYPE ")
-                    .append(labels.modifyValue("name", n -> n+"_total").valueOf("name")).append(" counter\n");
+        if (sample.isCounting()) {
+            buffer.append("# TYPE ")
+                .append(labels.modifyValue("name", n -> n+"_total").valueOf("name")).append(" counter\n");
 
-                final long count = counting.getCount();
+            final long count = sample.getCount();
+            buffer
+                .append(labels.modifyValue("name", n -> n+"_total").linearize("name"))
+                .append(' ')
+                .append(count)
+                .append(' ')
+                .append(epochMillis)
+                .append('\n');
+        }
+        if (sample.isSampling()) {
+            // Use the summary form
+            buffer.append("# TYPE ").append(labels.valueOf("name")).append(" histogram\n");
+            final Snapshot snapshot = sample.getSnapshot();
+            for (final double quantile : new double[]{0.5, 0.75, 0.90, 0.95, 0.98, 0.99, 0.999}) {
+                final double value = snapshot.getValue(quantile);
                 buffer
-                    .append(labels.modifyValue("name", n -> n+"_total").linearize("name"))
-                    .append(' ')
-                    .append(count)
-                    .append(' ')
-                    .append(epochMillis)
-                    .append('\n');
-            }
-            if (metric instanceof final Sampling sampling) {
-                // Use the summary form
-                buffer.append("# TYPE ").append(labels.valueOf("name")).append(" histogram\n");
-                final Snapshot snapshot = sampling.getSnapshot();
-                for (final double quantile : new double[]{0.5, 0.75, 0.90, 0.95, 0.98, 0.99, 0.999}) {
-                    final double value = snapshot.getValue(quantile);
-                    buffer
-                        .append(labels.modifyValue("name",n -> n+"_bucket").and("le", String.valueOf(quantile)).linearize("name"))
+                    .append(labels.modifyValue("name",n -> n+"_bucket").and("le", String.valueOf(quantile)).linearize("name"))
 //                        .append(labels.andTypes("quantile", String.valueOf(quantile)).linearize("name"))
-                        .append(' ')
-                        .append(value)
-                        .append('\n');
-                }
-                buffer.append(labels.modifyValue("name",n->n+"_bucket").and("le","+Inf").linearize("name"))
-                    .append(' ')
-                    .append(snapshot.getMax())
-                    .append('\n');
-                final double snapshotCount =snapshot.size();
-                buffer.append(labels.modifyValue("name",n->n+"_count").linearize("name"))
-                    .append(' ')
-                    .append(snapshotCount)
-                    .append('\n');
-                buffer.append("# TYPE ").append(labels.valueOf("name")).append("_max").append(" gauge\n");
-                final long maxValue = snapshot.getMax();
-                buffer.append(labels.modifyValue("name",n->n+"_max").linearize("name"))
                     .append(' ')
-                    .append(maxValue)
+                    .append(value)
                     .append('\n');
-                buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_min").valueOf("name")).append(" gauge\n");
-                final long minValue = snapshot.getMin();
-                buffer.append(labels.modifyValue("name",n->n+"_min").linearize("name"))
-                    .append(' ')
-                    .append(minValue)
-                    .append('\n');
-                buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_mean").valueOf("name")).append(" gauge\n");
-                final double meanValue = snapshot.getMean();
-                buffer.append(labels.modifyValue("name",n->n+"_mean").linearize("name"))
-                    .append(' ')
-                    .append(meanValue)
-                    .append('\n');
-                buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_stdev").valueOf("name")).append(" gauge\n");
-                final double stdDev = snapshot.getStdDev();
-                buffer.append(labels.modifyValue("name",n->n+"_stdev").linearize("name"))
-                    .append(' ')
-                    .append(stdDev)
-                    .append('\n');
-
-            }
-            if (metric instanceof final Gauge gauge) {
-                buffer.append("# TYPE ").append(labels.valueOf("name")).append(" gauge\n");
-                final Object value = gauge.getValue();
-                if (value instanceof final Number number) {
-                    final double doubleValue = number.doubleValue();
-                    buffer.append(labels.linearize("name"))
-                        .append(' ')
-                        .append(doubleValue)
-                        .append('\n');
-                } else if (value instanceof final CharSequence sequence) {
-                    final String stringValue = sequence.toString();
-                    buffer.append(labels.linearize("name"))
-                        .append(' ')
-                        .append(stringValue)
-                        .append('\n');
-                } else if (value instanceof final String stringValue) {
-                    buffer.append(labels.linearize("name"))
-                        .append(' ')
-                        .append(stringValue)
-                        .append('\n');
-                } else throw new RuntimeException(
-                        "Unknown label set for metric type '" + metric.getClass().getCanonicalName() + '\''
-                    );
             }
-            if (metric instanceof final Metered meter) {
-                buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_1mRate").valueOf("name")).append(" gauge\n");
-                final double oneMinuteRate = meter.getOneMinuteRate();
-                buffer.append(labels.modifyValue("name",n->n+"_1mRate").linearize("name"))
-                    .append(' ')
-                    .append(oneMinuteRate)
-                    .append('\n');
+            buffer.append(labels.modifyValue("name",n->n+"_bucket").and("le","+Inf").linearize("name"))
+                .append(' ')
+                .append(snapshot.getMax())
+                .append('\n');
+            final double snapshotCount =snapshot.size();
+            buffer.append(labels.modifyValue("name",n->n+"_count").linearize("name"))
+                .append(' ')
+                .append(snapshotCount)
+                .append('\n');
+            buffer.append("# TYPE ").append(labels.valueOf("name")).append("_max").append(" gauge\n");
+            final long maxValue = snapshot.getMax();
+            buffer.append(labels.modifyValue("name",n->n+"_max").linearize("name"))
+                .append(' ')
+                .append(maxValue)
+                .append('\n');
+            buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_min").valueOf("name")).append(" gauge\n");
+            final long minValue = snapshot.getMin();
+            buffer.append(labels.modifyValue("name",n->n+"_min").linearize("name"))
+                .append(' ')
+                .append(minValue)
+                .append('\n');
+            buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_mean").valueOf("name")).append(" gauge\n");
+            final double meanValue = snapshot.getMean();
+            buffer.append(labels.modifyValue("name",n->n+"_mean").linearize("name"))
+                .append(' ')
+                .append(meanValue)
+                .append('\n');
+            buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_stdev").valueOf("name")).append(" gauge\n");
+            final double stdDev = snapshot.getStdDev();
+            buffer.append(labels.modifyValue("name",n->n+"_stdev").linearize("name"))
+                .append(' ')
+                .append(stdDev)
+                .append('\n');
 
-                buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_5mRate").valueOf("name")).append(" gauge\n");
-                final double fiveMinuteRate = meter.getFiveMinuteRate();
-                buffer.append(labels.modifyValue("name",n->n+"_5mRate").linearize("name"))
+        }
+        if (sample.isGauge()) {
+            buffer.append("# TYPE ").append(labels.valueOf("name")).append(" gauge\n");
+            final Object value = sample.getValue();
+            if (value instanceof final Number number) {
+                final double doubleValue = number.doubleValue();
+                buffer.append(labels.linearize("name"))
                     .append(' ')
-                    .append(fiveMinuteRate)
+                    .append(doubleValue)
                     .append('\n');
-
-                buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_15mRate").valueOf("name")).append(" gauge\n");
-                final double fifteenMinuteRate = meter.getFifteenMinuteRate();
-                buffer.append(labels.modifyValue("name",n->n+"_15mRate").linearize("name"))
+            } else if (value instanceof final CharSequence sequence) {
+                final String stringValue = sequence.toString();
+                buffer.append(labels.linearize("name"))
                     .append(' ')
-                    .append(fifteenMinuteRate)
+                    .append(stringValue)
                     .append('\n');
-
-                buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_meanRate").valueOf("name")).append(" gauge\n");
-                final double meanRate = meter.getMeanRate();
-                buffer.append(labels.modifyValue("name",n->n+"_meanRate").linearize("name"))
+            } else if (value instanceof final String stringValue) {
+                buffer.append(labels.linearize("name"))
                     .append(' ')
-                    .append(meanRate)
+                    .append(stringValue)
                     .append('\n');
+            } else throw new RuntimeException(
+                    "Unknown label set for metric type '" + sample.getMetric().getClass().getCanonicalName() + '\''
+                );
+        }
+        if (sample.isMetered()) {
+            buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_1mRate").valueOf("name")).append(" gauge\n");
+            final double oneMinuteRate = sample.getOneMinuteRate();
+            buffer.append(labels.modifyValue("name",n->n+"_1mRate").linearize("name"))
+                .append(' ')
+                .append(oneMinuteRate)
+                .append('\n');
 
-            }
+            buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_5mRate").valueOf("name")).append(" gauge\n");
+            final double fiveMinuteRate = sample.getFiveMinuteRate();
+            buffer.append(labels.modifyValue("name",n->n+"_5mRate").linearize("name"))
+                .append(' ')
+                .append(fiveMinuteRate)
+                .append('\n');
 
-        }
+            buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_15mRate").valueOf("name")).append(" gauge\n");
+            final double fifteenMinuteRate = sample.getFifteenMinuteRate();
+            buffer.append(labels.modifyValue("name",n->n+"_15mRate").linearize("name"))
+                .append(' ')
+                .append(fifteenMinuteRate)
+                .append('\n');
 
-        return buffer;
+            buffer.append("# TYPE ").append(labels.modifyValue("name",n->n+"_meanRate").valueOf("name")).append(" gauge\n");
+            final double meanRate = sample.getMeanRate();
+            buffer.append(labels.modifyValue("name",n->n+"_meanRate").linearize("name"))
+                .append(' ')
+                .append(meanRate)
+                .append('\n');
+
+        }
     }
 
     public static String labels(final Map<String, String> labels, final String... additional) {
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.reporters;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrameListener;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
+import io.nosqlbench.nb.api.errors.BasicError;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serve the metrics of a component tree at <pre>/metrics</pre> in the Prometheus exposition format, for
+ * scraping by Prometheus or compatible agents.
+ *
+ * <p>Each frame of the {@link MetricsSnapshotScheduler} is formatted into a reusable text buffer when it is
+ * delivered, since the frame may not be retained. The first scrape after a frame encodes that text into an
+ * immutable byte array and publishes it. Later scrapes are served from the published exposition without any
+ * locking, so any number of scrapes between two frames cost no rendering, and frames which nobody scrapes are
+ * never encoded. The gzip form is compressed on the first scrape which asks for it, and is then kept with
+ * the exposition.</p>
+ */
+public class PromPullReporterComponent extends NBBaseComponent implements MetricsFrameListener {
+    private static final Logger logger = LogManager.getLogger(PromPullReporterComponent.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final InetSocketAddress address;
+    private final MetricsSnapshotScheduler scheduler;
+    private final HttpServer server;
+    private final ExecutorService handlers = Executors.newVirtualThreadPerTaskExecutor();
+    private final StringBuilder text = new StringBuilder(1024 * 1024);
+    private final ByteArrayOutputStream rendered = new ByteArrayOutputStream(64 * 1024);
+    private final Writer writer = new OutputStreamWriter(rendered, StandardCharsets.UTF_8);
+    private volatile Exposition current;
+    private volatile boolean dirty;
+
+    public PromPullReporterComponent(NBComponent parent, String listenAddress, long intervalMs, NBLabels extraLabels) {
+        super(parent, extraLabels.and("_type", "prom-pull"));
+        this.address = parseAddress(listenAddress);
+        try {
+            this.server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new BasicError("Unable to listen for metrics scrapes on '" + listenAddress + "': " + e);
+        }
+        server.createContext("/metrics", this::handle);
+        server.setExecutor(handlers);
+        server.start();
+        logger.info("serving metrics for scraping at http://{}:{}/metrics", address.getHostString(), server.getAddress().getPort());
+        this.scheduler = MetricsSnapshotScheduler.lookup(parent);
+        scheduler.subscribe(this, intervalMs);
+    }
+
+    private static InetSocketAddress parseAddress(String listenAddress) {
+        int colon = listenAddress.lastIndexOf(':');
+        if (colon < 0) {
+            throw new BasicError("The listen address for prom metrics must be in host:port form, but was '" + listenAddress + "'");
+        }
+        String host = listenAddress.substring(0, colon);
+        int port;
+        try {
+            port = Integer.parseInt(listenAddress.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            throw new BasicError("Unable to parse the port of prom listen address '" + listenAddress + "'");
+        }
+        return host.isEmpty() ? new InetSocketAddress(port) : new InetSocketAddress(host, port);
+    }
+
+    /**
+     * @return The address which the server is bound to, which has the actual port when port 0 was requested
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void onFrame(MetricsFrame frame) {
+        synchronized (text) {
+            text.setLength(0);
+            PromExpositionFormat.format(frame, text);
+            dirty = true;
+        }
+        logger.trace("formatted {} metrics for scraping", frame.getSamples().size());
+    }
+
+    /**
+     * @return The exposition of the latest frame, which is encoded here if it was not yet scraped
+     */
+    private Exposition latest() {
+        if (dirty) {
+            synchronized (text) {
+                if (dirty) {
+                    rendered.reset();
+                    try {
+                        writer.append(text);
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                    current = new Exposition(rendered.toByteArray());
+                    dirty = false;
+                }
+            }
+        }
+        return current;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if (gzip) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            Exposition exposition = latest();
+            byte[] body = (exposition == null) ? new byte[0] : (gzip ? exposition.gzipped() : exposition.plain);
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            exchange.getResponseBody().write(body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    protected void teardown() {
+        scheduler.unsubscribe(this);
+        server.stop(0);
+        handlers.shutdownNow();
+        super.teardown();
+    }
+
+    /**
+     * A rendered exposition, which is not modified once it is published.
+     */
+    private static final class Exposition {
+        private final byte[] plain;
+        private byte[] gzip;
+
+        private Exposition(byte[] plain) {
+            this.plain = plain;
+        }
+
+        private synchronized byte[] gzipped() {
+            if (gzip == null) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(plain.length / 4 + 64);
+                try (GZIPOutputStream out = new GZIPOutputStream(compressed, 8192)) {
+                    out.write(plain);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                gzip = compressed.toByteArray();
+            }
+            return gzip;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "prom-pull:" + address;
+    }
+}
@@ -16,11 +16,14 @@
 
 package io.nosqlbench.nb.api.engine.metrics.reporters;
 
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrameListener;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
 import io.nosqlbench.nb.api.errors.BasicError;
 import io.nosqlbench.nb.api.labels.NBLabels;
 import io.nosqlbench.nb.api.system.NBEnvironment;
 import io.nosqlbench.nb.api.components.core.NBComponent;
-import io.nosqlbench.nb.api.components.core.PeriodicTaskComponent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,21 +40,23 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
-public class PromPushReporterComponent extends PeriodicTaskComponent {
+public class PromPushReporterComponent extends NBBaseComponent implements MetricsFrameListener {
     private static final Logger logger = LogManager.getLogger(PromPushReporterComponent.class);
     private final Path keyfilePath;
     private HttpClient client;
     private final URI uri;
+    private final MetricsSnapshotScheduler scheduler;
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("REPORT-PROMPUSH").factory());
     private String bearerToken;
 
     public PromPushReporterComponent(NBComponent parent, String endpoint, long intervalMs, NBLabels nbLabels) {
-        super(parent, nbLabels.and("_type", "prom-push"), intervalMs,  "REPORT-PROMPUSH",FirstReport.OnInterval, LastReport.OnInterrupt);
+        super(parent, nbLabels.and("_type", "prom-push"));
         String jobname = getLabels().valueOfOptional("jobname").orElse("default");
         String instance = getLabels().valueOfOptional("instance").orElse("default");
         if (jobname.equals("default") || instance.equals("default")) {
@@ -82,22 +87,24 @@ public class PromPushReporterComponent extends PeriodicTaskComponent {
                 throw new RuntimeException(e);
             }
         }
+        this.scheduler = MetricsSnapshotScheduler.lookup(parent);
+        scheduler.subscribe(this, intervalMs);
     }
 
-    public void task() {
-        final Clock nowclock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-
+    @Override
+    public void onFrame(MetricsFrame frame) {
         StringBuilder sb = new StringBuilder(1024 * 1024); // 1M pre-allocated to reduce heap churn
 
-        int total = 0;
-        for (final Object metric : getParent().find().metrics()) {
-            sb = PromExpositionFormat.format(nowclock, sb, metric);
-            total++;
-        }
+        sb = PromExpositionFormat.format(frame, sb);
+        int total = frame.getSamples().size();
         PromPushReporterComponent.logger.debug("formatted {} metrics in prom expo format", total);
         final String exposition = sb.toString();
         logger.trace(() -> "prom exposition format:\n" + exposition);
+        // post from a separate thread, so that retries do not hold up the other reporters
+        sender.execute(() -> push(exposition, total));
+    }
 
+    private void push(final String exposition, final int total) {
         final double backoffRatio = 1.5;
         final double maxBackoffSeconds = 10;
         double backOff = 1.0;
@@ -170,4 +177,18 @@ public class PromPushReporterComponent extends PeriodicTaskComponent {
             .build();
         return this.client;
     }
+
+    @Override
+    protected void teardown() {
+        scheduler.unsubscribe(this);
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("timed out waiting for prom push to complete");
+            }
+        } catch (InterruptedException e) {
+            logger.warn("interrupted while waiting for prom push to complete");
+        }
+        super.teardown();
+    }
 }
@@ -17,69 +17,161 @@
 package io.nosqlbench.nb.api.engine.metrics.reporters;
 
 import com.codahale.metrics.Snapshot;
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
 import io.nosqlbench.nb.api.components.core.NBComponent;
-import io.nosqlbench.nb.api.components.core.PeriodicTaskComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrameListener;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
 import io.nosqlbench.nb.api.engine.metrics.instruments.*;
 import io.nosqlbench.nb.api.labels.NBLabels;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
+import java.sql.*;
+import java.util.*;
 import java.util.stream.Collectors;
 
-public class SqliteReporter extends PeriodicTaskComponent {
+/**
+ * Record metrics to a SQLite database, with one row per metric per reporting interval.
+ *
+ * <p>Each distinct metric is recorded once in <pre>metric_series</pre>, with a <pre>label_&lt;name&gt;</pre>
+ * column for each of its labels. Columns are added as new label names are seen. Since SQLite column names
+ * are not case-sensitive, label names are lower-cased, and any other characters are replaced with
+ * underscores. Label names which still collide within one metric get a numeric suffix. The values of each
+ * interval go into <pre>metric_values</pre> as numeric columns, keyed by series and report time, and
+ * <pre>metric_frames</pre> records the time span of each interval. The view <pre>metric_samples</pre> joins
+ * them for ad-hoc queries.</p>
+ *
+ * <p>Each interval is written in a single transaction with batched inserts, and the database is kept in
+ * WAL mode, so that it can be queried while a session is still writing to it.</p>
+ */
+public class SqliteReporter extends NBBaseComponent implements MetricsFrameListener {
     private static final Logger logger = LogManager.getLogger(SqliteReporter.class);
+    private static final String LABEL_PREFIX = "label_";
     private final String url;
-    private final NBComponent parent;
+    private final MetricsSnapshotScheduler scheduler;
     private final MetricInstanceFilter filter;
     private final Connection connection;
-    private final PreparedStatement insert_statement;
-
-    //TODO: These need to be dynamically passed in, just hard-coding POC for now
-    private final String create_table = """
-        CREATE TABLE IF NOT EXISTS metrics (
-            REPORT_ID TEXT NOT NULL,
-            REPORT_TIME DATETIME NOT NULL,
-            METRIC_NAME TEXT NOT NULL,
-            LABELS TEXT,
-            TYPE_NAME TEXT,
-            METRIC_VALUE TEXT,
-            DESCRIPTION TEXT,
-            METRIC_CATEGORIES TEXT,
-            PRIMARY KEY(REPORT_ID,METRIC_NAME)
-        );
+    private final PreparedStatement insert_frame;
+    private final PreparedStatement insert_values;
+    private final Map<String, Long> seriesIds = new HashMap<>();
+    private final Set<String> labelColumns = new HashSet<>();
+    private final Set<String> unrecordedGauges = new HashSet<>();
+
+    private static final List<String> create_schema = List.of(
+        """
+            CREATE TABLE IF NOT EXISTS metric_series (
+                SERIES_ID INTEGER PRIMARY KEY,
+                HANDLE TEXT NOT NULL UNIQUE,
+                METRIC_NAME TEXT NOT NULL,
+                TYPE_NAME TEXT,
+                DESCRIPTION TEXT,
+                METRIC_CATEGORIES TEXT
+            )
+            """,
+        """
+            CREATE INDEX IF NOT EXISTS metric_series_name ON metric_series(METRIC_NAME)
+            """,
+        """
+            CREATE TABLE IF NOT EXISTS metric_frames (
+                REPORT_TIME INTEGER PRIMARY KEY,
+                START_TIME INTEGER NOT NULL,
+                SAMPLES INTEGER NOT NULL
+            )
+            """,
+        """
+            CREATE TABLE IF NOT EXISTS metric_values (
+                SERIES_ID INTEGER NOT NULL REFERENCES metric_series(SERIES_ID),
+                REPORT_TIME INTEGER NOT NULL,
+                COUNT INTEGER,
+                VALUE REAL,
+                MIN REAL,
+                MAX REAL,
+                MEAN REAL,
+                STDDEV REAL,
+                P50 REAL,
+                P75 REAL,
+                P90 REAL,
+                P95 REAL,
+                P98 REAL,
+                P99 REAL,
+                P999 REAL,
+                MEAN_RATE REAL,
+                M1_RATE REAL,
+                M5_RATE REAL,
+                M15_RATE REAL,
+                PRIMARY KEY(SERIES_ID, REPORT_TIME)
+            ) WITHOUT ROWID
+            """,
+        """
+            CREATE INDEX IF NOT EXISTS metric_values_time ON metric_values(REPORT_TIME)
+            """,
+        """
+            CREATE VIEW IF NOT EXISTS metric_samples AS
+                SELECT s.*, f.START_TIME, v.REPORT_TIME, v.COUNT, v.VALUE, v.MIN, v.MAX, v.MEAN, v.STDDEV,
+                    v.P50, v.P75, v.P90, v.P95, v.P98, v.P99, v.P999,
+                    v.MEAN_RATE, v.M1_RATE, v.M5_RATE, v.M15_RATE
+                FROM metric_values v
+                JOIN metric_series s ON s.SERIES_ID = v.SERIES_ID
+                LEFT JOIN metric_frames f ON f.REPORT_TIME = v.REPORT_TIME
+            """
+    );
+
+    private static final String insert_frame_record = """
+        INSERT OR REPLACE INTO metric_frames(REPORT_TIME,START_TIME,SAMPLES) VALUES(?,?,?)
         """;
 
-    private final String insert_record = """
-        INSERT INTO metrics(REPORT_ID,REPORT_TIME,METRIC_NAME,LABELS,TYPE_NAME,METRIC_VALUE,DESCRIPTION,METRIC_CATEGORIES)
-            VALUES(?,?,?,?,?,?,?,?)
+    private static final String insert_values_record = """
+        INSERT OR REPLACE INTO metric_values(SERIES_ID,REPORT_TIME,COUNT,VALUE,MIN,MAX,MEAN,STDDEV,
+            P50,P75,P90,P95,P98,P99,P999,MEAN_RATE,M1_RATE,M5_RATE,M15_RATE)
+            VALUES(?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)
         """;
 
     public SqliteReporter(NBComponent parent, String url, long intervalMs, MetricInstanceFilter filter, NBLabels extraLabels) {
-        super(parent, extraLabels, intervalMs, "REPORT-SQLITE", FirstReport.OnInterval, LastReport.OnInterrupt);
-        this.parent = parent;
+        super(parent, extraLabels);
         this.url = url;
         this.filter = filter;
         try {
             connection = DriverManager.getConnection(url);
             logger.info(() -> "SQLite connection to " + url + " has been established.");
-            // Method to compare existing schema with desired schema and update if necessary
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+            }
             validateSchema();
-            insert_statement = connection.prepareStatement(insert_record);
+            insert_frame = connection.prepareStatement(insert_frame_record);
+            insert_values = connection.prepareStatement(insert_values_record);
+            connection.setAutoCommit(false);
         } catch (SQLException e) {
             logger.error(() -> "Exception constructing SQLite reporter: " + e.getMessage());
             throw new RuntimeException(e);
         }
+        this.scheduler = MetricsSnapshotScheduler.lookup(parent);
+        scheduler.subscribe(this, intervalMs);
     }
 
+    /**
+     * Create any missing tables, and load the known series and label columns of an existing database.
+     */
     private void validateSchema() throws SQLException {
-        connection.createStatement().execute(create_table);
+        try (Statement statement = connection.createStatement()) {
+            for (String ddl : create_schema) {
+                statement.execute(ddl);
+            }
+            try (ResultSet columns = statement.executeQuery("PRAGMA table_info(metric_series)")) {
+                while (columns.next()) {
+                    String column = columns.getString("name");
+                    if (column.toLowerCase(Locale.ROOT).startsWith(LABEL_PREFIX)) {
+                        labelColumns.add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            try (ResultSet series = statement.executeQuery("SELECT SERIES_ID, HANDLE FROM metric_series")) {
+                while (series.next()) {
+                    seriesIds.put(series.getString(2), series.getLong(1));
+                }
+            }
+        }
     }
 
     public SqliteReporter(NBComponent parent, String url, long intervalMs, MetricInstanceFilter filter) {
@@ -91,93 +183,170 @@ public class SqliteReporter extends PeriodicTaskComponent {
     }
 
     @Override
-    public void task() {
-        List<NBMetric> metrics = parent.find().metrics();
-        final long report_time = System.currentTimeMillis();
-        String report_id = String.valueOf(UUID.randomUUID());
-        for (NBMetric metric : metrics) {
-            String metric_name = metric.getLabels().valueOf("name");
-            String labels = metric.getHandle();
-            String type_name = metric.typeName();
-            String description = metric.getDescription();
-            String metric_categories = Arrays.stream(metric.getCategories()).map(Enum::name)
-                .collect(Collectors.joining(","));
-            String metric_value = switch (metric) {
-                case NBMetricGauge gauge -> extractValue(gauge);
-                case NBMetricCounter counter -> extractValue(counter);
-                case NBMetricHistogram histogram -> extractValue(histogram);
-                case NBMetricTimer timer -> extractValue(timer);
-                case NBMetricMeter meter -> extractValue(meter);
-                default -> throw new RuntimeException("Unrecognized metric type to report '" + metric.getClass().getSimpleName() + "'");
-            };
+    public void onFrame(MetricsFrame frame) {
+        final long report_time = frame.getEndMillis();
+        try {
+            int samples = 0;
+            for (MetricsFrame.Sample sample : frame.getSamples()) {
+                if (!(sample.getMetric() instanceof NBMetric metric)) {
+                    continue;
+                }
+                if (filter != null && !filter.matches(metric.getHandle(), metric)) {
+                    continue;
+                }
+                insert_values.setLong(1, seriesIdFor(metric));
+                insert_values.setLong(2, report_time);
+                bindValues(sample, metric);
+                insert_values.addBatch();
+                samples++;
+            }
+            insert_frame.setLong(1, report_time);
+            insert_frame.setLong(2, frame.getStartMillis());
+            insert_frame.setInt(3, samples);
+            insert_frame.executeUpdate();
+            insert_values.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error(() -> "Exception inserting records: " + e.getMessage());
             try {
-                insert_statement.setString(1, report_id);
-                insert_statement.setLong(2, report_time);
-                insert_statement.setString(3, metric_name);
-                insert_statement.setString(4, labels);
-                insert_statement.setString(5, type_name);
-                insert_statement.setString(6, metric_value);
-                insert_statement.setString(7, description);
-                insert_statement.setString(8, metric_categories);
-                insert_statement.executeUpdate();
-            } catch (SQLException e) {
-                logger.error(() -> "Exception inserting record: " + e.getMessage());
-                throw new RuntimeException(e);
+                insert_values.clearBatch();
+                connection.rollback();
+                // any series or label columns added in this transaction are gone too
+                seriesIds.clear();
+                labelColumns.clear();
+                validateSchema();
+            } catch (SQLException re) {
+                logger.error(() -> "Exception rolling back records: " + re.getMessage());
             }
+            throw new RuntimeException(e);
         }
     }
 
-    private String extractValue(NBMetricGauge gauge) {
-        return String.valueOf(gauge.getValue());
+    private long seriesIdFor(NBMetric metric) throws SQLException {
+        String handle = metric.getHandle();
+        Long seriesId = seriesIds.get(handle);
+        if (seriesId != null) {
+            return seriesId;
+        }
+
+        Map<String, String> labels = new LinkedHashMap<>();
+        metric.getLabels().asMap().forEach((k, v) -> labels.put(labelColumn(k, labels.keySet()), v));
+        try (Statement statement = connection.createStatement()) {
+            for (String column : labels.keySet()) {
+                if (labelColumns.add(column)) {
+                    statement.execute("ALTER TABLE metric_series ADD COLUMN " + column + " TEXT");
+                }
+            }
+        }
+
+        String columns = String.join(",", labels.keySet());
+        String placeholders = labels.keySet().stream().map(k -> ",?").collect(Collectors.joining());
+        String insert_series = "INSERT OR IGNORE INTO metric_series(HANDLE,METRIC_NAME,TYPE_NAME,DESCRIPTION,METRIC_CATEGORIES"
+            + (labels.isEmpty() ? "" : "," + columns) + ") VALUES(?,?,?,?,?" + placeholders + ")";
+        try (PreparedStatement insert = connection.prepareStatement(insert_series)) {
+            insert.setString(1, handle);
+            insert.setString(2, metric.getLabels().valueOfOptional("name").orElse(handle));
+            insert.setString(3, metric.typeName());
+            insert.setString(4, metric.getDescription());
+            insert.setString(5, Arrays.stream(metric.getCategories()).map(Enum::name).collect(Collectors.joining(",")));
+            int index = 6;
+            for (String value : labels.values()) {
+                insert.setString(index++, value);
+            }
+            insert.executeUpdate();
+        }
+        try (PreparedStatement select = connection.prepareStatement("SELECT SERIES_ID FROM metric_series WHERE HANDLE=?")) {
+            select.setString(1, handle);
+            try (ResultSet rs = select.executeQuery()) {
+                rs.next();
+                seriesId = rs.getLong(1);
+            }
+        }
+        seriesIds.put(handle, seriesId);
+        return seriesId;
     }
 
-    private String extractValue(NBMetricCounter counter) {
-        return String.valueOf(counter.getCount());
+    /**
+     * @return the column name for a label, which is distinct from the columns already used for the same metric
+     */
+    private static String labelColumn(String label, Set<String> taken) {
+        String column = LABEL_PREFIX + label.replaceAll("[^a-zA-Z0-9_]", "_").toLowerCase(Locale.ROOT);
+        String distinct = column;
+        for (int suffix = 2; taken.contains(distinct); suffix++) {
+            distinct = column + "_" + suffix;
+        }
+        return distinct;
     }
 
-    private String extractValue(NBMetricHistogram histogram) {
-        final Snapshot snapshot = histogram.getSnapshot();
-
-        return String.format("count=%d,max=%d,mean=%f,min=%d,stddev=%f,p50=%f,p75=%f,p95=%f,p98=%f,p99=%f,p999=%f",
-            histogram.getCount(),
-            snapshot.getMax(),
-            snapshot.getMean(),
-            snapshot.getMin(),
-            snapshot.getStdDev(),
-            snapshot.getMedian(),
-            snapshot.get75thPercentile(),
-            snapshot.get95thPercentile(),
-            snapshot.get98thPercentile(),
-            snapshot.get99thPercentile(),
-            snapshot.get999thPercentile());
+    /**
+     * Bind the numeric columns which apply to the metric type, leaving the others null. Boolean gauge values
+     * are recorded as 1 or 0. Other non-numeric gauge values are not recorded, which is logged once per metric.
+     */
+    private void bindValues(MetricsFrame.Sample sample, NBMetric metric) throws SQLException {
+        for (int i = 3; i <= 19; i++) {
+            insert_values.setNull(i, Types.REAL);
+        }
+        switch (metric) {
+            case NBMetricGauge gauge -> {
+                if (sample.getValue() instanceof Number number) {
+                    insert_values.setDouble(4, number.doubleValue());
+                } else if (sample.getValue() instanceof Boolean bool) {
+                    insert_values.setDouble(4, bool ? 1.0d : 0.0d);
+                } else if (sample.getValue() != null && unrecordedGauges.add(metric.getHandle())) {
+                    logger.warn(() -> "Gauge " + metric.getHandle() + " has a non-numeric value of type "
+                        + sample.getValue().getClass().getSimpleName() + ", which is not recorded in SQLite.");
+                }
+            }
+            case NBMetricCounter counter -> insert_values.setLong(3, sample.getCount());
+            case NBMetricHistogram histogram -> {
+                insert_values.setLong(3, sample.getCount());
+                bindSnapshot(sample.getSnapshot());
+            }
+            case NBMetricTimer timer -> {
+                insert_values.setLong(3, sample.getCount());
+                bindSnapshot(sample.getSnapshot());
+                bindRates(sample);
+            }
+            case NBMetricMeter meter -> {
+                insert_values.setLong(3, sample.getCount());
+                bindRates(sample);
+            }
+            default -> throw new RuntimeException("Unrecognized metric type to report '" + metric.getClass().getSimpleName() + "'");
+        }
     }
 
-    private String extractValue(NBMetricTimer timer) {
-        final Snapshot snapshot = timer.getSnapshot();
-        return "count=" + timer.getCount() + "," +
-            "max=" + snapshot.getMax() + "," +
-            "mean=" + snapshot.getMean() + "," +
-            "min=" + snapshot.getMin() + "," +
-            "stddev=" + snapshot.getStdDev() + "," +
-            "p50=" + snapshot.getMedian() + "," +
-            "p75=" + snapshot.get75thPercentile() + "," +
-            "p95=" + snapshot.get95thPercentile() + "," +
-            "p98=" + snapshot.get98thPercentile() + "," +
-            "p99=" + snapshot.get99thPercentile() + "," +
-            "p999=" + snapshot.get999thPercentile() + "," +
-            "mean_rate=" + timer.getMeanRate() + "," +
-            "m1_rate=" + timer.getOneMinuteRate() + "," +
-            "m5_rate=" + timer.getFiveMinuteRate() + "," +
-            "m15_rate=" + timer.getFifteenMinuteRate();
+    private void bindSnapshot(Snapshot snapshot) throws SQLException {
+        if (snapshot == null) {
+            return;
+        }
+        insert_values.setDouble(5, snapshot.getMin());
+        insert_values.setDouble(6, snapshot.getMax());
+        insert_values.setDouble(7, snapshot.getMean());
+        insert_values.setDouble(8, snapshot.getStdDev());
+        insert_values.setDouble(9, snapshot.getMedian());
+        insert_values.setDouble(10, snapshot.get75thPercentile());
+        insert_values.setDouble(11, snapshot.getValue(0.90d));
+        insert_values.setDouble(12, snapshot.get95thPercentile());
+        insert_values.setDouble(13, snapshot.get98thPercentile());
+        insert_values.setDouble(14, snapshot.get99thPercentile());
+        insert_values.setDouble(15, snapshot.get999thPercentile());
     }
 
-    private String extractValue(NBMetricMeter meter) {
-        return String.format("count=%d,mean_rate=%f,m1_rate=%f,m5_rate=%f,m15_rate=%f",
-            meter.getCount(),
-            meter.getMeanRate(),
-            meter.getOneMinuteRate(),
-            meter.getFiveMinuteRate(),
-            meter.getFifteenMinuteRate());
+    private void bindRates(MetricsFrame.Sample metered) throws SQLException {
+        insert_values.setDouble(16, metered.getMeanRate());
+        insert_values.setDouble(17, metered.getOneMinuteRate());
+        insert_values.setDouble(18, metered.getFiveMinuteRate());
+        insert_values.setDouble(19, metered.getFifteenMinuteRate());
     }
 
+    @Override
+    protected void teardown() {
+        scheduler.unsubscribe(this);
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warn(() -> "Exception closing SQLite connection: " + e.getMessage());
+        }
+        super.teardown();
+    }
 }
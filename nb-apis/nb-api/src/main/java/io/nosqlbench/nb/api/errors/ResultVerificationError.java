@@ -18,18 +18,23 @@ package io.nosqlbench.nb.api.errors;
 
 import java.io.Serializable;
 
+/**
+ * Thrown when an op result does not pass verification. These are expected outcomes of a workload, which
+ * are raised from the same place every time, so no stack trace is captured for them. When the verifier
+ * itself failed, its error is kept as the cause along with its own stack trace.
+ */
 public class ResultVerificationError extends RuntimeException {
     private final int triesLeft;
     private final String expressionDetails;
 
     public ResultVerificationError(String message, int triesLeft, String expressionDetails) {
-        super("Error while verifying result with " + triesLeft + " tries remaining: " + message);
+        super("Error while verifying result with " + triesLeft + " tries remaining: " + message, null, false, false);
         this.triesLeft = triesLeft;
         this.expressionDetails = expressionDetails;
     }
 
     public ResultVerificationError(Throwable throwable, int triesLeft, String expressionDetails) {
-        super("Error while verifying result with " + triesLeft + " tries remaining: " + throwable.getMessage(),throwable);
+        super("Error while verifying result with " + triesLeft + " tries remaining: " + throwable.getMessage(), throwable, false, false);
         this.triesLeft = triesLeft;
         this.expressionDetails = expressionDetails;
     }
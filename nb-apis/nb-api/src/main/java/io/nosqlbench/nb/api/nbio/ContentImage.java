@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.nb.api.nbio;
+
+import io.nosqlbench.nb.api.errors.BasicError;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A read-only text image of some {@link Content}, shared by every caller which asks for the same
+ * content URI. File-backed binding functions are instanced per thread and per binding, so without
+ * sharing, each instance would hold its own copy of the same file.
+ * <p>
+ * Images are reference counted. Each call to {@link #acquire(Object, Content)} counts one reference
+ * against the image, which is released when the owner object becomes unreachable. When the last
+ * owner is gone, the image is dropped from the cache. Local files larger than
+ * {@link #OFFHEAP_THRESHOLD} bytes are memory mapped and decoded into a direct buffer, so that large
+ * text images do not occupy the heap.
+ */
+public final class ContentImage {
+    private final static Logger logger = LogManager.getLogger(ContentImage.class);
+
+    /**
+     * Local files of at least this many bytes are decoded off-heap.
+     */
+    public final static long OFFHEAP_THRESHOLD = 1L << 24;
+
+    private final static Map<URI, ContentImage> images = new ConcurrentHashMap<>();
+    private final static Cleaner cleaner = Cleaner.create();
+
+    private final URI uri;
+    private final CharBuffer image;
+    private volatile List<String> lines;
+    private int refs;
+
+    private ContentImage(URI uri, CharBuffer image) {
+        this.uri = uri;
+        this.image = image.asReadOnlyBuffer();
+    }
+
+    /**
+     * Get the shared image for the given content, loading it if needed. One reference is counted
+     * for the owner, and released automatically once the owner is no longer reachable.
+     *
+     * @param owner   The object which holds on to the image, usually the calling function
+     * @param content The content to load
+     * @return The shared image
+     */
+    public static ContentImage acquire(Object owner, Content<?> content) {
+        URI uri = content.getURI();
+        ContentImage acquired = images.compute(uri, (k, v) -> {
+            ContentImage image = (v != null) ? v : new ContentImage(k, load(content));
+            image.refs++;
+            return image;
+        });
+        cleaner.register(owner, () -> release(uri));
+        return acquired;
+    }
+
+    static void release(URI uri) {
+        images.computeIfPresent(uri, (k, v) -> {
+            if (--v.refs > 0) {
+                return v;
+            }
+            logger.debug(() -> "released content image for " + k);
+            return null;
+        });
+    }
+
+    static int references(URI uri) {
+        ContentImage image = images.get(uri);
+        return image == null ? 0 : image.refs;
+    }
+
+    private static CharBuffer load(Content<?> content) {
+        try {
+            Path path = (content instanceof PathContent) ? content.asPath() : null;
+            if (path != null && path.getFileSystem() == FileSystems.getDefault()) {
+                long size = Files.size(path);
+                if (size >= OFFHEAP_THRESHOLD && size <= Integer.MAX_VALUE / 2) {
+                    logger.debug(() -> "mapping " + size + " bytes off-heap for " + content.getURI());
+                    return decodeDirect(path, (int) size);
+                }
+            }
+        } catch (IOException e) {
+            throw new BasicError("Unable to load content image for " + content.getURI() + ": " + e.getMessage());
+        }
+        return content.getCharBuffer();
+    }
+
+    private static CharBuffer decodeDirect(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CharBuffer chars = ByteBuffer.allocateDirect(size * 2).asCharBuffer();
+            CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+            CoderResult result = decoder.decode(mapped, chars, true);
+            if (result.isError()) {
+                result.throwException();
+            }
+            decoder.flush(chars);
+            return chars.flip();
+        } catch (CharacterCodingException e) {
+            throw new BasicError("Unable to decode " + path + " as UTF-8: " + e);
+        }
+    }
+
+    public URI getURI() {
+        return uri;
+    }
+
+    /**
+     * @return A read-only view of the whole image, with its own position and limit
+     */
+    public CharBuffer getCharBuffer() {
+        return image.duplicate();
+    }
+
+    /**
+     * @return true if the image is held outside of the heap
+     */
+    public boolean isDirect() {
+        return image.isDirect();
+    }
+
+    /**
+     * Get the lines of this image, split on newlines in the same way as {@link String#split(String)},
+     * so trailing empty lines are not included. Only an index of line offsets is built, once, and shared
+     * by all owners. Each line is read from the image the first time it is asked for and then kept, so
+     * that the text of an off-heap image is only copied onto the heap for the lines which are used.
+     *
+     * @return An unmodifiable list of lines
+     */
+    public List<String> getLines() {
+        List<String> result = lines;
+        if (result == null) {
+            synchronized (this) {
+                result = lines;
+                if (result == null) {
+                    result = new Lines(image, lineStarts(image));
+                    lines = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the start offset of each line, followed by one past the end of the last line, so that line i
+     * spans from starts[i] up to starts[i+1]-1. Trailing empty lines are dropped as with
+     * {@link String#split(String)}, unless there is no newline at all.
+     */
+    private static int[] lineStarts(CharBuffer chars) {
+        int limit = chars.limit();
+        int newlines = 0;
+        for (int i = 0; i < limit; i++) {
+            if (chars.get(i) == '\n') {
+                newlines++;
+            }
+        }
+        if (newlines == 0) {
+            return new int[]{0, limit + 1};
+        }
+        int[] starts = new int[newlines + 2];
+        int line = 0;
+        for (int i = 0; i < limit; i++) {
+            if (chars.get(i) == '\n') {
+                starts[++line] = i + 1;
+            }
+        }
+        starts[++line] = limit + 1;
+        while (line > 0 && starts[line] - starts[line - 1] == 1) {
+            line--;
+        }
+        return (line == starts.length - 1) ? starts : Arrays.copyOf(starts, line + 1);
+    }
+
+    private static final class Lines extends AbstractList<String> implements RandomAccess {
+        private final CharBuffer chars;
+        private final int[] starts;
+        private final String[] decoded;
+
+        private Lines(CharBuffer chars, int[] starts) {
+            this.chars = chars;
+            this.starts = starts;
+            this.decoded = new String[starts.length - 1];
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("line " + index + " of " + size());
+            }
+            String line = decoded[index];
+            if (line == null) {
+                // racing threads may decode the same line, but Strings are safely published
+                line = chars.subSequence(starts[index], starts[index + 1] - 1).toString();
+                decoded[index] = line;
+            }
+            return line;
+        }
+
+        @Override
+        public int size() {
+            return starts.length - 1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ContentImage:" + uri + " (" + image.limit() + " chars" + (isDirect() ? ", off-heap" : "") + ")";
+    }
+}
@@ -106,6 +106,22 @@ public class NBIO implements NBPathsAPI.Facets {
         return NBIO.all().searchPrefixes(searchPaths).pathname(fileName).one().getCharBuffer();
     }
 
+    /**
+     * Read the named content as a {@link ContentImage} which is shared with every other owner of the same
+     * content. The image is kept in memory for as long as any owner is reachable.
+     *
+     * @param owner       The object which will hold on to the image
+     * @param fileName    The name of the content to find
+     * @param searchPaths Additional prefixes to search
+     * @return A shared, read-only image of the content
+     */
+    public static ContentImage readImage(Object owner, String fileName, String... searchPaths) {
+        Content<?> content = NBIO.all().searchPrefixes(searchPaths).pathname(fileName).first().orElseThrow(
+            () -> new BasicError("Unable to read " + fileName)
+        );
+        return ContentImage.acquire(owner, content);
+    }
+
     public static Path getFirstLocalPath(String... potentials) {
         Optional<Content<?>> first = NBIO.local().pathname(potentials).first();
         return first.orElseThrow(
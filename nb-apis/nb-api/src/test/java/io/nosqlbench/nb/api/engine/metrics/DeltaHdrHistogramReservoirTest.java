@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.nb.api.engine.metrics;
+
+import com.codahale.metrics.Clock;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class DeltaHdrHistogramReservoirTest {
+
+    @Test
+    public void testShardedReservoirMergesThreads() throws InterruptedException {
+        DeltaHdrHistogramReservoir reservoir = new DeltaHdrHistogramReservoir(NBLabels.forKV("name", "sharded"), 3, true);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int base = t * 1000;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 1; i <= 1000; i++) {
+                    reservoir.update(base + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Histogram first = reservoir.getNextHdrHistogram();
+        assertThat(first.getTotalCount()).isEqualTo(8000);
+        assertThat(first.getMinValue()).isEqualTo(1);
+        assertThat(first.getMaxValue()).isBetween(7990L, 8010L);
+
+        reservoir.update(42L);
+        Histogram second = reservoir.getNextHdrHistogram();
+        assertThat(second.getTotalCount()).isEqualTo(1);
+        assertThat(reservoir.copySettings().isSharded()).isTrue();
+    }
+
+    @Test
+    public void testShardsOfTerminatedThreadsAreDropped() throws InterruptedException {
+        DeltaHdrHistogramReservoir reservoir = new DeltaHdrHistogramReservoir(NBLabels.forKV("name", "shortlived"), 3, true);
+        long total = 0L;
+        for (int round = 0; round < 10; round++) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 100; t++) {
+                threads.add(Thread.ofVirtual().start(() -> {
+                    for (int i = 1; i <= 10; i++) {
+                        reservoir.update(i);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertThat(reservoir.getShardCount()).isEqualTo(100);
+            total += reservoir.getNextHdrHistogram().getTotalCount();
+            assertThat(reservoir.getShardCount()).isZero();
+        }
+        assertThat(total).isEqualTo(10_000L);
+
+        Thread running = Thread.ofPlatform().start(() -> reservoir.update(5L));
+        running.join();
+        reservoir.update(7L);
+        assertThat(reservoir.getNextHdrHistogram().getTotalCount()).isEqualTo(2);
+        assertThat(reservoir.getShardCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCountingMeterRates() {
+        AtomicLong now = new AtomicLong(0L);
+        Clock clock = new Clock() {
+            @Override
+            public long getTick() {
+                return now.get();
+            }
+        };
+        CountingMeter meter = new CountingMeter(clock);
+        for (int second = 0; second < 60; second++) {
+            meter.mark(100);
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+        assertThat(meter.getCount()).isEqualTo(6000);
+        assertThat(meter.getMeanRate()).isCloseTo(100.0d, within(0.001d));
+        assertThat(meter.getOneMinuteRate()).isCloseTo(100.0d, within(0.001d));
+        assertThat(meter.getFifteenMinuteRate()).isCloseTo(100.0d, within(0.001d));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(meter.getOneMinuteRate()).isLessThan(50.0d);
+        assertThat(meter.getFifteenMinuteRate()).isGreaterThan(meter.getOneMinuteRate());
+    }
+}
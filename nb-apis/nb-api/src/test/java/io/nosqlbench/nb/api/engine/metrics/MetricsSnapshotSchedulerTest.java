@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics;
+
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricTimer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsSnapshotSchedulerTest {
+
+    @Test
+    public void testIntervalsShareSnapshotsWithoutLosingData() throws InterruptedException {
+        TestComponent root = new TestComponent("root", "root");
+        NBMetricTimer timer = root.create().timer("snaptimer", 3, MetricCategory.Verification, "testing metric");
+        MetricsSnapshotScheduler scheduler = MetricsSnapshotScheduler.lookup(root);
+        TestComponent child = new TestComponent(root, "child", "child");
+        assertThat(MetricsSnapshotScheduler.lookup(child)).isSameAs(scheduler);
+
+        CountingListener fast = new CountingListener();
+        CountingListener slow = new CountingListener();
+        scheduler.subscribe(fast, 50);
+        scheduler.subscribe(slow, 250);
+
+        for (int i = 1; i <= 1000; i++) {
+            timer.update(i, TimeUnit.MICROSECONDS);
+            if (i % 100 == 0) {
+                Thread.sleep(30);
+            }
+        }
+        scheduler.flush(fast);
+        scheduler.flush(slow);
+
+        assertThat(fast.histogramCount.get()).isEqualTo(1000L);
+        assertThat(slow.histogramCount.get()).isEqualTo(1000L);
+        assertThat(fast.frames.get()).isGreaterThan(slow.frames.get());
+
+        scheduler.unsubscribe(fast);
+        int fastFrames = fast.frames.get();
+        timer.update(1, TimeUnit.MICROSECONDS);
+        scheduler.flush(slow);
+        assertThat(fast.frames.get()).isEqualTo(fastFrames);
+        assertThat(slow.histogramCount.get()).isEqualTo(1001L);
+
+        root.close();
+    }
+
+    private static class CountingListener implements MetricsFrameListener {
+        private final AtomicInteger frames = new AtomicInteger();
+        private final AtomicLong histogramCount = new AtomicLong();
+
+        @Override
+        public void onFrame(MetricsFrame frame) {
+            frames.incrementAndGet();
+            for (MetricsFrame.Sample sample : frame.getSamples()) {
+                if (sample.getHistogram() != null && sample.getLabels().linearizeAsMetrics().contains("snaptimer")) {
+                    histogramCount.addAndGet(sample.getHistogram().getTotalCount());
+                }
+            }
+        }
+    }
+}
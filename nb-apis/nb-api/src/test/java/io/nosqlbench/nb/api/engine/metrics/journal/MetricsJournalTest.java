@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.journal;
+
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsFrame;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricCounter;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.nb.api.engine.metrics.reporters.JournalReporter;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+public class MetricsJournalTest {
+
+    @Test
+    public void testCountsAcrossIndexGroups(@TempDir Path tempDir) throws Exception {
+        Path journal = tempDir.resolve("counts.journal");
+        NBMetricCounter counter = new NBMetricCounter(NBLabels.forKV("name", "journal_counter"), "test counter", MetricCategory.Verification);
+        try (MetricsJournalWriter writer = new MetricsJournalWriter(journal, 0L, 2)) {
+            for (int i = 1; i <= 5; i++) {
+                counter.inc(i * 10L);
+                writer.append(new MetricsFrame(i * 1000L, (i + 1) * 1000L, List.of(MetricsFrame.Sample.of(counter))), s -> true);
+            }
+        }
+
+        try (MetricsJournalReader reader = new MetricsJournalReader(journal)) {
+            assertThat(reader.isComplete()).isTrue();
+            assertThat(reader.getFrames()).hasSize(5);
+            assertThat(reader.getSeries()).hasSize(1);
+            assertThat(counts(reader, Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(10L, 30L, 60L, 100L, 150L);
+            assertThat(counts(reader, 5000L, 5000L)).containsExactly(100L);
+        }
+
+        Path truncated = tempDir.resolve("truncated.journal");
+        byte[] bytes = Files.readAllBytes(journal);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - JournalFormat.TRAILER_BYTES - 3));
+        try (MetricsJournalReader reader = new MetricsJournalReader(truncated)) {
+            assertThat(reader.isComplete()).isFalse();
+            assertThat(counts(reader, Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(10L, 30L, 60L, 100L, 150L);
+            assertThat(counts(reader, 5000L, 6000L)).containsExactly(100L, 150L);
+        }
+    }
+
+    @Test
+    public void testReporterJournalsHistograms(@TempDir Path tempDir) {
+        Path journal = tempDir.resolve("session.journal");
+        TestComponent root = new TestComponent("root", "root");
+        NBMetricTimer timer = root.create().timer("journal_timer", 3, MetricCategory.Verification, "testing metric");
+        new JournalReporter(root, journal, 60_000L, null);
+        for (int i = 1; i <= 100; i++) {
+            timer.update(i, TimeUnit.MICROSECONDS);
+        }
+        root.close();
+
+        try (MetricsJournalReader reader = new MetricsJournalReader(journal)) {
+            assertThat(reader.isComplete()).isTrue();
+            List<MetricsJournalReader.JournalSample> samples = new ArrayList<>();
+            reader.read(Long.MIN_VALUE, Long.MAX_VALUE, s -> s.handle().contains("journal_timer"), samples::add);
+            assertThat(samples).hasSize(1);
+            assertThat(samples.getFirst().count()).isEqualTo(100L);
+            assertThat(samples.getFirst().histogram().getTotalCount()).isEqualTo(100L);
+            assertThat(samples.getFirst().histogram().getMaxValue()).isCloseTo(100_000L, withinPercentage(1));
+        }
+    }
+
+    private static List<Long> counts(MetricsJournalReader reader, long from, long to) {
+        List<Long> counts = new ArrayList<>();
+        reader.read(from, to, s -> true, sample -> counts.add(sample.count()));
+        return counts;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.reporters;
+
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricCounter;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PromPullReporterComponentTest {
+
+    @Test
+    public void testScrapePlainAndGzip() throws Exception {
+        TestComponent root = new TestComponent("root", "root");
+        NBMetricCounter counter = root.create().counter("scraped_counter", MetricCategory.Verification, "testing metric");
+        counter.inc(42L);
+
+        PromPullReporterComponent reporter = root.create().pullReporter("127.0.0.1:0", 60_000L, NBLabels.forKV());
+        MetricsSnapshotScheduler.lookup(root).flush(reporter);
+        URI uri = URI.create("http://127.0.0.1:" + reporter.getAddress().getPort() + "/metrics");
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<String> plain = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(plain.statusCode()).isEqualTo(200);
+        assertThat(plain.headers().firstValue("Content-Type")).hasValueSatisfying(v -> assertThat(v).startsWith("text/plain"));
+        assertThat(plain.body()).contains("scraped_counter_total");
+        assertThat(plain.body()).contains(" 42 ");
+
+        HttpResponse<byte[]> gzipped = client.send(
+            HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip").GET().build(),
+            HttpResponse.BodyHandlers.ofByteArray()
+        );
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.body()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain.body());
+        }
+
+        counter.inc(1L);
+        MetricsSnapshotScheduler.lookup(root).flush(reporter);
+        HttpResponse<String> updated = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(updated.body()).contains(" 43 ");
+
+        root.close();
+    }
+
+    @Test
+    public void testScrapeSeesLatestFrameAfterUnscrapedFrames() throws Exception {
+        TestComponent root = new TestComponent("root", "root");
+        NBMetricCounter counter = root.create().counter("idle_counter", MetricCategory.Verification, "testing metric");
+        counter.inc(1L);
+
+        PromPullReporterComponent reporter = root.create().pullReporter("127.0.0.1:0", 60_000L, NBLabels.forKV());
+        MetricsSnapshotScheduler scheduler = MetricsSnapshotScheduler.lookup(root);
+        scheduler.flush(reporter);
+        URI uri = URI.create("http://127.0.0.1:" + reporter.getAddress().getPort() + "/metrics");
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<String> first = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(first.body()).contains("idle_counter_total").contains(" 1 ");
+
+        counter.inc(1L);
+        scheduler.flush(reporter);
+        counter.inc(1L);
+        scheduler.flush(reporter);
+        HttpResponse<String> latest = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(latest.body()).contains(" 3 ");
+
+        HttpResponse<String> again = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(again.body()).isEqualTo(latest.body());
+
+        root.close();
+    }
+}
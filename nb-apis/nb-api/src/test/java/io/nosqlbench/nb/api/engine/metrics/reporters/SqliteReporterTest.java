@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.nb.api.engine.metrics.reporters;
+
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricCounter;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricTimer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqliteReporterTest {
+
+    @Test
+    public void testIntervalsAreRecordedAsNumericRows(@TempDir Path tempDir) throws Exception {
+        String url = "jdbc:sqlite:" + tempDir.resolve("metrics.db");
+        TestComponent root = new TestComponent("root", "root");
+        NBMetricCounter counter = root.create().counter("sqlite_counter", MetricCategory.Verification, "testing metric");
+        NBMetricTimer timer = root.create().timer("sqlite_timer", 3, MetricCategory.Verification, "testing metric");
+        SqliteReporter reporter = new SqliteReporter(root, url, 60_000L);
+        MetricsSnapshotScheduler scheduler = MetricsSnapshotScheduler.lookup(root);
+
+        counter.inc(5L);
+        timer.update(100L, TimeUnit.NANOSECONDS);
+        scheduler.flush(reporter);
+        Thread.sleep(2);
+        counter.inc(2L);
+        scheduler.flush(reporter);
+
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("PRAGMA journal_mode")) {
+                rs.next();
+                assertThat(rs.getString(1)).isEqualToIgnoringCase("wal");
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM metric_frames")) {
+                rs.next();
+                assertThat(rs.getInt(1)).isEqualTo(2);
+            }
+            try (ResultSet rs = statement.executeQuery(
+                "SELECT COUNT FROM metric_samples WHERE label_name='sqlite_counter' ORDER BY REPORT_TIME")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getLong(1)).isEqualTo(5L);
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getLong(1)).isEqualTo(7L);
+            }
+            try (ResultSet rs = statement.executeQuery(
+                "SELECT COUNT, MAX FROM metric_samples WHERE METRIC_NAME='sqlite_timer' ORDER BY REPORT_TIME LIMIT 1")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getLong(1)).isEqualTo(1L);
+                assertThat(rs.getDouble(2)).isEqualTo(100.0d);
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM metric_series")) {
+                rs.next();
+                assertThat(rs.getInt(1)).isGreaterThanOrEqualTo(2);
+            }
+        }
+        root.close();
+    }
+
+    @Test
+    public void testLabelColumnsIgnoreCaseAndCollisions(@TempDir Path tempDir) throws Exception {
+        String url = "jdbc:sqlite:" + tempDir.resolve("labels.db");
+        TestComponent root = new TestComponent("root", "root");
+        TestComponent upper = new TestComponent(root, "Phase", "one", "Shard", "x", "shard", "y");
+        TestComponent lower = new TestComponent(root, "phase", "two");
+        upper.create().counter("upper_counter", MetricCategory.Verification, "testing metric").inc(1L);
+        lower.create().counter("lower_counter", MetricCategory.Verification, "testing metric").inc(2L);
+        SqliteReporter reporter = new SqliteReporter(root, url, 60_000L);
+        MetricsSnapshotScheduler.lookup(root).flush(reporter);
+
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            Set<String> columns = new HashSet<>();
+            try (ResultSet rs = statement.executeQuery("PRAGMA table_info(metric_series)")) {
+                while (rs.next()) {
+                    columns.add(rs.getString("name"));
+                }
+            }
+            assertThat(columns).contains("label_phase", "label_shard", "label_shard_2").doesNotContain("label_Phase");
+            try (ResultSet rs = statement.executeQuery(
+                "SELECT COUNT FROM metric_samples WHERE label_phase='one' AND label_shard || label_shard_2 IN ('xy','yx')")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getLong(1)).isEqualTo(1L);
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT FROM metric_samples WHERE label_phase='two'")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getLong(1)).isEqualTo(2L);
+            }
+        }
+        root.close();
+    }
+}
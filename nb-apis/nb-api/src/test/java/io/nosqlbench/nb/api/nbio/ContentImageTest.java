@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.nb.api.nbio;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContentImageTest {
+
+    @Test
+    public void testImageIsSharedAndReleased() throws IOException {
+        Path file = Files.createTempFile("contentimage", ".txt");
+        Files.writeString(file, "one\ntwo\n\nthree\n\n", StandardCharsets.UTF_8);
+        PathContent content = new PathContent(file);
+        URI uri = content.getURI();
+
+        // owners are kept reachable, so that only the explicit releases below are counted
+        Object firstOwner = new Object();
+        Object secondOwner = new Object();
+        ContentImage first = ContentImage.acquire(firstOwner, content);
+        ContentImage second = ContentImage.acquire(secondOwner, content);
+        assertThat(second).isSameAs(first);
+        assertThat(second.getLines()).isSameAs(first.getLines());
+        assertThat(ContentImage.references(uri)).isEqualTo(2);
+
+        assertThat(first.getLines()).containsExactlyElementsOf(
+            Arrays.asList("one\ntwo\n\nthree\n\n".split("\n")));
+        assertThat(second.getLines().get(3)).isSameAs(first.getLines().get(3));
+        assertThat(first.getCharBuffer().toString()).isEqualTo("one\ntwo\n\nthree\n\n");
+        assertThat(first.isDirect()).isFalse();
+
+        ContentImage.release(uri);
+        ContentImage.release(uri);
+        assertThat(ContentImage.references(uri)).isEqualTo(0);
+        Object thirdOwner = new Object();
+        assertThat(ContentImage.acquire(thirdOwner, content)).isNotSameAs(first);
+        ContentImage.release(uri);
+        Reference.reachabilityFence(firstOwner);
+        Reference.reachabilityFence(secondOwner);
+        Reference.reachabilityFence(thirdOwner);
+        Files.delete(file);
+    }
+
+    @Test
+    public void testLinesMatchSplit() throws IOException {
+        for (String text : List.of("", "one", "one\n", "\n", "\n\n", "\none", "one\n\ntwo", "one\ntwo\n\n\n")) {
+            Path file = Files.createTempFile("contentimage", ".txt");
+            Files.writeString(file, text, StandardCharsets.UTF_8);
+            Object owner = new Object();
+            ContentImage image = ContentImage.acquire(owner, new PathContent(file));
+            assertThat(image.getLines())
+                .describedAs("lines of '" + text.replace("\n", "\\n") + "'")
+                .containsExactlyElementsOf(Arrays.asList(text.split("\n")));
+            ContentImage.release(image.getURI());
+            Reference.reachabilityFence(owner);
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testViewsAreIndependent() throws IOException {
+        Path file = Files.createTempFile("contentimage", ".txt");
+        Files.writeString(file, "abcdef", StandardCharsets.UTF_8);
+        Object owner = new Object();
+        ContentImage image = ContentImage.acquire(owner, new PathContent(file));
+        var view = image.getCharBuffer();
+        view.position(3);
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(image.getCharBuffer().toString()).isEqualTo("abcdef");
+        ContentImage.release(image.getURI());
+        Reference.reachabilityFence(owner);
+        Files.delete(file);
+    }
+}
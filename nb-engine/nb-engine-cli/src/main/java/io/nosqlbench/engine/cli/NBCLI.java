@@ -441,6 +441,12 @@ public class NBCLI implements Function<String[], Integer>, NBLabeledElement {
                 new CsvReporter(session, Path.of(cfg.file), cfg.millis, filter);
             });
 
+            options.wantsReportJournalTo().ifPresent(cfg -> {
+                MetricInstanceFilter filter = new MetricInstanceFilter();
+                filter.addPattern(cfg.pattern);
+                session.create().journalReporter(session, Path.of(cfg.file), cfg.millis, filter);
+            });
+
             options.wantsReportSqliteTo().ifPresent(cfg -> {
                 MetricInstanceFilter filter = new MetricInstanceFilter();
                 filter.addPattern(cfg.pattern);
@@ -463,6 +469,23 @@ public class NBCLI implements Function<String[], Integer>, NBLabeledElement {
                 }
                 session.create().pushReporter(uri, intervalMs, NBLabels.forKV());
             });
+
+            options.wantsReportPromListen().ifPresent(cfg -> {
+                String[] words = cfg.split(",");
+                String listenAddress;
+                long intervalMs = 10_000L;
+
+                switch (words.length) {
+                    case 2:
+                        intervalMs = Unit.msFor(words[1]).orElseThrow(() -> new RuntimeException("can't parse '" + words[1] + "!"));
+                    case 1:
+                        listenAddress = words[0];
+                        break;
+                    default:
+                        throw new RuntimeException("Unable to parse '" + cfg + "', must be in <host:port> or <host:port>,ms form");
+                }
+                session.create().pullReporter(listenAddress, intervalMs, NBLabels.forKV());
+            });
             for (final NBCLIOptions.LoggerConfigData histoLogger : options.getHistoLoggerConfigs()) {
                 session.create().histoLogger(sessionName, histoLogger.pattern, histoLogger.file, histoLogger.millis);
             }
@@ -118,8 +118,10 @@ public class NBCLIOptions {
     private static final String ENABLE_LOGGED_METRICS = "--enable-logged-metrics";
     private static final String DISABLE_LOGGED_METRICS = "--disable-logged-metrics";
     private static final String REPORT_PROMPUSH_TO = "--report-prompush-to";
+    private static final String REPORT_PROM_LISTEN = "--report-prom-listen";
     private static final String GRAPHITE_LOG_LEVEL = "--graphite-log-level";
     private static final String REPORT_CSV_TO = "--report-csv-to";
+    private static final String REPORT_JOURNAL_TO = "--report-journal-to";
     private static final String REPORT_SUMMARY_TO = "--report-summary-to";
     private static final String SUMMARY = "--summary";
     private static final String REPORT_SUMMARY_TO_DEFAULT = "_LOGS_/_SESSION__summary.txt";
@@ -164,7 +166,9 @@ public class NBCLIOptions {
     private boolean wantsBasicHelp;
     private String reportGraphiteTo;
     private String reportPromPushTo;
+    private String reportPromListen;
     private String reportCsvTo;
+    private String reportJournalTo;
     private String reportSqliteTo;
     private int reportInterval = 10;
     private String metricsPrefix = "nosqlbench";
@@ -414,6 +418,10 @@ public class NBCLIOptions {
                     arglist.removeFirst();
                     this.reportPromPushTo = arglist.removeFirst();
                     break;
+                case NBCLIOptions.REPORT_PROM_LISTEN:
+                    arglist.removeFirst();
+                    this.reportPromListen = this.readWordOrThrow(arglist, "prom listen address in host:port or host:port,interval form");
+                    break;
                 case NBCLIOptions.GRAPHITE_LOG_LEVEL:
                     arglist.removeFirst();
                     this.graphitelogLevel = arglist.removeFirst();
@@ -610,6 +618,10 @@ public class NBCLIOptions {
                     arglist.removeFirst();
                     this.reportCsvTo = arglist.removeFirst();
                     break;
+                case NBCLIOptions.REPORT_JOURNAL_TO:
+                    arglist.removeFirst();
+                    this.reportJournalTo = this.readWordOrThrow(arglist, "journal file in filename, filename:regex or filename:regex:interval form");
+                    break;
                 case NBCLIOptions.REPORT_SQLITE_TO:
                     arglist.removeFirst();
                     this.reportSqliteTo = arglist.removeFirst();
@@ -840,6 +852,10 @@ public class NBCLIOptions {
         return Optional.ofNullable(this.reportPromPushTo);
     }
 
+    public Optional<String> wantsReportPromListen() {
+        return Optional.ofNullable(this.reportPromListen);
+    }
+
     public String wantsMetricsPrefix() {
         return this.metricsPrefix;
     }
@@ -916,6 +932,10 @@ public class NBCLIOptions {
         return Optional.ofNullable(this.reportCsvTo).map(LoggerConfigData::new);
     }
 
+    public Optional<LoggerConfigData> wantsReportJournalTo() {
+        return Optional.ofNullable(this.reportJournalTo).map(LoggerConfigData::new);
+    }
+
     public Optional<SqliteConfigData> wantsReportSqliteTo() {
         return Optional.ofNullable(this.reportSqliteTo).map(SqliteConfigData::new);
     }
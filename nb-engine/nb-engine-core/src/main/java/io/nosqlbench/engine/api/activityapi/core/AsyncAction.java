@@ -22,43 +22,47 @@ import java.util.function.LongFunction;
 
 /**
  * An AsyncAction allows an activity type to implement asynchronous
- * operations within each thread.
+ * operations within each thread. When a motor is given an AsyncAction,
+ * it keeps up to the configured number of <em>async</em> operations in flight
+ * for its slot, enqueueing each new cycle as soon as there is room for it.
  */
 public interface AsyncAction<D> extends Action {
 
+    /**
+     * The op init function maps a cycle to the op state which is held by
+     * the tracked op for that cycle, from enqueue to completion.
+     * @return a function of cycle to op state
+     */
     LongFunction<D> getOpInitFunction();
 
     /**
-     * THIS DOCUMENTATION IS LIKELY OUT OF DATE
-     *
-     * The responsibility for tracking async pending against concurrency limits,
-     * including signaling for thread state, has been moved into the async
-     * event loop of the core motor. If this experiment holds, then the docs
-     * here must be rewritten to be accurate for that approach.
-     **
-     *
-     * Enqueue a cycle to be executed by the action. This method should block unless
-     * or until the action accepts the cycle to be processed.
-     * This method is not allowed to reject a cycle. If it is unable to accept the
-     * cycle for any reason, it must throw an exception.
+     * <p>Start a cycle, without waiting for it to complete.</p>
      *
-     * Since the action implementation is presumed to be running some externally
-     * asynchronous process to support the action, it is up to the action itself
-     * to control when to block enqueueing. If the action is not actually asynchronous,
-     * then it may need to do downstream processing in order to open room in its
-     * concurrency limits for the new cycle.
+     * <p>The responsibility for tracking pending ops against concurrency limits,
+     * including blocking the motor thread when the limit is reached, is held by the
+     * {@link io.nosqlbench.engine.api.activityapi.core.ops.fluent.OpTracker} in the
+     * async event loop of the core motor. Thus, this method should not block unless it
+     * is unable to submit the operation asynchronously. This method is not allowed
+     * to reject a cycle. If it is unable to accept the cycle for any reason, it must
+     * throw an exception.</p>
      *
-     * Each action implementation is responsible for tracking and controlling
-     * its own limits of concurrency. The {@link BaseAsyncAction} base class is a
-     * convenient starting point for such implementations.
-     *
-     * If the action is known to have additional open slots for an operations to
-     * be started (according to the configured concurrency limits),
-     * then it can signal such by returning true from this method.
+     * <p>The action must call {@link TrackedOp#start()} before the operation is submitted,
+     * and then exactly one of succeed or fail on the started op when it is complete, from
+     * whichever thread completes it. The {@link BaseAsyncAction} base class is a
+     * convenient starting point for such implementations.</p>
      *
      * @param opc The op ctx that holds state for this operation
      * @return true, if the action is ready immediately for another operation
      */
     boolean enqueue(TrackedOp<D> opc);
 
+    /**
+     * Errors which are thrown by the error handler while completing an operation
+     * occur on whichever thread completed it, which is usually not the motor thread.
+     * The motor calls this after draining its pending ops so that any such error can be
+     * rethrown in the motor thread, as it would be for a synchronous action.
+     */
+    default void rethrowAsyncErrors() {
+    }
+
 }
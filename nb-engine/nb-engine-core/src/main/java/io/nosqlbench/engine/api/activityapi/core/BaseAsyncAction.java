@@ -22,6 +22,8 @@ import io.nosqlbench.nb.api.engine.activityimpl.ParameterMap;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  *
  * @param <D> An type of state holder for an operation, holding everything unique to that cycle and operation
@@ -33,7 +35,8 @@ public abstract class BaseAsyncAction<D, A extends Activity> implements AsyncAct
     protected final A activity;
 
     protected int slot;
-    protected boolean running = true;
+    protected volatile boolean running = true;
+    private final AtomicReference<Throwable> asyncError = new AtomicReference<>();
 
     public BaseAsyncAction(A activity, int slot) {
         this.activity = activity;
@@ -50,10 +53,37 @@ public abstract class BaseAsyncAction<D, A extends Activity> implements AsyncAct
     }
 
     public boolean enqueue(TrackedOp<D> opc) {
+        rethrowAsyncErrors();
         startOpCycle(opc);
         return (running);
     }
 
+    /**
+     * Implementations should call this when an error escapes the completion
+     * of an operation on a thread other than the motor thread. Only the first
+     * such error is kept. It will be rethrown in the motor thread on the next
+     * call to {@link #enqueue(TrackedOp)} or {@link #rethrowAsyncErrors()}.
+     *
+     * @param error The error which was not handled on the completing thread
+     */
+    protected void onAsyncError(Throwable error) {
+        if (asyncError.compareAndSet(null, error)) {
+            logger.debug(() -> this + " caught async error: " + error);
+        }
+    }
+
+    @Override
+    public void rethrowAsyncErrors() {
+        Throwable error = asyncError.get();
+        if (error instanceof RuntimeException re) {
+            throw re;
+        } else if (error instanceof Error e) {
+            throw e;
+        } else if (error != null) {
+            throw new RuntimeException(error);
+        }
+    }
+
     /**
      * Implementations that extend this base class can call this method in order to put
      * an operation in flight. Implementations should call either {@link TrackedOp#skip(int)}
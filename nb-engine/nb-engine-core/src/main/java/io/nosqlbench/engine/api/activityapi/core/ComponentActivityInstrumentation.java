@@ -33,6 +33,8 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
     private final ActivityDef def;
     private final ParameterMap params;
     private final int hdrdigits;
+    private final boolean shardedTimers;
+    private final boolean countingMeters;
     private NBMetricTimer readInputTimer;
     private NBMetricTimer stridesServiceTimer;
     private NBMetricTimer stridesResponseTimer;
@@ -57,24 +59,38 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         def = activity.getActivityDef();
         params = this.def.getParams();
         hdrdigits = activity.getHdrDigits();
+        shardedTimers = params.getOptionalBoolean("sharded_timers").orElse(true);
+        countingMeters = params.getOptionalBoolean("counting_meters").orElse(false);
         initMetrics();
     }
 
+    /**
+     * The activity timers are updated by every motor thread on every cycle, so by default they record into a
+     * histogram shard per thread. Set {@code sharded_timers=false} to use a single shared recorder instead, or
+     * {@code counting_meters=true} to only count events on update and compute the timer rates when read.
+     */
+    private NBMetricTimer timer(String name, int hdrdigits, MetricCategory category, String description) {
+        if (shardedTimers) {
+            return activity.create().shardedTimer(name, hdrdigits, countingMeters, category, description);
+        }
+        return activity.create().timer(name, hdrdigits, category, description);
+    }
+
     private void initMetrics() {
-        readInputTimer = activity.create().timer(
+        readInputTimer = timer(
             "read_input",
             this.hdrdigits,
             MetricCategory.Internals,
             "measures overhead of acquiring a cycle range for an activity thread"
         );
-        stridesServiceTimer = activity.create().timer(
+        stridesServiceTimer = timer(
             "strides",
             this.hdrdigits,
             MetricCategory.Core,
             "service timer for a stride, which is the same as the op sequence length by default"
         );
         if (null != activity.getStrideLimiter()) {
-            this.stridesResponseTimer = activity.create().timer(
+            this.stridesResponseTimer = timer(
                 "strides" + ComponentActivityInstrumentation.RESPONSE_TIME,
                 hdrdigits,
                 MetricCategory.Core,
@@ -82,7 +98,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
                     " response timers include scheduling delays which occur when an activity falls behind its target rate"
             );
         }
-        this.cyclesServiceTimer = activity.create().timer(
+        this.cyclesServiceTimer = timer(
             "cycles" + ComponentActivityInstrumentation.SERVICE_TIME,
             hdrdigits,
             MetricCategory.Core,
@@ -90,7 +106,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
                 " service timers measure the time between submitting a request and receiving the response"
         );
         if (null != activity.getCycleLimiter()) {
-            this.cyclesResponseTimer = activity.create().timer(
+            this.cyclesResponseTimer = timer(
                 "cycles" + ComponentActivityInstrumentation.RESPONSE_TIME,
                 hdrdigits,
                 MetricCategory.Core,
@@ -105,27 +121,27 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
                 " This starts "
         );
 
-        this.bindTimer = activity.create().timer(
+        this.bindTimer = timer(
             "bind",
             hdrdigits,
             MetricCategory.Core,
             "Time the step within a cycle which binds generated data to an op template to synthesize an executable operation."
         );
 
-        this.executeTimer = activity.create().timer(
+        this.executeTimer = timer(
             "execute",
             hdrdigits,
             MetricCategory.Core,
             "Time how long it takes to submit a request and receive a result, including reading the result in the client."
         );
-        this.resultTimer = activity.create().timer(
+        this.resultTimer = timer(
             "result",
             hdrdigits,
             MetricCategory.Core,
             "Time how long it takes to submit a request, receive a result, including binding, reading results, " +
                 "and optionally verifying them, including all operations whether successful or not, for each attempted request."
         );
-        this.resultSuccessTimer = activity.create().timer(
+        this.resultSuccessTimer = timer(
             "result_success",
             hdrdigits,
             MetricCategory.Core,
@@ -139,7 +155,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
                 " Slight saturation is indicated by p99 or p95 returning higher values." +
                 " Lower quantiles returning more than 1, or higher values at high quantiles indicate incremental overload."
         );
-        this.verifierTimer = activity.create().timer(
+        this.verifierTimer = timer(
             "verifier",
             hdrdigits,
             MetricCategory.Verification,
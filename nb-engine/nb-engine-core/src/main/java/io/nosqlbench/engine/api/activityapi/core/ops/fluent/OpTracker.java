@@ -56,5 +56,12 @@ public interface OpTracker<D> extends OpEvents<D> {
     // By making the op tracker the factory for ops, we allow it to hook their event streams
     TrackedOp<D> newOp(long cycle, OpEvents<D> strideTracker);
 
+    /**
+     * Wait until there is room for another op to be started, or until the timeout elapses.
+     * @param timeout The maximum time to wait, in milliseconds
+     * @return true, if another op may be started
+     */
+    boolean awaitAvailable(long timeout);
+
     boolean awaitCompletion(long timeout);
 }
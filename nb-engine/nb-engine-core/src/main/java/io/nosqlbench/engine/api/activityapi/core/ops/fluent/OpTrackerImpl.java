@@ -25,6 +25,9 @@ import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.*;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.LongFunction;
 
 /**
@@ -40,7 +43,10 @@ public class OpTrackerImpl<D> implements OpTracker<D>, ActivityDefObserver {
     private final Timer cycleResponseTimer;
     private final Counter pendingOpsCounter;
 
-    private int maxPendingOps =1;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private volatile int maxPendingOps =1;
     private LongFunction<D> cycleOpFunction;
 
 
@@ -77,9 +83,7 @@ public class OpTrackerImpl<D> implements OpTracker<D>, ActivityDefObserver {
         if (cycleResponseTimer !=null) { cycleResponseTimer.update(op.getResponseTimeNanos(), TimeUnit.NANOSECONDS); }
 
         if (pending< maxPendingOps) {
-            synchronized (this) {
-                notify();
-            }
+            signalAvailable();
         }
     }
 
@@ -89,9 +93,7 @@ public class OpTrackerImpl<D> implements OpTracker<D>, ActivityDefObserver {
         int pending = this.pendingOps.decrementAndGet();
 
         if (pending< maxPendingOps) {
-            synchronized (this) {
-                notify();
-            }
+            signalAvailable();
         }
 
     }
@@ -107,18 +109,14 @@ public class OpTrackerImpl<D> implements OpTracker<D>, ActivityDefObserver {
         if (cycleResponseTimer !=null) { cycleResponseTimer.update(op.getResponseTimeNanos(), TimeUnit.NANOSECONDS); }
 
         if (pending< maxPendingOps) {
-            synchronized (this) {
-                notify();
-            }
+            signalAvailable();
         }
     }
 
     @Override
     public void setMaxPendingOps(int maxPendingOps) {
         this.maxPendingOps =maxPendingOps;
-        synchronized (this) {
-            notifyAll();
-        }
+        signalAvailable();
     }
 
     @Override
@@ -149,17 +147,47 @@ public class OpTrackerImpl<D> implements OpTracker<D>, ActivityDefObserver {
         return maxPendingOps;
     }
 
+    /**
+     * Waiters are signaled with a lock and condition rather than an object monitor, so that
+     * a motor running on a virtual thread does not pin its carrier thread while it waits.
+     */
+    private void signalAvailable() {
+        lock.lock();
+        try {
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean awaitAvailable(long timeout) {
+        return awaitCondition(timeout, () -> !isFull());
+    }
+
     @Override
-    public synchronized boolean awaitCompletion(long timeout) {
-        long endAt = System.currentTimeMillis() + timeout;
-        while (getPendingOps() > 0 && System.currentTimeMillis() < endAt) {
-            try {
-                long waitfor = Math.max(0, endAt - System.currentTimeMillis());
-                wait(waitfor);
-            } catch (InterruptedException ignored) {
+    public boolean awaitCompletion(long timeout) {
+        return awaitCondition(timeout, () -> getPendingOps() == 0);
+    }
+
+    private boolean awaitCondition(long timeout, BooleanSupplier condition) {
+        long endAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!condition.getAsBoolean()) {
+                long waitfor = endAt - System.nanoTime();
+                if (waitfor <= 0) {
+                    break;
+                }
+                try {
+                    available.awaitNanos(waitfor);
+                } catch (InterruptedException ignored) {
+                }
             }
+            return condition.getAsBoolean();
+        } finally {
+            lock.unlock();
         }
-        return getPendingOps() == 0;
     }
 
     @Override
@@ -175,7 +203,8 @@ public class OpTrackerImpl<D> implements OpTracker<D>, ActivityDefObserver {
     private int getMaxPendingOpsForThisThread(ActivityDef def) {
         int maxTotalOpsInFlight = def.getParams().getOptionalInteger("async").orElse(1);
         int threads = def.getThreads();
-        return (maxTotalOpsInFlight / threads) + (slot < (maxTotalOpsInFlight % threads) ? 1 : 0);
+        int maxForThread = (maxTotalOpsInFlight / threads) + (slot < (maxTotalOpsInFlight % threads) ? 1 : 0);
+        return Math.max(1, maxForThread);
     }
 
 
@@ -24,7 +24,7 @@ public class OpImpl<D> implements OpFacets<D> {
     private long cycle;
     private int cycleResult;
 
-    private long waitTime;
+    private long intendedAtNanos = Long.MIN_VALUE;
     private long endedAtNanos;
     private long startedAtNanos;
 
@@ -40,6 +40,9 @@ public class OpImpl<D> implements OpFacets<D> {
     public StartedOp<D> start() {
         this.endedAtNanos = Long.MIN_VALUE;
         this.startedAtNanos = System.nanoTime();
+        if (this.intendedAtNanos == Long.MIN_VALUE) {
+            this.intendedAtNanos = this.startedAtNanos;
+        }
         tries = 1;
         return this;
     }
@@ -48,8 +51,8 @@ public class OpImpl<D> implements OpFacets<D> {
     @Override
     public OpImpl<D> setWaitTime(long waitTime) {
         this.endedAtNanos = Long.MIN_VALUE;
-        this.waitTime = waitTime;
         this.startedAtNanos = System.nanoTime();
+        this.intendedAtNanos = this.startedAtNanos - waitTime;
 //        usages++;
         return this;
     }
@@ -120,7 +123,7 @@ public class OpImpl<D> implements OpFacets<D> {
 
     @Override
     public long getCurrentResponseTimeNanos() {
-        return waitTime + getCurrentServiceTimeNanos();
+        return System.nanoTime() - this.intendedAtNanos;
     }
 
     @Override
@@ -130,7 +133,7 @@ public class OpImpl<D> implements OpFacets<D> {
 
     @Override
     public long getResponseTimeNanos() {
-        return waitTime + getServiceTimeNanos();
+        return this.endedAtNanos - this.intendedAtNanos;
     }
 
     @Override
@@ -143,7 +146,7 @@ public class OpImpl<D> implements OpFacets<D> {
         return "Op{" +
                 "cycle=" + cycle +
                 ", result=" + cycleResult +
-                ", wait=" + waitTime +
+                ", intended=" + intendedAtNanos +
                 ", started=" + startedAtNanos +
                 ", ended=" + endedAtNanos +
                 ", tries=" + tries +
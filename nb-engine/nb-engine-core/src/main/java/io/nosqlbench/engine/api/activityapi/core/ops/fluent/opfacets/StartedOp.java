@@ -72,8 +72,8 @@ public interface StartedOp<D> extends Payload<D>, CycleReadable {
     long getCurrentServiceTimeNanos();
 
     /**
-     * Return the nanos that have elapsed since this op was started at the time of this call,
-     * plus any prior waittime.
+     * Return the nanos that have elapsed since this op was intended to start at the time of this call.
+     * This is the time since the op was started, plus any scheduling delay given as its wait time.
      * @return nanosecond response time duration
      */
     long getCurrentResponseTimeNanos();
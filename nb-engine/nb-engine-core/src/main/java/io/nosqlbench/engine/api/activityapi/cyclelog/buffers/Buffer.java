@@ -27,7 +27,7 @@ import java.util.List;
 public abstract class Buffer<T extends Comparable> {
 
     private int position;
-    private final int limit;
+    private int limit;
     protected ArrayList<T> data;
 
     public Buffer(int size) {
@@ -66,6 +66,25 @@ public abstract class Buffer<T extends Comparable> {
 //        return 0;
 //    }
 
+    /**
+     * Lower the number of elements at which this buffer is full, for when fewer elements will be
+     * put than it was sized for. If that many elements are already present, {@link #onFull()} is
+     * called now.
+     * @param limit The new limit, which must not be more than the current one
+     */
+    protected void shrinkTo(int limit) {
+        if (limit > this.limit) {
+            throw new RuntimeException("Unable to grow a buffer limit from " + this.limit + " to " + limit);
+        }
+        if (limit == this.limit) {
+            return;
+        }
+        this.limit = limit;
+        if (data.size() == limit) {
+            onFull();
+        }
+    }
+
     public List<T> getFlippedData() {
         return data;
     }
@@ -30,18 +30,36 @@ import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Routes each error to the chain of {@link ErrorHandler}s configured for its name. With the default
+ * naming by simple class name, the chain for each exception class is resolved once and kept in a
+ * {@link ClassValue}, so handling an error does not compute names, take locks or match patterns.
+ * Custom namers may depend on more than the class, so their chains are cached by name instead.
+ */
 public class NBErrorHandler {
 
     private final Supplier<ErrorMetrics> errorMetricsSupplier;
     private final Supplier<String> configSpecSupplier;
     private final Function<Throwable, String> namer;
-    private final Map<String, List<ErrorHandler>> handlerCache = new ConcurrentHashMap<>();
+    private final Map<String, HandlerChain> handlerCache = new ConcurrentHashMap<>();
+    private final ClassValue<HandlerChain> classHandlers = new ClassValue<>() {
+        @Override
+        protected HandlerChain computeValue(Class<?> type) {
+            String errorName = type.getSimpleName();
+            return new HandlerChain(errorName, lookup(errorName));
+        }
+    };
     private final List<HandlerMapping> configs = new ArrayList<>();
 
     public NBErrorHandler(Supplier<String> configSpecSupplier, Supplier<ErrorMetrics> metricsSupplier) {
-        this(configSpecSupplier, metricsSupplier, throwable -> throwable.getClass().getSimpleName());
+        this(configSpecSupplier, metricsSupplier, null);
     }
 
+    /**
+     * @param namer
+     *     A function to name each error for matching against the configured handlers, or null to use
+     *     the simple class name of the error
+     */
     public NBErrorHandler(Supplier<String> configSpecSupplier, Supplier<ErrorMetrics> metricsSupplier, Function<Throwable,String> namer) {
         this.errorMetricsSupplier = metricsSupplier;
         this.configSpecSupplier = configSpecSupplier;
@@ -53,24 +71,35 @@ public class NBErrorHandler {
     }
 
     public ErrorDetail handleError(Throwable throwable, long cycle, long nanosIntoOp) {
-        String errorName = namer.apply(throwable);
-//        String errorName = t.getClass().getSimpleName();
-        List<ErrorHandler> handlers = handlerCache.get(errorName);
-        ErrorDetail detail = ErrorDetail.ERROR_NONRETRYABLE;
-
-        if (handlers == null) {
-            handlers = lookup(errorName);
-            handlerCache.put(errorName, handlers);
+        HandlerChain chain;
+        if (namer == null) {
+            chain = classHandlers.get(throwable.getClass());
+        } else {
+            String errorName = namer.apply(throwable);
+            chain = handlerCache.get(errorName);
+            if (chain == null) {
+                chain = handlerCache.computeIfAbsent(errorName, name -> new HandlerChain(name, lookup(name)));
+            }
         }
 
-        boolean retry = false;
-        for (ErrorHandler handler : handlers) {
-            detail = handler.handleError(errorName, throwable, cycle, nanosIntoOp, detail);
+        ErrorDetail detail = ErrorDetail.ERROR_NONRETRYABLE;
+        for (ErrorHandler handler : chain.handlers) {
+            detail = handler.handleError(chain.name, throwable, cycle, nanosIntoOp, detail);
         }
         return detail;
     }
 
-    private synchronized List<ErrorHandler> lookup(String errorName) {
+    /**
+     * The resolved handlers for one error name.
+     */
+    private record HandlerChain(String name, ErrorHandler[] handlers) {
+    }
+
+    /**
+     * Find the handlers for the first mapping which matches the error name. Each mapping resolves its
+     * handlers only once, so that all error names which share a mapping also share handler instances.
+     */
+    private synchronized ErrorHandler[] lookup(String errorName) {
         for (HandlerMapping config : configs) {
             for (Pattern errorPattern : config.matchers) {
                 if (errorPattern.matcher(errorName).matches()) {
@@ -82,7 +111,7 @@ public class NBErrorHandler {
                         }
                         config.setResolved(handlers);
                     }
-                    return config.getResolved();
+                    return config.getResolved().toArray(new ErrorHandler[0]);
                 }
             }
         }
@@ -28,6 +28,12 @@ public interface RateLimiter {
      * @return the waittime as nanos behind schedule when this op returns.
      * The returned value is required to be greater than or equal to zero.</P>
      *
+     * <P>The schedule is the intended start time of each op, which is
+     * {@link #getStartTime()} plus the op's ordinal times the nanoseconds per op
+     * of the current rate spec. The ordinal is the number of ops which this rate limiter
+     * has admitted since the rate spec was applied. Adding this value to the service time
+     * of an op yields a response time which is not subject to coordinated omission.</P>
+     *
      * <P>Note that accuracy of the returned value is limited by timing
      * precision and calling overhead of the real time clock. It will not
      * generally be better than microseconds. Also, some rate limiting
@@ -17,6 +17,7 @@
 package io.nosqlbench.engine.api.activityapi.simrate;
 
 import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.labels.NBLabels;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -27,7 +28,7 @@ public enum RateLimiters {
     public static synchronized RateLimiter createOrUpdate(final NBComponent parent, final RateLimiter extant, final SimRateSpec spec) {
 
         if (null == extant) {
-            final RateLimiter rateLimiter= new SimRate(parent, spec);
+            final RateLimiter rateLimiter= create(parent, spec, NBLabels.forKV());
 
             RateLimiters.logger.info(() -> "Using rate limiter: " + rateLimiter);
             return rateLimiter;
@@ -37,5 +38,15 @@ public enum RateLimiters {
         return extant;
     }
 
+    /**
+     * Create a new rate limiter of the {@link SimRateSpec.Type} given by the spec.
+     */
+    public static RateLimiter create(final NBComponent parent, final SimRateSpec spec, final NBLabels extraLabels) {
+        return switch (spec.getType()) {
+            case simrate -> new SimRate(parent, spec, extraLabels);
+            case scheduled -> new ScheduledRate(parent, spec, extraLabels);
+        };
+    }
+
 
 }
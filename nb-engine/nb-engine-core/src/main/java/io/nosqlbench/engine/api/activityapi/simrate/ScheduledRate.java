@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.activityapi.simrate;
+
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>A lock-free rate limiter which assigns each caller a start time on a schedule, instead of metering
+ * time into a token pool. There is no filler thread, and {@link #block()} does not allocate. Callers
+ * which are early park until their scheduled time.</P>
+ *
+ * <H2>Schedule</H2>
+ * <UL>
+ * <LI>Each call to {@link #block()} takes the next ticket from a counter. The ticket determines the
+ * ideal start time of the op, which is <EM>start + ticket * nanosPerOp</EM>. Computing this from the
+ * ticket rather than accumulating intervals means that fractional nanosecond intervals do not drift.</LI>
+ * <LI>When the caller is behind the ideal schedule, the difference is the wait time, as with
+ * {@link SimRate}'s waiting pool.</LI>
+ * <LI>To catch up, ops are released at up to <EM>burstRatio</EM> times the base rate. This is enforced
+ * with a second timestamp, the burst schedule, which is advanced with a CAS loop by
+ * <EM>nanosPerOp / burstRatio</EM> per op. The burst schedule never lags real time by more than one
+ * burst interval, so idle time does not turn into an unbounded burst.</LI>
+ * </UL>
+ *
+ * <P>All of the schedule state for a given rate spec is held in a single {@link Schedule}, which is
+ * replaced as a whole when a new rate spec is applied.</P>
+ */
+public class ScheduledRate extends NBBaseComponent implements RateLimiter {
+    private final static Logger logger = LogManager.getLogger(ScheduledRate.class);
+
+    private volatile Schedule schedule;
+    private volatile SimRateSpec spec;
+    private final AtomicLong cumulativeWaitTimeNanos = new AtomicLong(0L);
+
+    public ScheduledRate(NBComponent parent, SimRateSpec spec) {
+        this(parent, spec, NBLabels.forKV());
+    }
+
+    public ScheduledRate(NBComponent parent, SimRateSpec spec, NBLabels extraLabels) {
+        super(parent, extraLabels.and("rateType",
+            (spec instanceof CycleRateSpec ? "cycle" : "stride")));
+        this.spec = spec;
+        this.schedule = new Schedule(spec, System.nanoTime());
+        initMetrics();
+    }
+
+    private void initMetrics() {
+        String rateType = getLabels().valueOf("rateType");
+        create().gauge(
+            rateType + "s_waittime",
+            () -> (double) getWaitTimeDuration().toNanos(),
+            MetricCategory.Core,
+            "The cumulative scheduling delay which accrues when" +
+                " an activity is not able to execute operations as fast as requested."
+        );
+        create().gauge(
+            "config_" + rateType + "rate",
+            () -> spec.opsPerSec,
+            MetricCategory.Config,
+            "The configured cycle rate in ops/s"
+        );
+        create().gauge(
+            rateType + "_config_burstrate",
+            () -> spec.burstRatio,
+            MetricCategory.Config,
+            "the configured burst rate as a multiplier to the configured cycle rate. ex: 1.05 means 5% faster is allowed."
+        );
+    }
+
+    @Override
+    public long block() {
+        Schedule s = this.schedule;
+        long idealAt = s.idealTimeOf(s.tickets.getAndIncrement());
+
+        long now = System.nanoTime();
+        long burstAt;
+        while (true) {
+            long last = s.burstAt.get();
+            burstAt = Math.max(idealAt, Math.max(last, now - s.burstNanos) + s.burstNanos);
+            if (s.burstAt.compareAndSet(last, burstAt)) {
+                break;
+            }
+            now = System.nanoTime();
+        }
+
+        long remaining;
+        while ((remaining = burstAt - now) > 0) {
+            LockSupport.parkNanos(remaining);
+            now = System.nanoTime();
+        }
+        return Math.max(0L, now - idealAt);
+    }
+
+    @Override
+    public void applyRateSpec(SimRateSpec updatingSimRateSpec) {
+        if (null == updatingSimRateSpec) throw new RuntimeException("RateSpec must be defined");
+        logger.info("rate spec:\n" + updatingSimRateSpec);
+        if (updatingSimRateSpec.getRate() == 0d) {
+            logger.warn("setting a rate of 0 will yield undefined results");
+        }
+        synchronized (this) {
+            cumulativeWaitTimeNanos.addAndGet(schedule.waitTimeNanos(System.nanoTime()));
+            this.spec = updatingSimRateSpec;
+            this.schedule = new Schedule(updatingSimRateSpec, System.nanoTime());
+        }
+    }
+
+    @Override
+    public Duration getTotalWaitTimeDuration() {
+        return getWaitTimeDuration().plusNanos(cumulativeWaitTimeNanos.get());
+    }
+
+    @Override
+    public Duration getWaitTimeDuration() {
+        return Duration.ofNanos(schedule.waitTimeNanos(System.nanoTime()));
+    }
+
+    @Override
+    public double getWaitTimeSeconds() {
+        return (double) getWaitTimeDuration().toNanos() / 1_000_000_000d;
+    }
+
+    @Override
+    public long getStartTime() {
+        return schedule.startAt;
+    }
+
+    @Override
+    public SimRateSpec getSpec() {
+        return spec;
+    }
+
+    @Override
+    public String toString() {
+        Schedule s = this.schedule;
+        return String.format(
+            "{ rate:%f, nanos_per_op:%,.1f, burst_nanos:%,d, tickets:%,d, wait_ns:%,d }",
+            spec.getRate(), s.nanosPerOp, s.burstNanos, s.tickets.get(), s.waitTimeNanos(System.nanoTime())
+        );
+    }
+
+    private final static class Schedule {
+        private final long startAt;
+        private final double nanosPerOp;
+        private final long burstNanos;
+        private final AtomicLong tickets = new AtomicLong(0L);
+        private final AtomicLong burstAt;
+
+        private Schedule(SimRateSpec spec, long startAt) {
+            this.startAt = startAt;
+            this.nanosPerOp = 1_000_000_000d / spec.getRate();
+            this.burstNanos = (long) (nanosPerOp / Math.max(1.0d, spec.getBurstRatio()));
+            this.burstAt = new AtomicLong(startAt - burstNanos);
+        }
+
+        private long idealTimeOf(long ticket) {
+            return startAt + (long) (ticket * nanosPerOp);
+        }
+
+        /**
+         * @return how far the next unissued op is behind its ideal start time, or zero if it is not
+         */
+        private long waitTimeNanos(long now) {
+            return Math.max(0L, now - idealTimeOf(tickets.get()));
+        }
+    }
+}
@@ -72,6 +72,8 @@ public class SimRate extends NBBaseComponent implements RateLimiter, Thread.Unca
     private SimRateSpec spec;
 
     private LongAdder blocks = new LongAdder();
+    private final AtomicLong tickets = new AtomicLong(0L);
+    private double nanosPerOp;
 
     private final ReentrantLock fillerLock = new ReentrantLock(false);
 
@@ -274,6 +276,8 @@ public class SimRate extends NBBaseComponent implements RateLimiter, Thread.Unca
 
         this.activePool.drainPermits();
         ticksPerOp = simRateSpec.ticksPerOp();
+        nanosPerOp = 1_000_000_000d / simRateSpec.getRate();
+        this.tickets.set(0L);
         this.activePool.release(ticksPerOp); // Allow the first op to start immediately, but only the first
         this.waitingPool.set(0);
 
@@ -282,11 +286,12 @@ public class SimRate extends NBBaseComponent implements RateLimiter, Thread.Unca
 
     public long block() {
         this.blocks.increment();
+        long intendedAt = this.startTime + (long) (this.tickets.getAndIncrement() * this.nanosPerOp);
         try {
             this.activePool.acquire(ticksPerOp);
         } catch (InterruptedException ignored) {
         }
-        return this.waitingPool.get() + this.activePool.availablePermits();
+        return Math.max(0L, System.nanoTime() - intendedAt);
     }
 
     @Override
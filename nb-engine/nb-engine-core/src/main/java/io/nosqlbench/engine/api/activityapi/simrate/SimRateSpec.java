@@ -51,6 +51,7 @@ import java.util.stream.Stream;
  * <LI>&lt;rate&gt;</LI>
  * <LI>&lt;rate&gt;,&lt;burst ratio&gt;</LI>
  * <LI>&lt;rate&gt;,&lt;burst ratio&gt;,&lt;verb&gt;</LI>
+ * <LI>&lt;rate&gt;,&lt;burst ratio&gt;,&lt;verb&gt;,&lt;scope&gt;,&lt;type&gt;</LI>
  * </UL>
  * <p>
  * Where:
@@ -58,6 +59,8 @@ import java.util.stream.Stream;
  * <EM>burst ratio</EM> is a floating point value greater than 1.0 which determines how much faster
  * the rate limiter may go to catch up to the overall.
  * <EM>verb</EM> is one of configure, start, or restart, as explained below.
+ * <EM>scope</EM> is one of activity or thread, as explained by {@link Scope}.
+ * <EM>type</EM> is one of simrate or scheduled, as explained by {@link Type}.
  * <p>
  * For example:
  * <UL>
@@ -138,8 +141,26 @@ public class SimRateSpec {
         activity
     }
 
+    /**
+     * The rate limiter implementation which is built from this spec.
+     */
+    public enum Type {
+        /**
+         * {@link SimRate}, which meters time into a semaphore-backed token pool from a filler thread.
+         */
+        simrate,
+        /**
+         * {@link ScheduledRate}, which hands out op start times from a lock-free schedule, without
+         * any filler thread. This has much lower overhead at high rates and thread counts.
+         */
+        scheduled
+    }
+
+    public static Type DEFAULT_TYPE = Type.simrate;
+
     public ChronoUnit unit;
     private Scope scope = Scope.activity;
+    private Type type = DEFAULT_TYPE;
 
     /**
      * Target rate in Operations Per Second
@@ -224,24 +245,29 @@ public class SimRateSpec {
     }
 
     public SimRateSpec(double opsPerSec, double burstRatio, Verb verb) {
-        apply(opsPerSec, burstRatio, verb, Scope.activity);
+        apply(opsPerSec, burstRatio, verb, Scope.activity, DEFAULT_TYPE);
     }
 
     public SimRateSpec(double opsPerSec, double burstRatio, Scope scope) {
-        apply(opsPerSec, burstRatio, DEFAULT_VERB, scope);
+        apply(opsPerSec, burstRatio, DEFAULT_VERB, scope, DEFAULT_TYPE);
     }
 
     public SimRateSpec(double opsPerSec, double burstRatio, Verb verb, Scope scope) {
-        apply(opsPerSec, burstRatio, verb, scope);
+        apply(opsPerSec, burstRatio, verb, scope, DEFAULT_TYPE);
     }
 
+    public SimRateSpec(double opsPerSec, double burstRatio, Verb verb, Scope scope, Type type) {
+        apply(opsPerSec, burstRatio, verb, scope, type);
+    }
 
-    private void apply(double opsPerSec, double burstRatio, Verb verb, Scope scope) {
+
+    private void apply(double opsPerSec, double burstRatio, Verb verb, Scope scope, Type type) {
         this.opsPerSec = opsPerSec;
         this.burstRatio = burstRatio;
         this.verb = verb;
         this.unit = chronoUnitFor(opsPerSec);
         this.scope = scope;
+        this.type = type;
 
         // TODO: include burst into ticks calculation
     }
@@ -270,6 +296,7 @@ public class SimRateSpec {
         double burstRatio = DEFAULT_BURST_RATIO;
         Verb verb = Verb.start;
         Scope scope = Scope.activity;
+        Type type = DEFAULT_TYPE;
         String oprateSpec = specs[offset++];
         opsPerSec = Unit.doubleCountFor(oprateSpec).orElseThrow(() -> new RuntimeException("Unparsable:" + oprateSpec));
         if (specs.length >= 2) {
@@ -294,7 +321,15 @@ public class SimRateSpec {
             try {
                 verb = Verb.valueOf(specword);
                 specword = null;
-                logger.debug("selected rate limiter type: " + verb);
+                logger.debug("selected rate limiter verb: " + verb);
+                continue;
+            } catch (IllegalArgumentException ignored) {
+            }
+
+            try {
+                type = Type.valueOf(specword);
+                specword = null;
+                logger.debug("selected rate limiter type: " + type);
                 continue;
             } catch (IllegalArgumentException ignored) {
             }
@@ -302,14 +337,15 @@ public class SimRateSpec {
             if (specword != null) {
                 String msg = """
                     Spec format 'SPECFORMAT' was not recognized for FORTYPE.
-                    Use the format <ops/s>[,<burst ratio][,<verb>][,<scope>]
+                    Use the format <ops/s>[,<burst ratio][,<verb>][,<scope>][,<type>]
                     Examples:
                      100 (100 ops per second)
                      100,1.1 (with a burst ratio of 10% over)
                      100,start (start the rate limiter automatically)
                      100,thread (scope the rate limiter to each thread in an activity)
-                     100,1.1,start,thread (all of the above)
-                    Defaults: burst_ratio=1.1 verb=start scope=activity
+                     100,scheduled (use the lock-free scheduled rate limiter)
+                     100,1.1,start,thread,scheduled (all of the above)
+                    Defaults: burst_ratio=1.1 verb=start scope=activity type=simrate
                     """
                     .replaceAll("SPECFORMAT", spec)
                     .replaceAll("FORTYPE", this.getClass().getSimpleName());
@@ -317,7 +353,7 @@ public class SimRateSpec {
             }
 
         }
-        apply(opsPerSec, burstRatio, verb, scope);
+        apply(opsPerSec, burstRatio, verb, scope, type);
     }
 
     public String toString() {
@@ -328,7 +364,7 @@ public class SimRateSpec {
         double burstPortion = Math.abs(br - ((long) br));
         String burstfmt = (burstPortion > 0.001D) ? String.format("%,.3f", br) : String.format("%,d", (long) br);
 
-        return String.format("{ rate:'%s', burstRatio:'%.3f', SOPSS:'%s', BOPSS:'%s', verb:'%s' }", ratefmt, burstRatio, ratefmt, burstfmt, verb);
+        return String.format("{ rate:'%s', burstRatio:'%.3f', SOPSS:'%s', BOPSS:'%s', verb:'%s', type:'%s' }", ratefmt, burstRatio, ratefmt, burstfmt, verb, type);
     }
 
     public double getRate() {
@@ -349,6 +385,7 @@ public class SimRateSpec {
         if (Double.compare(simRateSpec.opsPerSec, opsPerSec) != 0) return false;
         if (verb!=simRateSpec.verb) return false;
         if (scope!=simRateSpec.scope) return false;
+        if (type!=simRateSpec.type) return false;
         return Double.compare(simRateSpec.burstRatio, burstRatio) == 0;
     }
 
@@ -379,5 +416,9 @@ public class SimRateSpec {
         return this.scope;
     }
 
+    public Type getType() {
+        return this.type;
+    }
+
 
 }
@@ -40,10 +40,10 @@ public class ThreadLocalRateLimiters {
             Supplier<RateLimiter> rls;
             rls = switch (spec.getScope()) {
                 case activity -> {
-                    SimRate rl = new SimRate(parent, spec);
+                    RateLimiter rl = RateLimiters.create(parent, spec, NBLabels.forKV());
                     yield () -> rl;
                 }
-                case thread -> () -> new SimRate(
+                case thread -> () -> RateLimiters.create(
                     parent,
                     spec,
                     NBLabels.forKV("thread", Thread.currentThread().getName())
@@ -22,6 +22,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -33,6 +34,11 @@ public class MotorState implements Supplier<RunState> {
     private final AtomicReference<RunState> atomicState = new AtomicReference<>(RunState.Uninitialized);
     private final long slotId;
     private final RunStateTally tally;
+    /**
+     * Transitions are serialized with a lock rather than the object monitor, so that a motor
+     * on a virtual thread does not pin its carrier while it waits for the shared tally.
+     */
+    private final ReentrantLock transitionLock = new ReentrantLock();
 
     public MotorState(long slotId, RunStateTally tally) {
         this.slotId = slotId;
@@ -60,16 +66,21 @@ public class MotorState implements Supplier<RunState> {
      *
      * @param to The next SlotState for this thread/slot/motor
      */
-    public synchronized void enterState(RunState to) {
-        RunState from = atomicState.get();
-        if (!from.canTransitionTo(to)) {
-            throw new RuntimeException("Invalid transition from " + from + " to " + to);
-        }
-        while (!atomicState.compareAndSet(from, to)) {
-            logger.trace(() -> "retrying transition from:" + from + " to:" + to);
+    public void enterState(RunState to) {
+        transitionLock.lock();
+        try {
+            RunState from = atomicState.get();
+            if (!from.canTransitionTo(to)) {
+                throw new RuntimeException("Invalid transition from " + from + " to " + to);
+            }
+            while (!atomicState.compareAndSet(from, to)) {
+                logger.trace(() -> "retrying transition from:" + from + " to:" + to);
+            }
+            tally.change(from,to);
+            logger.trace(() -> "TRANSITION[" + slotId + "]: " + from + " ==> " + to);
+        } finally {
+            transitionLock.unlock();
         }
-        tally.change(from,to);
-        logger.trace(() -> "TRANSITION[" + slotId + "]: " + from + " ==> " + to);
     }
 
     public void removeState() {
@@ -73,9 +73,9 @@ public class SimpleActivity extends NBStatusComponent implements Activity, Invok
     private OutputDispenser markerDispenser;
     private IntPredicateDispenser resultFilterDispenser;
     private RunState runState = RunState.Uninitialized;
-    private ThreadLocal<RateLimiter> strideLimiterSource;
-    private ThreadLocal<RateLimiter> cycleLimiterSource;
-    private ActivityInstrumentation activityInstrumentation;
+    private volatile ThreadLocal<RateLimiter> strideLimiterSource;
+    private volatile ThreadLocal<RateLimiter> cycleLimiterSource;
+    private volatile ActivityInstrumentation activityInstrumentation;
     private PrintWriter console;
     private long startedAtMillis;
     private int nameEnumerator;
@@ -231,7 +231,7 @@ public class SimpleActivity extends NBStatusComponent implements Activity, Invok
         }
     }
     @Override
-    public synchronized RateLimiter getStrideLimiter() {
+    public RateLimiter getStrideLimiter() {
         if (strideLimiterSource!=null) {
             return strideLimiterSource.get();
         } else {
@@ -240,12 +240,18 @@ public class SimpleActivity extends NBStatusComponent implements Activity, Invok
     }
 
     @Override
-    public synchronized ActivityInstrumentation getInstrumentation() {
-        if (null == this.activityInstrumentation) {
-            activityInstrumentation = new ComponentActivityInstrumentation(this);
-//            activityInstrumentation = new CoreActivityInstrumentation(this);
+    public ActivityInstrumentation getInstrumentation() {
+        ActivityInstrumentation instrumentation = this.activityInstrumentation;
+        if (null == instrumentation) {
+            synchronized (this) {
+                if (null == this.activityInstrumentation) {
+                    activityInstrumentation = new ComponentActivityInstrumentation(this);
+//                    activityInstrumentation = new CoreActivityInstrumentation(this);
+                }
+                instrumentation = activityInstrumentation;
+            }
         }
-        return activityInstrumentation;
+        return instrumentation;
     }
 
     @Override
@@ -27,7 +27,10 @@ import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * <p>TODO: This documentation is out of date as of 2.0.0
@@ -42,6 +45,18 @@ import java.util.concurrent.atomic.AtomicLong;
  * <p>This input, and Inputs in general do not actively prevent usage of values
  * after the max value. They simply expose it to callers. It is up to the
  * caller to check the value to determine when the input is deemed "used up."</p>
+ *
+ * <H2>Striped Input</H2>
+ * <p>When the <EM>inputstripe</EM> activity parameter is set, each calling thread claims
+ * a chunk of that many cycles (rounded down to a whole number of strides) from the shared cycle
+ * range, and then hands out strides from its own chunk without touching any shared state. Chunks
+ * are claimed under a lock, which is only taken once per chunk. When the shared range and all
+ * recycles are used up, threads steal any remaining strides from the chunks of other threads,
+ * including threads which have since stopped, so that every cycle of every recycle is still
+ * dispatched exactly once.</p>
+ *
+ * <p>In either mode, the segment returned to a thread is reused by that thread, and is only
+ * valid until its next call to {@link #getInputSegment(int)}.</p>
  */
 public class AtomicInput extends NBBaseComponent implements Input, ActivityDefObserver, Gauge<Long> {
     private final static Logger logger = LogManager.getLogger(AtomicInput.class);
@@ -55,6 +70,16 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
     private final AtomicLong recycles_max = new AtomicLong(0L);
     private final long startedAt = System.currentTimeMillis();
 
+    private volatile long stripeSize = 0L;
+    private final ReentrantLock claimLock = new ReentrantLock();
+    private final List<Stripe> allStripes = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Stripe> stripes = ThreadLocal.withInitial(() -> {
+        Stripe stripe = new Stripe();
+        allStripes.add(stripe);
+        return stripe;
+    });
+    private final ThreadLocal<ReusableSegment> segments = ThreadLocal.withInitial(ReusableSegment::new);
+
     private final ActivityDef activityDef;
 
     public AtomicInput(NBComponent parent, ActivityDef activityDef) {
@@ -75,7 +100,7 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
         );
         create().gauge(
             "input_cycle",
-            () -> (double) this.cycle_value.get(),
+            () -> (double) this.getDispatchedCycleValue(),
             MetricCategory.Core,
             "The next input cycle that will be dispatched to a thread"
         );
@@ -121,6 +146,9 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
 
     @Override
     public CycleSegment getInputSegment(int stride) {
+        if (stripeSize > 0L) {
+            return getStripedSegment(stride);
+        }
         while (true) {
             long currentStrideStart = this.cycle_value.get();
             long nextStrideStart = currentStrideStart + stride;
@@ -137,9 +165,78 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
                 }
             }
             if (cycle_value.compareAndSet(currentStrideStart, nextStrideStart)) {
-                return new InputInterval.Segment(recycle_value.get(), currentStrideStart, nextStrideStart);
+                ReusableSegment segment = segments.get();
+                segment.reset(recycle_value.get(), currentStrideStart, nextStrideStart);
+                return segment;
+            }
+        }
+    }
+
+    private CycleSegment getStripedSegment(int stride) {
+        Stripe stripe = stripes.get();
+        ReusableSegment segment = segments.get();
+        if (stripe.claim(stride, segment)) {
+            return segment;
+        }
+        claimLock.lock();
+        try {
+            if (claimChunk(stripe, stride) && stripe.claim(stride, segment)) {
+                return segment;
+            }
+            for (Stripe other : allStripes) {
+                if (other != stripe && other.claim(stride, segment)) {
+                    return segment;
+                }
+            }
+            logger.trace(() -> "Exhausted striped input for " + activityDef.getAlias() + ", recycle count " + recycle_value.get());
+            return null;
+        } finally {
+            claimLock.unlock();
+        }
+    }
+
+    /**
+     * Move the next chunk of whole strides from the shared cycle range into the given stripe,
+     * advancing to the next recycle as needed. This must be called with the claim lock held.
+     * @return false if all cycles of all recycles have already been claimed
+     */
+    private boolean claimChunk(Stripe stripe, int stride) {
+        if (recycle_value.get() >= recycles_max.get()) {
+            return false;
+        }
+        while (true) {
+            long start = cycle_value.get();
+            long available = ((cycles_max.get() - start) / stride) * stride;
+            if (available <= 0L) {
+                if (recycle_value.incrementAndGet() >= recycles_max.get()) {
+                    return false;
+                }
+                cycle_value.set(cycles_min.get());
+                logger.trace(() -> "recycling striped input for " + activityDef.getAlias() + " recycle:" + recycle_value.get());
+                continue;
+            }
+            long chunk = Math.min(available, Math.max(stride, (stripeSize / stride) * stride));
+            cycle_value.set(start + chunk);
+            stripe.refill(recycle_value.get(), start, start + chunk);
+            return true;
+        }
+    }
+
+    /**
+     * @return the next cycle which would be dispatched if all cycles were handed out in order,
+     * which discounts any cycles that are claimed by stripes but not yet dispatched
+     */
+    private long getDispatchedCycleValue() {
+        long value = cycle_value.get();
+        if (stripeSize > 0L) {
+            long recycle = recycle_value.get();
+            for (Stripe stripe : allStripes) {
+                if (stripe.recycle == recycle) {
+                    value -= stripe.remaining();
+                }
             }
         }
+        return value;
     }
 
     @Override
@@ -156,6 +253,7 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
     public void onActivityDefUpdate(ActivityDef activityDef) {
         CyclesSpec recyclesSpec = activityDef.getRecyclesSpec();
         CyclesSpec cyclesSpec = activityDef.getCyclesSpec();
+        stripeSize = activityDef.getParams().getOptionalLongUnitCount("inputstripe").orElse(0L);
 
         cycles_max.set(cyclesSpec.last_exclusive());
         if (cycles_min.get() != cyclesSpec.first_inclusive()) {
@@ -163,6 +261,7 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
                 " start[" + cycle_value.get() + "->" + cycles_min.get() + "]");
             cycles_min.set(cyclesSpec.first_inclusive());
             cycle_value.set(cycles_min.get());
+            discardStripes();
         }
         if (cycles_max.get() != cyclesSpec.last_exclusive()) {
             logger.info(() -> "resetting last cycle (exclusive) value to: cycle[" + cycles_max.get() + "->" + cyclesSpec.last_exclusive() + "]");
@@ -175,6 +274,7 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
                 " start[" + recycle_value.get() + "->" + recycles_min.get() + "]");
             recycles_min.set(recyclesSpec.first_inclusive());
             recycle_value.set(recyclesSpec.first_inclusive());
+            discardStripes();
         }
         if (recycles_max.get() != recyclesSpec.last_exclusive()) {
             logger.info(() -> "resetting last recycle (exclusive) value to: recycle[" + recycles_max.get() + "->" + recyclesSpec.last_exclusive() + "]");
@@ -183,6 +283,21 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
 
     }
 
+    /**
+     * When the cycle or recycle range is reset, any cycles already claimed by stripes are from the
+     * old range, so they are dropped along with the old shared position.
+     */
+    private void discardStripes() {
+        claimLock.lock();
+        try {
+            for (Stripe stripe : allStripes) {
+                stripe.discard();
+            }
+        } finally {
+            claimLock.unlock();
+        }
+    }
+
     public long getStartedAtMillis() {
         return this.startedAt;
     }
@@ -194,6 +309,92 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
 
     @Override
     public Long getValue() {
-        return this.cycle_value.get();
+        return this.getDispatchedCycleValue();
+    }
+
+    /**
+     * A chunk of cycles claimed by one thread. Only the owning thread refills a stripe, and only
+     * with the claim lock held. Other threads only claim from a stripe with the claim lock held,
+     * so the owner's claims are the only unlocked access, and those only race with stealing on
+     * {@link #next}.
+     */
+    private final static class Stripe {
+        private final AtomicLong next = new AtomicLong(0L);
+        private volatile long end = 0L;
+        private volatile long recycle = -1L;
+
+        private boolean claim(int stride, ReusableSegment into) {
+            while (true) {
+                long start = next.get();
+                long afterEnd = start + stride;
+                if (afterEnd > end) {
+                    return false;
+                }
+                if (next.compareAndSet(start, afterEnd)) {
+                    into.reset(recycle, start, afterEnd);
+                    return true;
+                }
+            }
+        }
+
+        private void refill(long recycle, long start, long end) {
+            this.recycle = recycle;
+            this.end = end;
+            this.next.set(start);
+        }
+
+        private void discard() {
+            this.next.set(end);
+        }
+
+        private long remaining() {
+            return Math.max(0L, end - next.get());
+        }
+    }
+
+    /**
+     * A reusable equivalent of {@link InputInterval.Segment}
+     */
+    private final static class ReusableSegment implements CycleSegment {
+        private long recycle;
+        private long next;
+        private long afterEnd;
+
+        private void reset(long recycle, long start, long afterEnd) {
+            this.recycle = recycle;
+            this.next = start;
+            this.afterEnd = afterEnd;
+        }
+
+        @Override
+        public long nextCycle() {
+            if (next < afterEnd) {
+                return next++;
+            }
+            return -100;
+        }
+
+        @Override
+        public long nextRecycle() {
+            return recycle;
+        }
+
+        @Override
+        public long peekNextCycle() {
+            if (next < afterEnd) {
+                return next;
+            }
+            return -100;
+        }
+
+        @Override
+        public boolean isExhausted() {
+            return next >= afterEnd;
+        }
+
+        @Override
+        public String toString() {
+            return "AtomicInput.ReusableSegment(" + next + "," + afterEnd + "]: recycle=" + recycle;
+        }
     }
 }
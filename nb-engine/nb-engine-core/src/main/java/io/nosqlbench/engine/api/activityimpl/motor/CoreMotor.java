@@ -22,6 +22,8 @@ import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResult
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
 import io.nosqlbench.engine.api.activityimpl.MotorState;
 import io.nosqlbench.engine.api.activityapi.core.ops.fluent.OpTracker;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.OpTrackerImpl;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.TrackedOp;
 import io.nosqlbench.engine.api.activityapi.input.Input;
 import io.nosqlbench.engine.api.activityapi.output.Output;
 import io.nosqlbench.engine.api.activityapi.simrate.RateLimiter;
@@ -43,7 +45,9 @@ import static io.nosqlbench.engine.api.activityapi.core.RunState.*;
  *
  * This motor implementation splits the handling of sync and async actions with a hard
  * fork in the middle to limit potential breakage of the prior sync implementation
- * with new async logic.
+ * with new async logic. Async actions are enqueued without waiting for completion,
+ * up to the per-slot limit which is derived from the <em>async</em> parameter, and are
+ * tracked to completion by an {@link OpTracker}.
  */
 public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
 
@@ -213,21 +217,24 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
 
             if (action instanceof SyncAction sync) {
                 cycleServiceTimer = activity.getInstrumentation().getOrCreateCyclesServiceTimer();
+                cycleResponseTimer = activity.getInstrumentation().getCyclesResponseTimerOrNull();
                 strideServiceTimer = activity.getInstrumentation().getOrCreateStridesServiceTimer();
 
                 if (activity.getActivityDef().getParams().containsKey("async")) {
                     throw new RuntimeException("The async parameter was given for this activity, but it does not seem to know how to do async.");
                 }
 
+                boolean traceCycles = logger.isTraceEnabled();
+
                 motorState.enterState(Running);
                 while (motorState.get() == Running) {
 
-                    CycleSegment cycleSegment = null;
-                    CycleResultSegmentBuffer segBuffer = new CycleResultSegmentBuffer(stride);
+                    // Result buffers are handed off to the output, so they are only created when there is one
+                    CycleResultSegmentBuffer segBuffer = (output != null) ? new CycleResultSegmentBuffer(stride) : null;
 
-                    try (Timer.Context inputTime = inputTimer.time()) {
-                        cycleSegment = input.getInputSegment(stride);
-                    }
+                    long inputStart = System.nanoTime();
+                    CycleSegment cycleSegment = input.getInputSegment(stride);
+                    inputTimer.update(System.nanoTime() - inputStart, TimeUnit.NANOSECONDS);
 
                     if (cycleSegment == null) {
                         logger.trace(() -> "input exhausted (input " + input + ") via null segment, stopping motor thread " + slotId);
@@ -267,24 +274,34 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
 
                             long cycleStart = System.nanoTime();
                             try {
-                                logger.trace(()->"cycle " + cyclenum);
+                                if (traceCycles) {
+                                    logger.trace("cycle " + cyclenum);
+                                }
                                 result = sync.runCycle(cyclenum);
                             } catch (Exception e) {
                                 motorState.enterState(Errored);
                                 throw e;
                             } finally {
                                 long cycleEnd = System.nanoTime();
-                                cycleServiceTimer.update((cycleEnd - cycleStart) + cycleDelay, TimeUnit.NANOSECONDS);
+                                cycleServiceTimer.update(cycleEnd - cycleStart, TimeUnit.NANOSECONDS);
+                                if (cycleResponseTimer != null) {
+                                    cycleResponseTimer.update((cycleEnd - cycleStart) + cycleDelay, TimeUnit.NANOSECONDS);
+                                }
+                            }
+                            if (segBuffer != null) {
+                                segBuffer.append(cyclenum, result);
                             }
-                            segBuffer.append(cyclenum, result);
                         }
 
                     } finally {
                         long strideEnd = System.nanoTime();
-                        strideServiceTimer.update((strideEnd - strideStart) + strideDelay, TimeUnit.NANOSECONDS);
+                        strideServiceTimer.update(strideEnd - strideStart, TimeUnit.NANOSECONDS);
+                        if (stridesResponseTimer != null) {
+                            stridesResponseTimer.update((strideEnd - strideStart) + strideDelay, TimeUnit.NANOSECONDS);
+                        }
                     }
 
-                    if (output != null) {
+                    if (segBuffer != null) {
                         CycleResultsSegment outputBuffer = segBuffer.toReader();
                         try {
                             output.onCycleResultSegment(outputBuffer);
@@ -295,8 +312,98 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
                     }
                 }
 
+            } else if (action instanceof AsyncAction<?> anyAsync) {
+                @SuppressWarnings("unchecked")
+                AsyncAction<D> async = (AsyncAction<D>) anyAsync;
+
+                opTracker = new OpTrackerImpl<>(activity, slotId);
+                opTracker.setCycleOpFunction(async.getOpInitFunction());
+                if (opTracker instanceof ActivityDefObserver observer) {
+                    observer.onActivityDefUpdate(activity.getActivityDef());
+                }
+
+                motorState.enterState(Running);
+                while (motorState.get() == Running) {
+
+                    long inputStart = System.nanoTime();
+                    CycleSegment cycleSegment = input.getInputSegment(stride);
+                    inputTimer.update(System.nanoTime() - inputStart, TimeUnit.NANOSECONDS);
+
+                    if (cycleSegment == null) {
+                        logger.trace(() -> "input exhausted (input " + input + ") via null segment, stopping motor thread " + slotId);
+                        motorState.enterState(Finished);
+                        continue;
+                    }
+
+                    if (strideRateLimiter != null) {
+                        // block for strides rate limiter
+                        strideDelay = strideRateLimiter.block();
+                    }
+
+                    StrideTracker<D> strideTracker = new StrideTracker<>(
+                        strideServiceTimer,
+                        stridesResponseTimer,
+                        strideDelay,
+                        cycleSegment.peekNextCycle(),
+                        stride,
+                        output,
+                        null
+                    );
+                    strideTracker.start();
+                    int submitted = 0;
+
+                    while (!cycleSegment.isExhausted()) {
+                        long cyclenum = cycleSegment.nextCycle();
+                        if (cyclenum < 0) {
+                            if (cycleSegment.isExhausted()) {
+                                logger.trace(() -> "input exhausted (input " + input + ") via negative read, stopping motor thread " + slotId);
+                                motorState.enterState(Finished);
+                                continue;
+                            }
+                        }
+
+                        if (motorState.get() != Running) {
+                            logger.trace(() -> "motor stopped after input (input " + cyclenum + "), stopping motor thread " + slotId);
+                            continue;
+                        }
+
+                        while (!opTracker.awaitAvailable(1000)) {
+                            logger.trace(() -> "waiting for pending ops to complete for " + opTracker);
+                        }
+
+                        if (cycleRateLimiter != null) {
+                            // Block for cycle rate limiter
+                            cycleDelay = cycleRateLimiter.block();
+                        }
+
+                        TrackedOp<D> op = opTracker.newOp(cyclenum, strideTracker);
+                        op.setWaitTime(cycleDelay);
+
+                        try {
+                            async.enqueue(op);
+                            submitted++;
+                        } catch (Exception e) {
+                            motorState.enterState(Errored);
+                            throw e;
+                        }
+                    }
+                    if (submitted < stride) {
+                        strideTracker.truncate(submitted);
+                    }
+                }
+
+                while (!opTracker.awaitCompletion(1000)) {
+                    logger.debug(() -> "awaiting completion of pending ops for " + opTracker);
+                }
+                try {
+                    async.rethrowAsyncErrors();
+                } catch (Exception e) {
+                    motorState.enterState(Errored);
+                    throw e;
+                }
+
             } else {
-                throw new RuntimeException("Valid Action implementations must implement SyncAction");
+                throw new RuntimeException("Valid Action implementations must implement SyncAction or AsyncAction");
             }
 
             if (motorState.get() == Stopping) {
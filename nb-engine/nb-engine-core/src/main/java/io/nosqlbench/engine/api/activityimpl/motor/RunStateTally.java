@@ -20,6 +20,10 @@ import io.nosqlbench.engine.api.activityapi.core.RunState;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * <H2>Synopsis</H2>
  * <P>Event-oriented tally of the runtime states of all
@@ -66,13 +70,25 @@ public class RunStateTally {
 
     private final int[] counts = new int[RunState.values().length];
 
+    /**
+     * A lock and condition are used instead of the object monitor so that motors
+     * running on virtual threads do not pin their carrier threads while changing state.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
     /**
      * @return the current count for the specified state
      * @param runState The {@link RunState} to count
      *
      */
-    public synchronized int tallyFor(RunState runState) {
-        return counts[runState.ordinal()];
+    public int tallyFor(RunState runState) {
+        lock.lock();
+        try {
+            return counts[runState.ordinal()];
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -82,16 +98,21 @@ public class RunStateTally {
      * @param from the prior RunState
      * @param to the next RunState
      */
-    public synchronized void change(RunState from, RunState to) {
-        counts[from.ordinal()]--;
-        counts[to.ordinal()]++;
-        logger.trace(() -> this +" -"+from+ String.format(":%04d",counts[from.ordinal()])+ ", +"+to+ String.format(":%04d",counts[to.ordinal()]));
+    public void change(RunState from, RunState to) {
+        lock.lock();
+        try {
+            counts[from.ordinal()]--;
+            counts[to.ordinal()]++;
+            logger.trace(() -> this +" -"+from+ String.format(":%04d",counts[from.ordinal()])+ ", +"+to+ String.format(":%04d",counts[to.ordinal()]));
 
-        if (counts[from.ordinal()]==0 || counts[to.ordinal()]==1) {
+            if (counts[from.ordinal()]==0 || counts[to.ordinal()]==1) {
 //            logger.debug(() -> "NOTIFYing on edge "+
 //                "from " + from + String.format(":%04d",counts[from.ordinal()]) +
 //                " to " + to + String.format(":%04d",counts[to.ordinal()]));
-            notifyAll();
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -101,12 +122,17 @@ public class RunStateTally {
      * their await conditions.
      * @param state The initial tracking state for the related motor thread
      */
-    public synchronized void add(RunState state) {
-        counts[state.ordinal()]++;
-        logger.trace(() -> this +" +"+state+ String.format(":%04d",counts[state.ordinal()]));
-        if (counts[state.ordinal()]==1) {
+    public void add(RunState state) {
+        lock.lock();
+        try {
+            counts[state.ordinal()]++;
+            logger.trace(() -> this +" +"+state+ String.format(":%04d",counts[state.ordinal()]));
+            if (counts[state.ordinal()]==1) {
 //            logger.debug(() -> "NOTIFYing on ++-SOME edge for " + state + String.format(":%04d",counts[state.ordinal()]));
-            notifyAll();
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -116,12 +142,17 @@ public class RunStateTally {
      * their await conditions.
      * @param state The final tracking state for the related motor thread
      */
-    public synchronized void remove(RunState state) {
-        counts[state.ordinal()]--;
-        logger.trace(() -> this +" -"+state+ String.format(":%04d",counts[state.ordinal()]));
-        if (counts[state.ordinal()]==0) {
+    public void remove(RunState state) {
+        lock.lock();
+        try {
+            counts[state.ordinal()]--;
+            logger.trace(() -> this +" -"+state+ String.format(":%04d",counts[state.ordinal()]));
+            if (counts[state.ordinal()]==0) {
 //            logger.debug(() -> "NOTIFYing on 00-NONE edge for " + state + String.format(":%04d",counts[state.ordinal()]));
-            notifyAll();
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -133,7 +164,7 @@ public class RunStateTally {
      * @param runStates The states which <EM>may</EM> have zero counts and still match the condition
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitNoneOther(RunState... runStates) {
+    public RunStateImage awaitNoneOther(RunState... runStates) {
         return this.awaitNoneOther(DEFAULT_TIMEOUT_MS, runStates);
     }
     /**
@@ -142,35 +173,40 @@ public class RunStateTally {
      * @param runStates RunStates which are the only valid states before unblocking
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitNoneOther(long timeoutMillis, RunState... runStates) {
+    public RunStateImage awaitNoneOther(long timeoutMillis, RunState... runStates) {
+        lock.lock();
+        try {
 //        logger.debug(() -> "☐ Awaiting only " + Arrays.toString(runStates) + " for " + timeoutMillis+"ms");
-        long timeoutAt = timeoutAt(timeoutMillis);
+            long timeoutAt = timeoutAt(timeoutMillis);
 
-        int sum=0;
-        for (RunState runState: RunState.values()) {
-            sum+=counts[runState.ordinal()];
-        }
-        for (RunState runState : runStates) {
-            sum-=counts[runState.ordinal()];
-        }
-        while (sum>0 && System.currentTimeMillis()<timeoutAt) {
-            try {
-                wait(timeoutAt-System.currentTimeMillis());
-            } catch (InterruptedException e) {
-            }
-
-            sum=0;
+            int sum=0;
             for (RunState runState: RunState.values()) {
                 sum+=counts[runState.ordinal()];
             }
             for (RunState runState : runStates) {
                 sum-=counts[runState.ordinal()];
             }
-        }
+            while (sum>0 && System.currentTimeMillis()<timeoutAt) {
+                try {
+                    changed.await(timeoutAt-System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                }
 
-        boolean timedout = (sum!=0);
+                sum=0;
+                for (RunState runState: RunState.values()) {
+                    sum+=counts[runState.ordinal()];
+                }
+                for (RunState runState : runStates) {
+                    sum-=counts[runState.ordinal()];
+                }
+            }
+
+            boolean timedout = (sum!=0);
 //        logger.debug(() -> (timedout ? "✘ TIMED-OUT awaiting only " : "☑ Awaited only " ) + toString(runStates));
-        return new RunStateImage(this.counts,timedout);
+            return new RunStateImage(this.counts,timedout);
+        } finally {
+            lock.unlock();
+        }
     }
 
     private long timeoutAt(long timeoutMillis) {
@@ -182,7 +218,7 @@ public class RunStateTally {
      * @param runStates all RunStates which must be zeroed before unblocking
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitNoneOf(RunState... runStates) {
+    public RunStateImage awaitNoneOf(RunState... runStates) {
         return this.awaitNoneOf(DEFAULT_TIMEOUT_MS, runStates);
     }
     /**
@@ -191,27 +227,32 @@ public class RunStateTally {
      * @param runStates all RunStates which must be zeroed before unblocking
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitNoneOf(long timeoutMillis, RunState... runStates) {
+    public RunStateImage awaitNoneOf(long timeoutMillis, RunState... runStates) {
+        lock.lock();
+        try {
 //        logger.debug(() -> "☐ Awaiting none of " + Arrays.toString(runStates)+ " for " + timeoutMillis+"ms");
-        long timeoutAt = timeoutAt(timeoutMillis);
+            long timeoutAt = timeoutAt(timeoutMillis);
 
-        int sum=0;
-        for (RunState runState : runStates) {
-            sum+=counts[runState.ordinal()];
-        }
-        while (sum>0 && System.currentTimeMillis()<timeoutAt) {
-            try {
-                wait(timeoutAt-System.currentTimeMillis());
-            } catch (InterruptedException e) {
-            }
-            sum=0;
+            int sum=0;
             for (RunState runState : runStates) {
                 sum+=counts[runState.ordinal()];
             }
-        }
-        boolean timedout=sum==0;
+            while (sum>0 && System.currentTimeMillis()<timeoutAt) {
+                try {
+                    changed.await(timeoutAt-System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                }
+                sum=0;
+                for (RunState runState : runStates) {
+                    sum+=counts[runState.ordinal()];
+                }
+            }
+            boolean timedout=sum==0;
 //        logger.debug(() -> (timedout ? "✘ TIMED-OUT awaiting none of " : "☑ Awaited none of " ) + toString(runStates));
-        return new RunStateImage(this.counts,timedout);
+            return new RunStateImage(this.counts,timedout);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -219,7 +260,7 @@ public class RunStateTally {
      * @param runStates RunStates any of which allow unblocking
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitAny(RunState... runStates) {
+    public RunStateImage awaitAny(RunState... runStates) {
         return this.awaitAny(DEFAULT_TIMEOUT_MS,runStates);
     }
 
@@ -230,24 +271,29 @@ public class RunStateTally {
      * @param timeoutMillis Milliseconds to wait for any of the runstates before giving up
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitAny(long timeoutMillis, RunState... runStates) {
+    public RunStateImage awaitAny(long timeoutMillis, RunState... runStates) {
+        lock.lock();
+        try {
 //        logger.debug(() -> "☐ Awaiting any " + Arrays.toString(runStates) + " for " + timeoutMillis + "ms");
-        long timeoutAt = timeoutAt(timeoutMillis);
+            long timeoutAt = timeoutAt(timeoutMillis);
 
-        while (System.currentTimeMillis()<timeoutAt) {
-            for (RunState runState : runStates) {
-                if (counts[runState.ordinal()]>0) {
+            while (System.currentTimeMillis()<timeoutAt) {
+                for (RunState runState : runStates) {
+                    if (counts[runState.ordinal()]>0) {
 //                    logger.debug("☑ Awaited any " + toString(runStates));
-                    return new RunStateImage(this.counts,false);
+                        return new RunStateImage(this.counts,false);
+                    }
+                }
+                try {
+                    changed.await(timeoutAt-System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
                 }
             }
-            try {
-                wait(timeoutAt-System.currentTimeMillis());
-            } catch (InterruptedException e) {
-            }
-        }
 //        logger.debug(() -> "✘ TIMED-OUT awaiting any of " + toString(runStates));
-        return new RunStateImage(this.counts,true);
+            return new RunStateImage(this.counts,true);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public String toString(RunState... runStates) {
@@ -73,29 +73,44 @@ public class StrideTracker<D> extends Buffer<CompletedOp<D>> implements OpEvents
     }
 
     @Override
-    public void onOpSuccess(SucceededOp<D> op) {
+    public synchronized void onOpSuccess(SucceededOp<D> op) {
         super.put(op);
     }
 
     @Override
-    public void onOpFailure(FailedOp<D> op) {
+    public synchronized void onOpFailure(FailedOp<D> op) {
         super.put(op);
     }
 
     @Override
-    public void onOpSkipped(SkippedOp<D> op) {
+    public synchronized void onOpSkipped(SkippedOp<D> op) {
         super.put(op);
     }
 
 
+    /**
+     * Complete this stride after the given number of ops, when fewer than the stride size were
+     * submitted, as when the motor is stopped or the input runs out in the middle of a stride.
+     * A stride with no ops at all is not completed, since it has nothing to report.
+     * @param submitted The number of ops which were submitted for this stride
+     */
+    public synchronized void truncate(int submitted) {
+        if (submitted > 0) {
+            shrinkTo(submitted);
+        }
+    }
+
     /**
      * When a stride is complete, do house keeping. This effectively means when N==stride ops have been
      * submitted to this buffer, which is tracked by {@link Buffer#put(Comparable)}.
+     * Since async ops may complete in any order, the completed ops are put back in cycle order
+     * before they are presented to any output.
      */
     public void onFull() {
+        data.sort(this::compare);
         strideOp.succeed(0);
         logger.trace(() -> "completed strideOp with first result cycle (" + strideOp.getCycle() + ")");
-        strideServiceTimer.update(strideOp.getResponseTimeNanos(), TimeUnit.NANOSECONDS);
+        strideServiceTimer.update(strideOp.getServiceTimeNanos(), TimeUnit.NANOSECONDS);
         if (strideResponseTimer!=null) {
             strideResponseTimer.update(strideOp.getResponseTimeNanos(),TimeUnit.NANOSECONDS);
         }
@@ -16,8 +16,10 @@
 
 package io.nosqlbench.engine.api.activityimpl.uniform;
 
+import io.nosqlbench.engine.api.activityapi.core.Action;
 import io.nosqlbench.engine.api.activityapi.core.ActionDispenser;
 import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityimpl.uniform.actions.AsyncStandardAction;
 import io.nosqlbench.engine.api.activityimpl.uniform.actions.StandardAction;
 
 public class StandardActionDispenser implements ActionDispenser {
@@ -27,8 +29,15 @@ public class StandardActionDispenser implements ActionDispenser {
         this.activity = activity;
     }
 
+    /**
+     * When the async parameter is provided, the async form of the standard action is used,
+     * so that each motor can keep multiple ops in flight.
+     */
     @Override
-    public StandardAction<?,?> getAction(int slot) {
+    public Action getAction(int slot) {
+        if (activity.getActivityDef().getParams().containsKey("async")) {
+            return new AsyncStandardAction<>(activity,slot);
+        }
         return new StandardAction<>(activity,slot);
     }
 }
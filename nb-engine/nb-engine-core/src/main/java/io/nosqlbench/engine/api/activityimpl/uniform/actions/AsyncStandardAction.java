@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.activityimpl.uniform.actions;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.*;
+import io.nosqlbench.engine.api.activityapi.core.BaseAsyncAction;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.StartedOp;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.TrackedOp;
+import io.nosqlbench.engine.api.activityapi.errorhandling.modular.ErrorDetail;
+import io.nosqlbench.engine.api.activityapi.errorhandling.modular.NBErrorHandler;
+import io.nosqlbench.engine.api.activityapi.planning.OpSequence;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import io.nosqlbench.nb.api.errors.ResultVerificationError;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * This is the async form of {@link StandardAction}, which is used when an activity is
+ * configured with the <em>async</em> parameter. Ops which implement {@link AsyncCycleOp}
+ * are submitted without blocking the motor thread, and are completed from whichever
+ * thread completes their stage. All other op types are executed in the motor thread and
+ * completed immediately, so that any op template can be used with an async activity.
+ * <p>
+ * Retries, op generators, verifiers, error handling and all of the timers are handled
+ * the same as for {@link StandardAction}, with each attempt continued from the completion
+ * of the previous one. Attempts which are already complete when they are submitted are
+ * continued in a loop rather than from a callback, so that long chains of synchronous
+ * retries or generated ops do not deepen the stack. Follow-up ops from a {@link ContinuationOp} are submitted as soon as
+ * the stage which produced them completes, so no thread is held for the length of a chain.
+ *
+ * @param <A>
+ *     The type of activity
+ * @param <R>
+ *     The type of operation
+ */
+public class AsyncStandardAction<A extends StandardActivity<R, ?>, R extends Op>
+    extends BaseAsyncAction<OpDispenser<? extends Op>, A> {
+    private final static Logger logger = LogManager.getLogger("ACTION");
+    private final Timer executeTimer;
+    private final Histogram triesHistogram;
+    private final Timer resultSuccessTimer;
+    private final Timer resultTimer;
+    private final Timer bindTimer;
+    private final NBErrorHandler errorHandler;
+    private final OpSequence<OpDispenser<? extends Op>> opsequence;
+    private final int maxTries;
+    private final Timer verifierTimer;
+
+    public AsyncStandardAction(A activity, int slot) {
+        super(activity, slot);
+        this.opsequence = activity.getOpSequence();
+        this.maxTries = activity.getMaxTries();
+        bindTimer = activity.getInstrumentation().getOrCreateBindTimer();
+        executeTimer = activity.getInstrumentation().getOrCreateExecuteTimer();
+        triesHistogram = activity.getInstrumentation().getOrCreateTriesHistogram();
+        resultTimer = activity.getInstrumentation().getOrCreateResultTimer();
+        resultSuccessTimer = activity.getInstrumentation().getOrCreateResultSuccessTimer();
+        errorHandler = activity.getErrorHandler();
+        verifierTimer = activity.getInstrumentation().getOrCreateVerifierTimer();
+    }
+
+    @Override
+    public LongFunction<OpDispenser<? extends Op>> getOpInitFunction() {
+        return opsequence;
+    }
+
+    @Override
+    public void startOpCycle(TrackedOp<OpDispenser<? extends Op>> opc) {
+        long cycle = opc.getCycle();
+        OpDispenser<? extends Op> dispenser = opc.getOpData();
+        Op op;
+
+        try (Timer.Context ct = bindTimer.time()) {
+            op = dispenser.getOp(cycle);
+        } catch (Exception e) {
+            throw new RuntimeException("while binding request in cycle " + cycle + " for op template named '" + dispenser.getOpName() +
+                "': " + e.getMessage(), e);
+        }
+
+        new OpChain(opc.start(), dispenser, cycle, op).execute();
+    }
+
+    /**
+     * An op chain holds the state of a single cycle, across all retries and any
+     * generated ops, until the cycle is completed. Attempts are strictly sequential,
+     * with each one started from the completion of the previous one.
+     */
+    private final class OpChain {
+        private final StartedOp<OpDispenser<? extends Op>> started;
+        private final OpDispenser<? extends Op> dispenser;
+        private final long cycle;
+        private Op op;
+        private int tries = 0;
+        private int code = 0;
+        private Object result = null;
+        private Op followUp = null;
+
+        private OpChain(StartedOp<OpDispenser<? extends Op>> started, OpDispenser<? extends Op> dispenser, long cycle, Op op) {
+            this.started = started;
+            this.dispenser = dispenser;
+            this.cycle = cycle;
+            this.op = op;
+        }
+
+        /**
+         * Start attempts until one is still pending when it is submitted, or the cycle is complete.
+         * A pending attempt continues the chain from its completion.
+         */
+        private void execute() {
+            while (true) {
+                tries++;
+                followUp = null;
+                long startedAt = System.nanoTime();
+                dispenser.onStart(cycle);
+
+                CompletionStage<?> stage;
+                try {
+                    stage = submit();
+                } catch (Exception e) {
+                    stage = CompletableFuture.failedStage(e);
+                }
+
+                CompletableFuture<?> future = completed(stage);
+                if (future == null) {
+                    stage.whenComplete((value, throwable) -> {
+                        if (onAttemptComplete(value, throwable, startedAt)) {
+                            execute();
+                        }
+                    });
+                    return;
+                }
+                Object value = null;
+                Throwable throwable = null;
+                try {
+                    value = future.join();
+                } catch (CompletionException | CancellationException e) {
+                    throwable = e;
+                }
+                if (!onAttemptComplete(value, throwable, startedAt)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return the future of the stage if it is already complete, or null if it is pending or can not be
+         *     checked without waiting
+         */
+        private CompletableFuture<?> completed(CompletionStage<?> stage) {
+            try {
+                CompletableFuture<?> future = stage.toCompletableFuture();
+                return future.isDone() ? future : null;
+            } catch (UnsupportedOperationException e) {
+                return null;
+            }
+        }
+
+        private CompletionStage<?> submit() {
+            if (op instanceof ContinuationOp<?> continuationOp) {
+                return continuationOp.applyContinuation(cycle);
+            } else if (op instanceof AsyncCycleOp<?> asyncCycleOp) {
+                return asyncCycleOp.applyAsync(cycle);
+            } else if (op instanceof RunnableOp runnableOp) {
+                runnableOp.run();
+                return CompletableFuture.completedStage(result);
+            } else if (op instanceof CycleOp<?> cycleOp) {
+                return CompletableFuture.completedStage(cycleOp.apply(cycle));
+            } else if (op instanceof ChainingOp chainingOp) {
+                return CompletableFuture.completedStage(chainingOp.apply(result));
+            } else {
+                throw new RuntimeException("The op implementation did not implement any active logic. Implement " +
+                    "one of [RunnableOp, CycleOp, AsyncCycleOp, or ChainingOp]");
+            }
+        }
+
+        /**
+         * @return true if another attempt should be started, false if the cycle is complete
+         */
+        private boolean onAttemptComplete(Object value, Throwable throwable, long startedAt) {
+            boolean done;
+            try {
+                done = handleAttempt(value, throwable, startedAt);
+            } catch (Throwable t) {
+                onAsyncError(t);
+                started.fail(code != 0 ? code : ErrorDetail.ERROR_UNKNOWN.resultCode);
+                return false;
+            }
+            if (!done) {
+                return true;
+            }
+            if (code == 0) {
+                started.succeed(code);
+            } else {
+                started.fail(code);
+            }
+            return false;
+        }
+
+        /**
+         * @return true if the cycle is complete, false if there is another attempt or op to start
+         */
+        private boolean handleAttempt(Object value, Throwable throwable, long startedAt) {
+            Throwable error = throwable;
+            if (error instanceof CompletionException ce && ce.getCause() != null) {
+                error = ce.getCause();
+            }
+            if (error == null) {
+                if (op instanceof ContinuationOp<?> && value instanceof OpContinuation<?> continuation) {
+                    result = continuation.result();
+                    followUp = continuation.nextOp();
+                } else {
+                    result = value;
+                }
+                error = verify();
+            }
+
+            long nanos = System.nanoTime() - startedAt;
+            executeTimer.update(nanos, TimeUnit.NANOSECONDS);
+            resultTimer.update(nanos, TimeUnit.NANOSECONDS);
+            if (error == null) {
+                resultSuccessTimer.update(nanos, TimeUnit.NANOSECONDS);
+                dispenser.onSuccess(cycle, nanos);
+            } else {
+                ErrorDetail detail = errorHandler.handleError(error, cycle, nanos);
+                dispenser.onError(cycle, nanos, error);
+                code = detail.resultCode;
+                if (detail.isRetryable() && tries < maxTries) {
+                    return false;
+                }
+            }
+            triesHistogram.update(tries);
+
+            Op nextOp = followUp;
+            followUp = null;
+            if (nextOp == null && op instanceof OpGenerator generator) {
+                logger.trace(() -> "GEN OP for cycle(" + cycle + ")");
+                nextOp = generator.getNextOp();
+            }
+            if (nextOp != null) {
+                op = nextOp;
+                tries = 0;
+                return false;
+            }
+            return true;
+        }
+
+        private Throwable verify() {
+            if (!dispenser.hasVerifiers()) {
+                return null;
+            }
+            try (Timer.Context ignored = verifierTimer.time()) {
+                dispenser.verify(cycle, result, maxTries - tries);
+            } catch (ResultVerificationError rve) {
+                return rve;
+            }
+            return null;
+        }
+    }
+
+}
@@ -20,9 +20,7 @@ import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Timer;
 import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.*;
-import io.nosqlbench.adapters.api.evalctx.CycleFunction;
 import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
-import io.nosqlbench.nb.api.errors.ResultVerificationError;
 import io.nosqlbench.engine.api.activityapi.core.ActivityDefObserver;
 import io.nosqlbench.engine.api.activityapi.core.SyncAction;
 import io.nosqlbench.engine.api.activityapi.errorhandling.modular.ErrorDetail;
@@ -76,18 +74,23 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
         OpDispenser<? extends Op> dispenser=null;
         Op op = null;
 
-        try (Timer.Context ct = bindTimer.time()) {
+        // Timers are updated with raw nanosecond deltas to avoid allocating a Timer.Context per cycle
+        long bindStartedAt = System.nanoTime();
+        try {
             dispenser = opsequence.apply(cycle);
             op = dispenser.getOp(cycle);
         } catch (Exception e) {
             throw new RuntimeException("while binding request in cycle " + cycle + " for op template named '" + (dispenser!=null?dispenser.getOpName():"NULL")+
                 "': " + e.getMessage(), e);
+        } finally {
+            bindTimer.update(System.nanoTime() - bindStartedAt, TimeUnit.NANOSECONDS);
         }
 
         int code = 0;
         Object result = null;
         while (op != null) {
 
+            Op followUp = null;
             int tries = 0;
             while (tries++ < maxTries) {
                 Throwable error = null;
@@ -95,9 +98,15 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
 
                 dispenser.onStart(cycle);
 
-                try (Timer.Context ct = executeTimer.time()) {
+                long executeStartedAt = System.nanoTime();
+                followUp = null;
+                try {
                     if (op instanceof RunnableOp runnableOp) {
                         runnableOp.run();
+                    } else if (op instanceof ContinuationOp<?> continuationOp) {
+                        OpContinuation<?> continuation = continuationOp.awaitContinuation(cycle);
+                        result = continuation.result();
+                        followUp = continuation.nextOp();
                     } else if (op instanceof CycleOp<?> cycleOp) {
                         result = cycleOp.apply(cycle);
                     } else if (op instanceof ChainingOp chainingOp) {
@@ -107,23 +116,20 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
                             "one of [RunnableOp, CycleOp, or ChainingOp]");
                     }
                     // TODO: break out validation timer from execute
-                    try (Timer.Context ignored = verifierTimer.time()) {
-                        CycleFunction<Boolean> verifier = dispenser.getVerifier();
+                    if (dispenser.hasVerifiers()) {
+                        long verifierStartedAt = System.nanoTime();
                         try {
-                            verifier.setVariable("result", result);
-                            verifier.setVariable("cycle",cycle);
-                            Boolean isGood = verifier.apply(cycle);
-                            if (!isGood) {
-                                throw new ResultVerificationError("result verification failed", maxTries - tries, verifier.getExpressionDetails());
-                            }
-                        } catch (Exception e) {
-                            throw new ResultVerificationError(e, maxTries - tries, verifier.getExpressionDetails());
+                            dispenser.verify(cycle, result, maxTries - tries);
+                        } finally {
+                            verifierTimer.update(System.nanoTime() - verifierStartedAt, TimeUnit.NANOSECONDS);
                         }
                     }
                 } catch (Exception e) {
                     error = e;
                 } finally {
-                    long nanos = System.nanoTime() - startedAt;
+                    long endedAt = System.nanoTime();
+                    executeTimer.update(endedAt - executeStartedAt, TimeUnit.NANOSECONDS);
+                    long nanos = endedAt - startedAt;
                     resultTimer.update(nanos, TimeUnit.NANOSECONDS);
                     if (error == null) {
                         resultSuccessTimer.update(nanos, TimeUnit.NANOSECONDS);
@@ -141,8 +147,15 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
             }
             triesHistogram.update(tries);
 
-            if (op instanceof OpGenerator) {
-                logger.trace(() -> "GEN OP for cycle(" + cycle + ")");
+            if (followUp != null) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("CONTINUE OP for cycle(" + cycle + ")");
+                }
+                op = followUp;
+            } else if (op instanceof OpGenerator) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("GEN OP for cycle(" + cycle + ")");
+                }
                 op = ((OpGenerator) op).getNextOp();
             } else {
                 op = null;
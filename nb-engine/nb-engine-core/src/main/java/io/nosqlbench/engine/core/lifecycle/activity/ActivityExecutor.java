@@ -71,6 +71,7 @@ public class ActivityExecutor implements NBLabeledElement, ParameterMap.Listener
     private final ActivityDef activityDef;
     private final RunStateTally tally;
     private ExecutorService executorService;
+    private MotorThreading threading = MotorThreading.platform;
     private Exception exception;
     private String sessionId = "";
     private long startedAt = 0L;
@@ -471,6 +472,16 @@ public class ActivityExecutor implements NBLabeledElement, ParameterMap.Listener
             MetricCategory.Core,
             "The current number of threads in activity " + this.description()
         );
+        if (threading == MotorThreading.virtual) {
+            CarrierThreadUtilization carriers = new CarrierThreadUtilization();
+            this.activity.create().gauge(
+                "carrier_utilization",
+                carriers::getUtilization,
+                MetricCategory.Internals,
+                "The fraction of available carrier thread time which was used to run virtual threads over the last" +
+                    " sampling period of at least one second, for " + carriers.getParallelism() + " carrier threads"
+            );
+        }
     }
 
 
@@ -519,13 +530,30 @@ public class ActivityExecutor implements NBLabeledElement, ParameterMap.Listener
         }
     }
 
+    /**
+     * Motors run on platform threads by default. With <em>threading=virtual</em>, each motor
+     * is run on its own virtual thread instead, so that blocked motors do not hold an OS thread.
+     */
     private void startMotorExecutorService() {
-        this.executorService = new ThreadPoolExecutor(
-            0, Integer.MAX_VALUE,
-            0L, TimeUnit.SECONDS,
-            new SynchronousQueue<>(),
-            new IndexedThreadFactory(activity.getAlias(), new ActivityExceptionHandler(this))
-        );
+        this.threading = activityDef.getParams().getOptionalString("threading")
+            .map(MotorThreading::of)
+            .orElse(MotorThreading.platform);
+
+        this.executorService = switch (threading) {
+            case platform -> new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE,
+                0L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new IndexedThreadFactory(activity.getAlias(), new ActivityExceptionHandler(this))
+            );
+            case virtual -> Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual()
+                    .name(activity.getAlias() + ":", 1)
+                    .uncaughtExceptionHandler(new ActivityExceptionHandler(this))
+                    .factory()
+            );
+        };
+        logger.debug(() -> "started " + threading + " motor executor for activity '" + activity.getAlias() + "'");
     }
 
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Estimate how busy the carrier threads which run virtual threads are. Each sample
+ * measures the CPU time used by all carrier threads since the previous sample, as a
+ * fraction of the CPU time which the scheduler could have used in the same interval.</p>
+ *
+ * <p>A new sample is taken at most once per sampling period. Reads within the same
+ * period return the last sample, so any number of readers see the same value, and do
+ * not shorten each other's measurement interval.</p>
+ *
+ * <p>Values near 1.0 mean that virtual motor threads are waiting for a carrier to
+ * run on, and that adding more threads will not add more concurrency. Values are
+ * NaN when thread CPU time is not supported by the JVM, and before the first sample.</p>
+ */
+public class CarrierThreadUtilization {
+    private static final String CARRIER_THREAD_CLASS = "jdk.internal.misc.CarrierThread";
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final ThreadGroup rootGroup = rootThreadGroup();
+    private final int parallelism;
+    private final long samplePeriodNanos;
+    private Map<Long, Long> lastCpuByThread = new HashMap<>();
+    private Map<Long, Long> currentCpuByThread = new HashMap<>();
+    private Thread[] threads = new Thread[64];
+    private long lastSampleAt = System.nanoTime();
+    private double utilization = Double.NaN;
+
+    public CarrierThreadUtilization() {
+        this(1000L);
+    }
+
+    /**
+     * @param samplePeriodMillis The minimum time between two samples
+     */
+    public CarrierThreadUtilization(long samplePeriodMillis) {
+        this.parallelism = Integer.getInteger(
+            "jdk.virtualThreadScheduler.parallelism",
+            Runtime.getRuntime().availableProcessors()
+        );
+        this.samplePeriodNanos = TimeUnit.MILLISECONDS.toNanos(samplePeriodMillis);
+    }
+
+    private static ThreadGroup rootThreadGroup() {
+        ThreadGroup group = Thread.currentThread().getThreadGroup();
+        while (group.getParent() != null) {
+            group = group.getParent();
+        }
+        return group;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return the utilization of the carrier threads over the last completed sampling period
+     */
+    public synchronized double getUtilization() {
+        long now = System.nanoTime();
+        if (now - lastSampleAt >= samplePeriodNanos) {
+            utilization = sample(now);
+        }
+        return utilization;
+    }
+
+    private double sample(long now) {
+        if (!threadMXBean.isThreadCpuTimeSupported()) {
+            return Double.NaN;
+        }
+        // carrier threads belong to a group under the root group, and enumerating it does not walk any stacks
+        int count;
+        while ((count = rootGroup.enumerate(threads, true)) == threads.length) {
+            threads = new Thread[threads.length * 2];
+        }
+        long usedNanos = 0L;
+        currentCpuByThread.clear();
+        for (int i = 0; i < count; i++) {
+            Thread thread = threads[i];
+            threads[i] = null;
+            if (!thread.getClass().getName().equals(CARRIER_THREAD_CLASS)) {
+                continue;
+            }
+            long cpu = threadMXBean.getThreadCpuTime(thread.threadId());
+            if (cpu < 0) {
+                continue;
+            }
+            currentCpuByThread.put(thread.threadId(), cpu);
+            usedNanos += cpu - lastCpuByThread.getOrDefault(thread.threadId(), 0L);
+        }
+        Map<Long, Long> swap = lastCpuByThread;
+        lastCpuByThread = currentCpuByThread;
+        currentCpuByThread = swap;
+
+        long elapsedNanos = now - lastSampleAt;
+        lastSampleAt = now;
+        if (elapsedNanos <= 0) {
+            return Double.NaN;
+        }
+        return Math.min(1.0d, (double) usedNanos / ((double) elapsedNanos * parallelism));
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+/**
+ * The kind of threads which are used to run the motors of an activity,
+ * as selected by the <em>threading</em> activity parameter.
+ */
+public enum MotorThreading {
+    /**
+     * Each motor runs on a dedicated platform thread. This is the default.
+     */
+    platform,
+    /**
+     * Each motor runs on a virtual thread, which allows for very high thread counts
+     * with blocking drivers, since blocked motors do not hold an OS thread.
+     */
+    virtual;
+
+    public static MotorThreading of(String spec) {
+        try {
+            return MotorThreading.valueOf(spec.toLowerCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown threading mode '" + spec + "', use one of platform or virtual");
+        }
+    }
+}
@@ -24,6 +24,10 @@ import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.StartedOp;
 import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.TrackedOp;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class OpTrackerImplTest {
 
     @Test
@@ -35,4 +39,16 @@ public class OpTrackerImplTest {
         SucceededOp stop = started.succeed(23);
     }
 
+    @Test
+    public void testResponseTimeIsMeasuredFromIntendedStart() {
+        OpTrackerImpl<String> tracker = new OpTrackerImpl<String>("test", 0, new Timer(), new Timer(), new Counter());
+        TrackedOp<String> tracked = new EventedOpImpl<>(tracker);
+        tracked.setWaitTime(5_000_000L);
+        LockSupport.parkNanos(2_000_000L);
+        StartedOp<String> started = tracked.start();
+        SucceededOp<String> stop = started.succeed(0);
+        assertThat(stop.getResponseTimeNanos()).isGreaterThanOrEqualTo(7_000_000L);
+        assertThat(stop.getServiceTimeNanos()).isLessThan(stop.getResponseTimeNanos() - 5_000_000L);
+    }
+
 }
@@ -148,6 +148,34 @@ class NBErrorHandlerTest {
         assertThat(histograms).hasSize(1);
     }
 
+    @Test
+    void testHandlersAreResolvedPerErrorClass() {
+        final ErrorMetrics errorMetrics = new ErrorMetrics(new TestComponent("activity","testalias_classes"));
+        final NBErrorHandler eh = new NBErrorHandler(() -> "IllegalState.*:retry,counter;counter", () -> errorMetrics);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(eh.handleError(new IllegalStateException("retryable"), i, 2).isRetryable()).isTrue();
+            assertThat(eh.handleError(this.runtimeException, i, 2).isRetryable()).isFalse();
+        }
+
+        final List<Counter> counters = errorMetrics.getExceptionCountMetrics().getCounters();
+        assertThat(counters).hasSize(2);
+        assertThat(counters).allMatch(c -> c.getCount() == 3);
+    }
+
+    @Test
+    void testCustomNamer() {
+        final ErrorMetrics errorMetrics = new ErrorMetrics(new TestComponent("activity","testalias_namer"));
+        final NBErrorHandler eh = new NBErrorHandler(
+            () -> "retryme:retry;stop",
+            () -> errorMetrics,
+            t -> t.getMessage().startsWith("retry") ? "retryme" : "other"
+        );
+        assertThat(eh.handleError(new RuntimeException("retry please"), 1, 2).isRetryable()).isTrue();
+        assertThatExceptionOfType(RuntimeException.class)
+            .isThrownBy(() -> eh.handleError(new RuntimeException("do not retry"), 1, 2));
+    }
+
     @Test
     void testCodeShorthand() {
         final ErrorMetrics errorMetrics = new ErrorMetrics(new TestComponent("activity","testalias_meters"));
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.activityapi.ratelimits;
+
+import io.nosqlbench.engine.api.activityapi.simrate.ScheduledRate;
+import io.nosqlbench.engine.api.activityapi.simrate.SimRateSpec;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScheduledRateTest {
+
+    private final NBComponent parent = new TestComponent("rltest", "rltest");
+
+    @Test
+    public void testPacesOpsAtConfiguredRate() {
+        ScheduledRate rl = new ScheduledRate(parent, new SimRateSpec("1000,1.1,scheduled"));
+        long startAt = System.nanoTime();
+        for (int i = 0; i < 201; i++) {
+            rl.block();
+        }
+        long elapsedMillis = (System.nanoTime() - startAt) / 1_000_000L;
+        assertThat(elapsedMillis).isBetween(190L, 1000L);
+    }
+
+    @Test
+    public void testBurstRatioLimitsCatchUp() {
+        ScheduledRate rl = new ScheduledRate(parent, new SimRateSpec("1000,2.0,scheduled"));
+        rl.block();
+        parkMillis(100);
+        assertThat(rl.getWaitTimeDuration().toMillis()).isGreaterThanOrEqualTo(90L);
+
+        // 100 ops behind, catching up at 2000 ops/s should take at least 50ms and clear the wait time
+        long startAt = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            rl.block();
+        }
+        long elapsedMillis = (System.nanoTime() - startAt) / 1_000_000L;
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(45L);
+        assertThat(rl.block()).isLessThan(80_000_000L);
+    }
+
+    @Test
+    public void testApplyRateSpecAccumulatesWaitTime() {
+        ScheduledRate rl = new ScheduledRate(parent, new SimRateSpec("100,1.1,scheduled"));
+        rl.block();
+        parkMillis(50);
+        rl.applyRateSpec(new SimRateSpec("200,1.1,scheduled"));
+        assertThat(rl.getSpec().getRate()).isEqualTo(200.0d);
+        assertThat(rl.getTotalWaitTimeDuration().toMillis()).isGreaterThanOrEqualTo(30L);
+    }
+
+    private static void parkMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -73,6 +73,17 @@ public class SimRateSpecTest {
                 .isEqualTo(new SimRateSpec(
                         12345.0d, 1.1d, SimRateSpec.Verb.configure, SimRateSpec.Scope.activity
                 ));
+        assertThat(new SimRateSpec("12345,1.4,restart,thread,scheduled"))
+                .isEqualTo(new SimRateSpec(
+                        12345.0d, 1.4d, SimRateSpec.Verb.restart, SimRateSpec.Scope.thread, SimRateSpec.Type.scheduled
+                ));
 
     }
+
+    @Test
+    public void testLimiterTypeSelection() {
+        assertThat(new SimRateSpec("12345").getType()).isEqualTo(SimRateSpec.Type.simrate);
+        assertThat(new SimRateSpec("12345,scheduled").getType()).isEqualTo(SimRateSpec.Type.scheduled);
+        assertThat(new SimRateSpec("12345,scheduled")).isNotEqualTo(new SimRateSpec("12345,simrate"));
+    }
 }
@@ -21,6 +21,11 @@ import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class AtomicInputTest {
@@ -99,4 +104,54 @@ public class AtomicInputTest {
         CycleSegment inputSegment = i.getInputSegment(1);
         assertThat(inputSegment).isNull();
     }
+
+    @Test
+    public void testStripedInputCoversAllCyclesOnceAcrossThreads() throws InterruptedException {
+        int cycles = 10_000;
+        int recycles = 3;
+        int stride = 7;
+        AtomicInput input = new AtomicInput(new TestComponent("testing","atomicinput"),
+            ActivityDef.parseActivityDef("alias=foo;cycles=" + cycles + ";recycles=" + recycles + ";inputstripe=100"));
+        ConcurrentHashMap<Long, AtomicInteger> seen = new ConcurrentHashMap<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                CycleSegment segment;
+                while ((segment = input.getInputSegment(stride)) != null) {
+                    long recycle = segment.nextRecycle();
+                    while (!segment.isExhausted()) {
+                        long cycle = segment.nextCycle();
+                        seen.computeIfAbsent(recycle * cycles + cycle, k -> new AtomicInteger()).incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long wholeStrideCycles = (cycles / stride) * stride;
+        assertThat(seen).hasSize((int) (wholeStrideCycles * recycles));
+        assertThat(seen.values()).allMatch(count -> count.get() == 1);
+        assertThat(input.getValue()).isEqualTo(cycles - (cycles % stride));
+    }
+
+    @Test
+    public void testStripedInputRecoversCyclesFromStoppedThreads() throws InterruptedException {
+        AtomicInput input = new AtomicInput(new TestComponent("testing","atomicinput"),
+            ActivityDef.parseActivityDef("alias=foo;cycles=100;inputstripe=50"));
+        Thread abandoning = Thread.ofPlatform().start(() -> input.getInputSegment(10));
+        abandoning.join();
+        assertThat(input.getValue()).isEqualTo(10L);
+
+        long total = 0;
+        CycleSegment segment;
+        while ((segment = input.getInputSegment(10)) != null) {
+            while (!segment.isExhausted()) {
+                segment.nextCycle();
+                total++;
+            }
+        }
+        assertThat(total).isEqualTo(90L);
+    }
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.actions;
+
+import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.FailedOp;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.OpImpl;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.SucceededOp;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.nosqlbench.engine.api.activityimpl.uniform.actions.StandardActionTest.activity;
+import static io.nosqlbench.engine.api.activityimpl.uniform.actions.StandardActionTest.dispenser;
+import static io.nosqlbench.engine.api.activityimpl.uniform.actions.StandardActionTest.errorCounts;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncStandardActionTest {
+
+    @Test
+    public void testFollowUpOpIsExecutedAndVerified() throws InterruptedException {
+        StandardActivity<Op, String> activity = activity("asyncfollowup", "hops:2 async:1", "async", "1");
+        AsyncStandardAction<StandardActivity<Op, String>, Op> action = new AsyncStandardAction<>(activity, 0);
+        ContinuationTestDispenser dispenser = dispenser(activity);
+
+        assertThat(run(action, dispenser, 7L)).isEqualTo(0);
+        assertThat(dispenser.getExecuted()).containsExactly("7:0", "7:1");
+        assertThat(dispenser.getVerified()).containsExactly("7:0", "7:1");
+    }
+
+    @Test
+    public void testLongerChainsAreRunInOrder() throws InterruptedException {
+        StandardActivity<Op, String> activity = activity("asynclongchain", "hops:4 async:1", "async", "1");
+        AsyncStandardAction<StandardActivity<Op, String>, Op> action = new AsyncStandardAction<>(activity, 0);
+        ContinuationTestDispenser dispenser = dispenser(activity);
+
+        assertThat(run(action, dispenser, 3L)).isEqualTo(0);
+        assertThat(run(action, dispenser, 4L)).isEqualTo(0);
+        assertThat(dispenser.getExecuted()).containsExactly("3:0", "3:1", "3:2", "3:3", "4:0", "4:1", "4:2", "4:3");
+        assertThat(dispenser.getVerified()).containsExactlyElementsOf(dispenser.getExecuted());
+    }
+
+    @Test
+    public void testFollowUpErrorsGoThroughErrorHandler() throws InterruptedException {
+        StandardActivity<Op, String> activity = activity("asyncfollowuperror", "hops:3 fail:1 async:1", "async", "1");
+        AsyncStandardAction<StandardActivity<Op, String>, Op> action = new AsyncStandardAction<>(activity, 0);
+        ContinuationTestDispenser dispenser = dispenser(activity);
+
+        assertThat(run(action, dispenser, 5L)).isEqualTo(127);
+        assertThat(dispenser.getExecuted()).containsExactly("5:0", "5:1");
+        assertThat(dispenser.getVerified()).containsExactly("5:0");
+        assertThat(errorCounts(activity)).containsExactly(1L);
+        action.rethrowAsyncErrors();
+    }
+
+    @Test
+    public void testSynchronousStagesAreChained() throws InterruptedException {
+        StandardActivity<Op, String> activity = activity("asyncsyncstages", "hops:3", "async", "1");
+        AsyncStandardAction<StandardActivity<Op, String>, Op> action = new AsyncStandardAction<>(activity, 0);
+        ContinuationTestDispenser dispenser = dispenser(activity);
+
+        assertThat(run(action, dispenser, 9L)).isEqualTo(0);
+        assertThat(dispenser.getExecuted()).containsExactly("9:0", "9:1", "9:2");
+        assertThat(dispenser.getVerified()).containsExactly("9:0", "9:1", "9:2");
+    }
+
+    @Test
+    public void testLongSynchronousGeneratorChainsDoNotDeepenTheStack() throws InterruptedException {
+        StandardActivity<Op, String> activity = activity("asynclonggenerator", "hops:100000 generate:1", "async", "1");
+        AsyncStandardAction<StandardActivity<Op, String>, Op> action = new AsyncStandardAction<>(activity, 0);
+        ContinuationTestDispenser dispenser = dispenser(activity);
+
+        assertThat(run(action, dispenser, 2L)).isEqualTo(0);
+        assertThat(dispenser.getExecuted()).hasSize(100000).startsWith("2:0").endsWith("2:99999");
+        assertThat(dispenser.getVerified()).hasSize(100000);
+        action.rethrowAsyncErrors();
+    }
+
+    /**
+     * Enqueue a single cycle and wait for it to complete, however many threads its stages complete on.
+     * @return the result code of the cycle
+     */
+    private static int run(AsyncStandardAction<?, ?> action, ContinuationTestDispenser dispenser, long cycle) throws InterruptedException {
+        AwaitedOp op = new AwaitedOp();
+        op.setCycle(cycle);
+        op.setData(dispenser);
+        action.enqueue(op);
+        assertThat(op.completed.await(10, TimeUnit.SECONDS)).isTrue();
+        return op.getResult();
+    }
+
+    private static class AwaitedOp extends OpImpl<OpDispenser<? extends Op>> {
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public SucceededOp<OpDispenser<? extends Op>> succeed(int status) {
+            SucceededOp<OpDispenser<? extends Op>> op = super.succeed(status);
+            completed.countDown();
+            return op;
+        }
+
+        @Override
+        public FailedOp<OpDispenser<? extends Op>> fail(int status) {
+            FailedOp<OpDispenser<? extends Op>> op = super.fail(status);
+            completed.countDown();
+            return op;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.actions;
+
+import io.nosqlbench.adapters.api.activityimpl.OpMapper;
+import io.nosqlbench.adapters.api.activityimpl.uniform.BaseDriverAdapter;
+import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.nb.annotations.Service;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.config.standard.NBConfiguration;
+import io.nosqlbench.nb.api.labels.NBLabels;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A driver adapter for testing the standard actions, with ops which are described entirely
+ * by their op template, in the form {@code op='hops:3 fail:1 async:1'}. See
+ * {@link ContinuationTestDispenser} for the meaning of each field.
+ */
+@Service(value = DriverAdapter.class, selector = "continuations")
+public class ContinuationTestAdapter extends BaseDriverAdapter<Op, String> {
+
+    public ContinuationTestAdapter(NBComponent parentComponent, NBLabels labels) {
+        super(parentComponent, labels);
+    }
+
+    @Override
+    public OpMapper<Op> getOpMapper() {
+        return op -> new ContinuationTestDispenser(this, op);
+    }
+
+    @Override
+    public Function<String, ? extends String> getSpaceInitializer(NBConfiguration cfg) {
+        return name -> name;
+    }
+
+    @Override
+    public List<Function<String, Optional<Map<String, Object>>>> getOpStmtRemappers() {
+        return List.of(stmt -> {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            for (String field : stmt.trim().split(" +")) {
+                String[] kv = field.split(":", 2);
+                fields.put(kv[0], Integer.valueOf(kv[1]));
+            }
+            return Optional.of(fields);
+        });
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.actions;
+
+import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.ContinuationOp;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.CycleOp;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.OpContinuation;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.OpGenerator;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.RunnableOp;
+import io.nosqlbench.adapters.api.templating.ParsedOp;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Dispenses a chain of {@link ContinuationOp}s, or of {@link OpGenerator}s, for each cycle. Each op in the chain is a hop,
+ * numbered from 0, with the result {@code cycle:hop}. The op template fields are:
+ * <ul>
+ *     <li>hops - the number of ops in the chain, 1 by default</li>
+ *     <li>fail - the hop which throws an error instead of completing, none by default</li>
+ *     <li>async - 1 to complete each hop from another thread, 0 by default</li>
+ *     <li>generate - 1 to run each hop as a synchronous {@link CycleOp} which generates the next one,
+ *     0 by default</li>
+ *     <li>noop - 1 to dispense the same op for every cycle, which does nothing and is not verified,
+ *     so that the cost of the action itself can be measured</li>
+ * </ul>
+ * Every hop which is run and every result which is verified is recorded, in order.
+ */
+public class ContinuationTestDispenser extends BaseOpDispenser<Op, String> {
+
+    private final int hops;
+    private final int fail;
+    private final boolean async;
+    private final boolean generate;
+    private final RunnableOp noop;
+    private final ConcurrentLinkedQueue<String> executed = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Object> verified = new ConcurrentLinkedQueue<>();
+
+    public ContinuationTestDispenser(DriverAdapter<? extends Op, ? extends String> adapter, ParsedOp op) {
+        super(adapter, op);
+        this.hops = op.getStaticValueOr("hops", 1);
+        this.fail = op.getStaticValueOr("fail", -1);
+        this.async = op.getStaticValueOr("async", 0) != 0;
+        this.generate = op.getStaticValueOr("generate", 0) != 0;
+        this.noop = (op.getStaticValueOr("noop", 0) != 0) ? () -> {} : null;
+    }
+
+    @Override
+    public Op getOp(long cycle) {
+        if (noop != null) {
+            return noop;
+        }
+        return generate ? new GeneratorOp(0) : new HopOp(0);
+    }
+
+    @Override
+    public boolean hasVerifiers() {
+        return noop == null;
+    }
+
+    @Override
+    public void verify(long cycle, Object result, int triesLeft) {
+        verified.add(result);
+        super.verify(cycle, result, triesLeft);
+    }
+
+    public List<String> getExecuted() {
+        return List.copyOf(executed);
+    }
+
+    public List<Object> getVerified() {
+        return List.copyOf(verified);
+    }
+
+    private String hop(long cycle, int hop) {
+        String result = cycle + ":" + hop;
+        executed.add(result);
+        if (hop == fail) {
+            throw new RuntimeException("hop " + result + " failed");
+        }
+        return result;
+    }
+
+    private final class HopOp implements ContinuationOp<String> {
+        private final int hop;
+
+        private HopOp(int hop) {
+            this.hop = hop;
+        }
+
+        @Override
+        public CompletionStage<OpContinuation<String>> applyContinuation(long cycle) {
+            Supplier<OpContinuation<String>> step =
+                () -> new OpContinuation<>(hop(cycle, hop), (hop + 1 < hops) ? new HopOp(hop + 1) : null);
+            return async ? CompletableFuture.supplyAsync(step) : CompletableFuture.completedFuture(step.get());
+        }
+    }
+
+    private final class GeneratorOp implements CycleOp<String>, OpGenerator {
+        private final int hop;
+
+        private GeneratorOp(int hop) {
+            this.hop = hop;
+        }
+
+        @Override
+        public String apply(long cycle) {
+            return hop(cycle, hop);
+        }
+
+        @Override
+        public Op getNextOp() {
+            return (hop + 1 < hops) ? new GeneratorOp(hop + 1) : null;
+        }
+    }
+}
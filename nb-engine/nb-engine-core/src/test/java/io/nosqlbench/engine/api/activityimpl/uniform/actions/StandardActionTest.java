@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.actions;
+
+import com.codahale.metrics.Counter;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.nb.api.engine.activityimpl.ParameterMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StandardActionTest {
+
+    @Test
+    public void testFollowUpOpIsExecutedAndVerified() {
+        StandardActivity<Op, String> activity = activity("followup", "hops:2");
+        StandardAction<StandardActivity<Op, String>, Op> action = new StandardAction<>(activity, 0);
+        ContinuationTestDispenser dispenser = dispenser(activity);
+
+        assertThat(action.runCycle(7L)).isEqualTo(0);
+        assertThat(dispenser.getExecuted()).containsExactly("7:0", "7:1");
+        assertThat(dispenser.getVerified()).containsExactly("7:0", "7:1");
+    }
+
+    @Test
+    public void testLongerChainsAreRunInOrder() {
+        StandardActivity<Op, String> activity = activity("longchain", "hops:4");
+        StandardAction<StandardActivity<Op, String>, Op> action = new StandardAction<>(activity, 0);
+        ContinuationTestDispenser dispenser = dispenser(activity);
+
+        assertThat(action.runCycle(3L)).isEqualTo(0);
+        assertThat(action.runCycle(4L)).isEqualTo(0);
+        assertThat(dispenser.getExecuted()).containsExactly("3:0", "3:1", "3:2", "3:3", "4:0", "4:1", "4:2", "4:3");
+        assertThat(dispenser.getVerified()).containsExactlyElementsOf(dispenser.getExecuted());
+    }
+
+    @Test
+    public void testFollowUpErrorsGoThroughErrorHandler() {
+        StandardActivity<Op, String> activity = activity("followuperror", "hops:3 fail:1");
+        StandardAction<StandardActivity<Op, String>, Op> action = new StandardAction<>(activity, 0);
+        ContinuationTestDispenser dispenser = dispenser(activity);
+
+        assertThat(action.runCycle(5L)).isEqualTo(127);
+        assertThat(dispenser.getExecuted()).containsExactly("5:0", "5:1");
+        assertThat(dispenser.getVerified()).containsExactly("5:0");
+        assertThat(errorCounts(activity)).containsExactly(1L);
+    }
+
+    static StandardActivity<Op, String> activity(String alias, String op, String... params) {
+        ParameterMap paramMap = new ParameterMap(Map.of(
+            "alias", alias,
+            "driver", "continuations",
+            "op", op,
+            "cycles", "10",
+            "errors", "counter"
+        ));
+        for (int i = 0; i < params.length; i += 2) {
+            paramMap.put(params[i], params[i + 1]);
+        }
+        return new StandardActivity<>(new TestComponent("testing", alias), new ActivityDef(paramMap));
+    }
+
+    static ContinuationTestDispenser dispenser(StandardActivity<?, ?> activity) {
+        return (ContinuationTestDispenser) activity.getOpSequence().getOps().get(0);
+    }
+
+    static List<Long> errorCounts(StandardActivity<?, ?> activity) {
+        return activity.getExceptionMetrics().getExceptionCountMetrics().getCounters().stream()
+            .map(Counter::getCount)
+            .toList();
+    }
+}
@@ -16,12 +16,11 @@
 
 package io.nosqlbench.engine.api.metrics;
 
-import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
-import io.nosqlbench.nb.api.labels.NBLabels;
-import io.nosqlbench.nb.api.engine.metrics.DeltaHdrHistogramReservoir;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
 import io.nosqlbench.nb.api.engine.metrics.HistoIntervalLogger;
+import io.nosqlbench.nb.api.engine.metrics.MetricsSnapshotScheduler;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
 import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricHistogram;
-import io.nosqlbench.nb.api.components.core.NBBaseComponent;
 import org.HdrHistogram.EncodableHistogram;
 import org.HdrHistogram.Histogram;
 import org.HdrHistogram.HistogramLogReader;
@@ -38,62 +37,46 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class HistoIntervalLoggerTest {
 
     @Test
-    public void testBasicLogger() throws IOException {
-//        File tempFile = new File("/tmp/testhistointlog.hdr");
+    public void testBasicLogger() throws IOException, InterruptedException {
         File tempFile = File.createTempFile("testhistointlog", "hdr", new File("/tmp"));
         tempFile.deleteOnExit();
 
-        HistoIntervalLogger hil = new HistoIntervalLogger(new NBBaseComponent(null), "loggertest", tempFile, Pattern.compile(".*"), 1000);
-
         final int significantDigits = 4;
 
-        NBMetricHistogram NBHistogram = new NBMetricHistogram(
-            NBLabels.forKV("name", "histo1"),
-            new DeltaHdrHistogramReservoir(
-                NBLabels.forKV("name", "histo1"),
-                significantDigits
-            ),
-            "test basic logger",
-            MetricCategory.Verification
+        TestComponent root = new TestComponent("root", "root");
+        NBMetricHistogram histogram = root.create().histogram(
+            "histo1", significantDigits, MetricCategory.Verification, "test basic logger"
         );
-
-        hil.onHistogramAdded("histo1", NBHistogram);
-
-        NBHistogram.update(1L);
-        delay(1001);
-        NBHistogram.update(1000000L);
-        delay(1001);
-        NBHistogram.update(1000L);
-        hil.onHistogramRemoved("histo1");
-
+        // frames are driven explicitly below, so the scheduled interval should never come due
+        HistoIntervalLogger hil = new HistoIntervalLogger(root, "loggertest", tempFile, Pattern.compile(".*"), 60_000L);
+        MetricsSnapshotScheduler scheduler = MetricsSnapshotScheduler.lookup(root);
+
+        histogram.update(1L);
+        scheduler.flush(hil);
+        Thread.sleep(2);
+        histogram.update(1000000L);
+        scheduler.flush(hil);
+        Thread.sleep(2);
+        histogram.update(1000L);
         hil.closeMetrics();
 
         HistogramLogReader hlr = new HistogramLogReader(tempFile.getAbsolutePath());
         List<EncodableHistogram> histos = new ArrayList<>();
-        EncodableHistogram histogram;
-        while (true) {
-            histogram = hlr.nextIntervalHistogram();
-            if (null == histogram) {
-                break;
-            }
-            histos.add(histogram);
+        EncodableHistogram interval;
+        while ((interval = hlr.nextIntervalHistogram()) != null) {
+            histos.add(interval);
         }
 
-        assertThat(histos.size()).isEqualTo(2);
-        assertThat(histos.get(0)).isInstanceOf(Histogram.class);
-        assertThat(((Histogram) histos.get(0)).getNumberOfSignificantValueDigits()).isEqualTo(significantDigits);
-    }
-
-    private void delay(int i) {
-        long now = System.currentTimeMillis();
-        long target = now + i;
-        while (System.currentTimeMillis() < target) {
-            try {
-                Thread.sleep(target - System.currentTimeMillis());
-            } catch (InterruptedException ignored) {
-            }
-        }
-        System.out.println("delayed " + (System.currentTimeMillis() - now) + " millis");
+        assertThat(histos).hasSize(3);
+        assertThat(histos).allSatisfy(h -> {
+            assertThat(h).isInstanceOf(Histogram.class);
+            assertThat(((Histogram) h).getNumberOfSignificantValueDigits()).isEqualTo(significantDigits);
+            assertThat(((Histogram) h).getTotalCount()).isEqualTo(1L);
+        });
+        assertThat(((Histogram) histos.get(0)).getMaxValue()).isEqualTo(1L);
+        assertThat(((Histogram) histos.get(1)).getMaxValue()).isEqualTo(((Histogram) histos.get(1)).highestEquivalentValue(1000000L));
+        assertThat(((Histogram) histos.get(2)).getMaxValue()).isEqualTo(((Histogram) histos.get(2)).highestEquivalentValue(1000L));
+        root.close();
     }
 
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core;
+
+import io.nosqlbench.engine.core.lifecycle.activity.CarrierThreadUtilization;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CarrierThreadUtilizationTest {
+
+    @Test
+    public void testBusyCarriersAreMeasuredOncePerPeriod() throws InterruptedException {
+        CarrierThreadUtilization carriers = new CarrierThreadUtilization(100L);
+        assertThat(carriers.getUtilization()).isNaN();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < carriers.getParallelism(); i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        double busy = carriers.getUtilization();
+        assertThat(busy).isBetween(0.0d, 1.0d).isGreaterThan(0.0d);
+        for (int reader = 0; reader < 10; reader++) {
+            assertThat(carriers.getUtilization()).isEqualTo(busy);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.core;
+
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.engine.api.activityapi.core.SyncAction;
+import io.nosqlbench.engine.api.activityimpl.SimpleActivity;
+import io.nosqlbench.engine.api.activityimpl.input.AtomicInput;
+import io.nosqlbench.engine.api.activityimpl.motor.CoreMotor;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import io.nosqlbench.engine.api.activityimpl.uniform.actions.StandardAction;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.nb.api.engine.activityimpl.ParameterMap;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that the sync motor loop does not allocate per cycle once it is running. The fixed
+ * cost of creating an activity, input and motor is factored out by comparing two runs of
+ * different lengths.
+ */
+public class CoreMotorAllocationTest {
+
+    private static final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private int runs = 0;
+
+    @Test
+    public void testSteadyStateCyclesDoNotAllocate() {
+        assertSteadyStateDoesNotAllocate(cycles -> bytesAllocatedFor(cycles, ";inputstripe=100K"));
+    }
+
+    @Test
+    public void testSteadyStateUnstripedCyclesDoNotAllocate() {
+        assertSteadyStateDoesNotAllocate(cycles -> bytesAllocatedFor(cycles, ""));
+    }
+
+    @Test
+    public void testSteadyStateStandardActionCyclesDoNotAllocate() {
+        assertSteadyStateDoesNotAllocate(this::standardActionBytesAllocatedFor);
+    }
+
+    private void assertSteadyStateDoesNotAllocate(LongUnaryOperator bytesAllocatedFor) {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        bytesAllocatedFor.applyAsLong(1_000_000L);
+        long shortRun = bytesAllocatedFor.applyAsLong(100_000L);
+        long longRun = bytesAllocatedFor.applyAsLong(2_100_000L);
+
+        double bytesPerCycle = (double) (longRun - shortRun) / 2_000_000L;
+        assertThat(bytesPerCycle).isLessThan(1.0d);
+    }
+
+    private long bytesAllocatedFor(long cycles, String inputParams) {
+        SimpleActivity activity = new SimpleActivity(
+            new TestComponent("testing", "allocation"),
+            "alias=alloc" + (runs++) + ";cycles=" + cycles + ";stride=100" + inputParams
+        );
+        AtomicInput input = new AtomicInput(activity, activity.getActivityDef());
+        CoreMotor<?> motor = new CoreMotor<>(activity, 0L, input);
+        motor.setAction(new SyncAction() {
+            @Override
+            public int runCycle(long cycle) {
+                return 0;
+            }
+        });
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        motor.run();
+        return threadMXBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    /**
+     * Run a standard activity with a single reusable op which does nothing, so that only the
+     * standard action and its instrumentation are measured along with the motor.
+     */
+    private long standardActionBytesAllocatedFor(long cycles) {
+        StandardActivity<Op, String> activity = new StandardActivity<>(
+            new TestComponent("testing", "allocation"),
+            new ActivityDef(new ParameterMap(Map.of(
+                "alias", "stdalloc" + (runs++),
+                "driver", "continuations",
+                "op", "noop:1",
+                "cycles", String.valueOf(cycles),
+                "stride", "100",
+                "inputstripe", "100K"
+            )))
+        );
+        AtomicInput input = new AtomicInput(activity, activity.getActivityDef());
+        CoreMotor<?> motor = new CoreMotor<>(activity, 0L, input);
+        motor.setAction(new StandardAction<>(activity, 0));
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        motor.run();
+        return threadMXBean.getCurrentThreadAllocatedBytes() - before;
+    }
+}
@@ -16,19 +16,26 @@
 
 package io.nosqlbench.engine.core;
 
+import com.codahale.metrics.Timer;
 import io.nosqlbench.nb.api.config.standard.TestComponent;
 import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
 import io.nosqlbench.engine.api.activityapi.core.Action;
 import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityapi.core.AsyncAction;
+import io.nosqlbench.engine.api.activityapi.core.BaseAsyncAction;
 import io.nosqlbench.engine.api.activityapi.core.Motor;
 import io.nosqlbench.engine.api.activityapi.core.SyncAction;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.StartedOp;
+import io.nosqlbench.engine.api.activityapi.core.ops.fluent.opfacets.TrackedOp;
 import io.nosqlbench.engine.api.activityimpl.SimpleActivity;
 import io.nosqlbench.engine.api.activityimpl.motor.CoreMotor;
 import io.nosqlbench.engine.core.fortesting.BlockingSegmentInput;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -85,6 +92,83 @@ public class CoreMotorTest {
 
     }
 
+    @Test
+    public void testAsyncMotorLimitsOpsInFlight() {
+        SimpleActivity activity = new SimpleActivity(TestComponent.INSTANCE, "stride=4;async=2");
+        final BlockingSegmentInput lockstepper = new BlockingSegmentInput();
+        final Motor cm = new CoreMotor(activity, 1L, lockstepper);
+        final LinkedBlockingQueue<StartedOp<Long>> inflight = new LinkedBlockingQueue<>();
+        cm.setAction(this.getTestAsyncAction(activity, inflight));
+
+        final Thread t = new Thread(cm);
+        t.setName("TestAsyncMotor");
+        t.start();
+        try {
+            Thread.sleep(500); // allow action time to be waiting in monitor for test fixture
+        } catch (final InterruptedException ignored) {
+        }
+
+        lockstepper.publishSegment(11L, 12L, 13L, 14L);
+        final AtomicLong observed = new AtomicLong();
+        this.awaitCondition(a -> 2 == inflight.size(), observed, 5000, 10);
+        try {
+            Thread.sleep(250); // the motor should be waiting for room for another op
+        } catch (final InterruptedException ignored) {
+        }
+        assertThat(inflight.size()).isEqualTo(2);
+
+        StartedOp<Long> first = inflight.poll();
+        assertThat(first.getCycle()).isEqualTo(11L);
+        first.succeed(0);
+
+        this.awaitCondition(a -> 2 == inflight.size(), observed, 5000, 10);
+        assertThat(inflight.size()).isEqualTo(2);
+        assertThat(inflight.stream().map(StartedOp::getCycle)).containsExactly(12L, 13L);
+    }
+
+    @Test
+    public void testAsyncMotorCompletesPartialStride() {
+        SimpleActivity activity = new SimpleActivity(TestComponent.INSTANCE, "alias=partialstride;stride=4;async=4");
+        final BlockingSegmentInput lockstepper = new BlockingSegmentInput();
+        final Motor cm = new CoreMotor(activity, 1L, lockstepper);
+        final LinkedBlockingQueue<StartedOp<Long>> inflight = new LinkedBlockingQueue<>();
+        cm.setAction(this.getTestAsyncAction(activity, inflight));
+
+        final Thread t = new Thread(cm);
+        t.setName("TestAsyncMotorPartialStride");
+        t.start();
+        try {
+            Thread.sleep(500); // allow action time to be waiting in monitor for test fixture
+        } catch (final InterruptedException ignored) {
+        }
+
+        lockstepper.publishSegment(21L, 22L);
+        final AtomicLong observed = new AtomicLong();
+        this.awaitCondition(a -> 2 == inflight.size(), observed, 5000, 10);
+        Timer strides = activity.getInstrumentation().getOrCreateStridesServiceTimer();
+        long stridesBefore = strides.getCount();
+
+        inflight.poll().succeed(0);
+        assertThat(strides.getCount()).isEqualTo(stridesBefore);
+        inflight.poll().succeed(0);
+        this.awaitCondition(a -> strides.getCount() > stridesBefore, observed, 5000, 10);
+        assertThat(strides.getCount()).isEqualTo(stridesBefore + 1);
+    }
+
+    private AsyncAction<Long> getTestAsyncAction(Activity activity, LinkedBlockingQueue<StartedOp<Long>> inflight) {
+        return new BaseAsyncAction<Long, Activity>(activity, 0) {
+            @Override
+            public LongFunction<Long> getOpInitFunction() {
+                return l -> l;
+            }
+
+            @Override
+            public void startOpCycle(TrackedOp<Long> opc) {
+                inflight.add(opc.start());
+            }
+        };
+    }
+
     private SyncAction getTestArrayConsumer(AtomicLongArray ary) {
         return new SyncAction() {
             private int offset;
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.engine.api.activityapi.simrate.RateLimiter;
+import io.nosqlbench.engine.api.activityapi.simrate.RateLimiters;
+import io.nosqlbench.engine.api.activityapi.simrate.SimRateSpec;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the overhead of {@link SimRateSpec.Type#simrate} and {@link SimRateSpec.Type#scheduled}
+ * rate limiters across thread counts. The rates are set high enough that the limiter itself,
+ * rather than the configured rate, is what bounds throughput.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 1, time = 10, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RateLimiterComparisonTest {
+
+    private final NBComponent parent = new TestComponent("rltest", "rltest");
+
+    public static void main(String[] args) {
+        for (int threads : new int[]{1, 4, 16, 64, 256}) {
+            Options jmhOptions = new OptionsBuilder()
+                .include(RateLimiterComparisonTest.class.getSimpleName())
+                .threads(threads)
+                .forks(1)
+                .build();
+            try {
+                new Runner(jmhOptions).run();
+            } catch (RunnerException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Param({"simrate", "scheduled"})
+    public String type;
+
+    @Param({"1000000", "100000000"})
+    public double rate;
+
+    private RateLimiter rl;
+
+    @Setup
+    public void setup() {
+        SimRateSpec spec = new SimRateSpec(
+            rate, 1.1d, SimRateSpec.Verb.start, SimRateSpec.Scope.activity, SimRateSpec.Type.valueOf(type)
+        );
+        rl = RateLimiters.create(parent, spec, NBLabels.forKV());
+    }
+
+    @Benchmark
+    public long block() {
+        return rl.block();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.sandbox;
+
+import com.codahale.metrics.Meter;
+import io.nosqlbench.nb.api.engine.metrics.CountingMeter;
+import io.nosqlbench.nb.api.engine.metrics.DeltaHdrHistogramReservoir;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the update cost of a timer with a single shared recorder against timers with a
+ * recorder per thread, with and without a counting meter, across thread counts.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 1, time = 10, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TimerContentionTest {
+
+    public static void main(String[] args) {
+        for (int threads : new int[]{1, 4, 16, 64, 128}) {
+            Options jmhOptions = new OptionsBuilder()
+                .include(TimerContentionTest.class.getSimpleName())
+                .threads(threads)
+                .forks(1)
+                .build();
+            try {
+                new Runner(jmhOptions).run();
+            } catch (RunnerException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Param({"shared", "sharded", "sharded_counting"})
+    public String type;
+
+    private NBMetricTimer timer;
+
+    @Setup
+    public void setup() {
+        NBLabels labels = NBLabels.forKV("name", "contention");
+        timer = switch (type) {
+            case "shared" -> new NBMetricTimer(labels, new DeltaHdrHistogramReservoir(labels, 3), "shared", MetricCategory.Core);
+            case "sharded" -> new NBMetricTimer(
+                labels, new DeltaHdrHistogramReservoir(labels, 3, true), new Meter(), "sharded", MetricCategory.Core);
+            case "sharded_counting" -> new NBMetricTimer(
+                labels, new DeltaHdrHistogramReservoir(labels, 3, true), new CountingMeter(), "sharded_counting", MetricCategory.Core);
+            default -> throw new RuntimeException("unknown timer type " + type);
+        };
+    }
+
+    @Benchmark
+    public void update() {
+        timer.update(1234L, TimeUnit.NANOSECONDS);
+    }
+
+    @TearDown
+    public void teardown() {
+        System.out.println("recorded " + timer.getCount() + " updates, snapshot count=" + timer.getSnapshot().size());
+    }
+}
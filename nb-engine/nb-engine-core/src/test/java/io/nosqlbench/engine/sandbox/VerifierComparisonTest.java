@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.adapters.api.evalctx.CompiledBooleanCycleFunction;
+import io.nosqlbench.adapters.api.evalctx.CompiledExpression;
+import io.nosqlbench.adapters.api.evalctx.CycleFunction;
+import io.nosqlbench.adapters.api.evalctx.GroovyBooleanCycleFunction;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of evaluating the same verifier expression as a groovy script and as a
+ * {@link CompiledExpression}, with the result injected the way the standard actions do it.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 1, time = 10, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VerifierComparisonTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(VerifierComparisonTest.class.getSimpleName())
+            .forks(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({
+        "result.size() == 3",
+        "result[0].name == 'row' + cycle && result[0].count >= 2"
+    })
+    public String expression;
+
+    private CycleFunction<Boolean> groovy;
+    private CompiledBooleanCycleFunction compiled;
+    private final List<Map<String, Object>> result = List.of(
+        Map.of("name", "row7", "count", 3L), Map.of("name", "row8", "count", 2L), Map.of("name", "row9", "count", 1L)
+    );
+
+    @Setup
+    public void setup() {
+        ParsedTemplateString template = new ParsedTemplateString(expression, Map.of());
+        groovy = new GroovyBooleanCycleFunction("groovy", template, List.of(), new ArrayList<>(), null);
+        compiled = new CompiledBooleanCycleFunction("compiled", CompiledExpression.compile(template).orElseThrow());
+    }
+
+    @Benchmark
+    public boolean groovy() {
+        groovy.setVariable("result", result);
+        groovy.setVariable("cycle", 7L);
+        return groovy.apply(7L);
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiled.verify(7L, result);
+    }
+}
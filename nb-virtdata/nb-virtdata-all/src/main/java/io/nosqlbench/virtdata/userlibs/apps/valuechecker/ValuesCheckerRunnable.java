@@ -82,13 +82,8 @@ public class ValuesCheckerRunnable implements Runnable {
 
             synchronizeFor("generation start " + rangeInfo);
             logger.debug("generating for " + "range: " + rangeStart + ".." + (rangeStart + bufsize));
-            for (int i = 0; i < output.length; i++) {
-                output[i] = mapper.get(i + rangeStart);
-                if (i==0) {
-                    logger.debug("gen i:" + i + ", cycle: " + (i + rangeStart) + ": " + output[i]);
-                }
-
-            }
+            mapper.applyRange(rangeStart, output, output.length);
+            logger.debug("gen i:0, cycle: " + rangeStart + ": " + output[0]);
             if (this.threadNum==0) {
                 logger.trace(() -> "Thread " + threadNum + " putting values into comparable array before acking");
                 expected.clear();
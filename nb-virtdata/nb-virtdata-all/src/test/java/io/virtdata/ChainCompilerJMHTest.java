@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.virtdata;
+
+import io.nosqlbench.virtdata.core.bindings.DataMapper;
+import io.nosqlbench.virtdata.core.bindings.DataMapperFunctionMapper;
+import io.nosqlbench.virtdata.core.bindings.ResolvedFunction;
+import io.nosqlbench.virtdata.core.bindings.VirtDataComposer;
+import io.nosqlbench.virtdata.core.composers.ChainCompiler;
+import io.nosqlbench.virtdata.core.composers.FunctionAssembly;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares composed lambdas against compiled chains for a set of typical workload binding
+ * recipes. Every recipe is evaluated in each invocation, so that the shared lambda call sites
+ * see as many different recipes as they would in a real workload.
+ */
+@State(Scope.Thread)
+public class ChainCompilerJMHTest {
+
+    private final DataMapper<?>[] lambdas;
+    private final DataMapper<?>[] compiled;
+    private long cycle;
+
+    public ChainCompilerJMHTest() {
+        List<String> recipes = IntegratedChainCompilerTest.RECIPES;
+        lambdas = new DataMapper<?>[recipes.size()];
+        compiled = new DataMapper<?>[recipes.size()];
+        for (int i = 0; i < recipes.size(); i++) {
+            List<Object> chain = new VirtDataComposer().resolveDiagnosticFunctionFlow(recipes.get(i))
+                .getResolvedChain().stream().map(ResolvedFunction::getFunctionObject).toList();
+            FunctionAssembly assembly = new FunctionAssembly();
+            chain.forEach(assembly::andThen);
+            lambdas[i] = DataMapperFunctionMapper.map(assembly.getFunctionObject());
+            compiled[i] = DataMapperFunctionMapper.map(ChainCompiler.compile(chain).orElseThrow());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public void lambdaChains(Blackhole bh) {
+        long c = cycle++;
+        for (DataMapper<?> mapper : lambdas) {
+            bh.consume(mapper.get(c));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public void compiledChains(Blackhole bh) {
+        long c = cycle++;
+        for (DataMapper<?> mapper : compiled) {
+            bh.consume(mapper.get(c));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.virtdata;
+
+import io.nosqlbench.virtdata.core.bindings.DataMapper;
+import io.nosqlbench.virtdata.core.bindings.DataMapperFunctionMapper;
+import io.nosqlbench.virtdata.core.bindings.ResolvedFunction;
+import io.nosqlbench.virtdata.core.bindings.VirtDataComposer;
+import io.nosqlbench.virtdata.core.composers.ChainCompiler;
+import io.nosqlbench.virtdata.core.composers.FunctionAssembly;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntegratedChainCompilerTest {
+
+    public final static List<String> RECIPES = List.of(
+        "Hash(); Mod(100); Add(5); ToString()",
+        "Hash(); Mod(1000000); ToString(); Prefix('key-')",
+        "HashRange(0,100); Mul(3)",
+        "Mod(1000); NumberNameToString()",
+        "Hash(); Mod(10000); Div(100); ToString()",
+        "long->HashRange(1,10)->int",
+        "Hash(); HashRange(0.0d,1000.0d)",
+        "Mul(4L); Hash(); Mod(100); ToString(); Suffix('.txt')"
+    );
+
+    private static List<Object> chainFor(String recipe) {
+        List<ResolvedFunction> chain = new VirtDataComposer().resolveDiagnosticFunctionFlow(recipe).getResolvedChain();
+        return chain.stream().map(ResolvedFunction::getFunctionObject).toList();
+    }
+
+    @Test
+    public void testCompiledChainsMatchLambdas() {
+        for (String recipe : RECIPES) {
+            List<Object> chain = chainFor(recipe);
+            FunctionAssembly assembly = new FunctionAssembly();
+            chain.forEach(assembly::andThen);
+            DataMapper<Object> lambdas = DataMapperFunctionMapper.map(assembly.getFunctionObject());
+
+            Optional<Object> compiled = ChainCompiler.compile(chain);
+            assertThat(compiled).as(recipe).isPresent();
+            assertThat(compiled.get().getClass().isHidden()).isTrue();
+            DataMapper<Object> bytecode = DataMapperFunctionMapper.map(compiled.get());
+
+            for (long cycle = 0; cycle < 1000; cycle++) {
+                assertThat(bytecode.get(cycle)).as(recipe + " at " + cycle).isEqualTo(lambdas.get(cycle));
+            }
+        }
+    }
+
+    @Test
+    public void testComposerUsesCompiledChainsWhenEnabled() {
+        String previous = System.getProperty(ChainCompiler.ENABLE_PROPERTY);
+        System.setProperty(ChainCompiler.ENABLE_PROPERTY, "true");
+        try {
+            Object function = new VirtDataComposer().resolveFunctionFlow("Hash(); Mod(100); ToString()")
+                .orElseThrow().getFunctionObject();
+            assertThat(function.getClass().isHidden()).isTrue();
+            assertThat(function.toString()).contains("->");
+        } finally {
+            if (previous == null) {
+                System.clearProperty(ChainCompiler.ENABLE_PROPERTY);
+            } else {
+                System.setProperty(ChainCompiler.ENABLE_PROPERTY, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.virtdata;
+
+import io.nosqlbench.virtdata.core.bindings.BindTarget;
+import io.nosqlbench.virtdata.core.bindings.CompiledBindings;
+import io.nosqlbench.virtdata.core.bindings.DataMapper;
+import io.nosqlbench.virtdata.core.bindings.VirtData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntegratedCompiledBindingsTest {
+
+    @Test
+    public void testSharedPrefixesMatchStandaloneBindings() {
+        List<String> specs = List.of(
+            "Hash(); Mod(1000000); ToString()",
+            "Hash(); Mod(1000000); NumberNameToString()",
+            "Hash(); Mod(1000000)",
+            "Hash(); HashRange(1,100)",
+            "Mod(5)",
+            "Identity(); ToString()"
+        );
+        CompiledBindings compiled = CompiledBindings.compile(specs);
+        assertThat(compiled.getStageCount()).isEqualTo(13);
+        // Hash() and Hash(); Mod(1000000) are evaluated once each, instead of 4 and 3 times,
+        // leaving ToString(), NumberNameToString(), HashRange(1,100), Mod(5) and Identity(); ToString()
+        assertThat(compiled.getEvaluatedStageCount()).isEqualTo(8);
+        assertThat(compiled.getDiagnostics()).contains("8 of 13 function stages");
+
+        List<DataMapper<Object>> standalone = new ArrayList<>();
+        for (String spec : specs) {
+            standalone.add(VirtData.<Object>getOptionalMapper(spec).orElseThrow());
+        }
+        for (long cycle = 0; cycle < 1000; cycle++) {
+            Object[] values = compiled.apply(cycle);
+            for (int i = 0; i < specs.size(); i++) {
+                assertThat(values[i]).isEqualTo(standalone.get(i).get(cycle));
+            }
+        }
+    }
+
+    @Test
+    public void testNoSharingWithoutCommonPrefix() {
+        CompiledBindings compiled = CompiledBindings.compile(List.of("Mod(5)", "Mod(7)", "Hash()"));
+        assertThat(compiled.getStageCount()).isEqualTo(3);
+        assertThat(compiled.getEvaluatedStageCount()).isEqualTo(3);
+        assertThat(compiled.apply(11L)).containsExactly(1L, 4L, VirtData.getOptionalMapper("Hash()").orElseThrow().get(11L));
+    }
+
+    @Test
+    public void testApplyIntoPassesPrimitives() {
+        List<String> specs = List.of(
+            "Hash(); Mod(100L)",
+            "Hash(); Mod(100L); ToString()",
+            "long->HashRange(1,10)->int",
+            "HashRange(0.0d,1.0d)"
+        );
+        CompiledBindings compiled = CompiledBindings.compile(specs);
+        Object[] values = compiled.apply(42L);
+
+        List<String> calls = compiled.applyInto(42L, new ArrayList<>(), new BindTarget<List<String>>() {
+            @Override
+            public List<String> setLong(List<String> target, int index, long value) {
+                target.add(index + ":long:" + value);
+                return target;
+            }
+
+            @Override
+            public List<String> setInt(List<String> target, int index, int value) {
+                target.add(index + ":int:" + value);
+                return target;
+            }
+
+            @Override
+            public List<String> setDouble(List<String> target, int index, double value) {
+                target.add(index + ":double:" + value);
+                return target;
+            }
+
+            @Override
+            public List<String> setObject(List<String> target, int index, Object value) {
+                target.add(index + ":object:" + value);
+                return target;
+            }
+        });
+
+        assertThat(calls).containsExactly(
+            "0:long:" + values[0],
+            "1:object:" + values[1],
+            "2:int:" + values[2],
+            "3:double:" + values[3]
+        );
+    }
+
+}
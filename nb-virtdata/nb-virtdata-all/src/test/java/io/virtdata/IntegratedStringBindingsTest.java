@@ -18,11 +18,21 @@ package io.virtdata;
 
 import io.nosqlbench.virtdata.core.bindings.Bindings;
 import io.nosqlbench.virtdata.core.bindings.BindingsTemplate;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 import io.nosqlbench.virtdata.core.templates.StringBindings;
+import io.nosqlbench.virtdata.core.templates.StringCompositor;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class IntegratedStringBindingsTest {
 
@@ -73,4 +83,33 @@ public class IntegratedStringBindingsTest {
         assertThat(s).isEqualTo("A2C");
     }
 
+    @Test
+    public void testCompositorWritesUtf8() throws IOException {
+        ParsedTemplateString pt = new ParsedTemplateString(
+            "\u00e9t\u00e9 {name} {mod} {name}",
+            Map.of("name", "NumberNameToString()", "mod", "Mod(5)")
+        );
+        StringCompositor compositor = new StringCompositor(pt, Map.of());
+        assertThat(compositor.getSizeEstimate()).isGreaterThan(0);
+
+        for (long cycle = 0; cycle < 20; cycle++) {
+            String rendered = compositor.apply(cycle);
+            byte[] expected = rendered.getBytes(StandardCharsets.UTF_8);
+
+            ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+            compositor.writeTo(cycle, buffer);
+            assertThat(buffer.array()).isEqualTo(expected);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            compositor.writeTo(cycle, out);
+            assertThat(out.toByteArray()).isEqualTo(expected);
+        }
+        assertThat(compositor.apply(3L)).isEqualTo("\u00e9t\u00e9 three 3 three");
+        ByteBuffer small = ByteBuffer.allocate(8);
+        small.put((byte) 1);
+        assertThatThrownBy(() -> compositor.writeTo(3L, small))
+            .isInstanceOf(BufferOverflowException.class);
+        assertThat(small.position()).isEqualTo(1);
+    }
+
 }
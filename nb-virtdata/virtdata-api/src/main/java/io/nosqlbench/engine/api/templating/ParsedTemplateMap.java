@@ -26,6 +26,7 @@ import io.nosqlbench.nb.api.config.standard.NBConfigError;
 import io.nosqlbench.nb.api.config.standard.NBTypeConverter;
 import io.nosqlbench.nb.api.errors.BasicError;
 import io.nosqlbench.nb.api.errors.OpConfigError;
+import io.nosqlbench.virtdata.core.bindings.CompiledBindings;
 import io.nosqlbench.virtdata.core.bindings.DataMapper;
 import io.nosqlbench.virtdata.core.bindings.VirtData;
 import io.nosqlbench.virtdata.core.templates.BindPoint;
@@ -735,7 +736,15 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
     }
 
     public Optional<ParsedTemplateString> takeAsOptionalStringTemplate(String field) {
-        Optional<ParsedTemplateString> asStringTemplate = this.getAsStringTemplate(field);
+        return takeAsOptionalStringTemplate(field, false);
+    }
+
+    /**
+     * Like {@link #takeAsOptionalStringTemplate(String)}, but optionally accept a number or boolean value
+     * as the literal text of a template, for fields which are parsed as text in any case.
+     */
+    public Optional<ParsedTemplateString> takeAsOptionalStringTemplate(String field, boolean scalarsAsText) {
+        Optional<ParsedTemplateString> asStringTemplate = this.getAsStringTemplate(field, scalarsAsText);
         if (asStringTemplate.isPresent()) {
             originalTemplateObject.remove(field);
             return asStringTemplate;
@@ -766,6 +775,14 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
      * @return A map of templates, or an empty map if the field is not defined or is empty.
      */
     public Map<String,ParsedTemplateString> takeAsNamedTemplates(String fieldname) {
+        return takeAsNamedTemplates(fieldname, false);
+    }
+
+    /**
+     * Like {@link #takeAsNamedTemplates(String)}, but optionally accept number and boolean values as the
+     * literal text of templates, for fields which are parsed as text in any case.
+     */
+    public Map<String,ParsedTemplateString> takeAsNamedTemplates(String fieldname, boolean scalarsAsText) {
         Object entry = originalTemplateObject.get(fieldname);
         if (entry !=null) {
             dynamics.remove(fieldname);
@@ -803,6 +820,8 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
         elements.forEach((k,v) -> {
             if (v instanceof CharSequence chars) {
                 parsedStringTemplates.put(k,new ParsedTemplateString(chars.toString(), this.bindings));
+            } else if (scalarsAsText && (v instanceof Number || v instanceof Boolean)) {
+                parsedStringTemplates.put(k,new ParsedTemplateString(v.toString(), this.bindings));
             }
         });
         return parsedStringTemplates;
@@ -810,9 +829,13 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
 
 
     public Optional<ParsedTemplateString> getAsStringTemplate(String fieldname) {
+        return getAsStringTemplate(fieldname, false);
+    }
+
+    private Optional<ParsedTemplateString> getAsStringTemplate(String fieldname, boolean scalarsAsText) {
         if (originalTemplateObject.containsKey(fieldname)) {
             Object fval = originalTemplateObject.get(fieldname);
-            if (fval instanceof CharSequence) {
+            if (fval instanceof CharSequence || (scalarsAsText && (fval instanceof Number || fval instanceof Boolean))) {
                 return Optional.of(new ParsedTemplateString(fval.toString(), this.bindings));
             } else {
                 throw new RuntimeException("Can not make a parsed text template from op template field '" + fieldname + "' of type '" + fval.getClass().getSimpleName() + "'");
@@ -882,6 +905,15 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
         return new ArrayBinder(bindPoints);
     }
 
+    /**
+     * @param bindPoints The {@link BindPoint}s for which the {@link CompiledBindings} will be created
+     * @return a new {@link CompiledBindings} which can produce an {@link Object} array from a long input, or
+     * write the values directly into a {@link io.nosqlbench.virtdata.core.bindings.BindTarget}
+     */
+    public CompiledBindings newCompiledBindingsFromBindPoints(List<BindPoint> bindPoints) {
+        return CompiledBindings.compile(bindPoints.stream().map(BindPoint::getBindspec).toList());
+    }
+
     /**
      * Get the {@link LongFunction} which is used to resolve a dynamic field value.
      *
@@ -18,13 +18,11 @@ package io.nosqlbench.engine.api.templating.binders;
 
 import io.nosqlbench.engine.api.templating.ParsedTemplateMap;
 import io.nosqlbench.nb.api.errors.OpConfigError;
-import io.nosqlbench.virtdata.core.bindings.DataMapper;
-import io.nosqlbench.virtdata.core.bindings.VirtData;
+import io.nosqlbench.virtdata.core.bindings.CompiledBindings;
 import io.nosqlbench.virtdata.core.templates.BindPoint;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.LongFunction;
 
 public class ArrayBinder implements LongFunction<Object[]> {
@@ -32,6 +30,7 @@ public class ArrayBinder implements LongFunction<Object[]> {
     private final Object[] protoary;
     private final LongFunction<?>[] mapperary;
     private final int[] dindexes;
+    private final CompiledBindings compiled;
 
     public ArrayBinder(ParsedTemplateMap cmd, String[] fields) {
         this.protoary = new Object[fields.length];
@@ -51,30 +50,29 @@ public class ArrayBinder implements LongFunction<Object[]> {
             }
         }
         this.dindexes = Arrays.copyOf(indexes, nextIndex);
+        this.compiled = null;
     }
 
     public ArrayBinder(ParsedTemplateMap cmd, List<String> fields) {
         this(cmd, fields.toArray(new String[0]));
     }
 
+    /**
+     * Bind all of the given bind points together, so that function stages which are common
+     * to several of them are evaluated once per cycle. See {@link CompiledBindings}.
+     */
     public ArrayBinder(List<BindPoint> bindPoints) {
-        this.protoary = new Object[bindPoints.size()];
-        this.mapperary = new LongFunction<?>[bindPoints.size()];
-        int[] indexes = new int[bindPoints.size()];
-        int nextIndex = 0;
-
-        for (int i = 0; i < bindPoints.size(); i++) {
-            BindPoint bindPoint = bindPoints.get(i);
-            Optional<DataMapper<Object>> mapper = VirtData.getOptionalMapper(bindPoint.getBindspec());
-            mapperary[i] = mapper.orElseThrow();
-            indexes[nextIndex++] = i;
-        }
-        this.dindexes = Arrays.copyOf(indexes, nextIndex);
-
+        this.protoary = null;
+        this.mapperary = null;
+        this.dindexes = null;
+        this.compiled = CompiledBindings.compile(bindPoints.stream().map(BindPoint::getBindspec).toList());
     }
 
     @Override
     public Object[] apply(long value) {
+        if (compiled != null) {
+            return compiled.apply(value);
+        }
         Object[] ary = Arrays.copyOf(protoary, protoary.length);
         for (int dindex : this.dindexes) {
             ary[dindex] = this.mapperary[dindex].apply(value);
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.api.bindings;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A {@link LongUnaryOperator} which can also be evaluated over a contiguous range of inputs at once.
+ * Functions which can do this more efficiently than one call per input should override
+ * {@link #applyRange(long, long[], int)}.
+ * <p>
+ * Only a binding which is a single function can be evaluated this way. Composed bindings, whether
+ * assembled from lambdas or compiled by the ChainCompiler, do not forward range calls to their stages,
+ * so they are evaluated one input at a time.
+ */
+public interface LongRangeOperator extends LongUnaryOperator {
+
+    /**
+     * Fill the first n elements of out with the results for inputs start .. start+n-1.
+     *
+     * @param start The input value for out[0]
+     * @param out   The array to fill
+     * @param n     The number of values to compute
+     */
+    default void applyRange(long start, long[] out, int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = applyAsLong(start + i);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.core.bindings;
+
+/**
+ * A destination for positional binding values, such as a statement builder, which can accept
+ * primitive values directly. This allows {@link CompiledBindings#applyInto(long, Object, BindTarget)}
+ * to pass along long, int and double values without boxing them.
+ * Each method returns the target to use for the next value, so that both mutable targets and
+ * immutable targets which return a modified copy can be supported.
+ *
+ * @param <T> The type of the target
+ */
+public interface BindTarget<T> {
+
+    T setLong(T target, int index, long value);
+
+    T setInt(T target, int index, int value);
+
+    T setDouble(T target, int index, double value);
+
+    /**
+     * Set a value which is not one of the primitive types above, or which may be null.
+     */
+    T setObject(T target, int index, Object value);
+}
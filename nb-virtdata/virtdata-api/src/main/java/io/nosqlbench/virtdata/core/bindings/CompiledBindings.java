@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.core.bindings;
+
+import io.nosqlbench.virtdata.core.composers.ChainCompiler;
+import io.nosqlbench.virtdata.lang.ast.ArgType;
+import io.nosqlbench.virtdata.lang.ast.Expression;
+import io.nosqlbench.virtdata.lang.ast.FunctionCall;
+import io.nosqlbench.virtdata.lang.ast.VirtDataFlow;
+import io.nosqlbench.virtdata.lang.parser.VirtDataDSL;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * <P>A set of bindings which are resolved together, so that identical leading function stages
+ * are only evaluated once per cycle. With recipes like {@code Hash(); Mod(1000000); ToString()}
+ * and {@code Hash(); Mod(1000000); NumberNameToString()}, the {@code Hash(); Mod(1000000)}
+ * prefix is computed once and its value is given to the remaining stages of both bindings.</P>
+ *
+ * <P>Each binding is resolved exactly as it would be on its own. Leading stages are shared
+ * between bindings only when they are written the same way, resolve to the same function class,
+ * are long to long functions, are thread safe, and do not assign or reference variables.
+ * The result of each binding is therefore the same as its standalone form.</P>
+ *
+ * <P>Values can be produced as an Object array with {@link #apply(long)}, or written into a
+ * {@link BindTarget} with {@link #applyInto(long, Object, BindTarget)}. The latter passes the
+ * values of long, int and double bindings as primitives.</P>
+ */
+public class CompiledBindings implements LongFunction<Object[]> {
+    private final static Logger logger = LogManager.getLogger(CompiledBindings.class);
+    private final static long[] NO_VALUES = new long[0];
+    private final static byte OBJECT = 0;
+    private final static byte LONG = 1;
+    private final static byte INT = 2;
+    private final static byte DOUBLE = 3;
+    private final static byte IDENTITY = 4;
+
+    private final List<String> specs;
+    private final LongUnaryOperator[] nodeFuncs;
+    private final int[] nodeParents;
+    private final int[] bindingNodes;
+    private final DataMapper<?>[] bindingMappers;
+    private final byte[] bindingKinds;
+    private final LongUnaryOperator[] longFuncs;
+    private final LongToIntFunction[] intFuncs;
+    private final LongToDoubleFunction[] doubleFuncs;
+    private final int stageCount;
+    private final int evaluatedStageCount;
+    private final String diagnostics;
+    private final ThreadLocal<long[]> tlSharedValues;
+
+    private CompiledBindings(
+        List<String> specs,
+        LongUnaryOperator[] nodeFuncs,
+        int[] nodeParents,
+        int[] bindingNodes,
+        Object[] bindingFunctions,
+        int stageCount,
+        int evaluatedStageCount,
+        String diagnostics) {
+        this.specs = specs;
+        this.nodeFuncs = nodeFuncs;
+        this.nodeParents = nodeParents;
+        this.bindingNodes = bindingNodes;
+        this.bindingMappers = new DataMapper<?>[bindingFunctions.length];
+        this.bindingKinds = new byte[bindingFunctions.length];
+        this.longFuncs = new LongUnaryOperator[bindingFunctions.length];
+        this.intFuncs = new LongToIntFunction[bindingFunctions.length];
+        this.doubleFuncs = new LongToDoubleFunction[bindingFunctions.length];
+        for (int i = 0; i < bindingFunctions.length; i++) {
+            Object function = bindingFunctions[i];
+            if (function == null) { // every stage is shared, so the value is that of the last shared stage
+                bindingKinds[i] = IDENTITY;
+                bindingMappers[i] = (DataMapper<Long>) l -> l;
+                continue;
+            }
+            bindingMappers[i] = DataMapperFunctionMapper.map(function);
+            switch (FunctionType.valueOf(function)) {
+                case long_long -> {
+                    bindingKinds[i] = LONG;
+                    longFuncs[i] = (LongUnaryOperator) function;
+                }
+                case long_int -> {
+                    bindingKinds[i] = INT;
+                    intFuncs[i] = (LongToIntFunction) function;
+                }
+                case long_double -> {
+                    bindingKinds[i] = DOUBLE;
+                    doubleFuncs[i] = (LongToDoubleFunction) function;
+                }
+                default -> bindingKinds[i] = OBJECT;
+            }
+        }
+        this.stageCount = stageCount;
+        this.evaluatedStageCount = evaluatedStageCount;
+        this.diagnostics = diagnostics;
+        this.tlSharedValues = ThreadLocal.withInitial(() -> new long[nodeFuncs.length]);
+    }
+
+    public static CompiledBindings compile(List<String> specs) {
+        return compile(specs, Collections.emptyMap());
+    }
+
+    /**
+     * Resolve all of the binding specs, sharing common leading stages between them.
+     *
+     * @param specs  The VirtData binding specifiers, in the order of the values to be produced
+     * @param config A map of configuration objects, as for {@link VirtData#getOptionalMapper(String, Map)}
+     * @return a function which produces the values of all bindings for a given cycle
+     */
+    public static CompiledBindings compile(List<String> specs, Map<String, ?> config) {
+        int size = specs.size();
+        List<List<Expression>> expressions = new ArrayList<>(size);
+        ResolverDiagnostics[] resolved = new ResolverDiagnostics[size];
+
+        for (int i = 0; i < size; i++) {
+            String spec = specs.get(i);
+            VirtDataDSL.ParseResult parseResult = VirtDataDSL.parse(spec);
+            if (parseResult.throwable != null) {
+                throw new RuntimeException("Error while parsing binding specification '" + spec + "': " + parseResult.throwable);
+            }
+            VirtDataFlow flow = parseResult.flow;
+            VirtDataComposer composer = new VirtDataComposer();
+            composer.addCustomElements(config);
+            resolved[i] = composer.resolveDiagnosticFunctionFlow(flow);
+            if (resolved[i].getResolvedFunctionOrThrow() == null) {
+                throw new RuntimeException("Unable to resolve binding specification '" + spec + "'");
+            }
+            expressions.add(flow.getExpressions());
+        }
+
+        // Build a prefix tree of the shareable leading stages of every binding
+        List<PrefixNode> nodes = new ArrayList<>();
+        Map<String, Integer> roots = new HashMap<>();
+        int[][] paths = new int[size][];
+        int stageCount = 0;
+        for (int i = 0; i < size; i++) {
+            List<ResolvedFunction> chain = resolved[i].getResolvedChain();
+            stageCount += chain.size();
+            int[] path = new int[chain.size()];
+            int depth = 0;
+            int parent = -1;
+            for (int stage = 0; stage < chain.size(); stage++) {
+                Expression expression = expressions.get(i).get(stage);
+                ResolvedFunction function = chain.get(stage);
+                if (!isShareable(expression, function)) {
+                    break;
+                }
+                String key = expression.getCall().toString() + "=>" + function.getFunctionObject().getClass().getName();
+                Map<String, Integer> siblings = parent < 0 ? roots : nodes.get(parent).children;
+                Integer index = siblings.get(key);
+                if (index == null) {
+                    index = nodes.size();
+                    nodes.add(new PrefixNode(key, (LongUnaryOperator) function.getFunctionObject(), parent));
+                    siblings.put(key, index);
+                }
+                nodes.get(index).users++;
+                path[depth++] = index;
+                parent = index;
+            }
+            paths[i] = Arrays.copyOf(path, depth);
+        }
+
+        // Only stages which are used by more than one binding are evaluated separately
+        int[] evalIndex = new int[nodes.size()];
+        Arrays.fill(evalIndex, -1);
+        int[] sharedDepths = new int[size];
+        for (int i = 0; i < size; i++) {
+            int depth = 0;
+            while (depth < paths[i].length && nodes.get(paths[i][depth]).users > 1) {
+                depth++;
+            }
+            sharedDepths[i] = depth;
+            for (int d = 0; d < depth; d++) {
+                evalIndex[paths[i][d]] = 0;
+            }
+        }
+        List<PrefixNode> evaluated = new ArrayList<>();
+        for (int n = 0; n < nodes.size(); n++) { // parents are always created before their children
+            if (evalIndex[n] == 0) {
+                evalIndex[n] = evaluated.size();
+                evaluated.add(nodes.get(n));
+            }
+        }
+        LongUnaryOperator[] nodeFuncs = new LongUnaryOperator[evaluated.size()];
+        int[] nodeParents = new int[evaluated.size()];
+        for (int e = 0; e < nodeFuncs.length; e++) {
+            PrefixNode node = evaluated.get(e);
+            nodeFuncs[e] = node.function;
+            nodeParents[e] = node.parent < 0 ? -1 : evalIndex[node.parent];
+        }
+
+        int[] bindingNodes = new int[size];
+        Object[] bindingFunctions = new Object[size];
+        int evaluatedStageCount = nodeFuncs.length;
+        for (int i = 0; i < size; i++) {
+            List<ResolvedFunction> chain = resolved[i].getResolvedChain();
+            int depth = sharedDepths[i];
+            evaluatedStageCount += chain.size() - depth;
+            if (depth == 0) {
+                bindingNodes[i] = -1;
+                bindingFunctions[i] = resolved[i].getResolvedFunctionOrThrow().getFunctionObject();
+            } else {
+                bindingNodes[i] = evalIndex[paths[i][depth - 1]];
+                if (depth < chain.size()) {
+                    bindingFunctions[i] = ChainCompiler.compileOrAssemble(
+                        chain.subList(depth, chain.size()).stream().map(ResolvedFunction::getFunctionObject).toList()
+                    );
+                }
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("compiled ").append(size).append(" bindings: ")
+            .append(evaluatedStageCount).append(" of ").append(stageCount)
+            .append(" function stages are evaluated per cycle");
+        for (PrefixNode node : evaluated) {
+            sb.append("\n shared by ").append(node.users).append(": ").append(node.key);
+        }
+        String diagnostics = sb.toString();
+        if (evaluatedStageCount < stageCount) {
+            logger.debug(diagnostics);
+        }
+
+        return new CompiledBindings(
+            List.copyOf(specs), nodeFuncs, nodeParents, bindingNodes, bindingFunctions,
+            stageCount, evaluatedStageCount, diagnostics
+        );
+    }
+
+    private static boolean isShareable(Expression expression, ResolvedFunction function) {
+        if (expression.getAssignment() != null || hasVariableRef(expression.getCall())) {
+            return false;
+        }
+        return function.isThreadSafe()
+            && function.getFunctionObject() instanceof LongUnaryOperator
+            && function.getInputClass() == long.class
+            && function.getResultClass() == long.class;
+    }
+
+    private static boolean hasVariableRef(FunctionCall call) {
+        for (ArgType arg : call.getArgs()) {
+            ArgType.TypeName typeName = ArgType.TypeName.valueOf(arg);
+            if (typeName == ArgType.TypeName.RefArg) {
+                return true;
+            }
+            if (typeName == ArgType.TypeName.FunctionCall && hasVariableRef((FunctionCall) arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long[] evaluateShared(long value) {
+        if (nodeFuncs.length == 0) {
+            return NO_VALUES;
+        }
+        long[] values = tlSharedValues.get();
+        for (int i = 0; i < nodeFuncs.length; i++) {
+            int parent = nodeParents[i];
+            values[i] = nodeFuncs[i].applyAsLong(parent < 0 ? value : values[parent]);
+        }
+        return values;
+    }
+
+    @Override
+    public Object[] apply(long value) {
+        return apply(value, new Object[bindingMappers.length]);
+    }
+
+    /**
+     * Write the value of each binding into the provided array at the binding's index, so that
+     * callers can reuse the same array for every cycle.
+     *
+     * @param value   The input value, usually the cycle
+     * @param results An array with at least one element for each binding
+     * @return the same array
+     */
+    public Object[] apply(long value, Object[] results) {
+        long[] values = evaluateShared(value);
+        for (int i = 0; i < bindingMappers.length; i++) {
+            int node = bindingNodes[i];
+            results[i] = bindingMappers[i].get(node < 0 ? value : values[node]);
+        }
+        return results;
+    }
+
+    /**
+     * Write the value of each binding into the target at the binding's index. Long, int and double
+     * valued bindings are passed to the target as primitives.
+     *
+     * @param value  The input value, usually the cycle
+     * @param target The initial target
+     * @param setter The setter methods for the target type
+     * @param <T>    The type of the target
+     * @return the target as returned by the last setter call
+     */
+    public <T> T applyInto(long value, T target, BindTarget<T> setter) {
+        long[] values = evaluateShared(value);
+        for (int i = 0; i < bindingKinds.length; i++) {
+            int node = bindingNodes[i];
+            long input = node < 0 ? value : values[node];
+            target = switch (bindingKinds[i]) {
+                case LONG -> setter.setLong(target, i, longFuncs[i].applyAsLong(input));
+                case INT -> setter.setInt(target, i, intFuncs[i].applyAsInt(input));
+                case DOUBLE -> setter.setDouble(target, i, doubleFuncs[i].applyAsDouble(input));
+                case IDENTITY -> setter.setLong(target, i, input);
+                default -> setter.setObject(target, i, bindingMappers[i].get(input));
+            };
+        }
+        return target;
+    }
+
+    public List<String> getSpecs() {
+        return specs;
+    }
+
+    /**
+     * @return the number of function stages across all bindings, as written
+     */
+    public int getStageCount() {
+        return stageCount;
+    }
+
+    /**
+     * @return the number of function stages which are evaluated for each cycle
+     */
+    public int getEvaluatedStageCount() {
+        return evaluatedStageCount;
+    }
+
+    /**
+     * @return a summary of the stage reduction and of the shared stages
+     */
+    public String getDiagnostics() {
+        return diagnostics;
+    }
+
+    @Override
+    public String toString() {
+        return diagnostics;
+    }
+
+    private final static class PrefixNode {
+        private final String key;
+        private final LongUnaryOperator function;
+        private final int parent;
+        private final Map<String, Integer> children = new HashMap<>();
+        private int users;
+
+        private PrefixNode(String key, LongUnaryOperator function, int parent) {
+            this.key = key;
+            this.function = function;
+            this.parent = parent;
+        }
+    }
+}
@@ -16,9 +16,9 @@
 
 package io.nosqlbench.virtdata.core.bindings;
 
-import java.util.function.LongFunction;
+import io.nosqlbench.virtdata.api.bindings.LongRangeFunction;
 
-public interface DataMapper<R> extends LongFunction<R> {
+public interface DataMapper<R> extends LongRangeFunction<R> {
     R get(long input);
 
     @Override
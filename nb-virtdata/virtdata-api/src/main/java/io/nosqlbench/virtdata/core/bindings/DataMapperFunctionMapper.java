@@ -16,6 +16,9 @@
 
 package io.nosqlbench.virtdata.core.bindings;
 
+import io.nosqlbench.virtdata.api.bindings.LongRangeFunction;
+import io.nosqlbench.virtdata.api.bindings.LongRangeOperator;
+
 import java.util.function.*;
 
 /**
@@ -34,6 +37,12 @@ import java.util.function.*;
 @SuppressWarnings("unchecked")
 public class DataMapperFunctionMapper {
 
+    /**
+     * Scratch space for range calls on {@link LongRangeOperator}s, which fill primitive values
+     * before they are boxed into the caller's output array.
+     */
+    private static final ThreadLocal<long[]> rangeBuffer = ThreadLocal.withInitial(() -> new long[0]);
+
     public static <T> DataMapper<T> map(Object function) {
         FunctionType functionType = FunctionType.valueOf(function);
 
@@ -115,10 +124,44 @@ public class DataMapperFunctionMapper {
     }
 
     public static DataMapper<Long> map(LongUnaryOperator f) {
+        if (f instanceof LongRangeOperator ranged) {
+            return new DataMapper<>() {
+                @Override
+                public Long get(long input) {
+                    return ranged.applyAsLong(input);
+                }
+
+                @Override
+                public void applyRange(long start, Object[] out, int n) {
+                    long[] values = rangeBuffer.get();
+                    if (values.length < n) {
+                        values = new long[n];
+                        rangeBuffer.set(values);
+                    }
+                    ranged.applyRange(start, values, n);
+                    for (int i = 0; i < n; i++) {
+                        out[i] = values[i];
+                    }
+                }
+            };
+        }
         return f::applyAsLong;
     }
 
     public static <R> DataMapper<R> map(LongFunction<R> f) {
+        if (f instanceof LongRangeFunction<R> ranged) {
+            return new DataMapper<>() {
+                @Override
+                public R get(long input) {
+                    return ranged.apply(input);
+                }
+
+                @Override
+                public void applyRange(long start, Object[] out, int n) {
+                    ranged.applyRange(start, out, n);
+                }
+            };
+        }
         return f::apply;
     }
 
@@ -21,6 +21,7 @@ import org.apache.logging.log4j.LogManager;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.List;
 import java.util.Optional;
 
 public class ResolverDiagnostics {
@@ -28,6 +29,7 @@ public class ResolverDiagnostics {
     private final static Logger logger  = LogManager.getLogger(ResolverDiagnostics.class);
 
     private ResolvedFunction resolvedFunction;
+    private List<ResolvedFunction> resolvedChain = List.of();
     private final StringBuilder log = new StringBuilder();
     private Throwable error;
 
@@ -69,6 +71,18 @@ public class ResolverDiagnostics {
         return this;
     }
 
+    /**
+     * @return the function selected for each stage of the flow, in order, before they were composed
+     */
+    public List<ResolvedFunction> getResolvedChain() {
+        return resolvedChain;
+    }
+
+    public ResolverDiagnostics setResolvedChain(List<ResolvedFunction> resolvedChain) {
+        this.resolvedChain = resolvedChain;
+        return this;
+    }
+
     public ResolverDiagnostics trace(String s) {
         logger.trace(s);
         log.append(s).append("\n");
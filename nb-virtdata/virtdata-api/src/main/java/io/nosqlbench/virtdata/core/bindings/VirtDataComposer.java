@@ -16,6 +16,7 @@
 
 package io.nosqlbench.virtdata.core.bindings;
 
+import io.nosqlbench.virtdata.core.composers.ChainCompiler;
 import io.nosqlbench.virtdata.core.composers.FunctionAssembly;
 import io.nosqlbench.virtdata.lang.ast.FunctionCall;
 import io.nosqlbench.virtdata.lang.ast.VirtDataFlow;
@@ -191,12 +192,27 @@ public class VirtDataComposer {
         removeNonLongFunctions(funcs.getFirst());
 
         List<ResolvedFunction> flattenedFuncs = optimizePath(funcs, ValueType.classOfType(flow.getLastExpression().getCall().getOutputType()));
+        diagnostics.setResolvedChain(flattenedFuncs);
 
         if (flattenedFuncs.size() == 1) {
             diagnostics.trace("FUNCTION resolution succeeded (single): '" + flow + "'");
             return diagnostics.setResolvedFunction(flattenedFuncs.get(0));
         }
 
+        if (ChainCompiler.isEnabled()) {
+            Optional<Object> compiled = ChainCompiler.compile(
+                flattenedFuncs.stream().map(ResolvedFunction::getFunctionObject).toList()
+            );
+            if (compiled.isPresent()) {
+                boolean threadSafe = flattenedFuncs.stream().allMatch(ResolvedFunction::isThreadSafe);
+                diagnostics.trace("FUNCTION resolution succeeded (bytecode): '" + flow + "'");
+                return diagnostics.setResolvedFunction(
+                    new ResolvedFunction(compiled.get(), threadSafe, null, null, null, null)
+                );
+            }
+            diagnostics.trace("FUNCTION chain could not be compiled, composing lambdas instead");
+        }
+
         FunctionAssembly assembly = new FunctionAssembly();
 
         boolean isThreadSafe = true;
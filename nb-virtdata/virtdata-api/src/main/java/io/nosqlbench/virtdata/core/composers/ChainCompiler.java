@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.core.composers;
+
+import io.nosqlbench.virtdata.core.bindings.FunctionType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Compiles a chain of function objects into a dedicated hidden class, as an alternative to
+ * the nested lambdas built by {@link FunctionAssembly}. The lambdas produced by the composers
+ * share the same few call sites across all recipes, so once enough different recipes are in use,
+ * those call sites become megamorphic. Each compiled chain has its own call sites, which stay
+ * monomorphic, and the stages are held in final fields of the hidden class.</p>
+ *
+ * <p>Type conversions between stages follow the same rules as the composers: primitive values are
+ * converted with the same widening or narrowing casts that the composer lambdas use, and boxed when
+ * passed to a {@link java.util.function.Function}. Chains which need any other conversion, such as an object
+ * result being passed to a primitive input, are not compiled. The caller should use
+ * {@link FunctionAssembly} in that case.</p>
+ *
+ * <p>This is enabled for composed bindings by setting the system property
+ * {@value #ENABLE_PROPERTY} to true.</p>
+ *
+ * <p>A compiled chain implements only the single abstract method of its result interface, so range
+ * calls are not forwarded to stages which implement {@link io.nosqlbench.virtdata.api.bindings.LongRangeOperator}
+ * or {@link io.nosqlbench.virtdata.api.bindings.LongRangeFunction}, the same as for composed lambdas.</p>
+ */
+public class ChainCompiler {
+    private final static Logger logger = LogManager.getLogger(ChainCompiler.class);
+
+    public final static String ENABLE_PROPERTY = "virtdata.compose.bytecode";
+    private final static String CLASS_NAME = "io/nosqlbench/virtdata/core/composers/CompiledChain";
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLE_PROPERTY);
+    }
+
+    /**
+     * Compose the given functions into a single function object, using a compiled chain if
+     * {@value #ENABLE_PROPERTY} is set and the chain can be compiled, or {@link FunctionAssembly}
+     * otherwise.
+     *
+     * @param functions The function objects of each stage, in order of application
+     * @return The composed function object
+     */
+    public static Object compileOrAssemble(List<?> functions) {
+        if (isEnabled() && functions.size() > 1) {
+            Optional<Object> compiled = compile(functions);
+            if (compiled.isPresent()) {
+                return compiled.get();
+            }
+        }
+        FunctionAssembly assembly = new FunctionAssembly();
+        for (Object function : functions) {
+            assembly.andThen(function);
+        }
+        return assembly.getFunctionObject();
+    }
+
+    /**
+     * Compile the given functions, in order of application, into a single function object.
+     *
+     * @param functions The function objects of each stage, the first of which must take a long input
+     * @return A LongUnaryOperator, LongToIntFunction, LongToDoubleFunction or LongFunction, or
+     * empty if the chain can not be compiled
+     */
+    public static Optional<Object> compile(List<?> functions) {
+        if (functions.isEmpty()) {
+            return Optional.empty();
+        }
+        Stage[] stages = new Stage[functions.size()];
+        Kind kind = Kind.LONG;
+        for (int i = 0; i < stages.length; i++) {
+            Object function = functions.get(i);
+            FunctionType type = FunctionType.valueOf(function);
+            Stage stage = new Stage(type);
+            if ((i == 0 && stage.input != Kind.LONG) || (kind == Kind.OBJECT && stage.input != Kind.OBJECT)) {
+                return Optional.empty();
+            }
+            stages[i] = stage;
+            kind = stage.output;
+        }
+        String description = functions.stream().map(String::valueOf).collect(Collectors.joining("->"));
+        try {
+            byte[] bytes = new ChainWriter(stages).write();
+            MethodHandles.Lookup hidden = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            MethodHandle constructor = hidden.findConstructor(
+                hidden.lookupClass(), MethodType.methodType(void.class, Object[].class, String.class)
+            );
+            return Optional.of(constructor.invoke(functions.toArray(), description));
+        } catch (Throwable t) {
+            logger.debug(() -> "unable to compile chain " + description + ": " + t);
+            return Optional.empty();
+        }
+    }
+
+    private enum Kind {
+        LONG("J", "applyAsLong", 2),
+        INT("I", "applyAsInt", 1),
+        DOUBLE("D", "applyAsDouble", 2),
+        OBJECT("Ljava/lang/Object;", "apply", 1);
+
+        private final String descriptor;
+        private final String method;
+        private final int slots;
+
+        Kind(String descriptor, String method, int slots) {
+            this.descriptor = descriptor;
+            this.method = method;
+            this.slots = slots;
+        }
+
+        private static Kind of(Class<?> type) {
+            if (type == long.class) return LONG;
+            if (type == int.class) return INT;
+            if (type == double.class) return DOUBLE;
+            return OBJECT;
+        }
+    }
+
+    private final static class Stage {
+        private final FunctionType type;
+        private final String iface;
+        private final Kind input;
+        private final Kind output;
+
+        private Stage(FunctionType type) {
+            this.type = type;
+            this.iface = type.getFunctionClass().getName().replace('.', '/');
+            this.input = Kind.of(type.getInputClass());
+            this.output = Kind.of(type.getReturnClass());
+        }
+    }
+
+    /**
+     * Writes the class file for a chain. The class has one final field per stage, a constructor
+     * which takes the stage functions and a description, the single abstract method of the result
+     * interface, and toString.
+     */
+    private final static class ChainWriter {
+        private final Stage[] stages;
+        private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+        private final DataOutputStream pool = new DataOutputStream(poolBytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int poolCount = 1;
+
+        private ChainWriter(Stage[] stages) {
+            this.stages = stages;
+        }
+
+        private byte[] write() throws IOException {
+            Kind result = stages[stages.length - 1].output;
+            Class<?> resultType = switch (result) {
+                case LONG -> LongUnaryOperator.class;
+                case INT -> LongToIntFunction.class;
+                case DOUBLE -> LongToDoubleFunction.class;
+                case OBJECT -> LongFunction.class;
+            };
+
+            int thisClass = classRef(CLASS_NAME);
+            int superClass = classRef("java/lang/Object");
+            int resultIface = classRef(resultType.getName().replace('.', '/'));
+            int code = utf8("Code");
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeShort(0x0031); // public final super
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(resultIface);
+
+            out.writeShort(stages.length + 1);
+            for (int i = 0; i < stages.length; i++) {
+                writeMember(out, 0x0012, "s" + i, "L" + stages[i].iface + ";");
+            }
+            writeMember(out, 0x0012, "description", "Ljava/lang/String;");
+
+            out.writeShort(3);
+            writeMethod(out, code, 0x0001, "<init>", "([Ljava/lang/Object;Ljava/lang/String;)V", 3, 3, constructorCode());
+            writeMethod(out, code, 0x0001, result.method, "(J)" + result.descriptor,
+                stages.length + 2, 3, applyCode(result));
+            writeMethod(out, code, 0x0001, "toString", "()Ljava/lang/String;", 1, 1, toStringCode());
+            out.writeShort(0); // class attributes
+
+            ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+            DataOutputStream cls = new DataOutputStream(classBytes);
+            cls.writeInt(0xCAFEBABE);
+            cls.writeShort(0);
+            cls.writeShort(61);
+            cls.writeShort(poolCount);
+            pool.flush();
+            poolBytes.writeTo(cls);
+            body.writeTo(cls);
+            cls.flush();
+            return classBytes.toByteArray();
+        }
+
+        private byte[] constructorCode() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream code = new DataOutputStream(bytes);
+            code.writeByte(0x2a); // aload_0
+            code.writeByte(0xb7); // invokespecial
+            code.writeShort(memberRef(10, "java/lang/Object", "<init>", "()V"));
+            for (int i = 0; i < stages.length; i++) {
+                code.writeByte(0x2a); // aload_0
+                code.writeByte(0x2b); // aload_1
+                code.writeByte(0x11); // sipush
+                code.writeShort(i);
+                code.writeByte(0x32); // aaload
+                code.writeByte(0xc0); // checkcast
+                code.writeShort(classRef(stages[i].iface));
+                code.writeByte(0xb5); // putfield
+                code.writeShort(memberRef(9, CLASS_NAME, "s" + i, "L" + stages[i].iface + ";"));
+            }
+            code.writeByte(0x2a); // aload_0
+            code.writeByte(0x2c); // aload_2
+            code.writeByte(0xb5); // putfield
+            code.writeShort(memberRef(9, CLASS_NAME, "description", "Ljava/lang/String;"));
+            code.writeByte(0xb1); // return
+            return bytes.toByteArray();
+        }
+
+        private byte[] applyCode(Kind result) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream code = new DataOutputStream(bytes);
+            // Push every stage receiver first, outermost deepest, so that each call leaves its
+            // result directly above the receiver of the next stage.
+            for (int i = stages.length - 1; i >= 0; i--) {
+                code.writeByte(0x2a); // aload_0
+                code.writeByte(0xb4); // getfield
+                code.writeShort(memberRef(9, CLASS_NAME, "s" + i, "L" + stages[i].iface + ";"));
+            }
+            code.writeByte(0x1f); // lload_1
+            Kind current = Kind.LONG;
+            for (Stage stage : stages) {
+                if (current == Kind.DOUBLE && stage.type == FunctionType.long_int) {
+                    // ComposerForLongToDoubleFunction narrows to int before a long_int stage
+                    code.writeByte(0x8e); // d2i
+                    current = Kind.INT;
+                }
+                convert(code, current, stage.input);
+                code.writeByte(0xb9); // invokeinterface
+                code.writeShort(memberRef(11, stage.iface, stage.output.method,
+                    "(" + stage.input.descriptor + ")" + stage.output.descriptor));
+                code.writeByte(1 + stage.input.slots);
+                code.writeByte(0);
+                current = stage.output;
+            }
+            code.writeByte(switch (result) {
+                case LONG -> 0xad; // lreturn
+                case INT -> 0xac; // ireturn
+                case DOUBLE -> 0xaf; // dreturn
+                case OBJECT -> 0xb0; // areturn
+            });
+            return bytes.toByteArray();
+        }
+
+        private byte[] toStringCode() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream code = new DataOutputStream(bytes);
+            code.writeByte(0x2a); // aload_0
+            code.writeByte(0xb4); // getfield
+            code.writeShort(memberRef(9, CLASS_NAME, "description", "Ljava/lang/String;"));
+            code.writeByte(0xb0); // areturn
+            return bytes.toByteArray();
+        }
+
+        private void convert(DataOutputStream code, Kind from, Kind to) throws IOException {
+            if (from == to) {
+                return;
+            }
+            switch (from) {
+                case LONG -> {
+                    switch (to) {
+                        case INT -> code.writeByte(0x88); // l2i
+                        case DOUBLE -> code.writeByte(0x8a); // l2d
+                        case OBJECT -> box(code, "java/lang/Long", "J");
+                    }
+                }
+                case INT -> {
+                    switch (to) {
+                        case LONG -> code.writeByte(0x85); // i2l
+                        case DOUBLE -> code.writeByte(0x87); // i2d
+                        case OBJECT -> box(code, "java/lang/Integer", "I");
+                    }
+                }
+                case DOUBLE -> {
+                    switch (to) {
+                        case LONG -> code.writeByte(0x8f); // d2l
+                        case INT -> code.writeByte(0x8e); // d2i
+                        case OBJECT -> box(code, "java/lang/Double", "D");
+                    }
+                }
+                case OBJECT -> throw new IllegalStateException("object values can not be converted to " + to);
+            }
+        }
+
+        private void box(DataOutputStream code, String type, String primitive) throws IOException {
+            code.writeByte(0xb8); // invokestatic
+            code.writeShort(memberRef(10, type, "valueOf", "(" + primitive + ")L" + type + ";"));
+        }
+
+        private void writeMember(DataOutputStream out, int access, String name, String descriptor) throws IOException {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(0);
+        }
+
+        private void writeMethod(DataOutputStream out, int codeName, int access, String name, String descriptor,
+                                 int maxStack, int maxLocals, byte[] code) throws IOException {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(codeName);
+            out.writeInt(12 + code.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0); // exception table
+            out.writeShort(0); // code attributes
+        }
+
+        private int utf8(String value) throws IOException {
+            Integer index = entries.get("U" + value);
+            if (index == null) {
+                pool.writeByte(1);
+                pool.writeUTF(value);
+                index = poolCount++;
+                entries.put("U" + value, index);
+            }
+            return index;
+        }
+
+        private int classRef(String name) throws IOException {
+            Integer index = entries.get("C" + name);
+            if (index == null) {
+                int nameIndex = utf8(name);
+                pool.writeByte(7);
+                pool.writeShort(nameIndex);
+                index = poolCount++;
+                entries.put("C" + name, index);
+            }
+            return index;
+        }
+
+        private int nameAndType(String name, String descriptor) throws IOException {
+            String key = "N" + name + ":" + descriptor;
+            Integer index = entries.get(key);
+            if (index == null) {
+                int nameIndex = utf8(name);
+                int descriptorIndex = utf8(descriptor);
+                pool.writeByte(12);
+                pool.writeShort(nameIndex);
+                pool.writeShort(descriptorIndex);
+                index = poolCount++;
+                entries.put(key, index);
+            }
+            return index;
+        }
+
+        /**
+         * @param tag 9 for a field, 10 for a class method, 11 for an interface method
+         */
+        private int memberRef(int tag, String owner, String name, String descriptor) throws IOException {
+            String key = "M" + tag + owner + "." + name + ":" + descriptor;
+            Integer index = entries.get(key);
+            if (index == null) {
+                int ownerIndex = classRef(owner);
+                int natIndex = nameAndType(name, descriptor);
+                pool.writeByte(tag);
+                pool.writeShort(ownerIndex);
+                pool.writeShort(natIndex);
+                index = poolCount++;
+                entries.put(key, index);
+            }
+            return index;
+        }
+    }
+}
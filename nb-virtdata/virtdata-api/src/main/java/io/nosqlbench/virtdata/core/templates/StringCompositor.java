@@ -16,41 +16,62 @@
 
 package io.nosqlbench.virtdata.core.templates;
 
-import io.nosqlbench.virtdata.core.bindings.DataMapper;
-import io.nosqlbench.virtdata.core.bindings.VirtData;
+import io.nosqlbench.virtdata.core.bindings.CompiledBindings;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 
 /**
- * This implementation of a string compositor takes a logically coherent
+ * <P>This implementation of a string compositor takes a logically coherent
  * string template and bindings set. It employs a few simplistic optimizations
  * to avoid re-generating duplicate values, as well as lower allocation
- * rate of buffer data.
+ * rate of buffer data. Distinct bindings are compiled together with
+ * {@link CompiledBindings}, so that function stages they have in common
+ * are only evaluated once.</P>
+ *
+ * <P>The size of the rendered template is estimated by rendering a sample of
+ * cycles when the compositor is created. Each thread renders into its own
+ * reusable builder, which is sized from that estimate and grows as needed, so
+ * the only allocation for {@link #apply(long)} beyond the bound values is the
+ * resulting string. Adapters which send bytes can use {@link #writeTo(long, ByteBuffer)}
+ * or {@link #writeTo(long, OutputStream)} to encode the result as UTF-8 without
+ * creating the string at all.</P>
  */
 public class StringCompositor implements LongFunction<String> {
 
+    private final static int SAMPLE_CYCLES = 100;
+    private final static int BYTE_CHUNK_SIZE = 8192;
+
     private final String[] spans;
-    private final DataMapper<?>[] mappers;
+    private final CompiledBindings bindings;
     private final int[] LUT;
-    private final int bufsize;
+    private final int sizeEstimate;
+    private final int maxRetainedSize;
 
     private final Function<Object, String> stringfunc;
+    private final ThreadLocal<Buffers> tlBuffers;
 
     public StringCompositor(ParsedTemplateString template, Map<String, Object> fconfig, Function<Object, String> stringfunc) {
-        Map<String, Integer> specs = new HashMap<>();
+        Map<String, Integer> specs = new LinkedHashMap<>();
         List<BindPoint> bindpoints = template.getBindPoints();
         for (BindPoint bindPoint : bindpoints) {
             String spec = bindPoint.getBindspec();
             specs.compute(spec, (s, i) -> i == null ? specs.size() : i);
         }
-        mappers = new DataMapper<?>[specs.size()];
-        specs.forEach((k, v) -> {
-            mappers[v] = VirtData.getOptionalMapper(k, fconfig).orElseThrow();
-        });
+        bindings = CompiledBindings.compile(new ArrayList<>(specs.keySet()), fconfig);
         String[] even_odd_spans = template.getSpans();
         this.spans = new String[bindpoints.size() + 1];
         LUT = new int[bindpoints.size()];
@@ -61,33 +82,130 @@ public class StringCompositor implements LongFunction<String> {
         spans[spans.length - 1] = even_odd_spans[even_odd_spans.length - 1];
         this.stringfunc = stringfunc;
 
-        int minsize = 0;
-        for (int i = 0; i < 100; i++) {
-            String result = apply(i);
-            if (result!=null) {
-                minsize = Math.max(minsize,result.length());
-            }
+        int spanLength = 0;
+        for (String span : spans) {
+            spanLength += span.length();
+        }
+        int maxLength = spanLength;
+        StringBuilder sample = new StringBuilder();
+        int bindingCount = specs.size();
+        Object[] sampleValues = new Object[bindingCount];
+        for (int i = 0; i < SAMPLE_CYCLES; i++) {
+            sample.setLength(0);
+            appendTo(i, sample, sampleValues);
+            maxLength = Math.max(maxLength, sample.length());
         }
-        bufsize = spans.length*1024;
+        this.sizeEstimate = maxLength + (maxLength >> 2) + 16;
+        this.maxRetainedSize = Math.max(sizeEstimate << 2, 1 << 16);
+        this.tlBuffers = ThreadLocal.withInitial(() -> new Buffers(sizeEstimate, bindingCount));
     }
 
     public StringCompositor(ParsedTemplateString template, Map<String, Object> fconfig) {
         this(template, fconfig, s -> s != null ? s.toString() : "NULL");
     }
 
-    @Override
-    public String apply(long value) {
-        StringBuilder sb = new StringBuilder(bufsize);
-        String[] ary = new String[mappers.length];
-        for (int i = 0; i < ary.length; i++) {
-            DataMapper<?> mapperType = mappers[i];
-            Object object = mapperType.apply(value);
-            ary[i] = stringfunc.apply(object);
+    /**
+     * Render the template for the given cycle onto the end of the provided builder.
+     *
+     * @param value The input value, usually the cycle
+     * @param sb    The builder to append to
+     * @return the same builder
+     */
+    public StringBuilder appendTo(long value, StringBuilder sb) {
+        return appendTo(value, sb, tlBuffers.get().values);
+    }
+
+    private StringBuilder appendTo(long value, StringBuilder sb, Object[] values) {
+        bindings.apply(value, values);
+        for (int i = 0; i < values.length; i++) { // each distinct binding is rendered only once
+            values[i] = stringfunc.apply(values[i]);
         }
         for (int i = 0; i < LUT.length; i++) {
-            sb.append(spans[i]).append(ary[LUT[i]]);
+            sb.append(spans[i]).append((String) values[LUT[i]]);
         }
         sb.append(spans[spans.length - 1]);
-        return sb.toString();
+        return sb;
+    }
+
+    @Override
+    public String apply(long value) {
+        return render(value, tlBuffers.get()).toString();
+    }
+
+    /**
+     * Render the template for the given cycle as UTF-8 into the target buffer, starting at its position.
+     * If the result does not fit, the position of the target is left where it was, although the bytes
+     * after it may have been overwritten.
+     *
+     * @param value  The input value, usually the cycle
+     * @param target The buffer to write into
+     * @throws BufferOverflowException if the rendered template does not fit in the remaining space
+     */
+    public void writeTo(long value, ByteBuffer target) {
+        Buffers buffers = tlBuffers.get();
+        CharBuffer chars = CharBuffer.wrap(render(value, buffers));
+        CharsetEncoder encoder = buffers.encoder.reset();
+        int start = target.position();
+        CoderResult result = encoder.encode(chars, target, true);
+        if (!result.isOverflow()) {
+            result = encoder.flush(target);
+        }
+        if (result.isOverflow()) {
+            target.position(start);
+            throw new BufferOverflowException();
+        }
+    }
+
+    /**
+     * Render the template for the given cycle as UTF-8 to the output stream.
+     *
+     * @param value The input value, usually the cycle
+     * @param out   The stream to write to
+     * @throws IOException if the stream throws one
+     */
+    public void writeTo(long value, OutputStream out) throws IOException {
+        Buffers buffers = tlBuffers.get();
+        CharBuffer chars = CharBuffer.wrap(render(value, buffers));
+        CharsetEncoder encoder = buffers.encoder.reset();
+        ByteBuffer bytes = buffers.bytes;
+        boolean flushed = false;
+        while (!flushed) {
+            bytes.clear();
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (result.isUnderflow()) {
+                flushed = encoder.flush(bytes).isUnderflow();
+            }
+            out.write(bytes.array(), 0, bytes.position());
+        }
+    }
+
+    private StringBuilder render(long value, Buffers buffers) {
+        StringBuilder sb = buffers.sb;
+        if (sb.capacity() > maxRetainedSize) { // don't let one outlier pin a large buffer to the thread
+            sb = buffers.sb = new StringBuilder(sizeEstimate);
+        }
+        sb.setLength(0);
+        return appendTo(value, sb, buffers.values);
+    }
+
+    /**
+     * @return the estimated length of a rendered template, which is used to size the per-thread builders
+     */
+    public int getSizeEstimate() {
+        return sizeEstimate;
+    }
+
+    private final static class Buffers {
+        private StringBuilder sb;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer bytes = ByteBuffer.allocate(BYTE_CHUNK_SIZE);
+        private final Object[] values;
+
+        private Buffers(int size, int bindingCount) {
+            this.sb = new StringBuilder(size);
+            this.values = new Object[bindingCount];
+        }
     }
 }
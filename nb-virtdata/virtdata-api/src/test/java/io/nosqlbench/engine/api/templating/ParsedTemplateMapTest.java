@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ParsedTemplateMapTest {
 
@@ -74,6 +75,25 @@ public class ParsedTemplateMapTest {
 
     }
 
+    @Test
+    public void testScalarsAreOnlyTemplatesWhenRequested() {
+        ParsedTemplateMap ptm = new ParsedTemplateMap(
+            "test3",
+            new LinkedHashMap<String,Object>(Map.of(
+                "rows", 10,
+                "fields", Map.of("count", 3, "valid", true, "name", "row")
+            )),
+            new LinkedHashMap<>(Map.of()),
+            List.of(Map.of())
+        );
+        assertThatThrownBy(() -> ptm.getAsStringTemplate("rows")).hasMessageContaining("Integer");
+        assertThat(ptm.takeAsOptionalStringTemplate("rows", true)).hasValueSatisfying(t -> assertThat(t.getStmt()).isEqualTo("10"));
+        Map<String, ParsedTemplateString> fields = ptm.takeAsNamedTemplates("fields", true);
+        assertThat(fields.get("test3-verifier-count").getStmt()).isEqualTo("3");
+        assertThat(fields.get("test3-verifier-valid").getStmt()).isEqualTo("true");
+        assertThat(fields.get("test3-verifier-name").getStmt()).isEqualTo("row");
+    }
+
     @Test
     public void testForNullWhenNoFieldFoundWhenCallingStaticValue() {
         ParsedTemplateMap ptm = new ParsedTemplateMap("name1", Map.of("string1", "string2"), Map.of(), List.of());
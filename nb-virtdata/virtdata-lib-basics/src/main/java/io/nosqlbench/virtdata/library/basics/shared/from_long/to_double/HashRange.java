@@ -66,6 +66,14 @@ public class HashRange implements LongToDoubleFunction {
         this.interval = max - min;
     }
 
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
     @Override
     public double applyAsDouble(long value) {
         long hashed = hash.applyAsLong(value);
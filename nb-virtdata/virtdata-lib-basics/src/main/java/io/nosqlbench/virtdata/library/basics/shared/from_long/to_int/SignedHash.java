@@ -19,26 +19,17 @@ package io.nosqlbench.virtdata.library.basics.shared.from_long.to_int;
 import io.nosqlbench.virtdata.api.annotations.Categories;
 import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
-import io.nosqlbench.virtdata.murmur.Murmur3F;
+import io.nosqlbench.virtdata.murmur.Murmur3;
 
-import java.nio.ByteBuffer;
 import java.util.function.LongToIntFunction;
 
 @ThreadSafeMapper
 @Categories({Category.general})
 public class SignedHash implements LongToIntFunction {
 
-    private final transient ThreadLocal<ByteBuffer> bb_TL = ThreadLocal.withInitial(() -> ByteBuffer.allocate(Long.BYTES));
-    private final transient ThreadLocal<Murmur3F> murmur3f_TL = ThreadLocal.withInitial(Murmur3F::new);
-
     @Override
     public int applyAsInt(long value) {
-        Murmur3F murmur3F = murmur3f_TL.get();
-        ByteBuffer bb = bb_TL.get();
-        murmur3F.reset();
-        bb.putLong(0,value);
-        murmur3F.update(bb.array(),0,Long.BYTES);
-        long result= murmur3F.getValue();
+        long result= Murmur3.hashLong(value);
         return (int) (result & Integer.MAX_VALUE);
     }
 }
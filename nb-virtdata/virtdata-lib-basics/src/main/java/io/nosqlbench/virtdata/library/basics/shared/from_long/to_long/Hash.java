@@ -20,10 +20,8 @@ import io.nosqlbench.virtdata.api.annotations.Categories;
 import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.Example;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
-import io.nosqlbench.virtdata.murmur.Murmur3F;
-
-import java.nio.ByteBuffer;
-import java.util.function.LongUnaryOperator;
+import io.nosqlbench.virtdata.api.bindings.LongRangeOperator;
+import io.nosqlbench.virtdata.murmur.Murmur3;
 
 /**
  * This uses the Murmur3F (64-bit optimized) version of Murmur3,
@@ -31,25 +29,26 @@ import java.util.function.LongUnaryOperator;
  * pushing the high-64 bits of input, since it only uses the lower
  * 64 bits of output. It does, however, return the absolute value.
  * This is to make it play nice with users and other libraries.
+ * The hash is computed by {@link Murmur3#hashLong(long)}, which keeps
+ * no state and does not allocate.
  */
 @ThreadSafeMapper
 @Categories({Category.general, Category.general})
-public class Hash implements LongUnaryOperator {
+public class Hash implements LongRangeOperator {
 
     @Example({"Hash()","Create a hash function that takes a long and returns a positive long value"})
     public Hash() {
     }
 
-    private final transient ThreadLocal<Murmur3F> murmur3f_TL = ThreadLocal.withInitial(Murmur3F::new);
-
     @Override
     public long applyAsLong(long value) {
-        ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
-        Murmur3F murmur3f = murmur3f_TL.get();
-        murmur3f.reset();
-        bb.putLong(0,value);
-        murmur3f.update(bb.array(),0,Long.BYTES);
-        long result= Math.abs(murmur3f.getValue());
-        return result;
+        return Math.abs(Murmur3.hashLong(value));
+    }
+
+    @Override
+    public void applyRange(long start, long[] out, int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.abs(Murmur3.hashLong(start + i));
+        }
     }
 }
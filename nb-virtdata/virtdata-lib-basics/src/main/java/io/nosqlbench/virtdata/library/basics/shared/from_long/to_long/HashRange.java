@@ -20,8 +20,7 @@ import io.nosqlbench.nb.api.errors.BasicError;
 import io.nosqlbench.virtdata.api.annotations.Categories;
 import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
-
-import java.util.function.LongUnaryOperator;
+import io.nosqlbench.virtdata.api.bindings.LongRangeOperator;
 
 /**
  * The various HashRange functions take an input long, hash it to a random
@@ -34,7 +33,7 @@ import java.util.function.LongUnaryOperator;
  */
 @ThreadSafeMapper
 @Categories({Category.general})
-public class HashRange implements LongUnaryOperator {
+public class HashRange implements LongRangeOperator {
 
     private final long minValue;
     private final long width;
@@ -57,4 +56,12 @@ public class HashRange implements LongUnaryOperator {
     public long applyAsLong(long operand) {
         return minValue + (hash.applyAsLong(operand) % width);
     }
+
+    @Override
+    public void applyRange(long start, long[] out, int n) {
+        hash.applyRange(start, out, n);
+        for (int i = 0; i < n; i++) {
+            out[i] = minValue + (out[i] % width);
+        }
+    }
 }
@@ -16,12 +16,15 @@
 
 package io.nosqlbench.virtdata.library.basics.shared.from_long.to_long;
 
+import io.nosqlbench.virtdata.api.annotations.Categories;
+import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.Example;
+import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
+import io.nosqlbench.virtdata.murmur.Murmur3;
 import io.nosqlbench.virtdata.murmur.Murmur3F;
 
 import java.net.InetAddress;
 import java.net.NetworkInterface;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.LongUnaryOperator;
@@ -34,22 +37,23 @@ import java.util.function.LongUnaryOperator;
  * used to generate a hash from the input long. Apart from the per-system
  * seeding, this hash function operates exactly the same as {@link Hash}
  */
+@ThreadSafeMapper
+@Categories({Category.general})
 public class HostHash implements LongUnaryOperator {
 
     private static final long hostHash = computeHostHash();
-    private final ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
-    private Murmur3F murmur3F;
+    private final int seed;
 
     @Example({"HostHash()","a simple per-host hash function"})
     public HostHash() {
-        murmur3F = new Murmur3F((int) hostHash % Integer.MAX_VALUE);
+        seed = (int) hostHash % Integer.MAX_VALUE;
     }
 
     @Example({"HostHash(2343)","further permute the host hash with a specific seed"})
     public HostHash(int seedMod) {
-        murmur3F = new Murmur3F((int) hostHash % Integer.MAX_VALUE);
+        Murmur3F murmur3F = new Murmur3F((int) hostHash % Integer.MAX_VALUE);
         murmur3F.update(seedMod);
-        murmur3F = new Murmur3F((int) murmur3F.getValue() & Integer.MAX_VALUE);
+        seed = (int) murmur3F.getValue() & Integer.MAX_VALUE;
     }
 
     private static long computeHostHash() {
@@ -90,10 +94,6 @@ public class HostHash implements LongUnaryOperator {
 
     @Override
     public long applyAsLong(long value) {
-        murmur3F.reset();
-        bb.putLong(0, value);
-        murmur3F.update(bb.array(), 0, Long.BYTES);
-        long result = Math.abs(murmur3F.getValue());
-        return result;
+        return Math.abs(Murmur3.hashLong(value, seed));
     }
 }
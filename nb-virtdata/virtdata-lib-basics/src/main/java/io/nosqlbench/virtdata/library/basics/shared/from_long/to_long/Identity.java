@@ -19,17 +19,23 @@ package io.nosqlbench.virtdata.library.basics.shared.from_long.to_long;
 import io.nosqlbench.virtdata.api.annotations.Categories;
 import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
-
-import java.util.function.LongUnaryOperator;
+import io.nosqlbench.virtdata.api.bindings.LongRangeOperator;
 
 /**
  * Simply returns the input value. This function intentionally does nothing.
  */
 @ThreadSafeMapper
 @Categories({Category.general})
-public class Identity implements LongUnaryOperator {
+public class Identity implements LongRangeOperator {
     @Override
     public long applyAsLong(long operand) {
         return operand;
     }
+
+    @Override
+    public void applyRange(long start, long[] out, int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = start + i;
+        }
+    }
 }
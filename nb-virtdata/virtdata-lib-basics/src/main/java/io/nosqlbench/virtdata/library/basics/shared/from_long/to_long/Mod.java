@@ -18,15 +18,14 @@ package io.nosqlbench.virtdata.library.basics.shared.from_long.to_long;
 import io.nosqlbench.virtdata.api.annotations.Categories;
 import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
-
-import java.util.function.LongUnaryOperator;
+import io.nosqlbench.virtdata.api.bindings.LongRangeOperator;
 
 /**
  * Return the result of modulo division by the specified divisor.
  */
 @ThreadSafeMapper
 @Categories({Category.general})
-public class Mod implements LongUnaryOperator {
+public class Mod implements LongRangeOperator {
 
     private final Long modulo;
 
@@ -38,4 +37,20 @@ public class Mod implements LongUnaryOperator {
     public long applyAsLong(long operand) {
         return operand % modulo;
     }
+
+    @Override
+    public void applyRange(long start, long[] out, int n) {
+        long divisor = modulo;
+        if (divisor <= 0 || start < 0 || start > Long.MAX_VALUE - n) {
+            LongRangeOperator.super.applyRange(start, out, n);
+            return;
+        }
+        long value = start % divisor;
+        for (int i = 0; i < n; i++) {
+            out[i] = value;
+            if (++value == divisor) {
+                value = 0;
+            }
+        }
+    }
 }
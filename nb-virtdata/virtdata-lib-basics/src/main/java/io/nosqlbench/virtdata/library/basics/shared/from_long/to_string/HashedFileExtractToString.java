@@ -52,7 +52,7 @@ public class HashedFileExtractToString implements LongFunction<String> {
     @Example({"HashedFileExtractToString('data/adventures.txt',100,200)", "return a fragment from adventures.txt between 100 and 200 characters long"})
     public HashedFileExtractToString(String filename, int minsize, int maxsize) {
         this.filename = filename;
-        this.buf = NBIO.readCharBuffer(filename).asReadOnlyBuffer();
+        this.buf = NBIO.readImage(this, filename).getCharBuffer();
         this.sizeFunc = new HashRange(minsize, maxsize);
     }
 
@@ -66,7 +66,7 @@ public class HashedFileExtractToString implements LongFunction<String> {
     @Example({"HashedFileExtractToString('data/adventures.txt',Uniform())", "return a fragment from adventures.txt from a random offset, based on the size function provided."})
     public HashedFileExtractToString(String filename, Object sizefunc) {
         this.filename = filename;
-        this.buf = NBIO.readCharBuffer(filename).asReadOnlyBuffer();
+        this.buf = NBIO.readImage(this, filename).getCharBuffer();
         sizeFunc = VirtDataConversions.adaptFunction(sizefunc, LongToIntFunction.class);
     }
 
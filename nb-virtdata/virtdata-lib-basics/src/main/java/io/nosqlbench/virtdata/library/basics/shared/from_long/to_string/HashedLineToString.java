@@ -25,7 +25,6 @@ import io.nosqlbench.virtdata.library.basics.shared.from_long.to_int.HashInterva
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.LongFunction;
 
@@ -39,13 +38,13 @@ public class HashedLineToString implements LongFunction<String> {
     private final static Logger logger = LogManager.getLogger(HashedLineToString.class);
     private final HashInterval indexRange;
 
-    private List<String> lines = new ArrayList<>();
+    private final List<String> lines;
 
     private final String filename;
 
     public HashedLineToString(String filename) {
         this.filename = filename;
-        this.lines = NBIO.readLines(filename);
+        this.lines = NBIO.readImage(this, filename, "data").getLines();
         if (lines.size()<1) {
             throw new BasicError("Read " + lines.size() + " lines from " + filename + ", empty files are not supported");
         }
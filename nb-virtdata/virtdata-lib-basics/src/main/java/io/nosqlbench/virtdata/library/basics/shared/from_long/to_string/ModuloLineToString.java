@@ -23,7 +23,6 @@ import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.LongFunction;
 
@@ -35,13 +34,13 @@ import java.util.function.LongFunction;
 @Categories({Category.general})
 public class ModuloLineToString implements LongFunction<String> {
     private final static Logger logger  = LogManager.getLogger(ModuloLineToString.class);
-    private List<String> lines = new ArrayList<>();
+    private final List<String> lines;
 
     private final String filename;
 
     public ModuloLineToString(String filename) {
         this.filename = filename;
-        this.lines = NBIO.readLines(filename);
+        this.lines = NBIO.readImage(this, filename, "data").getLines();
 
     }
 
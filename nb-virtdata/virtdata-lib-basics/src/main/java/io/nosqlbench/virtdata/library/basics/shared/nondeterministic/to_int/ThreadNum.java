@@ -26,16 +26,17 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Matches a digit sequence in the current thread name and caches it in a thread local.
+ * Matches the last digit sequence in the current thread name and caches it in a thread local.
  * This allows you to use any intentionally indexed thread factories to provide an analogue for
- * concurrency. Note that once the thread number is cached, it will not be refreshed. This means
+ * concurrency, including virtual activity threads, which are named with the activity alias and
+ * a thread index. Note that once the thread number is cached, it will not be refreshed. This means
  * you can't change the thread name and get an updated value.
  */
 @ThreadSafeMapper
 @Categories({Category.state})
 public class ThreadNum implements LongToIntFunction {
 
-    private static final Pattern pattern = Pattern.compile("^.*?(\\d+).*$");
+    private static final Pattern pattern = Pattern.compile("^.*?(\\d+)\\D*$");
     private final transient ThreadLocal<Integer> threadLocalInt = new ThreadLocal<Integer>() {
         @Override
         protected Integer initialValue() {
@@ -29,7 +29,7 @@ import java.util.regex.Pattern;
 @Categories({Category.state})
 public class ThreadNum implements LongUnaryOperator {
 
-    private static final Pattern pattern = Pattern.compile("^.*?(\\d+).*$");
+    private static final Pattern pattern = Pattern.compile("^.*?(\\d+)\\D*$");
     private final transient ThreadLocal<Long> threadLocalInt = new ThreadLocal<Long>() {
         @Override
         protected Long initialValue() {
@@ -19,26 +19,16 @@ package io.nosqlbench.virtdata.library.basics.shared.unary_int;
 import io.nosqlbench.virtdata.api.annotations.Categories;
 import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
-import io.nosqlbench.virtdata.murmur.Murmur3F;
+import io.nosqlbench.virtdata.murmur.Murmur3;
 
-import java.nio.ByteBuffer;
 import java.util.function.IntUnaryOperator;
 
 @ThreadSafeMapper
 @Categories({Category.general})
 public class SignedHash implements IntUnaryOperator {
 
-    private final ThreadLocal<Murmur3F> murmur3f_TL = ThreadLocal.withInitial(Murmur3F::new);
-
     @Override
     public int applyAsInt(int operand) {
-        ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
-        Murmur3F murmur3f = murmur3f_TL.get();
-        murmur3f.reset();
-        bb.putInt(0,operand);
-        bb.putInt(4,operand);
-        bb.position(0);
-        murmur3f.update(bb.array());
-        return (int) murmur3f.getValue() & Integer.MAX_VALUE;
+        return (int) Murmur3.hashLong(((long) operand << 32) | (operand & 0xFFFFFFFFL)) & Integer.MAX_VALUE;
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.murmur;
+
+/**
+ * <P>Stateless forms of {@link Murmur3F} (MurmurHash3_x64_128) for hashing a single long value.
+ * These produce exactly the same values as a freshly reset {@link Murmur3F} which has been
+ * updated with the 8 bytes of the value, but without any allocation, thread-local lookup or
+ * buffer copy. Since they keep no state, they are safe to use from any thread.</P>
+ *
+ * <P>Only the lower 64 bits of the 128 bit hash are computed, which is what
+ * {@link Murmur3F#getValue()} returns.</P>
+ */
+public final class Murmur3 {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private Murmur3() {
+    }
+
+    /**
+     * Equivalent to hashing the big-endian bytes of the value, as in
+     * {@code murmur3F.update(ByteBuffer.allocate(8).putLong(0,value).array())}.
+     *
+     * @param value The value to hash
+     * @return the lower 64 bits of the murmur3 hash
+     */
+    public static long hashLong(long value) {
+        return hashLongLE(Long.reverseBytes(value), 0L);
+    }
+
+    /**
+     * Equivalent to hashing the big-endian bytes of the value with a {@link Murmur3F} created
+     * with the given seed.
+     *
+     * @param value The value to hash
+     * @param seed The seed, as given to {@link Murmur3F#Murmur3F(int)}
+     * @return the lower 64 bits of the murmur3 hash
+     */
+    public static long hashLong(long value, int seed) {
+        return hashLongLE(Long.reverseBytes(value), seed & 0xffffffffL);
+    }
+
+    /**
+     * Equivalent to hashing the little-endian bytes of the value, as with {@link Murmur3F#updateLongLE(long)}.
+     *
+     * @param value The value to hash
+     * @param seed The seed, as an unsigned 32 bit value
+     * @return the lower 64 bits of the murmur3 hash
+     */
+    public static long hashLongLE(long value, long seed) {
+        long h1 = seed;
+        long h2 = seed;
+
+        // tail of 8 bytes, which only contributes to h1
+        long k1 = value * C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+
+        // finalization with a length of 8 bytes
+        h1 ^= Long.BYTES;
+        h2 ^= Long.BYTES;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+
+        return h1 + h2;
+    }
+
+    /**
+     * The murmur3 64 bit finalization mix, which forces all bits of the input to avalanche.
+     */
+    public static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
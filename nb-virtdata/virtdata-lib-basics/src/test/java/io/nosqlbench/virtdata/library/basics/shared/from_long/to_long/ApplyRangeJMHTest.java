@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.basics.shared.from_long.to_long;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating functions one cycle at a time against evaluating them over a range of
+ * cycles with applyRange. Each benchmark invocation produces {@link #SIZE} values.
+ */
+@State(Scope.Thread)
+public class ApplyRangeJMHTest {
+
+    private final static int SIZE = 1024;
+
+    private final Hash hash = new Hash();
+    private final HashRange hashRange = new HashRange(0L, 1000000L);
+    private final Mod mod = new Mod(1000L);
+    private final long[] out = new long[SIZE];
+
+    private long cycle;
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long[] hashPerCycle() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = hash.applyAsLong(cycle + i);
+        }
+        cycle += SIZE;
+        return out;
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long[] hashRange() {
+        hash.applyRange(cycle, out, SIZE);
+        cycle += SIZE;
+        return out;
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long[] hashRangePerCycle() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = hashRange.applyAsLong(cycle + i);
+        }
+        cycle += SIZE;
+        return out;
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long[] hashRangeRange() {
+        hashRange.applyRange(cycle, out, SIZE);
+        cycle += SIZE;
+        return out;
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long[] modPerCycle() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = mod.applyAsLong(cycle + i);
+        }
+        cycle += SIZE;
+        return out;
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long[] modRange() {
+        mod.applyRange(cycle, out, SIZE);
+        cycle += SIZE;
+        return out;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.basics.shared.from_long.to_long;
+
+import io.nosqlbench.virtdata.api.bindings.LongRangeOperator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApplyRangeTest {
+
+    private static void assertRangeMatches(LongRangeOperator f, long start, int n) {
+        long[] out = new long[n];
+        f.applyRange(start, out, n);
+        for (int i = 0; i < n; i++) {
+            assertThat(out[i]).as(f.getClass().getSimpleName() + " at " + (start + i))
+                .isEqualTo(f.applyAsLong(start + i));
+        }
+    }
+
+    @Test
+    public void testRangesMatchSingleValues() {
+        assertRangeMatches(new Hash(), 0L, 1000);
+        assertRangeMatches(new Hash(), Long.MAX_VALUE - 10, 10);
+        assertRangeMatches(new HashRange(5L, 17L), 1000L, 1000);
+        assertRangeMatches(new Identity(), 123L, 100);
+    }
+
+    @Test
+    public void testModRanges() {
+        assertRangeMatches(new Mod(7L), 0L, 100);
+        assertRangeMatches(new Mod(7L), 12345L, 100);
+        assertRangeMatches(new Mod(1L), 3L, 10);
+        assertRangeMatches(new Mod(7L), -50L, 100);
+        assertRangeMatches(new Mod(-7L), 3L, 100);
+        assertRangeMatches(new Mod(10L), Long.MAX_VALUE - 20, 10);
+    }
+}
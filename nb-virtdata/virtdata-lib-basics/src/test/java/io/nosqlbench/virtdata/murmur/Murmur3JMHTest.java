@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.murmur;
+
+import io.nosqlbench.virtdata.library.basics.shared.from_long.to_long.FullHash;
+import io.nosqlbench.virtdata.library.basics.shared.from_long.to_long.Hash;
+import io.nosqlbench.virtdata.library.basics.shared.from_long.to_long.HashRange;
+import io.nosqlbench.virtdata.library.basics.shared.from_long.to_long.Mod;
+import io.nosqlbench.virtdata.library.basics.shared.from_long.to_long.SignedHash;
+import io.nosqlbench.virtdata.library.basics.shared.from_long.to_uuid.ToHashedUUID;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous thread-local {@link Murmur3F} form of the long hash against
+ * {@link Murmur3}, and measures the hashing functions as they are used in a typical
+ * op template with ten bindings.
+ */
+@State(Scope.Thread)
+public class Murmur3JMHTest {
+
+    private final ThreadLocal<Murmur3F> murmur3f_TL = ThreadLocal.withInitial(Murmur3F::new);
+
+    private final Hash hash = new Hash();
+    private final HashRange hashRange = new HashRange(0L, 1000000L);
+
+    private final Hash userid = new Hash();
+    private final HashRange age = new HashRange(18L, 99L);
+    private final io.nosqlbench.virtdata.library.basics.shared.from_long.to_int.HashRange zipcode =
+        new io.nosqlbench.virtdata.library.basics.shared.from_long.to_int.HashRange(10000, 99999);
+    private final io.nosqlbench.virtdata.library.basics.shared.from_long.to_double.HashRange score =
+        new io.nosqlbench.virtdata.library.basics.shared.from_long.to_double.HashRange(0.0d, 100.0d);
+    private final FullHash token = new FullHash();
+    private final SignedHash offset = new SignedHash();
+    private final io.nosqlbench.virtdata.library.basics.shared.from_long.to_int.Hash bucket =
+        new io.nosqlbench.virtdata.library.basics.shared.from_long.to_int.Hash();
+    private final Mod partition = new Mod(1000L);
+    private final HashRange amount = new HashRange(1L, 10000L);
+    private final ToHashedUUID uuid = new ToHashedUUID();
+
+    private long cycle;
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long murmur3fThreadLocal() {
+        ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
+        Murmur3F murmur3f = murmur3f_TL.get();
+        murmur3f.reset();
+        bb.putLong(0, cycle++);
+        murmur3f.update(bb.array(), 0, Long.BYTES);
+        return Math.abs(murmur3f.getValue());
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long murmur3Stateless() {
+        return Math.abs(Murmur3.hashLong(cycle++));
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long hash() {
+        return hash.applyAsLong(cycle++);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public long hashRange() {
+        return hashRange.applyAsLong(cycle++);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Threads(1)
+    @Warmup(iterations=1, timeUnit= TimeUnit.SECONDS,time=10)
+    @Measurement(iterations=1,timeUnit=TimeUnit.SECONDS,time=10)
+    public void tenBindingTemplate(Blackhole bh) {
+        long c = cycle++;
+        bh.consume(userid.applyAsLong(c));
+        bh.consume(age.applyAsLong(c));
+        bh.consume(zipcode.applyAsInt(c));
+        bh.consume(score.applyAsDouble(c));
+        bh.consume(token.applyAsLong(c));
+        bh.consume(offset.applyAsLong(c));
+        bh.consume(bucket.applyAsInt(c));
+        bh.consume(partition.applyAsLong(c));
+        bh.consume(amount.applyAsLong(c));
+        bh.consume(uuid.apply(c));
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.murmur;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Murmur3Test {
+
+    @Test
+    public void testKnownValues() {
+        assertThat(Murmur3.hashLong(0L)).isEqualTo(2945182322382062539L);
+        assertThat(Murmur3.hashLong(1L)).isEqualTo(6292367497774912474L);
+        assertThat(Murmur3.hashLong(2L)).isEqualTo(-8218881827949364593L);
+        assertThat(Murmur3.hashLong(3L)).isEqualTo(-8048510690352527683L);
+    }
+
+    @Test
+    public void testParityWithMurmur3F() {
+        SplittableRandom random = new SplittableRandom(42L);
+        ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
+        for (int i = 0; i < 100000; i++) {
+            long value = (i < 1000) ? i - 500 : random.nextLong();
+            int seed = (i % 3 == 0) ? 0 : random.nextInt();
+
+            Murmur3F murmur3F = new Murmur3F(seed);
+            bb.putLong(0, value);
+            murmur3F.update(bb.array(), 0, Long.BYTES);
+            assertThat(Murmur3.hashLong(value, seed)).isEqualTo(murmur3F.getValue());
+            if (seed == 0) {
+                assertThat(Murmur3.hashLong(value)).isEqualTo(murmur3F.getValue());
+            }
+
+            Murmur3F murmur3FLE = new Murmur3F(seed);
+            murmur3FLE.updateLongLE(value);
+            assertThat(Murmur3.hashLongLE(value, seed & 0xFFFFFFFFL)).isEqualTo(murmur3FLE.getValue());
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.curves4.common;
+
+import io.nosqlbench.virtdata.library.curves4.continuous.common.RealDistributionICDSource;
+import io.nosqlbench.virtdata.library.curves4.discrete.common.IntegerDistributionICDSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * A cache of precomputed inverse cumulative distribution lookup tables, as used by the interpolating
+ * samplers. Precomputing a table can be expensive for some distributions, and the same table is
+ * otherwise computed again for every binding and every thread which uses the same curve.
+ * <p>
+ * Tables are keyed by the distribution type, all of its parameters, and the sampler settings which
+ * affect the table contents. Only distributions from commons-statistics which are fully described by
+ * their parameter accessors are cached. Other sources are always computed directly.
+ * <p>
+ * Tables are always shared in memory. To also keep them on disk between runs, set the system
+ * property {@value #DIR_PROPERTY} to a directory, or to {@code true} for
+ * {@code ~/.nosqlbench/lutcache}. Each stored table is verified by key and checksum before it is used.
+ * <p>
+ * Tables returned from the cache are shared, and must not be modified.
+ */
+public class LUTCache {
+    private final static Logger logger = LogManager.getLogger(LUTCache.class);
+
+    public final static String DIR_PROPERTY = "virtdata.lutcache";
+    private final static String DISTRIBUTION_PACKAGE = "org.apache.commons.statistics.distribution";
+    private final static int MAGIC = 0x4C555431; // LUT1
+
+    private final static Map<String, double[]> tables = new ConcurrentHashMap<>();
+    private final static Path dir = cacheDir(System.getProperty(DIR_PROPERTY));
+
+    /**
+     * Get the table for the given source and sampler settings, computing it only if it has not been
+     * computed before.
+     *
+     * @param icdSource The inverse cumulative distribution function the table is computed from
+     * @param settings  A description of every other setting which affects the table contents
+     * @param computer  The function which computes the table
+     * @return A table which may be shared with other samplers
+     */
+    public static double[] computeIfAbsent(Object icdSource, String settings, Supplier<double[]> computer) {
+        String source = describeSource(icdSource);
+        if (source == null) {
+            return computer.get();
+        }
+        String key = source + ";" + settings;
+        return tables.computeIfAbsent(key, k -> loadOrCompute(k, computer));
+    }
+
+    private static double[] loadOrCompute(String key, Supplier<double[]> computer) {
+        if (dir == null) {
+            return computer.get();
+        }
+        Path file = dir.resolve(fileName(key));
+        double[] table = readTable(file, key);
+        if (table == null) {
+            table = computer.get();
+            writeTable(file, key, table);
+        }
+        return table;
+    }
+
+    /**
+     * Describe an ICD source in a way which identifies its distribution uniquely, or return null if
+     * this is not possible.
+     */
+    static String describeSource(Object icdSource) {
+        Object distribution;
+        if (icdSource instanceof RealDistributionICDSource real) {
+            distribution = real.getDistribution();
+        } else if (icdSource instanceof IntegerDistributionICDSource integer) {
+            distribution = integer.getDistribution();
+        } else {
+            return null;
+        }
+        Class<?> type = distribution.getClass();
+        if (!type.getPackageName().equals(DISTRIBUTION_PACKAGE) || type.getSimpleName().startsWith("Empirical")) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(type.getSimpleName()).append('(');
+        Method[] getters = Arrays.stream(type.getMethods())
+            .filter(m -> m.getName().startsWith("get") && m.getParameterCount() == 0)
+            .filter(m -> m.getReturnType().isPrimitive() && !Modifier.isStatic(m.getModifiers()))
+            .filter(m -> Modifier.isPublic(m.getDeclaringClass().getModifiers()))
+            .sorted(Comparator.comparing(Method::getName))
+            .toArray(Method[]::new);
+        for (Method getter : getters) {
+            try {
+                sb.append(getter.getName(), 3, getter.getName().length())
+                    .append('=').append(getter.invoke(distribution)).append(',');
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+        sb.setLength(sb.length() - 1);
+        return sb.append(')').toString();
+    }
+
+    static Path cacheDir(String setting) {
+        if (setting == null || setting.isBlank() || setting.equalsIgnoreCase("false")) {
+            return null;
+        }
+        Path path = setting.equalsIgnoreCase("true")
+            ? Path.of(System.getProperty("user.home"), ".nosqlbench", "lutcache")
+            : Path.of(setting);
+        try {
+            return Files.createDirectories(path);
+        } catch (IOException e) {
+            logger.warn("Unable to use " + path + " for lookup tables, they will only be cached in memory: " + e);
+            return null;
+        }
+    }
+
+    static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + ".lut";
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static double[] readTable(Path file, String key) {
+        if (!Files.isReadable(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || !in.readUTF().equals(key)) {
+                logger.warn("Ignoring lookup table file " + file + " since it does not match " + key);
+                return null;
+            }
+            double[] table = new double[in.readInt()];
+            CRC32 crc = new CRC32();
+            for (int i = 0; i < table.length; i++) {
+                long bits = in.readLong();
+                table[i] = Double.longBitsToDouble(bits);
+                updateCrc(crc, bits);
+            }
+            if (in.readLong() != crc.getValue()) {
+                logger.warn("Ignoring lookup table file " + file + " since its checksum does not match");
+                return null;
+            }
+            logger.debug(() -> "loaded lookup table for " + key + " from " + file);
+            return table;
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable lookup table file " + file + ": " + e);
+            return null;
+        }
+    }
+
+    static void writeTable(Path file, String key, double[] table) {
+        try {
+            Path temp = Files.createTempFile(file.getParent(), "lut", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeUTF(key);
+                out.writeInt(table.length);
+                CRC32 crc = new CRC32();
+                for (double v : table) {
+                    long bits = Double.doubleToRawLongBits(v);
+                    out.writeLong(bits);
+                    updateCrc(crc, bits);
+                }
+                out.writeLong(crc.getValue());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Unable to store lookup table for " + key + " in " + file + ": " + e);
+        }
+    }
+
+    private static void updateCrc(CRC32 crc, long bits) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (bits >>> shift));
+        }
+    }
+}
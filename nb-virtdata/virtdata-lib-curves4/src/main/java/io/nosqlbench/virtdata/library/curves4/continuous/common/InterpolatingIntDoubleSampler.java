@@ -17,6 +17,7 @@
 package io.nosqlbench.virtdata.library.curves4.continuous.common;
 
 import io.nosqlbench.virtdata.library.basics.shared.unary_int.Hash;
+import io.nosqlbench.virtdata.library.curves4.common.LUTCache;
 
 import java.util.Arrays;
 import java.util.function.DoubleUnaryOperator;
@@ -40,7 +41,8 @@ public class InterpolatingIntDoubleSampler implements IntToDoubleFunction{
         if (hash) {
             this.hash = new Hash();
         }
-        double[] computed = precompute(resolution);
+        String settings = "resolution=" + resolution + ",clamp=" + clamp + "[" + clampMin + "," + clampMax + "]";
+        double[] computed = LUTCache.computeIfAbsent(icdSource, settings, () -> precompute(resolution));
         if (finite) {
             while (computed.length>0 && Double.isInfinite(computed[0])) {
                 computed = Arrays.copyOfRange(computed,1,computed.length-1);
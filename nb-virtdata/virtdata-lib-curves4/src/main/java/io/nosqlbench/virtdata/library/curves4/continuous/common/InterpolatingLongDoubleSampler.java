@@ -16,6 +16,7 @@
 
 package io.nosqlbench.virtdata.library.curves4.continuous.common;
 
+import io.nosqlbench.virtdata.library.curves4.common.LUTCache;
 import io.nosqlbench.virtdata.library.curves4.discrete.common.ThreadSafeHash;
 
 import java.util.Arrays;
@@ -62,7 +63,8 @@ public class InterpolatingLongDoubleSampler implements LongToDoubleFunction {
         this.finite = finite;
         this.clampMin=clampMin;
         this.clampMax=clampMax;
-        double[] computed = precompute(resolution);
+        String settings = "resolution=" + resolution + ",clamp=" + clamp + "[" + clampMin + "," + clampMax + "],finite=" + finite;
+        double[] computed = LUTCache.computeIfAbsent(icdSource, settings, () -> precompute(resolution));
         double[] padded = new double[computed.length+1];
         System.arraycopy(computed,0,padded,0,computed.length);
         this.scaleToLong = (1.0d / (double) Long.MAX_VALUE) * (padded.length-2);
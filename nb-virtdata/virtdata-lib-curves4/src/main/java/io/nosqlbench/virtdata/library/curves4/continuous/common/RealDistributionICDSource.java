@@ -28,6 +28,10 @@ public class RealDistributionICDSource implements DoubleUnaryOperator {
         this.realDistribution = realDistribution;
     }
 
+    public ContinuousDistribution getDistribution() {
+        return realDistribution;
+    }
+
     @Override
     public double applyAsDouble(double operand) {
         return realDistribution.inverseCumulativeProbability(operand);
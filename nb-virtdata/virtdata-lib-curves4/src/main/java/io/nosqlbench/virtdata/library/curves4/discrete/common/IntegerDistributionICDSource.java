@@ -28,6 +28,10 @@ public class IntegerDistributionICDSource implements DoubleToIntFunction {
         this.integerDistribution = integerDistribution;
     }
 
+    public DiscreteDistribution getDistribution() {
+        return integerDistribution;
+    }
+
     @Override
     public int applyAsInt(double value) {
         return integerDistribution.inverseCumulativeProbability(value);
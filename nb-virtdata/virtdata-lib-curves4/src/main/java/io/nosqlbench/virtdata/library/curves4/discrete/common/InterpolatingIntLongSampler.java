@@ -17,6 +17,7 @@
 package io.nosqlbench.virtdata.library.curves4.discrete.common;
 
 import io.nosqlbench.virtdata.library.basics.shared.unary_int.Hash;
+import io.nosqlbench.virtdata.library.curves4.common.LUTCache;
 
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntToLongFunction;
@@ -33,7 +34,7 @@ public class InterpolatingIntLongSampler implements IntToLongFunction {
         if (hash) {
             this.hash = new Hash();
         }
-        double[] computed = precompute(resolution);
+        double[] computed = LUTCache.computeIfAbsent(icdSource, "resolution=" + resolution, () -> precompute(resolution));
         double[] padded = new double[computed.length+1];
         System.arraycopy(computed,0,padded,0,computed.length);
         this.scaleToIntRanged = (1.0d / Integer.MAX_VALUE) * (padded.length-2);
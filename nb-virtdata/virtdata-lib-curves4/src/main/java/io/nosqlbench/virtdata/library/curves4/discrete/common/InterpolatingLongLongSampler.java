@@ -16,6 +16,7 @@
 
 package io.nosqlbench.virtdata.library.curves4.discrete.common;
 
+import io.nosqlbench.virtdata.library.curves4.common.LUTCache;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.LongUnaryOperator;
 
@@ -31,7 +32,7 @@ public class InterpolatingLongLongSampler implements LongUnaryOperator {
         if (hash) {
             this.hash = new ThreadSafeHash();
         }
-        double[] computed = precompute(resolution);
+        double[] computed = LUTCache.computeIfAbsent(icdSource, "resolution=" + resolution, () -> precompute(resolution));
         double[] padded = new double[computed.length+1];
         System.arraycopy(computed,0,padded,0,computed.length);
         padded[padded.length-1] = padded[padded.length-2];
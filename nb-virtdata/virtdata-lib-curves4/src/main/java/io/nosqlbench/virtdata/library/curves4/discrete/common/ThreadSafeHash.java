@@ -16,9 +16,8 @@
 
 package io.nosqlbench.virtdata.library.curves4.discrete.common;
 
-import io.nosqlbench.virtdata.murmur.Murmur3F;
+import io.nosqlbench.virtdata.murmur.Murmur3;
 
-import java.nio.ByteBuffer;
 import java.util.function.LongUnaryOperator;
 
 /**
@@ -30,28 +29,9 @@ import java.util.function.LongUnaryOperator;
  */
 public class ThreadSafeHash implements LongUnaryOperator {
 
-//    private ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
-//    private Murmur3F murmur3F= new Murmur3F();
-    private final transient static ThreadLocal<HashState> tlstate = ThreadLocal.withInitial(HashState::new);
-
     @Override
     public long applyAsLong(long value) {
-        HashState state = tlstate.get();
-        state.murmur3F.reset();
-        state.byteBuffer.putLong(0,value);
-//        bb.position(0);
-        state.murmur3F.update(state.byteBuffer.array(),0,Long.BYTES);
-        long result= Math.abs(state.murmur3F.getValue());
-        return result;
-    }
-
-    private static class HashState {
-        public Murmur3F murmur3F;
-        public ByteBuffer byteBuffer;
-        public HashState() {
-            murmur3F = new Murmur3F();
-            byteBuffer = ByteBuffer.allocate(Long.BYTES);
-        }
+        return Math.abs(Murmur3.hashLong(value));
     }
 
 }
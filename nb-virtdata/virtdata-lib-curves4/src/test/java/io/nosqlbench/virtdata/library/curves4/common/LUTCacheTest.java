@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.curves4.common;
+
+import io.nosqlbench.virtdata.library.curves4.continuous.common.RealDistributionICDSource;
+import io.nosqlbench.virtdata.library.curves4.discrete.common.IntegerDistributionICDSource;
+import io.nosqlbench.virtdata.library.curves4.discrete.long_long.Zipf;
+import org.apache.commons.statistics.distribution.NormalDistribution;
+import org.apache.commons.statistics.distribution.ZipfDistribution;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LUTCacheTest {
+
+    @Test
+    public void testDistributionParametersAreKeyed() {
+        String zipf1 = LUTCache.describeSource(new IntegerDistributionICDSource(ZipfDistribution.of(100, 1.5)));
+        String zipf2 = LUTCache.describeSource(new IntegerDistributionICDSource(ZipfDistribution.of(100, 1.5)));
+        String zipf3 = LUTCache.describeSource(new IntegerDistributionICDSource(ZipfDistribution.of(100, 1.6)));
+        assertThat(zipf1).isNotNull().isEqualTo(zipf2).isNotEqualTo(zipf3);
+        assertThat(LUTCache.describeSource(new RealDistributionICDSource(NormalDistribution.of(0.0, 1.0))))
+            .startsWith("NormalDistribution(");
+        assertThat(LUTCache.describeSource((java.util.function.DoubleUnaryOperator) d -> d)).isNull();
+    }
+
+    @Test
+    public void testTablesAreComputedOnce() {
+        IntegerDistributionICDSource source = new IntegerDistributionICDSource(ZipfDistribution.of(37, 1.1));
+        AtomicInteger computed = new AtomicInteger();
+        double[] first = LUTCache.computeIfAbsent(source, "resolution=10", () -> {
+            computed.incrementAndGet();
+            return new double[10];
+        });
+        double[] second = LUTCache.computeIfAbsent(source, "resolution=10", () -> {
+            computed.incrementAndGet();
+            return new double[10];
+        });
+        assertThat(second).isSameAs(first);
+        assertThat(computed.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSharedTablesSampleTheSame() {
+        Zipf zipf1 = new Zipf(1000, 1.2);
+        Zipf zipf2 = new Zipf(1000, 1.2);
+        for (long i = 0; i < 1000; i++) {
+            assertThat(zipf2.applyAsLong(i)).isEqualTo(zipf1.applyAsLong(i));
+        }
+    }
+
+    @Test
+    public void testStoredTablesAreVerified() throws IOException {
+        Path dir = Files.createTempDirectory("lutcache");
+        Path file = dir.resolve(LUTCache.fileName("testkey"));
+        double[] table = {0.0d, 1.5d, Double.POSITIVE_INFINITY, -3.25d};
+        LUTCache.writeTable(file, "testkey", table);
+
+        assertThat(LUTCache.readTable(file, "testkey")).containsExactly(table);
+        assertThat(LUTCache.readTable(file, "otherkey")).isNull();
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 12] ^= 0x01;
+        Files.write(file, bytes);
+        assertThat(LUTCache.readTable(file, "testkey")).isNull();
+    }
+}
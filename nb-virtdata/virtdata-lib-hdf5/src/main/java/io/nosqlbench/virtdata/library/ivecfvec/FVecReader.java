@@ -22,73 +22,47 @@ import io.nosqlbench.virtdata.api.annotations.Categories;
 import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
 
-import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.FloatBuffer;
-import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.function.LongFunction;
 
 /**
- * Reads ivec files with random access, using the input to specify the record number.
+ * Reads vector files with random access, using the input to specify the record number. The file
+ * format is determined by the extension, as described in {@link VectorFileFormat}, and is read as
+ * fvec when the extension is not recognized. Int and byte components are widened to floats.
  */
 @ThreadSafeMapper
 @Categories(Category.readers)
 public class FVecReader implements LongFunction<float[]> {
 
-    private final MappedByteBuffer bb;
+    private final VectorSegmentReader reader;
     private final int dimensions;
-    private final int reclen;
-    private final long filesize;
-    private final Path path;
-    private final int reclim;
+    private final long reclim;
 
     public FVecReader(String pathname) {
         this(pathname,0,0);
     }
     public FVecReader(String pathname, int expectedDimensions, int recordLimit) {
         Content<?> src = NBIO.fs().search(pathname).one();
-        this.path = src.asPath();
-        try {
-            FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.SPARSE);
-            this.filesize = channel.size();
-            this.bb = channel.map(FileChannel.MapMode.READ_ONLY, 0, filesize);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        this.dimensions = Integer.reverseBytes(bb.getInt(0));
+        this.reader = new VectorSegmentReader(src.asPath(), VectorFileFormat.forPath(src.asPath(), VectorFileFormat.fvec));
+        this.dimensions = reader.getDimensions();
         if(expectedDimensions>0 && expectedDimensions!=dimensions) {
             throw new RuntimeException("Invalid dimensions specified for '" +pathname + "', found " + dimensions + ", but expected " + expectedDimensions);
         }
-        int datalen = (dimensions * Float.BYTES);
-        this.reclen = Integer.BYTES + datalen;
-        int totalRecords = (int) (filesize/reclen);
+        long totalRecords = reader.getCount();
         if (recordLimit > totalRecords) {
             throw new RuntimeException("Specified record range of " + recordLimit + ", but file only contained " + totalRecords + " total");
         }
         this.reclim = recordLimit==0? totalRecords : recordLimit;
-        if ((filesize % reclen)!=0) {
-            throw new RuntimeException("The filesize (" + filesize + ") for '" + pathname + "' must be a multiple of the reclen (" + reclen + ")");
-        }
+    }
+
+    /**
+     * @return the underlying reader, for zero-copy access to records
+     */
+    public VectorSegmentReader getReader() {
+        return reader;
     }
 
     @Override
     public float[] apply(long value) {
-        int recordIdx = (int) (value % reclim);
-        int recpos = recordIdx*reclen;
-        int recdim = Integer.reverseBytes(bb.getInt(recpos));
-        if(recdim!=dimensions) {
-            throw new RuntimeException("dimensions are not uniform for fvec file '" + this.path.toString() + "', found dim " + recdim + " at record " + value);
-        }
-        var vbuf = new byte[dimensions*Float.BYTES];
-        bb.get(recpos + Integer.BYTES, vbuf);
-
-        FloatBuffer fbuf=ByteBuffer.wrap(vbuf).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
-        var vectors = new float[dimensions];
-        fbuf.get(vectors);
-        return vectors;
+        return reader.readFloats(value % reclim, new float[dimensions]);
     }
 }
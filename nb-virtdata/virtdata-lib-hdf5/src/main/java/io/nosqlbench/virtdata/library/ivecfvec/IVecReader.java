@@ -23,12 +23,6 @@ import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.Example;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
 
-import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.function.LongFunction;
 
 /**
@@ -41,12 +35,9 @@ import java.util.function.LongFunction;
 @Categories(Category.readers)
 public class IVecReader implements LongFunction<int[]> {
 
-    private final MappedByteBuffer bb;
+    private final VectorSegmentReader reader;
     private final int dimensions;
-    private final int reclen;
-    private final long filesize;
-    private final Path path;
-    private final int reclim;
+    private final long reclim;
 
     /**
      * Read the ivec file, determining the record size from the first record.
@@ -59,45 +50,30 @@ public class IVecReader implements LongFunction<int[]> {
     @Example({"IvecReader('testfile.ivec', 46, 12)","Create a reader for int vectors, asserting 46 dimensions and limit total records to 12."})
     public IVecReader(String pathname, int expectedDimensions, int recordLimit) {
         Content<?> src = NBIO.fs().search(pathname).one();
-        this.path = src.asPath();
-        try {
-            FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.SPARSE);
-            this.filesize = channel.size();
-            this.bb = channel.map(FileChannel.MapMode.READ_ONLY, 0, filesize);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        this.reader = new VectorSegmentReader(src.asPath(), VectorFileFormat.forPath(src.asPath(), VectorFileFormat.ivec));
+        if (reader.getFormat().getElementType()== VectorFileFormat.ElementType.FLOAT32) {
+            throw new RuntimeException("Unable to read int vectors from " + reader);
         }
-        this.dimensions = Integer.reverseBytes(bb.getInt(0));
+        this.dimensions = reader.getDimensions();
         if(expectedDimensions>0 && expectedDimensions!=dimensions) {
             throw new RuntimeException("Invalid dimensions specified for '" +pathname + "', found " + dimensions + ", but expected " + expectedDimensions);
         }
-        int datalen = (dimensions * Integer.BYTES);
-        this.reclen = Integer.BYTES + datalen;
-        int totalRecords = (int) (filesize/reclen);
+        long totalRecords = reader.getCount();
         if (recordLimit > totalRecords) {
             throw new RuntimeException("Specified record range of " + recordLimit + ", but file only contained " + totalRecords + " total");
         }
         this.reclim = recordLimit==0? totalRecords : recordLimit;
-        if ((filesize % reclen)!=0) {
-            throw new RuntimeException("The filesize (" + filesize + ") for '" + pathname + "' must be a multiple of the reclen (" + reclen + ")");
-        }
+    }
+
+    /**
+     * @return the underlying reader, for zero-copy access to records
+     */
+    public VectorSegmentReader getReader() {
+        return reader;
     }
 
     @Override
     public int[] apply(long value) {
-        int recordIdx = (int) (value % reclim);
-        int recpos = recordIdx*reclen;
-        byte[] buf = new byte[reclen];
-        this.bb.get(recpos,buf);
-        ByteBuffer record = ByteBuffer.wrap(buf);
-        int recdim = Integer.reverseBytes(record.getInt());
-        if(recdim!=dimensions) {
-            throw new RuntimeException("dimensions are not uniform for ivec file '" + this.path.toString() + "', found dim " + recdim + " at record " + value);
-        }
-        int[] data = new int[recdim];
-        for (int i = 0; i < dimensions; i++) {
-            data[i]=Integer.reverseBytes(record.getInt());
-        }
-        return data;
+        return reader.readInts(value % reclim, new int[dimensions]);
     }
 }
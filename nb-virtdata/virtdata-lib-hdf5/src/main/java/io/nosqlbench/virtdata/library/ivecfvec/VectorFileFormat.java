@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.ivecfvec;
+
+import java.nio.file.Path;
+
+/**
+ * The vector dataset file layouts which can be read by {@link VectorSegmentReader}. All values
+ * are little-endian.
+ * <UL>
+ *     <LI>The <em>vec</em> formats store every record as its dimension count followed by its
+ *     components.</LI>
+ *     <LI>The <em>bin</em> formats, as used by big-ann-benchmarks, have a single header with the
+ *     record count and dimensions, followed by the components of all records.</LI>
+ * </UL>
+ */
+public enum VectorFileFormat {
+    fvec(ElementType.FLOAT32, true),
+    ivec(ElementType.INT32, true),
+    bvec(ElementType.UINT8, true),
+    fbin(ElementType.FLOAT32, false),
+    ibin(ElementType.INT32, false),
+    u8bin(ElementType.UINT8, false);
+
+    public enum ElementType {
+        FLOAT32(Float.BYTES),
+        INT32(Integer.BYTES),
+        UINT8(Byte.BYTES);
+
+        private final int bytes;
+
+        ElementType(int bytes) {
+            this.bytes = bytes;
+        }
+
+        public int getBytes() {
+            return bytes;
+        }
+    }
+
+    private final ElementType elementType;
+    private final boolean recordHeaders;
+
+    VectorFileFormat(ElementType elementType, boolean recordHeaders) {
+        this.elementType = elementType;
+        this.recordHeaders = recordHeaders;
+    }
+
+    public ElementType getElementType() {
+        return elementType;
+    }
+
+    /**
+     * @return true if each record starts with its own dimension count, false if the file has a
+     * single count and dimension header
+     */
+    public boolean hasRecordHeaders() {
+        return recordHeaders;
+    }
+
+    /**
+     * Determine the format from the file extension. The plural forms like {@code .fvecs} are also
+     * recognized.
+     */
+    public static VectorFileFormat forPath(Path path) {
+        return forPath(path, null);
+    }
+
+    /**
+     * Determine the format from the file extension, or use the default format when the extension
+     * is not recognized. If the default is null, an unrecognized extension is an error.
+     */
+    public static VectorFileFormat forPath(Path path, VectorFileFormat defaultFormat) {
+        String name = path.getFileName().toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase();
+        if (extension.endsWith("vecs")) {
+            extension = extension.substring(0, extension.length() - 1);
+        }
+        try {
+            return VectorFileFormat.valueOf(extension);
+        } catch (IllegalArgumentException e) {
+            if (defaultFormat != null) {
+                return defaultFormat;
+            }
+            throw new RuntimeException("Unable to determine the vector file format of '" + path + "', the extension" +
+                " must be one of fvec, ivec, bvec, fbin, ibin, or u8bin");
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.ivecfvec;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Random access to the records of a vector dataset file through a single memory-mapped
+ * {@link MemorySegment}. All offsets are computed as longs, so files larger than 2GB are
+ * supported without splitting them into multiple buffers.
+ *
+ * <P>The mapping is owned by an automatic arena, and is released when this reader is no longer
+ * reachable. Readers are safe to share between threads.</P>
+ *
+ * <P>Records can be copied into caller-provided arrays with {@link #readFloats(long, float[])} and
+ * {@link #readInts(long, int[])}, or viewed in place without copying with {@link #segment(long)},
+ * {@link #floatBuffer(long)} and {@link #intBuffer(long)}.</P>
+ */
+public class VectorSegmentReader {
+
+    private static final ValueLayout.OfInt INT_LE =
+        ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT_LE =
+        ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Path path;
+    private final VectorFileFormat format;
+    private final MemorySegment segment;
+    private final int dimensions;
+    private final long dataOffset;
+    private final long datalen;
+    private final long reclen;
+    private final long count;
+
+    public VectorSegmentReader(Path path) {
+        this(path, VectorFileFormat.forPath(path));
+    }
+
+    public VectorSegmentReader(Path path, VectorFileFormat format) {
+        this.path = path;
+        this.format = format;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), Arena.ofAuto());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        long filesize = segment.byteSize();
+        if (filesize < Integer.BYTES * 2L) {
+            throw new RuntimeException("The file '" + path + "' is too small to contain any " + format + " records");
+        }
+
+        if (format.hasRecordHeaders()) {
+            this.dimensions = segment.get(INT_LE, 0);
+            this.dataOffset = Integer.BYTES;
+            this.datalen = (long) dimensions * format.getElementType().getBytes();
+            this.reclen = Integer.BYTES + datalen;
+            if ((filesize % reclen) != 0) {
+                throw new RuntimeException("The filesize (" + filesize + ") for '" + path + "' must be a multiple of the reclen (" + reclen + ")");
+            }
+            this.count = filesize / reclen;
+        } else {
+            long declared = Integer.toUnsignedLong(segment.get(INT_LE, 0));
+            this.dimensions = segment.get(INT_LE, Integer.BYTES);
+            this.dataOffset = Integer.BYTES * 2L;
+            this.datalen = (long) dimensions * format.getElementType().getBytes();
+            this.reclen = datalen;
+            long expected = dataOffset + declared * reclen;
+            if (expected != filesize) {
+                throw new RuntimeException("The filesize (" + filesize + ") for '" + path + "' does not match the " +
+                    declared + " records of " + dimensions + " dimensions declared in the header");
+            }
+            this.count = declared;
+        }
+        if (dimensions <= 0) {
+            throw new RuntimeException("Invalid dimensions (" + dimensions + ") found in '" + path + "'");
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public VectorFileFormat getFormat() {
+        return format;
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @return the number of records in the file
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the byte offset of the first component of the given record
+     */
+    public long offsetOf(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("record " + index + " is not within [0," + count + ") for '" + path + "'");
+        }
+        long recpos = index * reclen;
+        if (format.hasRecordHeaders()) {
+            int recdim = segment.get(INT_LE, recpos);
+            if (recdim != dimensions) {
+                throw new RuntimeException("dimensions are not uniform for " + format + " file '" + path + "', found dim " + recdim + " at record " + index);
+            }
+        }
+        return recpos + dataOffset;
+    }
+
+    /**
+     * @return a read-only view of the components of the given record, without copying them
+     */
+    public MemorySegment segment(long index) {
+        return segment.asSlice(offsetOf(index), datalen).asReadOnly();
+    }
+
+    /**
+     * @return a read-only little-endian view of the given float32 record, without copying it
+     */
+    public FloatBuffer floatBuffer(long index) {
+        requireElementType(VectorFileFormat.ElementType.FLOAT32);
+        return segment(index).asByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+    }
+
+    /**
+     * @return a read-only little-endian view of the given int32 record, without copying it
+     */
+    public IntBuffer intBuffer(long index) {
+        requireElementType(VectorFileFormat.ElementType.INT32);
+        return segment(index).asByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    /**
+     * Copy the given record into the provided array, which must have at least
+     * {@link #getDimensions()} elements. Integer and byte components are widened to float, with
+     * byte components read as unsigned values.
+     */
+    public float[] readFloats(long index, float[] into) {
+        long offset = offsetOf(index);
+        switch (format.getElementType()) {
+            case FLOAT32 -> MemorySegment.copy(segment, FLOAT_LE, offset, into, 0, dimensions);
+            case INT32 -> {
+                for (int i = 0; i < dimensions; i++) {
+                    into[i] = segment.get(INT_LE, offset + (long) i * Integer.BYTES);
+                }
+            }
+            case UINT8 -> {
+                for (int i = 0; i < dimensions; i++) {
+                    into[i] = Byte.toUnsignedInt(segment.get(ValueLayout.JAVA_BYTE, offset + i));
+                }
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Copy the given record into the provided array, which must have at least
+     * {@link #getDimensions()} elements. Byte components are read as unsigned values.
+     */
+    public int[] readInts(long index, int[] into) {
+        long offset = offsetOf(index);
+        switch (format.getElementType()) {
+            case INT32 -> MemorySegment.copy(segment, INT_LE, offset, into, 0, dimensions);
+            case UINT8 -> {
+                for (int i = 0; i < dimensions; i++) {
+                    into[i] = Byte.toUnsignedInt(segment.get(ValueLayout.JAVA_BYTE, offset + i));
+                }
+            }
+            case FLOAT32 -> throw new RuntimeException("Unable to read float32 components of '" + path + "' as ints");
+        }
+        return into;
+    }
+
+    /**
+     * Load the pages which hold the given range of records into physical memory ahead of use.
+     * This is a hint for sequential scans over cold files; records are readable without it.
+     */
+    public void prefetch(long startIndex, long records) {
+        long first = Math.max(0, startIndex);
+        long last = Math.min(count, first + Math.max(0, records));
+        if (last <= first) {
+            return;
+        }
+        long header = format.hasRecordHeaders() ? 0 : dataOffset;
+        long start = header + first * reclen;
+        long end = header + last * reclen;
+        segment.asSlice(start, end - start).load();
+    }
+
+    private void requireElementType(VectorFileFormat.ElementType type) {
+        if (format.getElementType() != type) {
+            throw new RuntimeException("The " + format + " file '" + path + "' does not contain " + type + " components");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format + "[" + count + "x" + dimensions + "] " + path;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.ivecfvec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VectorSegmentReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String name, ByteBuffer content) throws IOException {
+        Path path = dir.resolve(name);
+        Files.write(path, content.array());
+        return path;
+    }
+
+    @Test
+    public void testFvecMatchesFVecReader() throws IOException {
+        ByteBuffer bb = ByteBuffer.allocate(3 * (4 + 4 * 4)).order(ByteOrder.LITTLE_ENDIAN);
+        for (int r = 0; r < 3; r++) {
+            bb.putInt(4);
+            for (int d = 0; d < 4; d++) {
+                bb.putFloat(r * 10f + d);
+            }
+        }
+        Path path = write("test.fvec", bb);
+        VectorSegmentReader reader = new VectorSegmentReader(path);
+        assertThat(reader.getCount()).isEqualTo(3);
+        assertThat(reader.getDimensions()).isEqualTo(4);
+        assertThat(reader.readFloats(2, new float[4])).containsExactly(20f, 21f, 22f, 23f);
+
+        FloatBuffer view = reader.floatBuffer(1);
+        assertThat(view.remaining()).isEqualTo(4);
+        assertThat(view.get(3)).isEqualTo(13f);
+
+        FVecReader fvecs = new FVecReader(path.toString());
+        assertThat(fvecs.apply(4)).containsExactly(10f, 11f, 12f, 13f);
+    }
+
+    @Test
+    public void testFbinHeader() throws IOException {
+        ByteBuffer bb = ByteBuffer.allocate(8 + 2 * 3 * 4).order(ByteOrder.LITTLE_ENDIAN);
+        bb.putInt(2).putInt(3);
+        for (int i = 0; i < 6; i++) {
+            bb.putFloat(i * 0.5f);
+        }
+        VectorSegmentReader reader = new VectorSegmentReader(write("test.fbin", bb));
+        assertThat(reader.getFormat()).isEqualTo(VectorFileFormat.fbin);
+        assertThat(reader.getCount()).isEqualTo(2);
+        assertThat(reader.readFloats(1, new float[3])).containsExactly(1.5f, 2.0f, 2.5f);
+        reader.prefetch(0, 2);
+    }
+
+    @Test
+    public void testUnsignedBytes() throws IOException {
+        ByteBuffer u8 = ByteBuffer.allocate(8 + 2 * 2).order(ByteOrder.LITTLE_ENDIAN);
+        u8.putInt(2).putInt(2).put((byte) 1).put((byte) 2).put((byte) 200).put((byte) 255);
+        VectorSegmentReader u8bin = new VectorSegmentReader(write("test.u8bin", u8));
+        assertThat(u8bin.readInts(1, new int[2])).containsExactly(200, 255);
+        assertThat(u8bin.readFloats(1, new float[2])).containsExactly(200f, 255f);
+
+        ByteBuffer bvec = ByteBuffer.allocate(2 * (4 + 3)).order(ByteOrder.LITTLE_ENDIAN);
+        bvec.putInt(3).put((byte) 0).put((byte) 128).put((byte) 7);
+        bvec.putInt(3).put((byte) 9).put((byte) 8).put((byte) 254);
+        VectorSegmentReader bvecs = new VectorSegmentReader(write("test.bvecs", bvec));
+        assertThat(bvecs.getFormat()).isEqualTo(VectorFileFormat.bvec);
+        assertThat(bvecs.readInts(0, new int[3])).containsExactly(0, 128, 7);
+        assertThat(bvecs.segment(1).byteSize()).isEqualTo(3);
+    }
+
+    @Test
+    public void testInvalidFiles() throws IOException {
+        ByteBuffer mixed = ByteBuffer.allocate(2 * (4 + 2 * 4)).order(ByteOrder.LITTLE_ENDIAN);
+        mixed.putInt(2).putInt(1).putInt(2);
+        mixed.putInt(3).putInt(1).putInt(2);
+        VectorSegmentReader reader = new VectorSegmentReader(write("mixed.ivec", mixed));
+        assertThat(reader.readInts(0, new int[2])).containsExactly(1, 2);
+        assertThatThrownBy(() -> reader.readInts(1, new int[2])).hasMessageContaining("not uniform");
+        assertThatThrownBy(() -> reader.readInts(2, new int[2])).isInstanceOf(IndexOutOfBoundsException.class);
+
+        ByteBuffer shortbin = ByteBuffer.allocate(8 + 4).order(ByteOrder.LITTLE_ENDIAN);
+        shortbin.putInt(2).putInt(1).putInt(1);
+        Path path = write("short.ibin", shortbin);
+        assertThatThrownBy(() -> new VectorSegmentReader(path)).hasMessageContaining("declared in the header");
+    }
+
+}
@@ -31,6 +31,11 @@ import java.util.function.LongToIntFunction;
  * Construct an arbitrarily large vector with hashes. The initial value is assumed to be non-hashed, and is thus hashed
  * on input to ensure that inputs are non-contiguous. Once the starting value is hashed, the sequence of long values is
  * walked and each value added to the vector is hashed from the values in that sequence.
+ *
+ * When the values come from a {@link HashRange}, as they do by default, the vector is filled in a single
+ * inlined loop rather than with one function call per component. The values are the same either way.
+ * If normalize is set, the vector is scaled to unit length in place, with the same result as
+ * {@link NormalizeDoubleVector}.
  */
 @Categories({Category.vectors, Category.experimental})
 @ThreadSafeMapper
@@ -39,6 +44,10 @@ public class HashedDoubleVectors implements LongFunction<double[]> {
     private final LongToIntFunction sizeFunc;
     private final Hash rehasher;
     private final LongToDoubleFunction valueFunc;
+    private final boolean inlineRange;
+    private final double min;
+    private final double interval;
+    private final boolean normalize;
 
     /**
      * Build a double[] generator with a given size value or size function, and the given long->double function.
@@ -46,6 +55,16 @@ public class HashedDoubleVectors implements LongFunction<double[]> {
      * @param valueFunc A long->double function
      */
     public HashedDoubleVectors(Object sizer, Object valueFunc) {
+        this(sizer, valueFunc, false);
+    }
+
+    /**
+     * Build a double[] generator as above, optionally normalizing each vector to unit length.
+     * @param sizer Either a numeric type which sets a fixed dimension, or a long->int function to derive it uniquely for each input
+     * @param valueFunc A long->double function
+     * @param normalize Whether to scale each vector to unit length
+     */
+    public HashedDoubleVectors(Object sizer, Object valueFunc, boolean normalize) {
         if (sizer instanceof Number number) {
             int size = number.intValue();
             this.sizeFunc = (long l) -> size;
@@ -54,12 +73,26 @@ public class HashedDoubleVectors implements LongFunction<double[]> {
         }
         this.valueFunc = VirtDataConversions.adaptFunction(valueFunc, LongToDoubleFunction.class);
         this.rehasher = new Hash();
+        this.normalize = normalize;
+        if (valueFunc instanceof HashRange hashRange) {
+            this.inlineRange = true;
+            this.min = hashRange.getMin();
+            this.interval = hashRange.getMax() - hashRange.getMin();
+        } else {
+            this.inlineRange = false;
+            this.min = 0.0d;
+            this.interval = 0.0d;
+        }
     }
 
     public HashedDoubleVectors(Object sizer, double min, double max) {
         this(sizer, new HashRange(min, max));
     }
 
+    public HashedDoubleVectors(Object sizer, double min, double max, boolean normalize) {
+        this(sizer, new HashRange(min, max), normalize);
+    }
+
     public HashedDoubleVectors(Object sizer) {
         this(sizer, new HashRange(0.0d, 1.0d));
     }
@@ -69,8 +102,15 @@ public class HashedDoubleVectors implements LongFunction<double[]> {
         int size = sizeFunc.applyAsInt(value);
         double[] doubles = new double[size];
         long image = rehasher.applyAsLong(value);
-        for (int i = 0; i < doubles.length; i++) { // don't consider overflow, hashing doesn't care
-            doubles[i] = valueFunc.applyAsDouble(image + i);
+        if (inlineRange) {
+            HashedVectors.fill(doubles, image, min, interval);
+        } else {
+            for (int i = 0; i < doubles.length; i++) { // don't consider overflow, hashing doesn't care
+                doubles[i] = valueFunc.applyAsDouble(image + i);
+            }
+        }
+        if (normalize) {
+            HashedVectors.normalize(doubles);
         }
         return doubles;
     }
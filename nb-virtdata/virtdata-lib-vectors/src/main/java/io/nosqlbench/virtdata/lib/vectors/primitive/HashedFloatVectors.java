@@ -31,6 +31,11 @@ import java.util.function.LongToIntFunction;
  * Construct an arbitrarily large float vector with hashes. The initial value is assumed to be non-hashed, and is thus hashed
  * on input to ensure that inputs are non-contiguous. Once the starting value is hashed, the sequence of long values is
  * walked and each value added to the vector is hashed from the values in that sequence.
+ *
+ * When the values come from a {@link HashRange}, as they do by default, the vector is filled in a single
+ * inlined loop rather than with one function call per component. The values are the same either way.
+ * If normalize is set, the vector is scaled to unit length in place, with the same result as
+ * {@link NormalizeFloatVector}.
  */
 @Categories({Category.vectors, Category.experimental})
 @ThreadSafeMapper
@@ -39,6 +44,10 @@ public class HashedFloatVectors implements LongFunction<float[]> {
     private final LongToIntFunction sizeFunc;
     private final Hash rehasher;
     private final LongToDoubleFunction valueFunc;
+    private final boolean inlineRange;
+    private final double min;
+    private final double interval;
+    private final boolean normalize;
 
     /**
      * Build a double[] generator with a given size value or size function, and the given long->double function.
@@ -46,6 +55,16 @@ public class HashedFloatVectors implements LongFunction<float[]> {
      * @param valueFunc A long->double function
      */
     public HashedFloatVectors(Object sizer, Object valueFunc) {
+        this(sizer, valueFunc, false);
+    }
+
+    /**
+     * Build a float[] generator as above, optionally normalizing each vector to unit length.
+     * @param sizer Either a numeric type which sets a fixed dimension, or a long->int function to derive it uniquely for each input
+     * @param valueFunc A long->double function
+     * @param normalize Whether to scale each vector to unit length
+     */
+    public HashedFloatVectors(Object sizer, Object valueFunc, boolean normalize) {
         if (sizer instanceof Number number) {
             int size = number.intValue();
             this.sizeFunc = (long l) -> size;
@@ -54,12 +73,26 @@ public class HashedFloatVectors implements LongFunction<float[]> {
         }
         this.valueFunc = VirtDataConversions.adaptFunction(valueFunc, LongToDoubleFunction.class);
         this.rehasher = new Hash();
+        this.normalize = normalize;
+        if (valueFunc instanceof HashRange hashRange) {
+            this.inlineRange = true;
+            this.min = hashRange.getMin();
+            this.interval = hashRange.getMax() - hashRange.getMin();
+        } else {
+            this.inlineRange = false;
+            this.min = 0.0d;
+            this.interval = 0.0d;
+        }
     }
 
     public HashedFloatVectors(Object sizer, double min, double max) {
         this(sizer, new HashRange(min, max));
     }
 
+    public HashedFloatVectors(Object sizer, double min, double max, boolean normalize) {
+        this(sizer, new HashRange(min, max), normalize);
+    }
+
     public HashedFloatVectors(Object sizer) {
         this(sizer, new HashRange(0.0d, 1.0d));
     }
@@ -69,8 +102,15 @@ public class HashedFloatVectors implements LongFunction<float[]> {
         int size = sizeFunc.applyAsInt(value);
         float[] floats = new float[size];
         long image = rehasher.applyAsLong(value);
-        for (int i = 0; i < floats.length; i++) { // don't consider overflow, hashing doesn't care
-            floats[i] = (float)(valueFunc.applyAsDouble(image + i));
+        if (inlineRange) {
+            HashedVectors.fill(floats, image, min, interval);
+        } else {
+            for (int i = 0; i < floats.length; i++) { // don't consider overflow, hashing doesn't care
+                floats[i] = (float)(valueFunc.applyAsDouble(image + i));
+            }
+        }
+        if (normalize) {
+            HashedVectors.normalize(floats);
         }
         return floats;
     }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.lib.vectors.primitive;
+
+import io.nosqlbench.virtdata.murmur.Murmur3;
+
+/**
+ * Bulk fill loops for the hashed vector functions. These produce exactly the same component
+ * values as calling {@link io.nosqlbench.virtdata.library.basics.shared.from_long.to_double.HashRange}
+ * once per component at {@code image + i}, but the hash is computed inline as a counter-based
+ * function of the component index. This leaves the JIT with a single straight-line loop per vector
+ * with no calls or allocation, which it can unroll and, where the platform supports it, vectorize.
+ */
+final class HashedVectors {
+
+    private final static double MAX_DOUBLE_VIA_LONG = (double) Long.MAX_VALUE;
+
+    private HashedVectors() {
+    }
+
+    /**
+     * Fill the array with values in [min,min+interval].
+     */
+    static void fill(float[] floats, long image, double min, double interval) {
+        for (int i = 0; i < floats.length; i++) { // don't consider overflow, hashing doesn't care
+            long hashed = Math.abs(Murmur3.hashLong(image + i));
+            floats[i] = (float) (interval * (((double) hashed) / MAX_DOUBLE_VIA_LONG) + min);
+        }
+    }
+
+    /**
+     * Fill the array with values in [min,min+interval].
+     */
+    static void fill(double[] doubles, long image, double min, double interval) {
+        for (int i = 0; i < doubles.length; i++) { // don't consider overflow, hashing doesn't care
+            long hashed = Math.abs(Murmur3.hashLong(image + i));
+            doubles[i] = interval * (((double) hashed) / MAX_DOUBLE_VIA_LONG) + min;
+        }
+    }
+
+    /**
+     * Scale the vector to unit length in place, with the same result as {@link NormalizeFloatVector}.
+     */
+    static void normalize(float[] floats) {
+        double accumulator = 0.0d;
+        for (int i = 0; i < floats.length; i++) {
+            accumulator += floats[i] * floats[i];
+        }
+        double scale = Math.sqrt(accumulator);
+        for (int i = 0; i < floats.length; i++) {
+            floats[i] = (float) (floats[i] / scale);
+        }
+    }
+
+    /**
+     * Scale the vector to unit length in place, with the same result as {@link NormalizeDoubleVector}.
+     */
+    static void normalize(double[] doubles) {
+        double accumulator = 0.0d;
+        for (int i = 0; i < doubles.length; i++) {
+            accumulator += doubles[i] * doubles[i];
+        }
+        double scale = Math.sqrt(accumulator);
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = doubles[i] / scale;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.lib.vectors.primitive;
+
+import io.nosqlbench.virtdata.library.basics.shared.from_long.to_double.HashRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.LongToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashedFloatVectorsTest {
+
+    @Test
+    public void testInlineRangeMatchesPerComponentRange() {
+        HashRange range = new HashRange(-1.0d, 1.0d);
+        LongToDoubleFunction perComponent = range::applyAsDouble;
+        HashedFloatVectors inline = new HashedFloatVectors(1536, range);
+        HashedFloatVectors called = new HashedFloatVectors(1536, perComponent);
+        for (long cycle = 0; cycle < 100; cycle++) {
+            assertThat(inline.apply(cycle)).containsExactly(called.apply(cycle));
+        }
+
+        HashedDoubleVectors inlineDoubles = new HashedDoubleVectors(1536, range);
+        HashedDoubleVectors calledDoubles = new HashedDoubleVectors(1536, perComponent);
+        for (long cycle = 0; cycle < 100; cycle++) {
+            assertThat(inlineDoubles.apply(cycle)).containsExactly(calledDoubles.apply(cycle));
+        }
+    }
+
+    @Test
+    public void testNormalizeMatchesNormalizeFunction() {
+        HashedFloatVectors raw = new HashedFloatVectors(128, -1.0d, 1.0d);
+        HashedFloatVectors normalized = new HashedFloatVectors(128, -1.0d, 1.0d, true);
+        NormalizeFloatVector normalizer = new NormalizeFloatVector();
+        for (long cycle = 0; cycle < 100; cycle++) {
+            assertThat(normalized.apply(cycle)).containsExactly(normalizer.apply(raw.apply(cycle)));
+        }
+
+        HashedDoubleVectors rawDoubles = new HashedDoubleVectors(128, -1.0d, 1.0d);
+        HashedDoubleVectors normalizedDoubles = new HashedDoubleVectors(128, -1.0d, 1.0d, true);
+        NormalizeDoubleVector doubleNormalizer = new NormalizeDoubleVector();
+        for (long cycle = 0; cycle < 100; cycle++) {
+            assertThat(normalizedDoubles.apply(cycle)).containsExactly(doubleNormalizer.apply(rawDoubles.apply(cycle)));
+        }
+    }
+
+}